@@ -45,6 +45,7 @@ import javax.swing.JComponent;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
@@ -52,6 +53,7 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.JTextPane;
+import javax.swing.ListSelectionModel;
 import javax.swing.SwingWorker;
 import javax.swing.WindowConstants;
 import javax.swing.text.SimpleAttributeSet;
@@ -69,6 +71,7 @@ import org.optaplanner.benchmark.impl.aggregator.BenchmarkAggregator;
 import org.optaplanner.benchmark.impl.aggregator.swingui.MixedCheckBox.MixedCheckBoxStatus;
 import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResultSummary;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
@@ -227,14 +230,40 @@ public class BenchmarkAggregatorFrame extends JFrame {
 
     private void initPlannerBenchmarkResultList() {
         SolverConfigContext configContext = new SolverConfigContext();
-        plannerBenchmarkResultList = benchmarkResultIO.readPlannerBenchmarkResultList(configContext,
+        List<PlannerBenchmarkResultSummary> summaryList = benchmarkResultIO.readPlannerBenchmarkResultSummaryList(
                 benchmarkAggregator.getBenchmarkDirectory());
+        // Only unmarshall the selected benchmarks, the benchmark history can be very long
+        plannerBenchmarkResultList = benchmarkResultIO.readPlannerBenchmarkResultList(configContext,
+                selectPlannerBenchmarkResultSummaryList(summaryList));
         for (PlannerBenchmarkResult plannerBenchmarkResult : plannerBenchmarkResultList) {
             plannerBenchmarkResult.accumulateResults(
                     benchmarkAggregator.getBenchmarkReportConfig().buildBenchmarkReport(plannerBenchmarkResult));
         }
     }
 
+    private List<PlannerBenchmarkResultSummary> selectPlannerBenchmarkResultSummaryList(
+            List<PlannerBenchmarkResultSummary> summaryList) {
+        if (summaryList.size() <= 1) {
+            return summaryList;
+        }
+        JList<PlannerBenchmarkResultSummary> summaryJList = new JList<>(
+                summaryList.toArray(new PlannerBenchmarkResultSummary[0]));
+        summaryJList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        summaryJList.setVisibleRowCount(Math.min(summaryList.size(), 20));
+        // Select the most recent benchmark by default
+        summaryJList.setSelectedIndex(summaryList.size() - 1);
+        summaryJList.ensureIndexIsVisible(summaryList.size() - 1);
+        JPanel selectionPanel = new JPanel(new BorderLayout());
+        selectionPanel.add(new JLabel("Select the planner benchmarks to load:"), BorderLayout.NORTH);
+        selectionPanel.add(new JScrollPane(summaryJList), BorderLayout.CENTER);
+        int result = JOptionPane.showConfirmDialog(this, selectionPanel, "Load planner benchmarks",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) {
+            return Collections.emptyList();
+        }
+        return summaryJList.getSelectedValuesList();
+    }
+
     private class GenerateReportAction extends AbstractAction {
 
         private final BenchmarkAggregatorFrame parentFrame;
@@ -34,6 +34,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 
 import freemarker.template.Configuration;
@@ -104,6 +108,8 @@ public class BenchmarkReport {
 
     private File htmlOverviewFile = null;
 
+    private int graphThreadCount = Runtime.getRuntime().availableProcessors();
+
     public BenchmarkReport(PlannerBenchmarkResult plannerBenchmarkResult) {
         this.plannerBenchmarkResult = plannerBenchmarkResult;
     }
@@ -200,6 +206,21 @@ public class BenchmarkReport {
         return htmlOverviewFile;
     }
 
+    public int getGraphThreadCount() {
+        return graphThreadCount;
+    }
+
+    /**
+     * @param graphThreadCount {@code >= 1}, the maximum number of threads that render graphs concurrently
+     */
+    public void setGraphThreadCount(int graphThreadCount) {
+        if (graphThreadCount < 1) {
+            throw new IllegalArgumentException("The graphThreadCount (" + graphThreadCount
+                    + ") must be at least 1.");
+        }
+        this.graphThreadCount = graphThreadCount;
+    }
+
     // ************************************************************************
     // Smart getters
     // ************************************************************************
@@ -238,69 +259,89 @@ public class BenchmarkReport {
         summaryDirectory.mkdir();
         plannerBenchmarkResult.accumulateResults(this);
         fillWarningList();
-        writeBestScoreSummaryChart();
-        writeBestScoreScalabilitySummaryChart();
-        writeWinningScoreDifferenceSummaryChart();
-        writeWorstScoreDifferencePercentageSummaryChart();
-        writeBestScoreDistributionSummaryChart();
-        writeScoreCalculationSpeedSummaryChart();
-        writeWorstScoreCalculationSpeedDifferencePercentageSummaryChart();
-        writeTimeSpentSummaryChart();
-        writeTimeSpentScalabilitySummaryChart();
-        writeBestScorePerTimeSpentSummaryChart();
+        ExecutorService executorService = Executors.newFixedThreadPool(graphThreadCount);
+        List<Future<?>> futureList = new ArrayList<>();
+        futureList.add(executorService.submit(this::writeBestScoreSummaryChart));
+        futureList.add(executorService.submit(this::writeBestScoreScalabilitySummaryChart));
+        futureList.add(executorService.submit(this::writeWinningScoreDifferenceSummaryChart));
+        futureList.add(executorService.submit(this::writeWorstScoreDifferencePercentageSummaryChart));
+        futureList.add(executorService.submit(this::writeBestScoreDistributionSummaryChart));
+        futureList.add(executorService.submit(this::writeScoreCalculationSpeedSummaryChart));
+        futureList.add(executorService.submit(this::writeWorstScoreCalculationSpeedDifferencePercentageSummaryChart));
+        futureList.add(executorService.submit(this::writeTimeSpentSummaryChart));
+        futureList.add(executorService.submit(this::writeTimeSpentScalabilitySummaryChart));
+        futureList.add(executorService.submit(this::writeBestScorePerTimeSpentSummaryChart));
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
-                        try {
-                            subSingleStatistic.unhibernatePointList();
-                        } catch (IllegalStateException e) {
-                            if (!plannerBenchmarkResult.getAggregation()) {
-                                throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
-                                        + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").", e);
-                            }
-                            logger.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
-                                    + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(), subSingleStatistic);
-                        }
-                    }
-                }
+            futureList.add(executorService.submit(() -> writeProblemGraphFiles(problemBenchmarkResult)));
+        }
+        executorService.shutdown();
+        try {
+            for (Future<?> future : futureList) {
+                future.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Writing the graph files of the benchmark report was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Writing the graph files of the benchmark report failed.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
         }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            if (problemBenchmarkResult.hasAnySuccess()) {
-                for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
-                    problemStatistic.writeGraphFiles(this);
+        determineDefaultShownScoreLevelIndex();
+        writeHtmlOverviewFile();
+    }
+
+    /**
+     * Only loads the statistic points of this problem from their CSV files while its graphs are written,
+     * so the memory use doesn't grow with the number of problems.
+     * @param problemBenchmarkResult never null
+     */
+    private void writeProblemGraphFiles(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+                if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                    continue;
                 }
-                for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                    if (singleBenchmarkResult.hasAllSuccess()) {
-                        for (PureSubSingleStatistic pureSubSingleStatistic : singleBenchmarkResult.getMedian().getPureSubSingleStatisticList()) {
-                            pureSubSingleStatistic.writeGraphFiles(this);
+                for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
+                    try {
+                        subSingleStatistic.unhibernatePointList();
+                    } catch (IllegalStateException e) {
+                        if (!plannerBenchmarkResult.getAggregation()) {
+                            throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
+                                    + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").", e);
                         }
+                        logger.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
+                                + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(), subSingleStatistic);
                     }
                 }
             }
         }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
+        if (problemBenchmarkResult.hasAnySuccess()) {
+            for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
+                problemStatistic.writeGraphFiles(this);
+            }
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
+                if (singleBenchmarkResult.hasAllSuccess()) {
+                    for (PureSubSingleStatistic pureSubSingleStatistic : singleBenchmarkResult.getMedian().getPureSubSingleStatisticList()) {
+                        pureSubSingleStatistic.writeGraphFiles(this);
                     }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
-                        if (plannerBenchmarkResult.getAggregation()) {
-                            subSingleStatistic.setPointList(null);
-                        } else {
-                            subSingleStatistic.hibernatePointList();
-                        }
+                }
+            }
+        }
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+                if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                    continue;
+                }
+                for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
+                    if (plannerBenchmarkResult.getAggregation()) {
+                        subSingleStatistic.setPointList(null);
+                    } else {
+                        subSingleStatistic.hibernatePointList();
                     }
                 }
             }
         }
-        determineDefaultShownScoreLevelIndex();
-        writeHtmlOverviewFile();
     }
 
     protected void fillWarningList() {
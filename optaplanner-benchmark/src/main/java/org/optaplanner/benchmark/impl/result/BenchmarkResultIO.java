@@ -45,6 +45,7 @@ import org.slf4j.LoggerFactory;
 public class BenchmarkResultIO {
 
     private static final String PLANNER_BENCHMARK_RESULT_FILENAME = "plannerBenchmarkResult.xml";
+    private static final String PLANNER_BENCHMARK_RESULT_SUMMARY_FILENAME = "plannerBenchmarkResultSummary.xml";
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -53,6 +54,7 @@ public class BenchmarkResultIO {
     public BenchmarkResultIO() {
         xStream = XStreamXmlSolverFactory.buildXStream();
         xStream.processAnnotations(PlannerBenchmarkResult.class);
+        xStream.processAnnotations(PlannerBenchmarkResultSummary.class);
         xStream.allowTypesByRegExp(new String[]{"org\\.optaplanner\\.\\w+\\.api\\..*"});
         xStream.allowTypesByRegExp(new String[]{"org\\.optaplanner\\.\\w+\\.impl\\..*"});
         AbstractScoreXStreamConverter.registerScoreConverters(xStream);
@@ -67,9 +69,51 @@ public class BenchmarkResultIO {
             throw new IllegalArgumentException(
                     "Failed writing plannerBenchmarkResultFile (" + plannerBenchmarkResultFile + ").", e);
         }
+        writePlannerBenchmarkResultSummary(benchmarkReportDirectory,
+                PlannerBenchmarkResultSummary.createSummary(plannerBenchmarkResult));
+    }
+
+    protected void writePlannerBenchmarkResultSummary(File benchmarkReportDirectory,
+            PlannerBenchmarkResultSummary plannerBenchmarkResultSummary) {
+        File summaryFile = new File(benchmarkReportDirectory, PLANNER_BENCHMARK_RESULT_SUMMARY_FILENAME);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(summaryFile), "UTF-8")) {
+            xStream.toXML(plannerBenchmarkResultSummary, writer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Failed writing plannerBenchmarkResultSummaryFile (" + summaryFile + ").", e);
+        }
     }
 
     public List<PlannerBenchmarkResult> readPlannerBenchmarkResultList(SolverConfigContext configContext, File benchmarkDirectory) {
+        return readPlannerBenchmarkResultList(configContext, readPlannerBenchmarkResultSummaryList(benchmarkDirectory));
+    }
+
+    /**
+     * Only unmarshalls the {@link PlannerBenchmarkResult}s of the given summaries,
+     * so aggregating a few benchmarks of a long history doesn't read the entire history.
+     * @param configContext never null
+     * @param plannerBenchmarkResultSummaryList never null
+     * @return never null, in the same order as the summaries
+     */
+    public List<PlannerBenchmarkResult> readPlannerBenchmarkResultList(SolverConfigContext configContext,
+            List<PlannerBenchmarkResultSummary> plannerBenchmarkResultSummaryList) {
+        List<PlannerBenchmarkResult> plannerBenchmarkResultList = new ArrayList<>(plannerBenchmarkResultSummaryList.size());
+        for (PlannerBenchmarkResultSummary summary : plannerBenchmarkResultSummaryList) {
+            File plannerBenchmarkResultFile = new File(summary.getBenchmarkReportDirectory(),
+                    PLANNER_BENCHMARK_RESULT_FILENAME);
+            PlannerBenchmarkResult plannerBenchmarkResult = readPlannerBenchmarkResult(configContext, plannerBenchmarkResultFile);
+            plannerBenchmarkResultList.add(plannerBenchmarkResult);
+        }
+        return plannerBenchmarkResultList;
+    }
+
+    /**
+     * Lists the benchmark history without unmarshalling any {@link PlannerBenchmarkResult}.
+     * A benchmark report directory written before summaries existed gets a summary with only its name.
+     * @param benchmarkDirectory never null
+     * @return never null, sorted by benchmark report directory name
+     */
+    public List<PlannerBenchmarkResultSummary> readPlannerBenchmarkResultSummaryList(File benchmarkDirectory) {
         if (!benchmarkDirectory.exists() || !benchmarkDirectory.isDirectory()) {
             throw new IllegalArgumentException("The benchmarkDirectory (" + benchmarkDirectory
                     + ") does not exist or is not a directory.");
@@ -80,15 +124,31 @@ public class BenchmarkResultIO {
                     + benchmarkDirectory.getAbsolutePath() + ").");
         }
         Arrays.sort(benchmarkReportDirectories);
-        List<PlannerBenchmarkResult> plannerBenchmarkResultList = new ArrayList<>(benchmarkReportDirectories.length);
+        List<PlannerBenchmarkResultSummary> summaryList = new ArrayList<>(benchmarkReportDirectories.length);
         for (File benchmarkReportDirectory : benchmarkReportDirectories) {
             File plannerBenchmarkResultFile = new File(benchmarkReportDirectory, PLANNER_BENCHMARK_RESULT_FILENAME);
             if (plannerBenchmarkResultFile.exists()) {
-                PlannerBenchmarkResult plannerBenchmarkResult = readPlannerBenchmarkResult(configContext, plannerBenchmarkResultFile);
-                plannerBenchmarkResultList.add(plannerBenchmarkResult);
+                summaryList.add(readPlannerBenchmarkResultSummary(benchmarkReportDirectory));
             }
         }
-        return plannerBenchmarkResultList;
+        return summaryList;
+    }
+
+    protected PlannerBenchmarkResultSummary readPlannerBenchmarkResultSummary(File benchmarkReportDirectory) {
+        File summaryFile = new File(benchmarkReportDirectory, PLANNER_BENCHMARK_RESULT_SUMMARY_FILENAME);
+        if (!summaryFile.exists()) {
+            return PlannerBenchmarkResultSummary.createUnknownSummary(benchmarkReportDirectory);
+        }
+        PlannerBenchmarkResultSummary summary;
+        try (Reader reader = new InputStreamReader(new FileInputStream(summaryFile), "UTF-8")) {
+            summary = (PlannerBenchmarkResultSummary) xStream.fromXML(reader);
+        } catch (XStreamException | IOException e) {
+            logger.warn("Failed reading plannerBenchmarkResultSummaryFile ({}).", summaryFile, e);
+            // The summary is only an index, the plannerBenchmarkResultFile itself might still be readable
+            return PlannerBenchmarkResultSummary.createUnknownSummary(benchmarkReportDirectory);
+        }
+        summary.setBenchmarkReportDirectory(benchmarkReportDirectory);
+        return summary;
     }
 
     protected PlannerBenchmarkResult readPlannerBenchmarkResult(SolverConfigContext configContext, File plannerBenchmarkResultFile) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.result;
+
+import java.io.File;
+import java.time.OffsetDateTime;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+
+/**
+ * A small index entry of a {@link PlannerBenchmarkResult},
+ * written next to it so the benchmark history can be listed
+ * without unmarshalling every (potentially huge) {@link PlannerBenchmarkResult}.
+ * @see BenchmarkResultIO#readPlannerBenchmarkResultSummaryList(File)
+ */
+@XStreamAlias("plannerBenchmarkResultSummary")
+public class PlannerBenchmarkResultSummary {
+
+    private String name;
+    private Boolean aggregation;
+    @XStreamOmitField // Moving or renaming a report directory after creation is allowed
+    private File benchmarkReportDirectory;
+
+    private Integer solverBenchmarkCount = null;
+    private Integer problemBenchmarkCount = null;
+    private OffsetDateTime startingTimestamp = null;
+    private Long benchmarkTimeMillisSpent = null;
+
+    public static PlannerBenchmarkResultSummary createSummary(PlannerBenchmarkResult plannerBenchmarkResult) {
+        PlannerBenchmarkResultSummary summary = new PlannerBenchmarkResultSummary();
+        summary.name = plannerBenchmarkResult.getName();
+        summary.aggregation = plannerBenchmarkResult.getAggregation();
+        summary.benchmarkReportDirectory = plannerBenchmarkResult.getBenchmarkReportDirectory();
+        summary.solverBenchmarkCount = plannerBenchmarkResult.getSolverBenchmarkResultList().size();
+        summary.problemBenchmarkCount = plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList().size();
+        summary.startingTimestamp = plannerBenchmarkResult.getStartingTimestamp();
+        summary.benchmarkTimeMillisSpent = plannerBenchmarkResult.getBenchmarkTimeMillisSpent();
+        return summary;
+    }
+
+    /**
+     * For a benchmark report directory written before summaries existed.
+     * @param benchmarkReportDirectory never null
+     * @return never null
+     */
+    public static PlannerBenchmarkResultSummary createUnknownSummary(File benchmarkReportDirectory) {
+        PlannerBenchmarkResultSummary summary = new PlannerBenchmarkResultSummary();
+        summary.name = benchmarkReportDirectory.getName();
+        summary.benchmarkReportDirectory = benchmarkReportDirectory;
+        return summary;
+    }
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    public String getName() {
+        return name;
+    }
+
+    public Boolean getAggregation() {
+        return aggregation;
+    }
+
+    public File getBenchmarkReportDirectory() {
+        return benchmarkReportDirectory;
+    }
+
+    public void setBenchmarkReportDirectory(File benchmarkReportDirectory) {
+        this.benchmarkReportDirectory = benchmarkReportDirectory;
+    }
+
+    public Integer getSolverBenchmarkCount() {
+        return solverBenchmarkCount;
+    }
+
+    public Integer getProblemBenchmarkCount() {
+        return problemBenchmarkCount;
+    }
+
+    public OffsetDateTime getStartingTimestamp() {
+        return startingTimestamp;
+    }
+
+    public Long getBenchmarkTimeMillisSpent() {
+        return benchmarkTimeMillisSpent;
+    }
+
+    @Override
+    public String toString() {
+        if (solverBenchmarkCount == null) {
+            return name;
+        }
+        return name + " (" + solverBenchmarkCount + " solvers, " + problemBenchmarkCount + " problems)";
+    }
+
+}
@@ -26,8 +26,11 @@ import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
 import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.solution.mutation.MutationCounter;
+import org.optaplanner.core.impl.domain.solution.mutation.MutationTracker;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 
 public class BestSolutionMutationSubSingleStatistic<Solution_>
         extends ProblemBasedSubSingleStatistic<Solution_, BestSolutionMutationStatisticPoint> {
@@ -45,28 +48,55 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
 
     @Override
     public void open(Solver<Solution_> solver) {
-        InnerScoreDirectorFactory<Solution_> scoreDirectorFactory
-                = (InnerScoreDirectorFactory<Solution_>) solver.getScoreDirectorFactory();
-        SolutionDescriptor<Solution_> solutionDescriptor = scoreDirectorFactory.getSolutionDescriptor();
-        listener.setMutationCounter(new MutationCounter<>(solutionDescriptor));
+        if (solver instanceof DefaultSolver) {
+            // Tracks the changes on the working solution, instead of comparing every entity of each new best solution
+            InnerScoreDirector<Solution_> scoreDirector = ((DefaultSolver<Solution_>) solver).getSolverScope()
+                    .getScoreDirector();
+            listener.setMutationTracker(new MutationTracker<>());
+            scoreDirector.setMutationTracker(listener.mutationTracker);
+        } else {
+            InnerScoreDirectorFactory<Solution_> scoreDirectorFactory
+                    = (InnerScoreDirectorFactory<Solution_>) solver.getScoreDirectorFactory();
+            SolutionDescriptor<Solution_> solutionDescriptor = scoreDirectorFactory.getSolutionDescriptor();
+            listener.setMutationCounter(new MutationCounter<>(solutionDescriptor));
+        }
         solver.addEventListener(listener);
     }
 
     @Override
     public void close(Solver<Solution_> solver) {
         solver.removeEventListener(listener);
+        if (listener.mutationTracker != null) {
+            ((DefaultSolver<Solution_>) solver).getSolverScope().getScoreDirector().setMutationTracker(null);
+        }
     }
 
     private class BestSolutionMutationSubSingleStatisticListener implements SolverEventListener<Solution_> {
 
+        /**
+         * Null if {@link #mutationCounter} is used: that requires a {@link DefaultSolver}.
+         */
+        private MutationTracker<Solution_> mutationTracker;
+        /**
+         * Null if {@link #mutationTracker} is used.
+         */
         private MutationCounter<Solution_> mutationCounter;
 
+        private boolean firstBestSolution = true;
         private Solution_ oldBestSolution = null;
 
+        private void setMutationTracker(MutationTracker<Solution_> mutationTracker) {
+            if (this.mutationTracker != null || mutationCounter != null) {
+                throw new IllegalStateException("Impossible state: mutationTracker (" + this.mutationTracker
+                        + ") or mutationCounter (" + mutationCounter + ") is not null.");
+            }
+            this.mutationTracker = mutationTracker;
+        }
+
         private void setMutationCounter(MutationCounter<Solution_> mutationCounter) {
-            if (this.mutationCounter != null) {
-                throw new IllegalStateException("Impossible state: mutationCounter (" + this.mutationCounter
-                        + ") is not null.");
+            if (mutationTracker != null || this.mutationCounter != null) {
+                throw new IllegalStateException("Impossible state: mutationTracker (" + mutationTracker
+                        + ") or mutationCounter (" + this.mutationCounter + ") is not null.");
             }
             this.mutationCounter = mutationCounter;
         }
@@ -74,15 +104,26 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
         @Override
         public void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
             int mutationCount;
-            Solution_ newBestSolution = event.getNewBestSolution();
-            if (oldBestSolution == null) {
-                mutationCount = 0;
+            if (mutationTracker != null) {
+                // Called on the solver thread, when the working solution is the new best solution
+                if (firstBestSolution) {
+                    mutationCount = 0;
+                    firstBestSolution = false;
+                } else {
+                    mutationCount = mutationTracker.countMutations();
+                }
+                mutationTracker.resetMutations();
             } else {
-                mutationCount = mutationCounter.countMutations(oldBestSolution, newBestSolution);
+                Solution_ newBestSolution = event.getNewBestSolution();
+                if (oldBestSolution == null) {
+                    mutationCount = 0;
+                } else {
+                    mutationCount = mutationCounter.countMutations(oldBestSolution, newBestSolution);
+                }
+                oldBestSolution = newBestSolution;
             }
             pointList.add(new BestSolutionMutationStatisticPoint(
                     event.getTimeMillisSpent(), mutationCount));
-            oldBestSolution = newBestSolution;
         }
 
     }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.config.ProblemBenchmarksConfig;
+import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+
+import static org.junit.Assert.*;
+
+public class BenchmarkReportTest {
+
+    private static final int PROBLEM_COUNT = 4;
+
+    private static File benchmarkTestDir;
+    private static List<File> inputSolutionFileList;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        benchmarkTestDir = new File("target/benchmarkReportTest/");
+        benchmarkTestDir.mkdirs();
+        inputSolutionFileList = new ArrayList<>(PROBLEM_COUNT);
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            File inputSolutionFile = new File(benchmarkTestDir, "input" + i + ".txt");
+            inputSolutionFile.createNewFile();
+            inputSolutionFileList.add(inputSolutionFile);
+        }
+    }
+
+    @Test
+    public void writeReportWithMultipleGraphThreads() {
+        PlannerBenchmarkResult plannerBenchmarkResult = benchmark("multipleGraphThreads");
+        BenchmarkReport benchmarkReport = new BenchmarkReportConfig().buildBenchmarkReport(plannerBenchmarkResult);
+        benchmarkReport.setGraphThreadCount(3);
+        benchmarkReport.writeReport();
+
+        assertTrue(benchmarkReport.getHtmlOverviewFile().exists());
+        assertTrue(benchmarkReport.getTimeSpentSummaryChartFile().exists());
+        for (File bestScoreSummaryChartFile : benchmarkReport.getBestScoreSummaryChartFileList()) {
+            assertTrue(bestScoreSummaryChartFile.exists());
+        }
+        List<ProblemBenchmarkResult> problemBenchmarkResultList
+                = plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList();
+        assertEquals(PROBLEM_COUNT, problemBenchmarkResultList.size());
+        for (ProblemBenchmarkResult<?> problemBenchmarkResult : problemBenchmarkResultList) {
+            assertEquals(2, problemBenchmarkResult.getProblemStatisticList().size());
+            for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
+                for (File graphFile : problemStatistic.getGraphFileList()) {
+                    assertTrue(graphFile.exists());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void writeReportRethrowsFailedGraphTask() {
+        PlannerBenchmarkResult plannerBenchmarkResult = benchmark("failedGraphTask");
+        ProblemBenchmarkResult<?> problemBenchmarkResult
+                = plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList().get(PROBLEM_COUNT - 1);
+        SubSingleStatistic subSingleStatistic = problemBenchmarkResult.getSingleBenchmarkResultList().get(0)
+                .getSubSingleBenchmarkResultList().get(0)
+                .getEffectiveSubSingleStatisticMap().get(ProblemStatisticType.BEST_SCORE);
+        assertTrue(subSingleStatistic.getCsvFile().delete());
+        BenchmarkReport benchmarkReport = new BenchmarkReportConfig().buildBenchmarkReport(plannerBenchmarkResult);
+        benchmarkReport.setGraphThreadCount(3);
+        try {
+            benchmarkReport.writeReport();
+            fail("The graph task of the problem without a csvFile should have failed.");
+        } catch (IllegalStateException e) {
+            // The cause of the ExecutionException is rethrown, not the ExecutionException itself
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertTrue(e.getCause().getMessage().contains(subSingleStatistic.toString()));
+        }
+    }
+
+    private PlannerBenchmarkResult benchmark(String benchmarkDirectoryName) {
+        PlannerBenchmarkFactory plannerBenchmarkFactory = PlannerBenchmarkFactory.createFromXmlResource(
+                "org/optaplanner/benchmark/api/testdataPlannerBenchmarkConfig.xml");
+        PlannerBenchmarkConfig plannerBenchmarkConfig = plannerBenchmarkFactory.getPlannerBenchmarkConfig();
+        plannerBenchmarkConfig.setBenchmarkDirectory(new File(benchmarkTestDir, benchmarkDirectoryName));
+        ProblemBenchmarksConfig problemBenchmarksConfig = plannerBenchmarkConfig.getSolverBenchmarkConfigList().get(0)
+                .getProblemBenchmarksConfig();
+        problemBenchmarksConfig.setInputSolutionFileList(inputSolutionFileList);
+        problemBenchmarksConfig.setProblemStatisticTypeList(
+                Arrays.asList(ProblemStatisticType.BEST_SCORE, ProblemStatisticType.STEP_SCORE));
+        DefaultPlannerBenchmark plannerBenchmark
+                = (DefaultPlannerBenchmark) plannerBenchmarkFactory.buildPlannerBenchmark();
+        plannerBenchmark.benchmark();
+        return plannerBenchmark.getPlannerBenchmarkResult();
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.result;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.core.config.SolverConfigContext;
+
+import static org.junit.Assert.*;
+
+public class BenchmarkResultIOTest {
+
+    private static File benchmarkDirectory;
+    private static File firstBenchmarkReportDirectory;
+    private static File secondBenchmarkReportDirectory;
+    private static File legacyBenchmarkReportDirectory;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        File benchmarkTestDir = new File("target/benchmarkResultIOTest/");
+        FileUtils.deleteDirectory(benchmarkTestDir);
+        benchmarkTestDir.mkdirs();
+        new File(benchmarkTestDir, "input.xml").createNewFile();
+        benchmarkDirectory = new File(benchmarkTestDir, "output/");
+        firstBenchmarkReportDirectory = benchmark();
+        secondBenchmarkReportDirectory = benchmark();
+        // Written before summaries existed: only the plannerBenchmarkResult.xml
+        legacyBenchmarkReportDirectory = new File(benchmarkDirectory, "0000-00-00_legacy");
+        legacyBenchmarkReportDirectory.mkdir();
+        FileUtils.copyFileToDirectory(new File(firstBenchmarkReportDirectory, "plannerBenchmarkResult.xml"),
+                legacyBenchmarkReportDirectory);
+        // Not a benchmark report directory at all
+        new File(benchmarkDirectory, "0000-00-00_empty").mkdir();
+    }
+
+    private static File benchmark() {
+        PlannerBenchmarkFactory plannerBenchmarkFactory = PlannerBenchmarkFactory.createFromXmlResource(
+                "org/optaplanner/benchmark/api/testdataPlannerBenchmarkConfig.xml");
+        plannerBenchmarkFactory.getPlannerBenchmarkConfig().setBenchmarkDirectory(benchmarkDirectory);
+        DefaultPlannerBenchmark plannerBenchmark
+                = (DefaultPlannerBenchmark) plannerBenchmarkFactory.buildPlannerBenchmark();
+        plannerBenchmark.benchmark();
+        return plannerBenchmark.getPlannerBenchmarkResult().getBenchmarkReportDirectory();
+    }
+
+    @Test
+    public void readPlannerBenchmarkResultSummaryList() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        List<PlannerBenchmarkResultSummary> summaryList
+                = benchmarkResultIO.readPlannerBenchmarkResultSummaryList(benchmarkDirectory);
+        assertEquals(3, summaryList.size());
+
+        PlannerBenchmarkResultSummary legacySummary = summaryList.get(0);
+        assertEquals(legacyBenchmarkReportDirectory, legacySummary.getBenchmarkReportDirectory());
+        assertEquals(legacyBenchmarkReportDirectory.getName(), legacySummary.getName());
+        assertNull(legacySummary.getSolverBenchmarkCount());
+        assertNull(legacySummary.getStartingTimestamp());
+
+        PlannerBenchmarkResultSummary firstSummary = summaryList.get(1);
+        assertEquals(firstBenchmarkReportDirectory, firstSummary.getBenchmarkReportDirectory());
+        assertEquals(Integer.valueOf(1), firstSummary.getSolverBenchmarkCount());
+        assertEquals(Integer.valueOf(1), firstSummary.getProblemBenchmarkCount());
+        assertNotNull(firstSummary.getStartingTimestamp());
+        assertEquals(secondBenchmarkReportDirectory, summaryList.get(2).getBenchmarkReportDirectory());
+    }
+
+    @Test
+    public void readOnlySelectedPlannerBenchmarkResults() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        List<PlannerBenchmarkResultSummary> summaryList
+                = benchmarkResultIO.readPlannerBenchmarkResultSummaryList(benchmarkDirectory);
+        PlannerBenchmarkResultSummary secondSummary = summaryList.get(2);
+        List<PlannerBenchmarkResult> plannerBenchmarkResultList = benchmarkResultIO.readPlannerBenchmarkResultList(
+                new SolverConfigContext(), Collections.singletonList(secondSummary));
+        assertEquals(1, plannerBenchmarkResultList.size());
+        PlannerBenchmarkResult plannerBenchmarkResult = plannerBenchmarkResultList.get(0);
+        assertEquals(secondBenchmarkReportDirectory, plannerBenchmarkResult.getBenchmarkReportDirectory());
+        assertEquals(secondSummary.getName(), plannerBenchmarkResult.getName());
+        assertEquals(secondSummary.getStartingTimestamp(), plannerBenchmarkResult.getStartingTimestamp());
+        assertEquals(1, plannerBenchmarkResult.getSolverBenchmarkResultList().size());
+        assertNotNull(plannerBenchmarkResult.getSolverBenchmarkResultList().get(0).getScoreDefinition());
+    }
+
+    @Test
+    public void readLegacyPlannerBenchmarkResult() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        PlannerBenchmarkResultSummary legacySummary
+                = benchmarkResultIO.readPlannerBenchmarkResultSummaryList(benchmarkDirectory).get(0);
+        List<PlannerBenchmarkResult> plannerBenchmarkResultList = benchmarkResultIO.readPlannerBenchmarkResultList(
+                new SolverConfigContext(), Collections.singletonList(legacySummary));
+        assertEquals(1, plannerBenchmarkResultList.size());
+        assertEquals(legacyBenchmarkReportDirectory, plannerBenchmarkResultList.get(0).getBenchmarkReportDirectory());
+    }
+
+    @Test
+    public void readAllPlannerBenchmarkResults() {
+        List<PlannerBenchmarkResult> plannerBenchmarkResultList = new BenchmarkResultIO()
+                .readPlannerBenchmarkResultList(new SolverConfigContext(), benchmarkDirectory);
+        assertEquals(3, plannerBenchmarkResultList.size());
+    }
+
+}
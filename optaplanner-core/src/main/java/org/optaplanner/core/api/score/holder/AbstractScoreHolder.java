@@ -17,12 +17,13 @@
 package org.optaplanner.core.api.score.holder;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.drools.core.common.AgendaItem;
 import org.kie.api.definition.rule.Rule;
@@ -90,14 +91,17 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
             constraintActivationUnMatchListener.constraintMatchTotal = findConstraintMatchTotal(kcontext);
             ConstraintMatch constraintMatch = constraintActivationUnMatchListener.constraintMatchTotal
                     .addConstraintMatch(justificationList, scoreSupplier.get());
-            List<Indictment> indictmentList = justificationList.stream()
-                    .distinct() // One match might have the same justification twice
-                    .map(justification -> {
-                        Indictment indictment = indictmentMap.computeIfAbsent(justification,
-                                k -> new Indictment(justification, zeroScore));
-                        indictment.addConstraintMatch(constraintMatch);
-                        return indictment;
-                    }).collect(Collectors.toList());
+            // Exactly sized, because it lives as long as the constraint match does
+            List<Indictment> indictmentList = new ArrayList<>(justificationList.size());
+            for (Object justification : justificationList) {
+                Indictment indictment = indictmentMap.computeIfAbsent(justification,
+                        k -> new Indictment(justification, zeroScore));
+                // One match might have the same justification twice
+                if (!indictmentList.contains(indictment)) {
+                    indictment.addConstraintMatch(constraintMatch);
+                    indictmentList.add(indictment);
+                }
+            }
             constraintActivationUnMatchListener.constraintMatch = constraintMatch;
             constraintActivationUnMatchListener.indictmentList = indictmentList;
         }
@@ -114,7 +118,10 @@ public abstract class AbstractScoreHolder implements ScoreHolder, Serializable {
 
     protected List<Object> extractJustificationList(RuleContext kcontext) {
         // Unlike kcontext.getMatch().getObjects(), this includes the matches of accumulate and exists
-        return ((org.drools.core.spi.Activation) kcontext.getMatch()).getObjectsDeep();
+        List<Object> objectsDeep = ((org.drools.core.spi.Activation) kcontext.getMatch()).getObjectsDeep();
+        // Trimmed to an exactly sized array, because it lives as long as the constraint match does.
+        // Arrays.asList() still supports List.sort(), which the score corruption analysis relies on.
+        return Arrays.asList(objectsDeep.toArray());
     }
 
     public class ConstraintActivationUnMatchListener implements Runnable {
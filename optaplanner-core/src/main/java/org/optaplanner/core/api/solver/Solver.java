@@ -27,6 +27,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
 import org.optaplanner.core.api.solver.event.SolverEventListener;
+import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.ProblemFactChange;
@@ -55,6 +56,9 @@ public interface Solver<Solution_> {
      * {@link SolverEventListener#bestSolutionChanged(BestSolutionChangedEvent)} is often more appropriate).
      * <p>
      * This method is thread-safe.
+     * If {@link SolverConfig#setBestSolutionDeltaCloningEnabled(Boolean) best solution delta cloning} is enabled,
+     * the solver thread patches the best solution in place during solving,
+     * so then this method returns a new planning clone of it on every call, which is expensive.
      * @return never null, but it can return the uninitialized {@link PlanningSolution} with a {@link Score} null.
      */
     Solution_ getBestSolution();
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.event.SolverManagerEventListener;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.solver.DefaultSolverManager;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+
+/**
+ * A SolverManager solves multiple planning problems of the same domain concurrently,
+ * each with its own {@link Solver}, sharing a bounded number of CPU cores.
+ * <p>
+ * Every planning problem is identified by a problem id (for example a tenant id or a session id),
+ * which is used to query or terminate it and which is passed to every {@link SolverManagerEventListener}.
+ * <p>
+ * At most {@code parallelSolverCount} solvers run at the same time, each on its own solver thread.
+ * If more problems are submitted, they wait until a solver thread is free, in the order they were submitted.
+ * The {@link SolverConfig#getMoveThreadCount() move threads} of those solvers are not part of that budget,
+ * so usually {@link SolverConfig#MOVE_THREAD_COUNT_NONE} is configured.
+ * <p>
+ * All methods are thread-safe.
+ * <p>
+ * Build by {@link #create(SolverFactory, int)}.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the id type of a planning problem, such as {@link Long} or {@link String}
+ */
+public interface SolverManager<Solution_, ProblemId_> {
+
+    /**
+     * @param solverFactory never null, used to build a {@link Solver} for every submitted problem
+     * @param parallelSolverCount at least 1, the number of solver threads, so the maximum number of solvers
+     * that run at the same time
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @param <ProblemId_> the id type of a planning problem, such as {@link Long} or {@link String}
+     * @return never null
+     */
+    static <Solution_, ProblemId_> SolverManager<Solution_, ProblemId_> create(
+            SolverFactory<Solution_> solverFactory, int parallelSolverCount) {
+        return new DefaultSolverManager<>(solverFactory, parallelSolverCount);
+    }
+
+    /**
+     * Submits a planning problem to be solved asynchronously.
+     * This method returns immediately.
+     * <p>
+     * The problem is solved until its {@link Solver}'s termination is reached
+     * or until {@link #terminateEarly(Object)} is called.
+     * @param problemId never null, unique among the problems that are solving
+     * @param problem never null, usually its planning variables are uninitialized
+     * @throws IllegalStateException if a problem with the same problemId is still solving
+     *  or if this {@link SolverManager} is {@link #shutdown() shutdown}
+     */
+    void solve(ProblemId_ problemId, Solution_ problem);
+
+    /**
+     * @param problemId never null
+     * @return true if that problem has been submitted and its {@link Solver} has not returned yet
+     */
+    boolean isSolving(ProblemId_ problemId);
+
+    /**
+     * The best solution found so far for a problem, even if it has stopped solving.
+     * @param problemId never null
+     * @return null if that problem has never been submitted or if it has been {@link #removeProblem(Object) removed}
+     * @see Solver#getBestSolution()
+     */
+    Solution_ getBestSolution(ProblemId_ problemId);
+
+    /**
+     * @param problemId never null
+     * @return null if that problem has never been submitted, if it has been {@link #removeProblem(Object) removed}
+     * or if its best solution is still uninitialized
+     * @see Solver#getBestScore()
+     */
+    Score getBestScore(ProblemId_ problemId);
+
+    /**
+     * @param problemId never null
+     * @param problemFactChange never null
+     * @return true if that problem is solving and the change was queued
+     * @see Solver#addProblemFactChange(ProblemFactChange)
+     */
+    boolean addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange);
+
+    /**
+     * Notifies the {@link Solver} of that problem that it should stop at its earliest convenience.
+     * This method returns immediately.
+     * @param problemId never null
+     * @return true if that problem was solving
+     * @see Solver#terminateEarly()
+     */
+    boolean terminateEarly(ProblemId_ problemId);
+
+    /**
+     * Forgets the best solution of a problem that is no longer solving, to free up its memory.
+     * @param problemId never null
+     * @return the best solution of that problem, null if it was unknown
+     * @throws IllegalStateException if that problem is still solving
+     */
+    Solution_ removeProblem(ProblemId_ problemId);
+
+    /**
+     * @param eventListener never null, called for the best solution events of every problem
+     */
+    void addEventListener(SolverManagerEventListener<Solution_, ProblemId_> eventListener);
+
+    /**
+     * @param eventListener never null
+     */
+    void removeEventListener(SolverManagerEventListener<Solution_, ProblemId_> eventListener);
+
+    /**
+     * Terminates every solving problem early, waits until their solvers have returned
+     * and releases the threads.
+     * Afterwards, no new problems can be submitted.
+     */
+    void shutdown();
+
+}
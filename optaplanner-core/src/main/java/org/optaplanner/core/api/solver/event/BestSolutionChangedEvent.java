@@ -17,11 +17,13 @@
 package org.optaplanner.core.api.solver.event;
 
 import java.util.EventObject;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.FeasibilityScore;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.solver.ProblemFactChange;
 
 /**
@@ -33,7 +35,8 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
 
     private final Solver<Solution_> solver;
     private final long timeMillisSpent;
-    private final Solution_ newBestSolution;
+    private Supplier<Solution_> newBestSolutionSupplier;
+    private Solution_ newBestSolution;
     private final Score newBestScore;
 
     /**
@@ -46,10 +49,29 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
         super(solver);
         this.solver = solver;
         this.timeMillisSpent = timeMillisSpent;
+        this.newBestSolutionSupplier = null;
         this.newBestSolution = newBestSolution;
         this.newBestScore = newBestScore;
     }
 
+    /**
+     * Creates the {@link #getNewBestSolution()} lazily, only if it's actually requested,
+     * for example because the best solution needs to be cloned for the listeners.
+     * @param solver never null
+     * @param timeMillisSpent {@code >= 0L}
+     * @param newBestSolutionSupplier never null, called at most once, in the solver thread
+     * @param newBestScore never null
+     */
+    public BestSolutionChangedEvent(Solver<Solution_> solver, long timeMillisSpent,
+            Supplier<Solution_> newBestSolutionSupplier, Score newBestScore) {
+        super(solver);
+        this.solver = solver;
+        this.timeMillisSpent = timeMillisSpent;
+        this.newBestSolutionSupplier = newBestSolutionSupplier;
+        this.newBestSolution = null;
+        this.newBestScore = newBestScore;
+    }
+
     /**
      * @return {@code >= 0}, the amount of millis spent since the {@link Solver} started
      * until {@link #getNewBestSolution()} was found
@@ -65,10 +87,19 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
      *     check {@link #isEveryProblemFactChangeProcessed()}.</li>
      *     <li>this {@link PlanningSolution} might be uninitialized: check {@link Score#isSolutionInitialized()}.</li>
      *     <li>this {@link PlanningSolution} might be infeasible: check {@link FeasibilityScore#isFeasible()}.</li>
+     *     <li>this {@link PlanningSolution} might be created lazily, so call this method in the solver thread,
+     *     before the listener returns.</li>
+     *     <li>this {@link PlanningSolution} is never changed by the {@link Solver} afterwards,
+     *     even if {@link SolverConfig#setBestSolutionDeltaCloningEnabled(Boolean) best solution delta cloning}
+     *     patches the best solution of the {@link Solver} in place: then it's a separate planning clone.</li>
      * </ul>
      * @return never null
      */
     public Solution_ getNewBestSolution() {
+        if (newBestSolution == null) {
+            newBestSolution = newBestSolutionSupplier.get();
+            newBestSolutionSupplier = null;
+        }
         return newBestSolution;
     }
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.event;
+
+import java.util.EventListener;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverManager;
+
+/**
+ * Observes the events of all the problems of a {@link SolverManager}.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the id type of a planning problem
+ * @see SolverEventListener
+ */
+public interface SolverManagerEventListener<Solution_, ProblemId_> extends EventListener {
+
+    /**
+     * Called once every time when a better {@link PlanningSolution} is found for any of the problems.
+     * <p>
+     * Called from the solver thread of that problem, so it can be called concurrently for different problems.
+     * <b>Should return fast, because it steals time from the {@link Solver}.</b>
+     * @param problemId never null
+     * @param event never null
+     * @see SolverEventListener#bestSolutionChanged(BestSolutionChangedEvent)
+     */
+    void bestSolutionChanged(ProblemId_ problemId, BestSolutionChangedEvent<Solution_> event);
+
+    /**
+     * Called once when the {@link Solver} of a problem returns, after its last best solution event.
+     * <p>
+     * Called from the solver thread of that problem.
+     * @param problemId never null
+     * @param bestSolution never null
+     */
+    default void solvingEnded(ProblemId_ problemId, Solution_ bestSolution) {
+    }
+
+    /**
+     * Called once when the {@link Solver} of a problem throws an exception, instead of {@link #solvingEnded}.
+     * <p>
+     * Called from the solver thread of that problem.
+     * The best solution found before the failure is still available through {@link SolverManager#getBestSolution}.
+     * @param problemId never null
+     * @param throwable never null, the exception or error thrown by {@link Solver#solve(Object)}
+     */
+    default void solvingFailed(ProblemId_ problemId, Throwable throwable) {
+    }
+
+}
@@ -42,6 +42,7 @@ import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuri
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
 import org.optaplanner.core.impl.solver.ChildThreadType;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -206,6 +207,11 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (configPolicy.isMoveThreadAdaptationEnabled()) {
+                // Evaluating on the solver thread changes its score calculation count, which a termination can use
+                multiThreadedDecider.setAdaptiveMoveThreadBuffer(new AdaptiveMoveThreadBuffer(
+                        selectedMoveBufferSize, !environmentMode.isReproducible()));
+            }
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -19,6 +19,7 @@ package org.optaplanner.core.config.exhaustivesearch;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
@@ -40,11 +41,13 @@ import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescr
 import org.optaplanner.core.impl.exhaustivesearch.DefaultExhaustiveSearchPhase;
 import org.optaplanner.core.impl.exhaustivesearch.ExhaustiveSearchPhase;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
+import org.optaplanner.core.impl.exhaustivesearch.decider.MultiThreadedExhaustiveSearchDecider;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.TrendBasedScoreBounder;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.solver.ChildThreadType;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
 
@@ -58,6 +61,7 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
 
     protected ExhaustiveSearchType exhaustiveSearchType = null;
     protected NodeExplorationType nodeExplorationType = null;
+    protected Integer expandableNodeLimit = null;
     protected EntitySorterManner entitySorterManner = null;
     protected ValueSorterManner valueSorterManner = null;
 
@@ -82,6 +86,14 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
         this.nodeExplorationType = nodeExplorationType;
     }
 
+    public Integer getExpandableNodeLimit() {
+        return expandableNodeLimit;
+    }
+
+    public void setExpandableNodeLimit(Integer expandableNodeLimit) {
+        this.expandableNodeLimit = expandableNodeLimit;
+    }
+
     public EntitySorterManner getEntitySorterManner() {
         return entitySorterManner;
     }
@@ -147,6 +159,18 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
             nodeExplorationType_ = defaultIfNull(nodeExplorationType, NodeExplorationType.DEPTH_FIRST);
         }
         phase.setNodeComparator(nodeExplorationType_.buildNodeComparator(scoreBounderEnabled));
+        if (expandableNodeLimit != null) {
+            if (expandableNodeLimit < 1) {
+                throw new IllegalArgumentException("The phaseConfig (" + this
+                        + ") has an expandableNodeLimit (" + expandableNodeLimit + ") which is lower than 1.");
+            }
+            // ORIGINAL_ORDER and DEPTH_FIRST already keep the expandable node queue small
+            if (nodeExplorationType_ != NodeExplorationType.ORIGINAL_ORDER
+                    && nodeExplorationType_ != NodeExplorationType.DEPTH_FIRST) {
+                phase.setExpandableNodeLimit(expandableNodeLimit);
+                phase.setFallbackNodeComparator(NodeExplorationType.DEPTH_FIRST.buildNodeComparator(scoreBounderEnabled));
+            }
+        }
         EntitySelectorConfig entitySelectorConfig_ = buildEntitySelectorConfig(phaseConfigPolicy);
         EntitySelector entitySelector = entitySelectorConfig_.buildEntitySelector(phaseConfigPolicy,
                 SelectionCacheType.PHASE, SelectionOrder.ORIGINAL);
@@ -214,10 +238,34 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
                 SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL);
         ScoreBounder scoreBounder = scoreBounderEnabled
                 ? new TrendBasedScoreBounder(configPolicy.getScoreDirectorFactory()) : null;
-        ExhaustiveSearchDecider decider = new ExhaustiveSearchDecider(configPolicy.getLogIndentation(),
-                bestSolutionRecaller, termination,
-                manualEntityMimicRecorder, moveSelector, scoreBounderEnabled, scoreBounder);
+        ExhaustiveSearchDecider decider;
+        Integer moveThreadCount = configPolicy.getMoveThreadCount();
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
+        if (moveThreadCount == null) {
+            decider = new ExhaustiveSearchDecider(configPolicy.getLogIndentation(),
+                    bestSolutionRecaller, termination,
+                    manualEntityMimicRecorder, moveSelector, scoreBounderEnabled, scoreBounder);
+        } else {
+            Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
+            if (moveThreadBufferSize == null) {
+                // Same default as Construction Heuristics and Local Search
+                moveThreadBufferSize = 10;
+            }
+            ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
+            int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+            MultiThreadedExhaustiveSearchDecider multiThreadedDecider = new MultiThreadedExhaustiveSearchDecider(
+                    configPolicy.getLogIndentation(), bestSolutionRecaller, termination,
+                    manualEntityMimicRecorder, moveSelector, scoreBounderEnabled, scoreBounder,
+                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+            if (environmentMode.isNonIntrusiveFullAsserted()) {
+                multiThreadedDecider.setAssertStepScoreFromScratch(true);
+            }
+            if (environmentMode.isIntrusiveFastAsserted()) {
+                multiThreadedDecider.setAssertExpectedStepScore(true);
+                multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
+            }
+            decider = multiThreadedDecider;
+        }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
         }
@@ -274,6 +322,8 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
                 inheritedConfig.getExhaustiveSearchType());
         nodeExplorationType = ConfigUtils.inheritOverwritableProperty(nodeExplorationType,
                 inheritedConfig.getNodeExplorationType());
+        expandableNodeLimit = ConfigUtils.inheritOverwritableProperty(expandableNodeLimit,
+                inheritedConfig.getExpandableNodeLimit());
         entitySorterManner = ConfigUtils.inheritOverwritableProperty(entitySorterManner,
                 inheritedConfig.getEntitySorterManner());
         valueSorterManner = ConfigUtils.inheritOverwritableProperty(valueSorterManner,
@@ -47,6 +47,8 @@ public class HeuristicConfigPolicy {
     private ValueSorterManner valueSorterManner = ValueSorterManner.NONE;
     private boolean reinitializeVariableFilterEnabled = false;
     private boolean initializedChainedValueFilterEnabled = false;
+    private boolean moveRecyclingEnabled = false;
+    private boolean moveThreadAdaptationEnabled = false;
 
     private Map<String, EntityMimicRecorder> entityMimicRecorderMap
             = new HashMap<>();
@@ -150,20 +152,41 @@ public class HeuristicConfigPolicy {
         this.initializedChainedValueFilterEnabled = initializedChainedValueFilterEnabled;
     }
 
+    public boolean isMoveRecyclingEnabled() {
+        return moveRecyclingEnabled;
+    }
+
+    public void setMoveRecyclingEnabled(boolean moveRecyclingEnabled) {
+        this.moveRecyclingEnabled = moveRecyclingEnabled;
+    }
+
+    public boolean isMoveThreadAdaptationEnabled() {
+        return moveThreadAdaptationEnabled;
+    }
+
+    public void setMoveThreadAdaptationEnabled(boolean moveThreadAdaptationEnabled) {
+        this.moveThreadAdaptationEnabled = moveThreadAdaptationEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
 
     public HeuristicConfigPolicy createPhaseConfigPolicy() {
-        return new HeuristicConfigPolicy(environmentMode, logIndentation,
+        HeuristicConfigPolicy phaseConfigPolicy = new HeuristicConfigPolicy(environmentMode, logIndentation,
                 moveThreadCount, moveThreadBufferSize, threadFactoryClass,
                 scoreDirectorFactory);
+        phaseConfigPolicy.setMoveThreadAdaptationEnabled(moveThreadAdaptationEnabled);
+        return phaseConfigPolicy;
     }
 
     public HeuristicConfigPolicy createChildThreadConfigPolicy(ChildThreadType childThreadType) {
-        return new HeuristicConfigPolicy(environmentMode, logIndentation + "        ",
+        HeuristicConfigPolicy childThreadConfigPolicy = new HeuristicConfigPolicy(environmentMode,
+                logIndentation + "        ",
                 moveThreadCount, moveThreadBufferSize, threadFactoryClass,
                 scoreDirectorFactory);
+        childThreadConfigPolicy.setMoveThreadAdaptationEnabled(moveThreadAdaptationEnabled);
+        return childThreadConfigPolicy;
     }
 
     // ************************************************************************
@@ -206,6 +229,9 @@ public class HeuristicConfigPolicy {
                 case PART_THREAD:
                     threadPrefix = "PartThread";
                     break;
+                case CHAIN_THREAD:
+                    threadPrefix = "ChainThread";
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported childThreadType (" + childThreadType + ").");
             }
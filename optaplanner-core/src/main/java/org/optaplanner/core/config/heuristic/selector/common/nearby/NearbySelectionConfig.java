@@ -26,6 +26,7 @@ import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.BetaDistributionNearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.BlockDistributionNearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.LinearDistributionNearbyRandom;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.ParabolicDistributionNearbyRandom;
@@ -39,9 +40,13 @@ import static org.apache.commons.lang3.ObjectUtils.*;
 @XStreamAlias("nearbySelection")
 public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig> {
 
+    public static final int DEFAULT_NEARBY_ORIGIN_CACHE_SIZE = 1000;
+
     @XStreamAlias("originEntitySelector")
     protected EntitySelectorConfig originEntitySelectorConfig = null;
     protected Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
+    protected Class<? extends NearbyCoordinateExtractor> nearbyCoordinateExtractorClass = null;
+    protected Integer nearbyOriginCacheSize = null;
 
     protected NearbySelectionDistributionType nearbySelectionDistributionType = null;
 
@@ -73,6 +78,23 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
     }
 
+    public Class<? extends NearbyCoordinateExtractor> getNearbyCoordinateExtractorClass() {
+        return nearbyCoordinateExtractorClass;
+    }
+
+    public void setNearbyCoordinateExtractorClass(
+            Class<? extends NearbyCoordinateExtractor> nearbyCoordinateExtractorClass) {
+        this.nearbyCoordinateExtractorClass = nearbyCoordinateExtractorClass;
+    }
+
+    public Integer getNearbyOriginCacheSize() {
+        return nearbyOriginCacheSize;
+    }
+
+    public void setNearbyOriginCacheSize(Integer nearbyOriginCacheSize) {
+        this.nearbyOriginCacheSize = nearbyOriginCacheSize;
+    }
+
     public NearbySelectionDistributionType getNearbySelectionDistributionType() {
         return nearbySelectionDistributionType;
     }
@@ -157,10 +179,27 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                     + ") which has no MimicSelectorRef (" + originEntitySelectorConfig.getMimicSelectorRef() + "). "
                     + "A nearby's original entity should always be the same as an entity selected earlier in the move.");
         }
-        if (nearbyDistanceMeterClass == null) {
+        if (nearbyDistanceMeterClass == null && nearbyCoordinateExtractorClass == null) {
             throw new IllegalArgumentException("The nearbySelectorConfig (" + this
                     + ") is nearby selection"
-                    + " but lacks a nearbyDistanceMeterClass (" + nearbyDistanceMeterClass + ").");
+                    + " but lacks a nearbyDistanceMeterClass (" + nearbyDistanceMeterClass
+                    + ") or a nearbyCoordinateExtractorClass (" + nearbyCoordinateExtractorClass + ").");
+        }
+        if (nearbyDistanceMeterClass != null && nearbyCoordinateExtractorClass != null) {
+            throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                    + ") has both a nearbyDistanceMeterClass (" + nearbyDistanceMeterClass
+                    + ") and a nearbyCoordinateExtractorClass (" + nearbyCoordinateExtractorClass + ").");
+        }
+        if (nearbyOriginCacheSize != null) {
+            if (nearbyCoordinateExtractorClass == null) {
+                throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                        + ") with nearbyOriginCacheSize (" + nearbyOriginCacheSize
+                        + ") has no nearbyCoordinateExtractorClass (" + nearbyCoordinateExtractorClass + ").");
+            }
+            if (nearbyOriginCacheSize < 1) {
+                throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                        + ") has a nearbyOriginCacheSize (" + nearbyOriginCacheSize + ") which is lower than 1.");
+            }
         }
         if (resolvedSelectionOrder != SelectionOrder.ORIGINAL && resolvedSelectionOrder != SelectionOrder.RANDOM) {
             throw new IllegalArgumentException("The nearbySelectorConfig (" + this
@@ -185,12 +224,13 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         EntitySelector originEntitySelector = originEntitySelectorConfig.buildEntitySelector(
                 configPolicy,
                 minimumCacheType, resolvedSelectionOrder);
-        NearbyDistanceMeter nearbyDistanceMeter = ConfigUtils.newInstance(this,
-                "nearbyDistanceMeterClass", nearbyDistanceMeterClass);
+        NearbyDistanceMeter nearbyDistanceMeter = buildNearbyDistanceMeter();
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
+        NearbyCoordinateExtractor nearbyCoordinateExtractor = buildNearbyCoordinateExtractor();
         NearbyRandom nearbyRandom = buildNearbyRandom(randomSelection);
         return new NearEntityNearbyEntitySelector(entitySelector, originEntitySelector,
-                nearbyDistanceMeter, nearbyRandom, randomSelection);
+                nearbyDistanceMeter, nearbyCoordinateExtractor,
+                defaultIfNull(nearbyOriginCacheSize, DEFAULT_NEARBY_ORIGIN_CACHE_SIZE), nearbyRandom, randomSelection);
     }
 
     public ValueSelector applyNearbyValueSelector(HeuristicConfigPolicy configPolicy,
@@ -199,12 +239,27 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         boolean randomSelection = resolvedSelectionOrder.toRandomSelectionBoolean();
         EntitySelector originEntitySelector = originEntitySelectorConfig.buildEntitySelector(
                 configPolicy, minimumCacheType, resolvedSelectionOrder);
-        NearbyDistanceMeter nearbyDistanceMeter = ConfigUtils.newInstance(this,
-                "nearbyDistanceMeterClass", nearbyDistanceMeterClass);
+        NearbyDistanceMeter nearbyDistanceMeter = buildNearbyDistanceMeter();
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
+        NearbyCoordinateExtractor nearbyCoordinateExtractor = buildNearbyCoordinateExtractor();
         NearbyRandom nearbyRandom = buildNearbyRandom(randomSelection);
         return new NearEntityNearbyValueSelector(valueSelector, originEntitySelector,
-                nearbyDistanceMeter, nearbyRandom, randomSelection);
+                nearbyDistanceMeter, nearbyCoordinateExtractor,
+                defaultIfNull(nearbyOriginCacheSize, DEFAULT_NEARBY_ORIGIN_CACHE_SIZE), nearbyRandom, randomSelection);
+    }
+
+    protected NearbyDistanceMeter buildNearbyDistanceMeter() {
+        if (nearbyDistanceMeterClass == null) {
+            return null;
+        }
+        return ConfigUtils.newInstance(this, "nearbyDistanceMeterClass", nearbyDistanceMeterClass);
+    }
+
+    protected NearbyCoordinateExtractor buildNearbyCoordinateExtractor() {
+        if (nearbyCoordinateExtractorClass == null) {
+            return null;
+        }
+        return ConfigUtils.newInstance(this, "nearbyCoordinateExtractorClass", nearbyCoordinateExtractorClass);
     }
 
     protected NearbyRandom buildNearbyRandom(boolean randomSelection) {
@@ -280,6 +335,10 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         originEntitySelectorConfig = ConfigUtils.inheritConfig(originEntitySelectorConfig, inheritedConfig.getOriginEntitySelectorConfig());
         nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
                 inheritedConfig.getNearbyDistanceMeterClass());
+        nearbyCoordinateExtractorClass = ConfigUtils.inheritOverwritableProperty(nearbyCoordinateExtractorClass,
+                inheritedConfig.getNearbyCoordinateExtractorClass());
+        nearbyOriginCacheSize = ConfigUtils.inheritOverwritableProperty(nearbyOriginCacheSize,
+                inheritedConfig.getNearbyOriginCacheSize());
         nearbySelectionDistributionType = ConfigUtils.inheritOverwritableProperty(nearbySelectionDistributionType,
                 inheritedConfig.getNearbySelectionDistributionType());
         blockDistributionSizeMinimum = ConfigUtils.inheritOverwritableProperty(blockDistributionSizeMinimum,
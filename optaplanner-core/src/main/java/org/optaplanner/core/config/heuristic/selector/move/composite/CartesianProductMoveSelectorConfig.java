@@ -70,11 +70,15 @@ public class CartesianProductMoveSelectorConfig extends MoveSelectorConfig<Carte
     public MoveSelector buildBaseMoveSelector(HeuristicConfigPolicy configPolicy,
             SelectionCacheType minimumCacheType, boolean randomSelection) {
         List<MoveSelector> moveSelectorList = new ArrayList<>(moveSelectorConfigList.size());
+        // A CompositeMove holds on to its child moves, so they cannot be recycled
+        boolean moveRecyclingEnabled = configPolicy.isMoveRecyclingEnabled();
+        configPolicy.setMoveRecyclingEnabled(false);
         for (MoveSelectorConfig moveSelectorConfig : moveSelectorConfigList) {
             moveSelectorList.add(
                     moveSelectorConfig.buildMoveSelector(configPolicy,
                             minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection)));
         }
+        configPolicy.setMoveRecyclingEnabled(moveRecyclingEnabled);
         boolean ignoreEmptyChildIterators_ = defaultIfNull(ignoreEmptyChildIterators, true);
         return new CartesianProductMoveSelector(moveSelectorList, ignoreEmptyChildIterators_, randomSelection);
     }
@@ -84,7 +84,10 @@ public class ChangeMoveSelectorConfig extends MoveSelectorConfig<ChangeMoveSelec
         ValueSelector valueSelector = valueSelectorConfig.buildValueSelector(configPolicy,
                 entitySelector.getEntityDescriptor(),
                 minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
-        return new ChangeMoveSelector(entitySelector, valueSelector, randomSelection);
+        // Recycled moves are only safe if no decorator holds on to them
+        boolean moveRecyclingEnabled = configPolicy.isMoveRecyclingEnabled()
+                && minimumCacheType == SelectionCacheType.JUST_IN_TIME;
+        return new ChangeMoveSelector(entitySelector, valueSelector, randomSelection, moveRecyclingEnabled);
     }
 
     @Override
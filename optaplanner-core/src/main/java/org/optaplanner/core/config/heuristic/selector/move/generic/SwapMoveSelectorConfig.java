@@ -95,8 +95,11 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
                 minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
         List<GenuineVariableDescriptor> variableDescriptorList = deduceVariableDescriptorList(
                 leftEntitySelector.getEntityDescriptor(), variableNameIncludeList);
+        // Recycled moves are only safe if no decorator holds on to them
+        boolean moveRecyclingEnabled = configPolicy.isMoveRecyclingEnabled()
+                && minimumCacheType == SelectionCacheType.JUST_IN_TIME;
         return new SwapMoveSelector(leftEntitySelector, rightEntitySelector, variableDescriptorList,
-                randomSelection);
+                randomSelection, moveRecyclingEnabled);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.config.localsearch;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
 import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhase;
 import org.optaplanner.core.impl.localsearch.LocalSearchPhase;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
@@ -67,6 +69,9 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XStreamAlias("forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    protected Boolean moveRecyclingEnabled = null;
+    protected Boolean moveThreadSelectionEnabled = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -103,6 +108,22 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    public Boolean getMoveRecyclingEnabled() {
+        return moveRecyclingEnabled;
+    }
+
+    public void setMoveRecyclingEnabled(Boolean moveRecyclingEnabled) {
+        this.moveRecyclingEnabled = moveRecyclingEnabled;
+    }
+
+    public Boolean getMoveThreadSelectionEnabled() {
+        return moveThreadSelectionEnabled;
+    }
+
+    public void setMoveThreadSelectionEnabled(Boolean moveThreadSelectionEnabled) {
+        this.moveThreadSelectionEnabled = moveThreadSelectionEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -111,6 +132,10 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     public LocalSearchPhase buildPhase(int phaseIndex, HeuristicConfigPolicy solverConfigPolicy,
             BestSolutionRecaller bestSolutionRecaller, Termination solverTermination) {
         HeuristicConfigPolicy phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        // Move threads hold on to the selected moves in a buffer, so those moves cannot be recycled
+        if (defaultIfNull(moveRecyclingEnabled, false) && phaseConfigPolicy.getMoveThreadCount() == null) {
+            phaseConfigPolicy.setMoveRecyclingEnabled(true);
+        }
         DefaultLocalSearchPhase phase = new DefaultLocalSearchPhase(
                 phaseIndex, solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
                 buildPhaseTermination(phaseConfigPolicy, solverTermination));
@@ -164,6 +189,15 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (configPolicy.isMoveThreadAdaptationEnabled()) {
+                // Evaluating on the solver thread changes its score calculation count, which a termination can use
+                multiThreadedDecider.setAdaptiveMoveThreadBuffer(new AdaptiveMoveThreadBuffer(
+                        selectedMoveBufferSize, !environmentMode.isReproducible()));
+            }
+            if (defaultIfNull(moveThreadSelectionEnabled, false)) {
+                multiThreadedDecider.setMoveThreadMoveSelectorList(
+                        buildMoveThreadMoveSelectorList(configPolicy, moveSelector, moveThreadCount));
+            }
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -175,6 +209,24 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return decider;
     }
 
+    private List<MoveSelector> buildMoveThreadMoveSelectorList(HeuristicConfigPolicy configPolicy,
+            MoveSelector moveSelector, int moveThreadCount) {
+        if (!moveSelector.isNeverEnding()) {
+            throw new IllegalArgumentException("The localSearch with moveThreadSelectionEnabled ("
+                    + moveThreadSelectionEnabled + ") has a moveSelector (" + moveSelector
+                    + ") with neverEnding (" + moveSelector.isNeverEnding() + ").\n"
+                    + "Maybe use selectionOrder RANDOM on the moveSelector"
+                    + " or disable moveThreadSelectionEnabled.");
+        }
+        List<MoveSelector> moveThreadMoveSelectorList = new ArrayList<>(moveThreadCount);
+        for (int i = 0; i < moveThreadCount; i++) {
+            // Every move selector needs its own mimic recorders, so it needs its own config policy
+            HeuristicConfigPolicy moveThreadConfigPolicy = configPolicy.createPhaseConfigPolicy();
+            moveThreadMoveSelectorList.add(buildMoveSelector(moveThreadConfigPolicy));
+        }
+        return moveThreadMoveSelectorList;
+    }
+
     protected Acceptor buildAcceptor(HeuristicConfigPolicy configPolicy) {
         AcceptorConfig acceptorConfig_;
         if (acceptorConfig != null) {
@@ -283,6 +335,10 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        moveRecyclingEnabled = ConfigUtils.inheritOverwritableProperty(moveRecyclingEnabled,
+                inheritedConfig.getMoveRecyclingEnabled());
+        moveThreadSelectionEnabled = ConfigUtils.inheritOverwritableProperty(moveThreadSelectionEnabled,
+                inheritedConfig.getMoveThreadSelectionEnabled());
     }
 
 }
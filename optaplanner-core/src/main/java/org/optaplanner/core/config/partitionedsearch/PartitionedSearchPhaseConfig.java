@@ -35,6 +35,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.config.util.KeyAsElementMapConverter;
 import org.optaplanner.core.impl.partitionedsearch.DefaultPartitionedSearchPhase;
 import org.optaplanner.core.impl.partitionedsearch.PartitionedSearchPhase;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.AbstractSolutionPartitioner;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.BalancedSolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.core.impl.solver.ChildThreadType;
@@ -155,7 +157,7 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         DefaultPartitionedSearchPhase phase = new DefaultPartitionedSearchPhase(
                 phaseIndex, solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
                 buildPhaseTermination(phaseConfigPolicy, solverTermination),
-                buildSolutionPartitioner(), threadFactory, resolvedActiveThreadCount());
+                buildSolutionPartitioner(threadFactory), threadFactory, resolvedActiveThreadCount());
         List<PhaseConfig> phaseConfigList_ = phaseConfigList;
         if (ConfigUtils.isEmptyCollection(phaseConfigList_)) {
             phaseConfigList_ = Arrays.asList(
@@ -175,22 +177,22 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         return phase;
     }
 
-    private SolutionPartitioner buildSolutionPartitioner() {
-        if (solutionPartitionerClass != null) {
-            SolutionPartitioner<?> solutionPartitioner = ConfigUtils.newInstance(this,
-                    "solutionPartitionerClass", solutionPartitionerClass);
-            ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
-                    solutionPartitionerCustomProperties, "solutionPartitionerCustomProperties");
-            return solutionPartitioner;
-        } else {
-            if (solutionPartitionerCustomProperties != null) {
-                throw new IllegalStateException("If there is no solutionPartitionerClass (" + solutionPartitionerClass
-                        + "), then there can be no solutionPartitionerCustomProperties ("
-                        + solutionPartitionerCustomProperties + ") either.");
-            }
-            // TODO Implement generic partitioner
-            throw new UnsupportedOperationException();
+    private SolutionPartitioner buildSolutionPartitioner(ThreadFactory threadFactory) {
+        if (solutionPartitionerClass == null) {
+            throw new IllegalArgumentException("The partitionedSearch requires a solutionPartitionerClass ("
+                    + solutionPartitionerClass + ").\n"
+                    + "Maybe configure the built-in " + BalancedSolutionPartitioner.class.getName()
+                    + " or implement a custom " + SolutionPartitioner.class.getSimpleName() + ".");
+        }
+        SolutionPartitioner<?> solutionPartitioner = ConfigUtils.newInstance(this,
+                "solutionPartitionerClass", solutionPartitionerClass);
+        ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
+                solutionPartitionerCustomProperties, "solutionPartitionerCustomProperties");
+        if (solutionPartitioner instanceof AbstractSolutionPartitioner) {
+            // Partition clone on part threads instead of the common fork join pool
+            ((AbstractSolutionPartitioner<?>) solutionPartitioner).setThreadFactory(threadFactory);
         }
+        return solutionPartitioner;
     }
 
     private Integer resolvedActiveThreadCount() {
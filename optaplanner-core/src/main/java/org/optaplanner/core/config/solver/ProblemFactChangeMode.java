@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.localsearch.LocalSearchPhase;
+import org.optaplanner.core.impl.solver.ProblemFactChange;
+
+/**
+ * Determines how a {@link Solver} processes the {@link ProblemFactChange}s
+ * that are added with {@link Solver#addProblemFactChange(ProblemFactChange)} while it's solving.
+ */
+public enum ProblemFactChangeMode {
+    /**
+     * Terminates the current phase, applies the {@link ProblemFactChange}s on a clone of the best solution
+     * and then restarts the solver with all its phases.
+     * <p>
+     * This is the default.
+     */
+    RESTART,
+    /**
+     * During a {@link LocalSearchPhase}, applies the {@link ProblemFactChange}s between 2 steps
+     * directly on the working solution, without resetting the score director or restarting the phase.
+     * The selectors keep their caches.
+     * <p>
+     * Falls back to {@link #RESTART} if a {@link ProblemFactChange} adds or removes a planning entity
+     * or a problem fact, changes a problem property (because the selector caches might depend on it)
+     * or leaves a planning variable uninitialized.
+     * So only {@link ProblemFactChange}s that just change planning variables are applied incrementally.
+     * Also falls back to {@link #RESTART} for any other phase type.
+     * <p>
+     * The new best solution is derived from the working solution instead of the previous best solution,
+     * so its score might be worse than with {@link #RESTART}.
+     * <p>
+     * This mode is not (yet) compatible with a moveThreadCount.
+     */
+    INCREMENTAL;
+}
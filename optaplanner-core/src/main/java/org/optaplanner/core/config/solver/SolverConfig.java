@@ -23,6 +23,7 @@ import java.util.concurrent.ThreadFactory;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.SolverConfigContext;
@@ -36,11 +37,14 @@ import org.optaplanner.core.config.solver.random.RandomType;
 import org.optaplanner.core.config.solver.recaller.BestSolutionRecallerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.ChildThreadType;
 import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -66,12 +70,17 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected ProblemFactChangeMode problemFactChangeMode = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Boolean moveThreadAdaptationEnabled = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Class<? extends SolverMetricsRegistry> metricsRegistryClass = null;
+    protected Boolean bestSolutionDeltaCloningEnabled = null;
+    protected Boolean variableListenerChainParallelismEnabled = null;
 
     @XStreamAlias("scanAnnotatedClasses")
     protected ScanAnnotatedClassesConfig scanAnnotatedClassesConfig = null;
@@ -118,6 +127,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    public ProblemFactChangeMode getProblemFactChangeMode() {
+        return problemFactChangeMode;
+    }
+
+    public void setProblemFactChangeMode(ProblemFactChangeMode problemFactChangeMode) {
+        this.problemFactChangeMode = problemFactChangeMode;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -158,6 +175,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Boolean getMoveThreadAdaptationEnabled() {
+        return moveThreadAdaptationEnabled;
+    }
+
+    public void setMoveThreadAdaptationEnabled(Boolean moveThreadAdaptationEnabled) {
+        this.moveThreadAdaptationEnabled = moveThreadAdaptationEnabled;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -166,6 +191,30 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    public Class<? extends SolverMetricsRegistry> getMetricsRegistryClass() {
+        return metricsRegistryClass;
+    }
+
+    public void setMetricsRegistryClass(Class<? extends SolverMetricsRegistry> metricsRegistryClass) {
+        this.metricsRegistryClass = metricsRegistryClass;
+    }
+
+    public Boolean getBestSolutionDeltaCloningEnabled() {
+        return bestSolutionDeltaCloningEnabled;
+    }
+
+    public void setBestSolutionDeltaCloningEnabled(Boolean bestSolutionDeltaCloningEnabled) {
+        this.bestSolutionDeltaCloningEnabled = bestSolutionDeltaCloningEnabled;
+    }
+
+    public Boolean getVariableListenerChainParallelismEnabled() {
+        return variableListenerChainParallelismEnabled;
+    }
+
+    public void setVariableListenerChainParallelismEnabled(Boolean variableListenerChainParallelismEnabled) {
+        this.variableListenerChainParallelismEnabled = variableListenerChainParallelismEnabled;
+    }
+
     public ScanAnnotatedClassesConfig getScanAnnotatedClassesConfig() {
         return scanAnnotatedClassesConfig;
     }
@@ -245,10 +294,25 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         configContext.validate();
         EnvironmentMode environmentMode_ = determineEnvironmentMode();
         boolean daemon_ = defaultIfNull(daemon, false);
+        ProblemFactChangeMode problemFactChangeMode_ = defaultIfNull(problemFactChangeMode,
+                ProblemFactChangeMode.RESTART);
 
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
         Integer moveThreadCount_ = resolveMoveThreadCount();
+        if (problemFactChangeMode_ == ProblemFactChangeMode.INCREMENTAL && moveThreadCount_ != null) {
+            throw new IllegalArgumentException("The solverConfig with problemFactChangeMode ("
+                    + problemFactChangeMode_ + ") does not support a moveThreadCount (" + moveThreadCount + ") yet.\n"
+                    + "Maybe use the problemFactChangeMode (" + ProblemFactChangeMode.RESTART + ") instead.");
+        }
         SolutionDescriptor<Solution_> solutionDescriptor = buildSolutionDescriptor(configContext);
+        if (defaultIfNull(bestSolutionDeltaCloningEnabled, false)
+                && !(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner)) {
+            throw new IllegalArgumentException("The solverConfig with bestSolutionDeltaCloningEnabled ("
+                    + bestSolutionDeltaCloningEnabled + ") does not support the custom solutionCloner ("
+                    + solutionDescriptor.getSolutionCloner() + ") of the solutionClass (" + solutionClass + ").\n"
+                    + "Maybe remove the custom " + SolutionCloner.class.getSimpleName()
+                    + " or disable bestSolutionDeltaCloningEnabled.");
+        }
         ScoreDirectorFactoryConfig scoreDirectorFactoryConfig_
                 = scoreDirectorFactoryConfig == null ? new ScoreDirectorFactoryConfig()
                 : scoreDirectorFactoryConfig;
@@ -257,19 +321,34 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         boolean constraintMatchEnabledPreference = environmentMode_.isAsserted();
         DefaultSolverScope<Solution_> solverScope = new DefaultSolverScope<>();
         solverScope.setScoreDirector(scoreDirectorFactory.buildScoreDirector(true, constraintMatchEnabledPreference));
+        if (metricsRegistryClass != null) {
+            SolverMetricsRegistry metricsRegistry = ConfigUtils.newInstance(this,
+                    "metricsRegistryClass", metricsRegistryClass);
+            solverScope.setMetricsRegistry(metricsRegistry);
+            solverScope.getScoreDirector().setMetricsRegistry(metricsRegistry);
+        }
 
         HeuristicConfigPolicy configPolicy = new HeuristicConfigPolicy(environmentMode_,
                 moveThreadCount_, moveThreadBufferSize, threadFactoryClass,
                 scoreDirectorFactory);
+        if (defaultIfNull(variableListenerChainParallelismEnabled, false)) {
+            solverScope.getScoreDirector().setVariableListenerChainThreadFactory(
+                    configPolicy.buildThreadFactory(ChildThreadType.CHAIN_THREAD));
+        }
+        configPolicy.setMoveThreadAdaptationEnabled(defaultIfNull(moveThreadAdaptationEnabled, false));
         TerminationConfig terminationConfig_ = terminationConfig == null ? new TerminationConfig()
                 : terminationConfig;
         BasicPlumbingTermination basicPlumbingTermination = new BasicPlumbingTermination(daemon_);
         Termination termination = terminationConfig_.buildTermination(configPolicy, basicPlumbingTermination);
-        BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecallerConfig()
+        BestSolutionRecallerConfig bestSolutionRecallerConfig = new BestSolutionRecallerConfig();
+        bestSolutionRecallerConfig.setDeltaCloningEnabled(bestSolutionDeltaCloningEnabled);
+        BestSolutionRecaller<Solution_> bestSolutionRecaller = bestSolutionRecallerConfig
                 .buildBestSolutionRecaller(environmentMode_);
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
-        return new DefaultSolver<>(environmentMode_, randomFactory,
+        DefaultSolver<Solution_> solver = new DefaultSolver<>(environmentMode_, randomFactory,
                 basicPlumbingTermination, termination, bestSolutionRecaller, phaseList, solverScope);
+        solver.setProblemFactChangeMode(problemFactChangeMode_);
+        return solver;
     }
 
     protected RandomFactory buildRandomFactory(EnvironmentMode environmentMode_) {
@@ -377,6 +456,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     public void inherit(SolverConfig inheritedConfig) {
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        problemFactChangeMode = ConfigUtils.inheritOverwritableProperty(problemFactChangeMode,
+                inheritedConfig.getProblemFactChangeMode());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(
@@ -385,8 +466,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadAdaptationEnabled = ConfigUtils.inheritOverwritableProperty(moveThreadAdaptationEnabled,
+                inheritedConfig.getMoveThreadAdaptationEnabled());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        metricsRegistryClass = ConfigUtils.inheritOverwritableProperty(metricsRegistryClass,
+                inheritedConfig.getMetricsRegistryClass());
+        bestSolutionDeltaCloningEnabled = ConfigUtils.inheritOverwritableProperty(bestSolutionDeltaCloningEnabled,
+                inheritedConfig.getBestSolutionDeltaCloningEnabled());
+        variableListenerChainParallelismEnabled = ConfigUtils.inheritOverwritableProperty(
+                variableListenerChainParallelismEnabled, inheritedConfig.getVariableListenerChainParallelismEnabled());
         scanAnnotatedClassesConfig = ConfigUtils.inheritConfig(scanAnnotatedClassesConfig, inheritedConfig.getScanAnnotatedClassesConfig());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(
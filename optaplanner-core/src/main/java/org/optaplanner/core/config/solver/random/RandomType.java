@@ -32,5 +32,18 @@ public enum RandomType {
     WELL19937A,
     WELL19937C,
     WELL44497A,
-    WELL44497B;
+    WELL44497B,
+    /**
+     * SplitMix64, through {@link java.util.SplittableRandom}.
+     * Like the other unsynchronized types, it doesn't do a compare-and-set on every random number.
+     */
+    SPLITTABLE,
+    /**
+     * xoshiro256**, which is jumpable. Unsynchronized.
+     */
+    XOSHIRO256_STAR_STAR,
+    /**
+     * PCG32 (XSH RR), which has multiple streams. Unsynchronized.
+     */
+    PCG32;
 }
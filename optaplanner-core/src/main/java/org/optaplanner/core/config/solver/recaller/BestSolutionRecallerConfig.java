@@ -18,17 +18,31 @@ package org.optaplanner.core.config.solver.recaller;
 
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 
+import static org.apache.commons.lang3.ObjectUtils.*;
+
 // Currently not yet supported as being nested, so no XStreamAlias
 public class BestSolutionRecallerConfig extends AbstractConfig<BestSolutionRecallerConfig> {
 
+    protected Boolean deltaCloningEnabled = null;
+
+    public Boolean getDeltaCloningEnabled() {
+        return deltaCloningEnabled;
+    }
+
+    public void setDeltaCloningEnabled(Boolean deltaCloningEnabled) {
+        this.deltaCloningEnabled = deltaCloningEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
 
     public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecaller<>();
+        bestSolutionRecaller.setDeltaCloningEnabled(defaultIfNull(deltaCloningEnabled, false));
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             bestSolutionRecaller.setAssertInitialScoreFromScratch(true);
             bestSolutionRecaller.setAssertShadowVariablesAreNotStale(true);
@@ -39,6 +53,8 @@ public class BestSolutionRecallerConfig extends AbstractConfig<BestSolutionRecal
 
     @Override
     public void inherit(BestSolutionRecallerConfig inheritedConfig) {
+        deltaCloningEnabled = ConfigUtils.inheritOverwritableProperty(deltaCloningEnabled,
+                inheritedConfig.getDeltaCloningEnabled());
     }
 
 }
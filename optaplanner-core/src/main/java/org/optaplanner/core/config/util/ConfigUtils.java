@@ -34,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.script.ScriptEngine;
@@ -102,6 +103,8 @@ public class ConfigUtils {
                     typedValue = new BigDecimal(valueString);
                 } else if (propertyType.isEnum()) {
                     typedValue = Enum.valueOf((Class<? extends Enum>) propertyType, valueString);
+                } else if (propertyType.equals(Class.class)) {
+                    typedValue = loadCustomPropertyClass(beanClass, valueString);
                 } else {
                     throw new IllegalStateException("The custom property " + propertyName + " (" + valueString
                             + ") in the " + customPropertiesPropertyName
@@ -130,6 +133,19 @@ public class ConfigUtils {
         });
     }
 
+    private static Class<?> loadCustomPropertyClass(Class<?> beanClass, String className) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = beanClass.getClassLoader();
+        }
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("The class (" + className
+                    + ") cannot be found by the classLoader (" + classLoader + ").", e);
+        }
+    }
+
     public static <C extends AbstractConfig<C>> C inheritConfig(C original, C inherited) {
         if (inherited != null) {
             if (original == null) {
@@ -262,7 +278,13 @@ public class ConfigUtils {
      */
     public static final String AVAILABLE_PROCESSOR_COUNT = "availableProcessorCount";
 
+    private static final Pattern PLAIN_INTEGER_PATTERN = Pattern.compile("-?\\d{1,9}");
+
     public static int resolveThreadPoolSizeScript(String propertyName, String script, String... magicValues) {
+        if (PLAIN_INTEGER_PATTERN.matcher(script).matches()) {
+            // No need for a script engine, which isn't available in every JVM
+            return Integer.parseInt(script);
+        }
         final String scriptLanguage = "JavaScript";
         ScriptEngine scriptEngine = new ScriptEngineManager().getEngineByName(scriptLanguage);
         if (scriptEngine == null) {
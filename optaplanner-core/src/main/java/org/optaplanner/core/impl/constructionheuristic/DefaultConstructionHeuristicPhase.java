@@ -50,6 +50,10 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         this.entityPlacer = entityPlacer;
     }
 
+    public ConstructionHeuristicDecider<Solution_> getDecider() {
+        return decider;
+    }
+
     public void setDecider(ConstructionHeuristicDecider<Solution_> decider) {
         this.decider = decider;
     }
@@ -104,7 +108,7 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
 
     private void doStep(ConstructionHeuristicStepScope<Solution_> stepScope) {
         Move<Solution_> step = stepScope.getStep();
-        Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
+        Move<Solution_> undoStep = stepScope.getScoreDirector().doStep(step);
         stepScope.setUndoStep(undoStep);
         predictWorkingStepScore(stepScope, step);
         if (!skipBestSolutionCloningInSteps) {
@@ -16,7 +16,9 @@
 
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -28,12 +30,15 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
@@ -57,12 +62,17 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected AdaptiveMoveThreadBuffer adaptiveMoveThreadBuffer = null;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_>> moveThreadRunnerList;
+    protected int moveThreadStepIndex;
+    protected List<Move<Solution_>> pendingStepList;
+    protected Score pendingStepScore;
+    protected long waitNanos;
 
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination termination,
             ConstructionHeuristicForager forager,
@@ -85,6 +95,13 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param adaptiveMoveThreadBuffer sometimes null, if null the entire selectedMoveBufferSize is always in flight
+     */
+    public void setAdaptiveMoveThreadBuffer(AdaptiveMoveThreadBuffer adaptiveMoveThreadBuffer) {
+        this.adaptiveMoveThreadBuffer = adaptiveMoveThreadBuffer;
+    }
+
     @Override
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -93,6 +110,8 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadStepIndex = 0;
+        pendingStepList = new ArrayList<>();
         InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
@@ -125,6 +144,8 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
         resultQueue = null;
+        pendingStepList = null;
+        pendingStepScore = null;
         moveThreadRunnerList = null;
     }
 
@@ -141,10 +162,53 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
     @Override
     public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
-        int stepIndex = stepScope.getStepIndex();
-        resultQueue.startNextStep(stepIndex);
+        int inFlightMoveLimit = adaptiveMoveThreadBuffer == null ? selectedMoveBufferSize
+                : adaptiveMoveThreadBuffer.nextStepInFlightMoveLimit();
+        long stepStartNanos = System.nanoTime();
+        waitNanos = 0L;
+        if (inFlightMoveLimit == AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION) {
+            // The move threads are idle during this step, they catch up on it before they evaluate moves again
+            super.decideNextStep(stepScope, placement);
+            if (stepScope.getStep() != null) {
+                pendingStepList.add(stepScope.getStep());
+                pendingStepScore = stepScope.getScore();
+            }
+        } else {
+            if (!pendingStepList.isEmpty()) {
+                applyStepOnMoveThreads(CompositeMove.buildMove(pendingStepList), pendingStepScore);
+                pendingStepList.clear();
+                pendingStepScore = null;
+            }
+            resultQueue.startNextStep(moveThreadStepIndex);
+            decideNextStepOnMoveThreads(stepScope, placement, moveThreadStepIndex, inFlightMoveLimit);
+            // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+            if (stepScope.getStep() != null) {
+                applyStepOnMoveThreads(stepScope.getStep(), stepScope.getScore());
+            }
+        }
+        if (adaptiveMoveThreadBuffer != null) {
+            Long selectedMoveCount = stepScope.getSelectedMoveCount();
+            adaptiveMoveThreadBuffer.stepEnded(inFlightMoveLimit, System.nanoTime() - stepStartNanos, waitNanos,
+                    selectedMoveCount == null ? 0 : selectedMoveCount.intValue());
+        }
+        // TODO latch barrier
+    }
+
+    private void applyStepOnMoveThreads(Move<Solution_> step, Score score) {
+        // Increase moveThreadStepIndex by 1, because it's a preliminary action
+        moveThreadStepIndex++;
+        ApplyStepOperation<Solution_> stepOperation = new ApplyStepOperation<>(moveThreadStepIndex, step, score);
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(stepOperation);
+        }
+    }
+
+    private void decideNextStepOnMoveThreads(ConstructionHeuristicStepScope<Solution_> stepScope,
+            Placement<Solution_> placement, int stepIndex, int inFlightMoveLimit) {
         int selectingMoveIndex = 0;
+        int dispatchingMoveIndex = 0;
         int foragingMoveIndex = 0;
+        Deque<Move<Solution_>> undispatchedMoveDeque = new ArrayDeque<>(selectedMoveBufferSize);
         Iterator<Move<Solution_>> moveIterator = placement.iterator();
         do  {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
@@ -159,34 +223,32 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             }
             if (!moveIteratorEmpty) {
                 Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                undispatchedMoveDeque.addLast(selectingMove);
                 selectingMoveIndex++;
             }
+            // Only a limited number of the selected moves are evaluated at the same time
+            while (dispatchingMoveIndex < foragingMoveIndex + inFlightMoveLimit && !undispatchedMoveDeque.isEmpty()) {
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, dispatchingMoveIndex,
+                        undispatchedMoveDeque.removeFirst()));
+                dispatchingMoveIndex++;
+            }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
         operationQueue.clear();
         pickMove(stepScope);
-        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
-        if (stepScope.getStep() != null) {
-            // Increase stepIndex by 1, because it's a preliminary action
-            ApplyStepOperation<Solution_> stepOperation = new ApplyStepOperation<>(
-                    stepIndex + 1, stepScope.getStep(), stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
-            }
-        }
-        // TODO latch barrier
     }
 
     private boolean forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        long waitStartNanos = System.nanoTime();
         try {
             result = resultQueue.take();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return true;
         }
+        waitNanos += System.nanoTime() - waitStartNanos;
         if (stepIndex != result.getStepIndex()) {
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Keeps a single clone of a {@link PlanningSolution} up to date by patching it,
+ * instead of creating a new clone every time.
+ * It is notified by the {@link InnerScoreDirector} of every entity with a changed genuine or shadow variable,
+ * and on the next {@link #cloneSolution(Object)} it only copies those entities onto their existing clone.
+ * Adding or removing an entity or a problem fact requires a full clone again.
+ * <p>
+ * Because the clone is reused, it is modified by every call to {@link #cloneSolution(Object)}.
+ * <p>
+ * This class is not thread-safe.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see InnerScoreDirector#setDeltaSolutionCloner(DeltaSolutionCloner)
+ */
+public class DeltaSolutionCloner<Solution_> {
+
+    protected final SolutionDescriptor<Solution_> solutionDescriptor;
+    protected final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+
+    protected Solution_ originalSolution = null;
+    protected Solution_ cloneSolution = null;
+    /**
+     * The original solution and its entities, mapped to their clone.
+     */
+    protected final Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+    protected final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected boolean fullCloneRequired = true;
+
+    public DeltaSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        SolutionCloner<Solution_> solutionCloner = solutionDescriptor.getSolutionCloner();
+        if (!(solutionCloner instanceof FieldAccessingSolutionCloner)) {
+            throw new IllegalArgumentException("The solutionCloner (" + solutionCloner
+                    + ") of the solutionClass (" + solutionDescriptor.getSolutionClass()
+                    + ") is a custom " + SolutionCloner.class.getSimpleName()
+                    + ", so it doesn't support delta cloning.");
+        }
+        this.solutionCloner = (FieldAccessingSolutionCloner<Solution_>) solutionCloner;
+    }
+
+    // ************************************************************************
+    // Notification methods
+    // ************************************************************************
+
+    public void beforeVariableChanged(Object entity) {
+        if (!fullCloneRequired) {
+            changedEntitySet.add(entity);
+        }
+    }
+
+    /**
+     * For example because an entity or a problem fact was added or removed.
+     */
+    public void requireFullClone() {
+        fullCloneRequired = true;
+        changedEntitySet.clear();
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param originalSolution never null
+     * @return never null, the same instance as the previous call, unless a full clone was required
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution) {
+        if (fullCloneRequired || originalSolution != this.originalSolution) {
+            this.originalSolution = originalSolution;
+            originalToCloneMap.clear();
+            cloneSolution = solutionCloner.cloneSolution(originalSolution, originalToCloneMap);
+        } else {
+            solutionCloner.patchClones(changedEntitySet, originalToCloneMap);
+            solutionDescriptor.setScore(cloneSolution, solutionDescriptor.getScore(originalSolution));
+        }
+        changedEntitySet.clear();
+        fullCloneRequired = false;
+        return cloneSolution;
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaSolutionCloner(" + changedEntitySet.size() + " changed entities)";
+    }
+
+}
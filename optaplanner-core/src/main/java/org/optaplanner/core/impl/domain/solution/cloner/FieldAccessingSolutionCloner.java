@@ -26,6 +26,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
@@ -43,6 +44,9 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -78,6 +82,165 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         return new FieldAccessingSolutionClonerRun().cloneSolution(originalSolution);
     }
 
+    /**
+     * Like {@link #cloneSolution(Object)}, but also remembers the clone of the solution and of each entity,
+     * so those clones can be patched later by {@link #patchClones(Collection, Map)}.
+     * @param originalSolution never null
+     * @param originalToCloneMap never null, empty, filled with the solution and every entity as keys
+     * @return never null
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap) {
+        FieldAccessingSolutionClonerRun run = new FieldAccessingSolutionClonerRun();
+        Solution_ cloneSolution = run.cloneSolution(originalSolution);
+        originalToCloneMap.put(originalSolution, cloneSolution);
+        for (Object originalEntity : solutionDescriptor.getEntityList(originalSolution)) {
+            originalToCloneMap.put(originalEntity, run.originalToCloneMap.get(originalEntity));
+        }
+        return cloneSolution;
+    }
+
+    /**
+     * Copies the fields of each original entity onto its existing clone again, as a full clone would.
+     * References to the solution or to an entity are replaced by their existing clone,
+     * other deep planning cloned objects of those entities are cloned again.
+     * @param originalEntities never null, all of them must be keys in the originalToCloneMap
+     * @param originalToCloneMap never null, filled by {@link #cloneSolution(Object, Map)}
+     */
+    public void patchClones(Collection<Object> originalEntities, Map<Object, Object> originalToCloneMap) {
+        new FieldAccessingSolutionClonerRun().patchClones(originalEntities, originalToCloneMap);
+    }
+
+    /**
+     * Splits the solution into partial planning clones, one per part,
+     * each of which only contains the clones of the entities of its part.
+     * Like {@link #cloneSolution(Object)}, the problem facts are shared with the original solution, not cloned,
+     * so they must not be modified by any of the parts.
+     * Therefore all the parts together only take about 1 planning clone's worth of memory.
+     * <p>
+     * Every part must be closed: an entity of a part can not reference an entity of another part,
+     * not even in a {@link Collection}, {@link Map} or array, otherwise this fails fast.
+     * Only the collection properties of the solution itself are split over the parts.
+     * <p>
+     * A part can also hold other instances of an entity class that aren't in an entity collection,
+     * such as the anchors of a chained variable with a shadow variable in a problem fact collection.
+     * Such an instance is then only cloned into its own part and left out of the collections of the other parts.
+     * The instances of an entity class that aren't in any part are cloned into every part.
+     * @param originalSolution never null
+     * @param partEntitiesList never null, every entity of the originalSolution must be in exactly 1 part
+     * @return never null, with the same size as partEntitiesList
+     */
+    public List<Solution_> cloneSolutionParts(Solution_ originalSolution,
+            List<? extends Collection<?>> partEntitiesList) {
+        return cloneSolutionParts(originalSolution, partEntitiesList, null);
+    }
+
+    /**
+     * As defined by {@link #cloneSolutionParts(Object, List)}.
+     * @param originalSolution never null
+     * @param partEntitiesList never null, every entity of the originalSolution must be in exactly 1 part
+     * @param executor sometimes null, if not null the parts are cloned concurrently on it
+     * and the originalSolution must not change meanwhile
+     * @return never null, with the same size as partEntitiesList
+     */
+    public List<Solution_> cloneSolutionParts(Solution_ originalSolution,
+            List<? extends Collection<?>> partEntitiesList, ExecutorService executor) {
+        return cloneSolutionParts(originalSolution, partEntitiesList, executor, null);
+    }
+
+    /**
+     * As defined by {@link #cloneSolutionParts(Object, List, ExecutorService)}.
+     * @param originalSolution never null
+     * @param partEntitiesList never null, every entity of the originalSolution must be in exactly 1 part
+     * @param executor sometimes null, if not null the parts are cloned concurrently on it
+     * and the originalSolution must not change meanwhile
+     * @param partOriginalToCloneMapList sometimes null, if not null an empty list that is filled
+     * with the original to clone map of every part, in the same order as the returned parts
+     * @return never null, with the same size as partEntitiesList
+     */
+    public List<Solution_> cloneSolutionParts(Solution_ originalSolution,
+            List<? extends Collection<?>> partEntitiesList, ExecutorService executor,
+            List<Map<Object, Object>> partOriginalToCloneMapList) {
+        List<Object> entityList = solutionDescriptor.getEntityList(originalSolution);
+        Map<Object, Integer> entityToPartIndexMap = new IdentityHashMap<>(entityList.size());
+        for (int partIndex = 0; partIndex < partEntitiesList.size(); partIndex++) {
+            for (Object entity : partEntitiesList.get(partIndex)) {
+                Integer otherPartIndex = entityToPartIndexMap.put(entity, partIndex);
+                if (otherPartIndex != null) {
+                    throw new IllegalArgumentException("The entity (" + entity
+                            + ") is in multiple parts (" + otherPartIndex + " and " + partIndex + ").");
+                }
+            }
+        }
+        for (Object entity : entityList) {
+            if (!entityToPartIndexMap.containsKey(entity)) {
+                throw new IllegalArgumentException("The entity (" + entity
+                        + ") of the originalSolution (" + originalSolution + ") is not in any part.");
+            }
+        }
+        if (entityToPartIndexMap.size() != entityList.size()) {
+            Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>(entityList.size()));
+            entitySet.addAll(entityList);
+            for (Object entity : entityToPartIndexMap.keySet()) {
+                if (!entitySet.contains(entity) && !solutionDescriptor.hasEntityDescriptor(entity.getClass())) {
+                    throw new IllegalArgumentException("The partEntitiesList contains an object (" + entity
+                            + ") that is neither an entity of the originalSolution (" + originalSolution
+                            + ") nor an instance of an entity class.");
+                }
+            }
+        }
+        int partCount = partEntitiesList.size();
+        List<Solution_> partList = new ArrayList<>(partCount);
+        List<FieldAccessingSolutionClonerRun> runList = new ArrayList<>(partCount);
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            runList.add(new FieldAccessingSolutionClonerRun());
+        }
+        if (executor == null) {
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                partList.add(runList.get(partIndex).cloneSolutionPart(originalSolution,
+                        entityToPartIndexMap, partIndex, partEntitiesList.get(partIndex).size()));
+            }
+            addPartOriginalToCloneMaps(runList, partOriginalToCloneMapList);
+            return partList;
+        }
+        // Each run has its own state and the memoization maps are thread-safe
+        List<Future<Solution_>> futureList = new ArrayList<>(partCount);
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            int runPartIndex = partIndex;
+            futureList.add(executor.submit(() -> runList.get(runPartIndex).cloneSolutionPart(
+                    originalSolution, entityToPartIndexMap, runPartIndex, partEntitiesList.get(runPartIndex).size())));
+        }
+        try {
+            for (Future<Solution_> future : futureList) {
+                partList.add(future.get());
+            }
+            // Future.get() makes the maps filled by the runs visible to this thread
+            addPartOriginalToCloneMaps(runList, partOriginalToCloneMapList);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cloning the solution parts was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                // Keep the fail fast exception of an unclosed part
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Cloning the solution parts failed.", e.getCause());
+        } finally {
+            for (Future<Solution_> future : futureList) {
+                future.cancel(true);
+            }
+        }
+        return partList;
+    }
+
+    private void addPartOriginalToCloneMaps(List<FieldAccessingSolutionClonerRun> runList,
+            List<Map<Object, Object>> partOriginalToCloneMapList) {
+        if (partOriginalToCloneMapList != null) {
+            for (FieldAccessingSolutionClonerRun run : runList) {
+                partOriginalToCloneMapList.add(run.originalToCloneMap);
+            }
+        }
+    }
+
     /**
      * This method is thread-safe.
      * @param clazz never null
@@ -222,6 +385,9 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
     protected class FieldAccessingSolutionClonerRun {
 
         protected Map<Object, Object> originalToCloneMap;
+        protected Map<Object, Object> existingOriginalToCloneMap = null;
+        protected Map<Object, Integer> entityToPartIndexMap = null;
+        protected int partIndex = -1;
         protected Queue<Unprocessed> unprocessedQueue;
 
         protected Solution_ cloneSolution(Solution_ originalSolution) {
@@ -235,6 +401,43 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
             return cloneSolution;
         }
 
+        protected Solution_ cloneSolutionPart(Solution_ originalSolution,
+                Map<Object, Integer> entityToPartIndexMap, int partIndex, int partEntityCount) {
+            this.entityToPartIndexMap = entityToPartIndexMap;
+            this.partIndex = partIndex;
+            unprocessedQueue = new ArrayDeque<>(partEntityCount + 1);
+            originalToCloneMap = new IdentityHashMap<>(partEntityCount + 1);
+            Solution_ cloneSolution = clone(originalSolution);
+            processQueue();
+            validateCloneSolution(originalSolution, cloneSolution);
+            return cloneSolution;
+        }
+
+        protected boolean isEntityOfOtherPart(Object original) {
+            if (entityToPartIndexMap == null) {
+                return false;
+            }
+            Integer entityPartIndex = entityToPartIndexMap.get(original);
+            return entityPartIndex != null && entityPartIndex != partIndex;
+        }
+
+        protected void patchClones(Collection<Object> originalEntities,
+                Map<Object, Object> existingOriginalToCloneMap) {
+            unprocessedQueue = new ArrayDeque<>();
+            originalToCloneMap = new IdentityHashMap<>();
+            this.existingOriginalToCloneMap = existingOriginalToCloneMap;
+            for (Object originalEntity : originalEntities) {
+                Object cloneEntity = existingOriginalToCloneMap.get(originalEntity);
+                if (cloneEntity == null) {
+                    throw new IllegalStateException("The originalEntity (" + originalEntity
+                            + ") has no existing clone to patch.");
+                }
+                Class<Object> instanceClass = (Class<Object>) originalEntity.getClass();
+                copyFields(instanceClass, instanceClass, originalEntity, cloneEntity);
+            }
+            processQueue();
+        }
+
         protected <C> C clone(C original) {
             if (original == null) {
                 return null;
@@ -243,6 +446,17 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
             if (existingClone != null) {
                 return  existingClone;
             }
+            if (existingOriginalToCloneMap != null) {
+                existingClone = (C) existingOriginalToCloneMap.get(original);
+                if (existingClone != null) {
+                    return existingClone;
+                }
+            }
+            if (isEntityOfOtherPart(original)) {
+                throw new IllegalStateException("The entity (" + original + ") of part ("
+                        + entityToPartIndexMap.get(original) + ") is referenced by part (" + partIndex + ").\n"
+                        + "Maybe make sure that the entities of a part never reference the entities of another part.");
+            }
             Class<C> instanceClass = (Class<C>) original.getClass();
             C clone = constructClone(instanceClass);
             originalToCloneMap.put(original, clone);
@@ -294,7 +508,11 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         protected void process(Unprocessed unprocessed) {
             Object cloneValue;
             if (unprocessed.originalValue instanceof Collection) {
-                cloneValue = cloneCollection(unprocessed.field.getType(), (Collection<?>) unprocessed.originalValue);
+                // The collections of the solution of a partial planning clone only hold the entities of its own part
+                boolean partEntityCollection = entityToPartIndexMap != null
+                        && solutionDescriptor.getSolutionClass().isInstance(unprocessed.bean);
+                cloneValue = cloneCollection(unprocessed.field.getType(), (Collection<?>) unprocessed.originalValue,
+                        partEntityCollection);
             } else if (unprocessed.originalValue instanceof Map) {
                 cloneValue = cloneMap(unprocessed.field.getType(), (Map<?, ?>) unprocessed.originalValue);
             } else if (unprocessed.originalValue.getClass().isArray()) {
@@ -322,6 +540,18 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
         }
 
         protected <E> Collection<E> cloneCollection(Class<?> expectedType, Collection<E> originalCollection) {
+            return cloneCollection(expectedType, originalCollection, false);
+        }
+
+        /**
+         * @param expectedType never null
+         * @param originalCollection never null
+         * @param partEntityCollection true to skip the entities of other parts instead of failing fast
+         * @param <E> element type
+         * @return never null
+         */
+        protected <E> Collection<E> cloneCollection(Class<?> expectedType, Collection<E> originalCollection,
+                boolean partEntityCollection) {
             Collection<E> cloneCollection = constructCloneCollection(originalCollection);
             if (!expectedType.isInstance(cloneCollection)) {
                 throw new IllegalStateException("The cloneCollectionClass (" + cloneCollection.getClass()
@@ -330,6 +560,9 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
                         + "Maybe consider replacing the default " + SolutionCloner.class.getSimpleName() + ".");
             }
             for (E originalElement : originalCollection) {
+                if (partEntityCollection && isEntityOfOtherPart(originalElement)) {
+                    continue;
+                }
                 E cloneElement = cloneCollectionsElementIfNeeded(originalElement);
                 cloneCollection.add(cloneElement);
             }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Incremental alternative to {@link MutationCounter}:
+ * instead of comparing every entity of 2 solutions, it is notified of every change on the working solution
+ * by the {@link InnerScoreDirector} and only compares the changed planning variables.
+ * So counting the mutations since the last {@link #resetMutations()} takes {@code O(changes)} time
+ * instead of {@code O(entities)} time, and doesn't need the previous solution.
+ * <p>
+ * A planning variable that changed, but has its original value again, is not a mutation.
+ * An added or removed entity counts as a mutation for each of its genuine planning variables.
+ * <p>
+ * This class is not thread-safe.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see InnerScoreDirector#setMutationTracker(MutationTracker)
+ */
+public class MutationTracker<Solution_> {
+
+    /**
+     * Per changed entity, its changed genuine variable descriptors, each followed by its original value.
+     */
+    protected final Map<Object, Object[]> originalValuesMap = new IdentityHashMap<>();
+    protected final Set<Object> addedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected int addedEntityMutationCount = 0;
+    protected int removedEntityMutationCount = 0;
+
+    // ************************************************************************
+    // Notification methods
+    // ************************************************************************
+
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (!(variableDescriptor instanceof GenuineVariableDescriptor) || addedEntitySet.contains(entity)) {
+            return;
+        }
+        Object[] originalValues = originalValuesMap.get(entity);
+        if (originalValues == null) {
+            originalValuesMap.put(entity, new Object[] {variableDescriptor, variableDescriptor.getValue(entity)});
+            return;
+        }
+        for (int i = 0; i < originalValues.length; i += 2) {
+            if (originalValues[i] == variableDescriptor) {
+                // Only the value at the last reset matters
+                return;
+            }
+        }
+        originalValues = Arrays.copyOf(originalValues, originalValues.length + 2);
+        originalValues[originalValues.length - 2] = variableDescriptor;
+        originalValues[originalValues.length - 1] = variableDescriptor.getValue(entity);
+        originalValuesMap.put(entity, originalValues);
+    }
+
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        int genuineVariableCount = entityDescriptor.getGenuineVariableDescriptors().size();
+        if (genuineVariableCount > 0 && addedEntitySet.add(entity)) {
+            addedEntityMutationCount += genuineVariableCount;
+        }
+    }
+
+    public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        int genuineVariableCount = entityDescriptor.getGenuineVariableDescriptors().size();
+        if (genuineVariableCount == 0) {
+            return;
+        }
+        originalValuesMap.remove(entity);
+        if (addedEntitySet.remove(entity)) {
+            // Added and removed since the last reset, so no mutation at all
+            addedEntityMutationCount -= genuineVariableCount;
+        } else {
+            removedEntityMutationCount += genuineVariableCount;
+        }
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return {@code >= 0}, the number of planning variables that have a different value
+     * than at the last {@link #resetMutations()}
+     */
+    public int countMutations() {
+        int mutationCount = addedEntityMutationCount + removedEntityMutationCount;
+        for (Map.Entry<Object, Object[]> entry : originalValuesMap.entrySet()) {
+            Object entity = entry.getKey();
+            Object[] originalValues = entry.getValue();
+            for (int i = 0; i < originalValues.length; i += 2) {
+                VariableDescriptor<Solution_> variableDescriptor = (VariableDescriptor<Solution_>) originalValues[i];
+                // Same identity comparison as MutationCounter
+                if (variableDescriptor.getValue(entity) != originalValues[i + 1]) {
+                    mutationCount++;
+                }
+            }
+        }
+        return mutationCount;
+    }
+
+    /**
+     * Forgets all changes, for example because the working solution became the new best solution.
+     */
+    public void resetMutations() {
+        originalValuesMap.clear();
+        addedEntitySet.clear();
+        addedEntityMutationCount = 0;
+        removedEntityMutationCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MutationTracker(" + originalValuesMap.size() + " changed entities)";
+    }
+
+}
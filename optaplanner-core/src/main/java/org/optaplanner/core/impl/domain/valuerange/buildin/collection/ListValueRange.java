@@ -16,9 +16,11 @@
 
 package org.optaplanner.core.impl.domain.valuerange.buildin.collection;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import org.optaplanner.core.impl.domain.valuerange.AbstractCountableValueRange;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
@@ -26,9 +28,25 @@ import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRa
 public class ListValueRange<T> extends AbstractCountableValueRange<T> {
 
     private final List<T> list;
+    private final boolean hashIndexed;
+    /**
+     * Built lazily on the first {@link #contains(Object)} call, if {@link #hashIndexed}.
+     */
+    private Set<T> valueSet = null;
 
     public ListValueRange(List<T> list) {
+        this(list, false);
+    }
+
+    /**
+     * @param list never null
+     * @param hashIndexed true to make {@link #contains(Object)} O(1) at the cost of building a hash index
+     * on the first {@link #contains(Object)} call, which only pays off if this instance is reused.
+     * If true, {@link #contains(Object)} isn't thread-safe.
+     */
+    public ListValueRange(List<T> list, boolean hashIndexed) {
         this.list = list;
+        this.hashIndexed = hashIndexed;
     }
 
     @Override
@@ -46,7 +64,13 @@ public class ListValueRange<T> extends AbstractCountableValueRange<T> {
 
     @Override
     public boolean contains(T value) {
-        return list.contains(value);
+        if (!hashIndexed) {
+            return list.contains(value);
+        }
+        if (valueSet == null) {
+            valueSet = new HashSet<>(list);
+        }
+        return valueSet.contains(value);
     }
 
     @Override
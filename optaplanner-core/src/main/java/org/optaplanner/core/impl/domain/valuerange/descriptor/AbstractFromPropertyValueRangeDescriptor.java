@@ -157,6 +157,16 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
     }
 
     protected ValueRange<?> readValueRange(Object bean) {
+        return readValueRange(bean, false);
+    }
+
+    /**
+     * @param bean never null
+     * @param hashIndexed true if a {@link Collection} or array is wrapped in a {@link ListValueRange}
+     * with an O(1) {@link ValueRange#contains(Object)}
+     * @return never null
+     */
+    protected ValueRange<?> readValueRange(Object bean, boolean hashIndexed) {
         Object valueRangeObject = memberAccessor.executeGetter(bean);
         if (valueRangeObject == null) {
             throw new IllegalStateException("The @" + ValueRangeProvider.class.getSimpleName()
@@ -178,7 +188,7 @@ public abstract class AbstractFromPropertyValueRangeDescriptor<Solution_>
                         + "Maybe remove that null element from the dataset.\n"
                         + "Maybe use @" + PlanningVariable.class.getSimpleName() + "(nullable = true) instead.");
             }
-            valueRange = new ListValueRange<>(list);
+            valueRange = new ListValueRange<>(list, hashIndexed);
         } else {
             valueRange = (ValueRange<Object>) valueRangeObject;
         }
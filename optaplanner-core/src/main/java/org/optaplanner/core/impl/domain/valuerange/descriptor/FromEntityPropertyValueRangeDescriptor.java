@@ -46,4 +46,16 @@ public class FromEntityPropertyValueRangeDescriptor<Solution_>
         return readValueRange(entity);
     }
 
+    /**
+     * Like {@link #extractValueRange(Object, Object)},
+     * but {@link ValueRange#contains(Object)} is O(1) on a {@link java.util.Collection} or array value range provider,
+     * so the result is worth caching.
+     * @param entity never null
+     * @return never null
+     * @see ValueRangeCache
+     */
+    public ValueRange<?> extractIndexedValueRange(Object entity) {
+        return readValueRange(entity, true);
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.descriptor;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+
+/**
+ * Caches the {@link ValueRange} of every entity
+ * for which the {@link ValueRangeProvider} is a property of that entity,
+ * so the getter is only called once and {@link ValueRange#contains(Object)} is O(1) for a collection or array.
+ * <p>
+ * An entity independent value range is never cached (it isn't built per call anyway).
+ * The owner must call {@link #clear()} when a problem fact or property changes
+ * and {@link #removeEntity(Object)} when an entity is removed.
+ * <p>
+ * This class is not thread-safe: every score director has its own instance.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ValueRangeCache<Solution_> {
+
+    private final Map<FromEntityPropertyValueRangeDescriptor<Solution_>, Map<Object, ValueRange<?>>> entityValueRangeMap
+            = new HashMap<>();
+
+    /**
+     * @param valueRangeDescriptor never null
+     * @param solution never null
+     * @param entity never null
+     * @return never null
+     */
+    public ValueRange<?> extractValueRange(ValueRangeDescriptor<Solution_> valueRangeDescriptor,
+            Solution_ solution, Object entity) {
+        if (!(valueRangeDescriptor instanceof FromEntityPropertyValueRangeDescriptor)) {
+            return valueRangeDescriptor.extractValueRange(solution, entity);
+        }
+        FromEntityPropertyValueRangeDescriptor<Solution_> fromEntityDescriptor
+                = (FromEntityPropertyValueRangeDescriptor<Solution_>) valueRangeDescriptor;
+        Map<Object, ValueRange<?>> valueRangeMap = entityValueRangeMap.computeIfAbsent(
+                fromEntityDescriptor, k -> new IdentityHashMap<>());
+        ValueRange<?> valueRange = valueRangeMap.get(entity);
+        if (valueRange == null) {
+            valueRange = fromEntityDescriptor.extractIndexedValueRange(entity);
+            valueRangeMap.put(entity, valueRange);
+        }
+        return valueRange;
+    }
+
+    /**
+     * @param entity never null
+     */
+    public void removeEntity(Object entity) {
+        for (Map<Object, ValueRange<?>> valueRangeMap : entityValueRangeMap.values()) {
+            valueRangeMap.remove(entity);
+        }
+    }
+
+    public void clear() {
+        entityValueRangeMap.clear();
+    }
+
+}
@@ -105,4 +105,10 @@ public class AnchorShadowVariableDescriptor<Solution_> extends ShadowVariableDes
         return new AnchorVariableListener(this, sourceVariableDescriptor, inverseVariableSupply);
     }
 
+    @Override
+    public boolean isChainLocal() {
+        // An entity's anchor only depends on the previous entities in its chain
+        return true;
+    }
+
 }
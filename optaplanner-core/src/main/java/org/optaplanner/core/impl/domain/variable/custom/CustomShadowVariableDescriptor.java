@@ -30,6 +30,7 @@ import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -227,4 +228,9 @@ public class CustomShadowVariableDescriptor<Solution_> extends ShadowVariableDes
         return ConfigUtils.newInstance(this, "variableListenerClass", variableListenerClass);
     }
 
+    @Override
+    public boolean isChainLocal() {
+        return !isRef() && ChainLocalVariableListener.class.isAssignableFrom(variableListenerClass);
+    }
+
 }
@@ -22,6 +22,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -83,6 +84,14 @@ public abstract class ShadowVariableDescriptor<Solution_> extends VariableDescri
      */
     public abstract VariableListener<Solution_> buildVariableListener(InnerScoreDirector<Solution_> scoreDirector);
 
+    /**
+     * @return true if the {@link VariableListener} only reads and changes the chain of the notified entity,
+     * see {@link ChainLocalVariableListener}
+     */
+    public boolean isChainLocal() {
+        return false;
+    }
+
     // ************************************************************************
     // Extraction methods
     // ************************************************************************
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener;
+
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A {@link VariableListener} of a shadow variable that has a {@link PlanningVariable#graphType() chained}
+ * source variable, which declares that every notification for an entity
+ * only reads and changes entities (and their shadow variables) in the same chain as that entity.
+ * <p>
+ * When a step changes multiple chains, the notifications of different chains can then be processed
+ * concurrently (if the solver enables it), with a thread-safe {@link ScoreDirector}.
+ * Such a listener must not keep state that is shared between chains
+ * and must only change shadow variables (so never add or remove entities or change problem facts).
+ * Changing an entity that another chain already changed in the same step fails fast.
+ * Every {@link VariableListener} of a shadow variable that is sourced on the shadow variable of this listener
+ * must be chain local too, otherwise the notifications are processed sequentially anyway.
+ */
+public interface ChainLocalVariableListener<Entity_> extends VariableListener<Entity_> {
+
+}
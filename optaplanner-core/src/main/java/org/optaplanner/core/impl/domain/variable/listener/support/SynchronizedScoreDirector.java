@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
+import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * The view of 1 chain on the delegate {@link ScoreDirector},
+ * so the {@link ChainLocalVariableListener} notifications of different chains can be processed concurrently.
+ * Every chain of the same notification round shares the same lock, which serializes every call to the delegate.
+ * The shadow variables themselves are changed outside of the lock.
+ * <p>
+ * That's only safe if every entity is changed by 1 chain at most,
+ * so it fails fast if another chain already changed the same entity.
+ * A chain must not add or remove entities or change problem facts either.
+ * Reads of entities of other chains can not be detected: those are the responsibility of the variable listener.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class SynchronizedScoreDirector<Solution_> implements ScoreDirector<Solution_> {
+
+    private final ScoreDirector<Solution_> delegate;
+    private final VariableListener variableListener;
+    private final Object lock;
+    private final Map<Object, Object> entityToChainMap;
+    private final Object chain;
+
+    /**
+     * @param delegate never null
+     * @param variableListener never null, the chain local variable listener that uses this instance
+     * @param lock never null, shared by every chain
+     * @param entityToChainMap never null, shared by every chain, only used while holding the lock
+     * @param chain never null, unique per chain
+     */
+    SynchronizedScoreDirector(ScoreDirector<Solution_> delegate, VariableListener variableListener,
+            Object lock, Map<Object, Object> entityToChainMap, Object chain) {
+        this.delegate = delegate;
+        this.variableListener = variableListener;
+        this.lock = lock;
+        this.entityToChainMap = entityToChainMap;
+        this.chain = chain;
+    }
+
+    private void assertChainLocal(Object entity) {
+        Object otherChain = entityToChainMap.putIfAbsent(entity, chain);
+        if (otherChain != null && otherChain != chain) {
+            throw new IllegalStateException("The variableListener (" + variableListener.getClass()
+                    + ") changed the entity (" + entity + ") that another chain already changed in the same step.\n"
+                    + "Maybe that variableListener doesn't only change the entities of its own chain,"
+                    + " so it must not implement " + ChainLocalVariableListener.class.getSimpleName() + ".");
+        }
+    }
+
+    private UnsupportedOperationException buildUnsupportedException(String operation) {
+        return new UnsupportedOperationException("The " + ChainLocalVariableListener.class.getSimpleName()
+                + " (" + variableListener.getClass() + ") cannot " + operation + ".");
+    }
+
+    @Override
+    public Solution_ getWorkingSolution() {
+        synchronized (lock) {
+            return delegate.getWorkingSolution();
+        }
+    }
+
+    @Override
+    public void setWorkingSolution(Solution_ workingSolution) {
+        throw buildUnsupportedException("set the workingSolution (" + workingSolution + ")");
+    }
+
+    @Override
+    public Score calculateScore() {
+        synchronized (lock) {
+            return delegate.calculateScore();
+        }
+    }
+
+    @Override
+    public boolean isConstraintMatchEnabled() {
+        synchronized (lock) {
+            return delegate.isConstraintMatchEnabled();
+        }
+    }
+
+    @Override
+    public Collection<ConstraintMatchTotal> getConstraintMatchTotals() {
+        synchronized (lock) {
+            return delegate.getConstraintMatchTotals();
+        }
+    }
+
+    @Override
+    public Map<Object, Indictment> getIndictmentMap() {
+        synchronized (lock) {
+            return delegate.getIndictmentMap();
+        }
+    }
+
+    @Override
+    public String explainScore() {
+        synchronized (lock) {
+            return delegate.explainScore();
+        }
+    }
+
+    @Override
+    public void beforeEntityAdded(Object entity) {
+        throw buildUnsupportedException("add the entity (" + entity + ")");
+    }
+
+    @Override
+    public void afterEntityAdded(Object entity) {
+        throw buildUnsupportedException("add the entity (" + entity + ")");
+    }
+
+    @Override
+    public void beforeVariableChanged(Object entity, String variableName) {
+        synchronized (lock) {
+            assertChainLocal(entity);
+            delegate.beforeVariableChanged(entity, variableName);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(Object entity, String variableName) {
+        synchronized (lock) {
+            assertChainLocal(entity);
+            delegate.afterVariableChanged(entity, variableName);
+        }
+    }
+
+    @Override
+    public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
+        synchronized (lock) {
+            assertChainLocal(entity);
+            delegate.beforeVariableChanged(variableDescriptor, entity);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
+        synchronized (lock) {
+            assertChainLocal(entity);
+            delegate.afterVariableChanged(variableDescriptor, entity);
+        }
+    }
+
+    @Override
+    public void changeVariableFacade(VariableDescriptor variableDescriptor, Object entity, Object newValue) {
+        synchronized (lock) {
+            assertChainLocal(entity);
+            delegate.changeVariableFacade(variableDescriptor, entity, newValue);
+        }
+    }
+
+    @Override
+    public void triggerVariableListeners() {
+        throw buildUnsupportedException("trigger the variable listeners");
+    }
+
+    @Override
+    public void beforeEntityRemoved(Object entity) {
+        throw buildUnsupportedException("remove the entity (" + entity + ")");
+    }
+
+    @Override
+    public void afterEntityRemoved(Object entity) {
+        throw buildUnsupportedException("remove the entity (" + entity + ")");
+    }
+
+    @Override
+    public void beforeProblemFactAdded(Object problemFact) {
+        throw buildUnsupportedException("add the problemFact (" + problemFact + ")");
+    }
+
+    @Override
+    public void afterProblemFactAdded(Object problemFact) {
+        throw buildUnsupportedException("add the problemFact (" + problemFact + ")");
+    }
+
+    @Override
+    public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
+        throw buildUnsupportedException("change the problem property of (" + problemFactOrEntity + ")");
+    }
+
+    @Override
+    public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        throw buildUnsupportedException("change the problem property of (" + problemFactOrEntity + ")");
+    }
+
+    @Override
+    public void beforeProblemFactRemoved(Object problemFact) {
+        throw buildUnsupportedException("remove the problemFact (" + problemFact + ")");
+    }
+
+    @Override
+    public void afterProblemFactRemoved(Object problemFact) {
+        throw buildUnsupportedException("remove the problemFact (" + problemFact + ")");
+    }
+
+    @Override
+    public <E> E lookUpWorkingObject(E externalObject) {
+        synchronized (lock) {
+            return delegate.lookUpWorkingObject(externalObject);
+        }
+    }
+
+    @Override
+    public void close() {
+        throw buildUnsupportedException("close the " + ScoreDirector.class.getSimpleName());
+    }
+
+}
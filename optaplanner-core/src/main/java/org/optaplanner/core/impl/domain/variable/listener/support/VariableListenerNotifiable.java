@@ -18,19 +18,41 @@ package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.List;
 
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 
 public class VariableListenerNotifiable implements Comparable<VariableListenerNotifiable> {
 
     protected final VariableListener variableListener;
     protected final int globalOrder;
+    protected final GenuineVariableDescriptor chainedVariableDescriptor;
+    protected final List<VariableDescriptor> shadowVariableDescriptorList;
 
     protected final Collection<VariableListenerNotification> notificationQueue;
 
     public VariableListenerNotifiable(VariableListener variableListener, int globalOrder) {
+        this(variableListener, globalOrder, null, null);
+    }
+
+    /**
+     * @param variableListener never null
+     * @param globalOrder the order in which the notifiables are triggered
+     * @param chainedVariableDescriptor null if the variableListener is not chain local,
+     * otherwise the chained variable that determines the chain of a notified entity
+     * @param shadowVariableDescriptorList null if the variableListener is not chain local,
+     * otherwise the shadow variables that it changes
+     * @see ChainLocalVariableListener
+     */
+    public VariableListenerNotifiable(VariableListener variableListener, int globalOrder,
+            GenuineVariableDescriptor chainedVariableDescriptor, List<VariableDescriptor> shadowVariableDescriptorList) {
         this.variableListener = variableListener;
         this.globalOrder = globalOrder;
+        this.chainedVariableDescriptor = chainedVariableDescriptor;
+        this.shadowVariableDescriptorList = shadowVariableDescriptorList;
         if (variableListener.requiresUniqueEntityEvents()) {
             notificationQueue = new SmallScalingOrderedSet<>();
         } else {
@@ -46,6 +68,18 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
         return globalOrder;
     }
 
+    public boolean isChainLocal() {
+        return chainedVariableDescriptor != null;
+    }
+
+    public GenuineVariableDescriptor getChainedVariableDescriptor() {
+        return chainedVariableDescriptor;
+    }
+
+    public List<VariableDescriptor> getShadowVariableDescriptorList() {
+        return shadowVariableDescriptorList;
+    }
+
     public Collection<VariableListenerNotification> getNotificationQueue() {
         return notificationQueue;
     }
@@ -19,16 +19,24 @@ package org.optaplanner.core.impl.domain.variable.listener.support;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.custom.CustomShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.Demand;
@@ -51,6 +59,9 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     protected int nextGlobalOrder = 0;
 
     protected boolean notificationQueuesAreEmpty;
+    protected boolean chainParallelismEnabled = false;
+    protected ThreadFactory chainThreadFactory = null;
+    protected ExecutorService chainExecutor = null;
 
     public VariableListenerSupport(InnerScoreDirector<Solution_> scoreDirector) {
         this.scoreDirector = scoreDirector;
@@ -77,7 +88,14 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
                     if (nextGlobalOrder <= globalOrder) {
                         nextGlobalOrder = globalOrder + 1;
                     }
-                    VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, globalOrder);
+                    VariableListenerNotifiable notifiable;
+                    if (shadowVariableDescriptor.isChainLocal()) {
+                        notifiable = new VariableListenerNotifiable(variableListener, globalOrder,
+                                findChainedSourceVariableDescriptor(shadowVariableDescriptor),
+                                buildChangedShadowVariableDescriptorList(shadowVariableDescriptor));
+                    } else {
+                        notifiable = new VariableListenerNotifiable(variableListener, globalOrder);
+                    }
                     for (VariableDescriptor<Solution_> source : shadowVariableDescriptor.getSourceVariableDescriptorList()) {
                         List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
                         variableNotifiableList.add(notifiable);
@@ -93,6 +111,34 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
         Collections.sort(notifiableList);
     }
 
+    private GenuineVariableDescriptor<Solution_> findChainedSourceVariableDescriptor(
+            ShadowVariableDescriptor<Solution_> shadowVariableDescriptor) {
+        for (VariableDescriptor<Solution_> source : shadowVariableDescriptor.getSourceVariableDescriptorList()) {
+            if (source instanceof GenuineVariableDescriptor && ((GenuineVariableDescriptor<Solution_>) source).isChained()) {
+                return (GenuineVariableDescriptor<Solution_>) source;
+            }
+        }
+        throw new IllegalStateException("The shadowVariableDescriptor (" + shadowVariableDescriptor
+                + ") has a " + ChainLocalVariableListener.class.getSimpleName()
+                + " but none of its sourceVariableDescriptors ("
+                + shadowVariableDescriptor.getSourceVariableDescriptorList() + ") is a chained variable.\n"
+                + "Maybe add the chained variable as a source"
+                + " or don't implement " + ChainLocalVariableListener.class.getSimpleName() + ".");
+    }
+
+    private List<VariableDescriptor> buildChangedShadowVariableDescriptorList(
+            ShadowVariableDescriptor<Solution_> shadowVariableDescriptor) {
+        List<VariableDescriptor> changedList = new ArrayList<>();
+        changedList.add(shadowVariableDescriptor);
+        // The shadow variables which reference this one are changed by the same variable listener
+        for (ShadowVariableDescriptor<Solution_> sink : shadowVariableDescriptor.getSinkVariableDescriptorList()) {
+            if (sink instanceof CustomShadowVariableDescriptor && ((CustomShadowVariableDescriptor) sink).isRef()) {
+                changedList.add(sink);
+            }
+        }
+        return changedList;
+    }
+
     @Override
     public <S extends Supply> S demand(Demand<S> demand) {
         S supply = (S) supplyMap.get(demand);
@@ -125,6 +171,36 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     // Lifecycle methods
     // ************************************************************************
 
+    /**
+     * @param chainThreadFactory sometimes null, to never process the notifications of different chains
+     * concurrently
+     */
+    public void setChainThreadFactory(ThreadFactory chainThreadFactory) {
+        shutdownChainExecutor();
+        this.chainThreadFactory = chainThreadFactory;
+    }
+
+    /**
+     * Only enable this while a step is being done (so not while a move is being evaluated),
+     * because a step might change many chains at once and a move typically doesn't.
+     * Ignored without a {@link #setChainThreadFactory(ThreadFactory) chainThreadFactory}.
+     * @param chainParallelismEnabled true to process the notifications of a {@link ChainLocalVariableListener}
+     * for different chains concurrently
+     */
+    public void setChainParallelismEnabled(boolean chainParallelismEnabled) {
+        this.chainParallelismEnabled = chainParallelismEnabled;
+    }
+
+    /**
+     * Stops the chain threads, if any. They are started again when needed.
+     */
+    public void shutdownChainExecutor() {
+        if (chainExecutor != null) {
+            chainExecutor.shutdownNow();
+            chainExecutor = null;
+        }
+    }
+
     public void resetWorkingSolution() {
         for (VariableListenerNotifiable notifiable : notifiableList) {
             VariableListener variableListener = notifiable.getVariableListener();
@@ -197,25 +273,20 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
     public void triggerVariableListenersInNotificationQueues() {
         for (VariableListenerNotifiable notifiable : notifiableList) {
             Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            int notifiedCount = 0;
             VariableListener variableListener = notifiable.getVariableListener();
-            for (VariableListenerNotification notification : notificationQueue) {
-                Object entity = notification.getEntity();
-                switch (notification.getType()) {
-                    case ENTITY_ADDED:
-                        variableListener.afterEntityAdded(scoreDirector, entity);
-                        break;
-                    case VARIABLE_CHANGED:
-                        variableListener.afterVariableChanged(scoreDirector, entity);
-                        break;
-                    case ENTITY_REMOVED:
-                        variableListener.afterEntityRemoved(scoreDirector, entity);
-                        break;
-                    default:
-                        throw new IllegalStateException("The variableListenerNotificationType ("
-                                + notification.getType() + ") is not implemented.");
+            List<List<VariableListenerNotification>> chainNotificationsList
+                    = chainParallelismEnabled && chainThreadFactory != null
+                    ? groupNotificationsByChain(notifiable) : null;
+            int notifiedCount;
+            if (chainNotificationsList != null && chainNotificationsList.size() > 1) {
+                notifyChainsConcurrently(variableListener, chainNotificationsList);
+                notifiedCount = chainNotificationsList.stream().mapToInt(List::size).sum();
+            } else {
+                notifiedCount = 0;
+                for (VariableListenerNotification notification : notificationQueue) {
+                    notify(variableListener, scoreDirector, notification);
+                    notifiedCount++;
                 }
-                notifiedCount++;
             }
             if (notifiedCount != notificationQueue.size()) {
                 throw new IllegalStateException("The variableListener (" + variableListener.getClass()
@@ -229,6 +300,136 @@ public class VariableListenerSupport<Solution_> implements SupplyManager {
         notificationQueuesAreEmpty = true;
     }
 
+    private void notifyChainsConcurrently(VariableListener variableListener,
+            List<List<VariableListenerNotification>> chainNotificationsList) {
+        if (chainExecutor == null) {
+            chainExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    chainThreadFactory);
+        }
+        Object lock = new Object();
+        Map<Object, Object> entityToChainMap = new IdentityHashMap<>();
+        List<Future<?>> futureList = new ArrayList<>(chainNotificationsList.size());
+        try {
+            for (List<VariableListenerNotification> chainNotifications : chainNotificationsList) {
+                // The notifications of a chain are unique per chain, so they identify it
+                ScoreDirector<Solution_> chainScoreDirector = new SynchronizedScoreDirector<>(scoreDirector,
+                        variableListener, lock, entityToChainMap, chainNotifications);
+                futureList.add(chainExecutor.submit(() -> {
+                    for (VariableListenerNotification notification : chainNotifications) {
+                        notify(variableListener, chainScoreDirector, notification);
+                    }
+                }));
+            }
+            for (Future<?> future : futureList) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The variableListener (" + variableListener.getClass()
+                    + ") was interrupted while its chains were being notified.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("The variableListener (" + variableListener.getClass()
+                    + ") failed while its chains were being notified.", cause);
+        } finally {
+            for (Future<?> future : futureList) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void notify(VariableListener variableListener, ScoreDirector<Solution_> notifiedScoreDirector,
+            VariableListenerNotification notification) {
+        Object entity = notification.getEntity();
+        switch (notification.getType()) {
+            case ENTITY_ADDED:
+                variableListener.afterEntityAdded(notifiedScoreDirector, entity);
+                break;
+            case VARIABLE_CHANGED:
+                variableListener.afterVariableChanged(notifiedScoreDirector, entity);
+                break;
+            case ENTITY_REMOVED:
+                variableListener.afterEntityRemoved(notifiedScoreDirector, entity);
+                break;
+            default:
+                throw new IllegalStateException("The variableListenerNotificationType ("
+                        + notification.getType() + ") is not implemented.");
+        }
+    }
+
+    /**
+     * @param notifiable never null
+     * @return null if the notifications can't be processed concurrently,
+     * otherwise the notifications per chain, in the order of the notificationQueue
+     */
+    private List<List<VariableListenerNotification>> groupNotificationsByChain(VariableListenerNotifiable notifiable) {
+        Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
+        if (!notifiable.isChainLocal() || notificationQueue.size() < 2) {
+            return null;
+        }
+        // The variable listeners notified of the changes by this one are called from multiple threads too
+        for (VariableDescriptor shadowVariableDescriptor : notifiable.getShadowVariableDescriptorList()) {
+            for (VariableListenerNotifiable sinkNotifiable : sourceVariableToNotifiableMap.get(shadowVariableDescriptor)) {
+                if (!sinkNotifiable.isChainLocal()) {
+                    return null;
+                }
+            }
+        }
+        GenuineVariableDescriptor<Solution_> chainedVariableDescriptor = notifiable.getChainedVariableDescriptor();
+        EntityDescriptor<Solution_> entityDescriptor = chainedVariableDescriptor.getEntityDescriptor();
+        Map<Object, Object> entityToChainMap = new IdentityHashMap<>();
+        Map<Object, List<VariableListenerNotification>> chainToNotificationsMap = new IdentityHashMap<>();
+        List<List<VariableListenerNotification>> chainNotificationsList = new ArrayList<>();
+        for (VariableListenerNotification notification : notificationQueue) {
+            Object entity = notification.getEntity();
+            // A removed entity is no longer in a chain
+            if (notification.getType() == VariableListenerNotificationType.ENTITY_REMOVED
+                    || !entityDescriptor.matchesEntity(entity)) {
+                return null;
+            }
+            Object chain = findChain(chainedVariableDescriptor, entity, entityToChainMap);
+            List<VariableListenerNotification> chainNotifications = chainToNotificationsMap.get(chain);
+            if (chainNotifications == null) {
+                chainNotifications = new ArrayList<>();
+                chainToNotificationsMap.put(chain, chainNotifications);
+                chainNotificationsList.add(chainNotifications);
+            }
+            chainNotifications.add(notification);
+        }
+        return chainNotificationsList;
+    }
+
+    /**
+     * @return never null, the anchor or (if the chain has no anchor) the first entity of the chain
+     */
+    private Object findChain(GenuineVariableDescriptor<Solution_> chainedVariableDescriptor, Object entity,
+            Map<Object, Object> entityToChainMap) {
+        List<Object> visitedEntityList = new ArrayList<>();
+        Object current = entity;
+        Object chain = entityToChainMap.get(current);
+        while (chain == null) {
+            visitedEntityList.add(current);
+            Object previous = chainedVariableDescriptor.getValue(current);
+            if (previous == null) {
+                chain = current;
+            } else if (chainedVariableDescriptor.isValuePotentialAnchor(previous)) {
+                chain = previous;
+            } else {
+                current = previous;
+                chain = entityToChainMap.get(current);
+            }
+        }
+        for (Object visitedEntity : visitedEntityList) {
+            entityToChainMap.put(visitedEntity, chain);
+        }
+        return chain;
+    }
+
     public void triggerAllVariableListeners() {
         SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
         List<Object> entityList = scoreDirector.getWorkingEntityList();
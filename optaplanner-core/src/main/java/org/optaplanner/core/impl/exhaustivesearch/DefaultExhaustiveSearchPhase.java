@@ -47,6 +47,8 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         implements ExhaustiveSearchPhase<Solution_> {
 
     protected Comparator<ExhaustiveSearchNode> nodeComparator;
+    protected int expandableNodeLimit = Integer.MAX_VALUE;
+    protected Comparator<ExhaustiveSearchNode> fallbackNodeComparator = null;
     protected EntitySelector entitySelector;
     protected ExhaustiveSearchDecider<Solution_> decider;
 
@@ -66,6 +68,30 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         this.nodeComparator = nodeComparator;
     }
 
+    public int getExpandableNodeLimit() {
+        return expandableNodeLimit;
+    }
+
+    /**
+     * @param expandableNodeLimit at least 1, the number of expandable nodes
+     * above which the {@link #getFallbackNodeComparator()} is used
+     */
+    public void setExpandableNodeLimit(int expandableNodeLimit) {
+        this.expandableNodeLimit = expandableNodeLimit;
+    }
+
+    public Comparator<ExhaustiveSearchNode> getFallbackNodeComparator() {
+        return fallbackNodeComparator;
+    }
+
+    /**
+     * @param fallbackNodeComparator null if the {@link #getNodeComparator()} should never be replaced,
+     * otherwise a comparator that keeps the expandable node queue small, such as depth first
+     */
+    public void setFallbackNodeComparator(Comparator<ExhaustiveSearchNode> fallbackNodeComparator) {
+        this.fallbackNodeComparator = fallbackNodeComparator;
+    }
+
     public EntitySelector getEntitySelector() {
         return entitySelector;
     }
@@ -106,6 +132,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
         phaseStarted(phaseScope);
 
+        boolean fallenBack = false;
         while (!expandableNodeQueue.isEmpty() && !termination.isPhaseTerminated(phaseScope)) {
             ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
             ExhaustiveSearchNode node = expandableNodeQueue.last();
@@ -114,12 +141,35 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             stepStarted(stepScope);
             restoreWorkingSolution(stepScope);
             decider.expandNode(stepScope);
+            if (!fallenBack && fallbackNodeComparator != null && expandableNodeQueue.size() > expandableNodeLimit) {
+                expandableNodeQueue = switchToFallbackNodeComparator(phaseScope);
+                fallenBack = true;
+            }
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
         }
         phaseEnded(phaseScope);
     }
 
+    /**
+     * Reorders the expandable node queue with the {@link #getFallbackNodeComparator()},
+     * so the search continues deeper instead of opening ever more nodes and running out of memory.
+     * @param phaseScope never null
+     * @return never null, the new expandable node queue
+     */
+    protected SortedSet<ExhaustiveSearchNode> switchToFallbackNodeComparator(
+            ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        SortedSet<ExhaustiveSearchNode> oldExpandableNodeQueue = phaseScope.getExpandableNodeQueue();
+        logger.info("{}    ES expandable node count ({}) exceeds the expandableNodeLimit ({}):"
+                        + " falling back to the node comparator ({}).",
+                logIndentation, oldExpandableNodeQueue.size(), expandableNodeLimit,
+                fallbackNodeComparator.getClass().getSimpleName());
+        SortedSet<ExhaustiveSearchNode> expandableNodeQueue = new TreeSet<>(fallbackNodeComparator);
+        expandableNodeQueue.addAll(oldExpandableNodeQueue);
+        phaseScope.setExpandableNodeQueue(expandableNodeQueue);
+        return expandableNodeQueue;
+    }
+
     @Override
     public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
@@ -197,24 +247,35 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         ExhaustiveSearchNode oldNode = phaseScope.getLastCompletedStepScope().getExpandingNode();
         ExhaustiveSearchNode newNode = stepScope.getExpandingNode();
         List<Move<Solution_>> oldMoveList = new ArrayList<>(oldNode.getDepth());
-        List<Move<Solution_>> newMoveList = new ArrayList<>(newNode.getDepth());
+        List<ExhaustiveSearchNode> newNodeList = new ArrayList<>(newNode.getDepth());
         while (oldNode != newNode) {
             int oldDepth = oldNode.getDepth();
             int newDepth = newNode.getDepth();
             if (oldDepth < newDepth) {
-                newMoveList.add(newNode.getMove());
+                newNodeList.add(newNode);
                 newNode = newNode.getParent();
             } else {
                 oldMoveList.add(oldNode.getUndoMove());
                 oldNode = oldNode.getParent();
             }
         }
-        List<Move<Solution_>> restoreMoveList = new ArrayList<>(oldMoveList.size() + newMoveList.size());
-        restoreMoveList.addAll(oldMoveList);
-        Collections.reverse(newMoveList);
-        restoreMoveList.addAll(newMoveList);
+        List<Move<Solution_>> restoreMoveList = new ArrayList<>(oldMoveList.size() + newNodeList.size());
         InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
-        restoreMoveList.forEach(restoreMove -> restoreMove.doMove(scoreDirector));
+        for (Move<Solution_> oldUndoMove : oldMoveList) {
+            oldUndoMove.doMove(scoreDirector);
+            restoreMoveList.add(oldUndoMove);
+        }
+        Collections.reverse(newNodeList);
+        for (ExhaustiveSearchNode node : newNodeList) {
+            Move<Solution_> newMove = node.getMove();
+            Move<Solution_> undoMove = newMove.doMove(scoreDirector);
+            // The undo move is only kept once the node is on the path of the working solution,
+            // to avoid keeping an undo move alive for every expandable node
+            if (node.getUndoMove() == null) {
+                node.setUndoMove(undoMove);
+            }
+            restoreMoveList.add(newMove);
+        }
         // There is no need to recalculate the score, but we still need to set it
         phaseScope.getSolutionDescriptor().setScore(phaseScope.getWorkingSolution(), stepScope.getStartingStepScore());
         if (assertWorkingSolutionScoreFromScratch) {
@@ -229,6 +290,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
                 phaseScope.assertExpectedWorkingScore(stepScope.getStartingStepScore(), restoreMoveList);
             }
         }
+        decider.restoreWorkingSolution(stepScope, restoreMoveList);
     }
 
     public void stepEnded(ExhaustiveSearchStepScope<Solution_> stepScope) {
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.exhaustivesearch.decider;
 
+import java.util.List;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.exhaustivesearch.event.ExhaustiveSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
@@ -119,6 +121,17 @@ public class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearchPhase
         moveSelector.solvingEnded(solverScope);
     }
 
+    /**
+     * Called after the working solution of the solver thread has been restored to the expanding node of this step.
+     * @param stepScope never null
+     * @param restoreMoveList never null, the undo moves up to the common ancestor
+     * followed by the moves down to {@link ExhaustiveSearchStepScope#getExpandingNode()}
+     */
+    public void restoreWorkingSolution(ExhaustiveSearchStepScope<Solution_> stepScope,
+            List<Move<Solution_>> restoreMoveList) {
+        // Overridden by MultiThreadedExhaustiveSearchDecider to restore the move threads too
+    }
+
     public void expandNode(ExhaustiveSearchStepScope<Solution_> stepScope) {
         ExhaustiveSearchNode expandingNode = stepScope.getExpandingNode();
         manualEntityMimicRecorder.setRecordedEntity(expandingNode.getEntity());
@@ -148,7 +161,7 @@ public class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearchPhase
         // TODO reuse scoreDirector.doAndProcessMove() unless it's an expandableNode
         Move<Solution_> move = moveNode.getMove();
         Move<Solution_> undoMove = move.doMove(scoreDirector);
-        moveNode.setUndoMove(undoMove);
+        // Don't set the undo move on the moveNode: it's recreated if and when the moveNode is restored
         processMove(stepScope, moveNode);
         undoMove.doMove(scoreDirector);
         if (assertExpectedUndoMoveScore) {
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.exhaustivesearch.decider;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
+import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Expands each node in parallel: the moves of the expanding node are evaluated on move threads,
+ * but their results are processed (bounded, pruned and added to the expandable node queue) on the solver thread
+ * in the order the moves were selected, so the search remains reproducible.
+ * <p>
+ * Before each step, every move thread restores its own working solution to the expanding node,
+ * by doing the same moves as the solver thread.
+ * <p>
+ * The {@link ScoreBounder} is called on the solver thread with the score of a move's node,
+ * but while the working solution is still in the state of the expanding node.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedExhaustiveSearchDecider<Solution_> extends ExhaustiveSearchDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int moveThreadCount;
+    protected final int selectedMoveBufferSize;
+
+    protected boolean assertStepScoreFromScratch = false;
+    protected boolean assertExpectedStepScore = false;
+    protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+
+    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
+    protected CyclicBarrier moveThreadBarrier;
+    protected ExecutorService executor;
+    protected List<MoveThreadRunner<Solution_>> moveThreadRunnerList;
+    /**
+     * Independent of {@link ExhaustiveSearchStepScope#getStepIndex()},
+     * because the move threads must restore their working solution before every step.
+     */
+    protected int moveThreadStepIndex;
+
+    public MultiThreadedExhaustiveSearchDecider(String logIndentation,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination termination,
+            ManualEntityMimicRecorder manualEntityMimicRecorder, MoveSelector moveSelector,
+            boolean scoreBounderEnabled, ScoreBounder scoreBounder,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize) {
+        super(logIndentation, bestSolutionRecaller, termination, manualEntityMimicRecorder, moveSelector,
+                scoreBounderEnabled, scoreBounder);
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+    }
+
+    public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    public void setAssertExpectedStepScore(boolean assertExpectedStepScore) {
+        this.assertExpectedStepScore = assertExpectedStepScore;
+    }
+
+    public void setAssertShadowVariablesAreNotStaleAfterStep(boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
+    }
+
+    @Override
+    public void phaseStarted(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
+        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // Capacity: number of moves in circulation + number of exception handling results
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
+        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
+        executor = createThreadPoolExecutor();
+        moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        // In BRUTE_FORCE a step score can be null because it was not calculated
+        boolean stepScoreKnown = scoreBounderEnabled;
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            MoveThreadRunner<Solution_> moveThreadRunner = new MoveThreadRunner<>(
+                    logIndentation, moveThreadIndex, false,
+                    operationQueue, resultQueue, moveThreadBarrier,
+                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore && stepScoreKnown,
+                    assertStepScoreFromScratch && stepScoreKnown, assertExpectedStepScore && stepScoreKnown,
+                    assertShadowVariablesAreNotStaleAfterStep && stepScoreKnown);
+            moveThreadRunnerList.add(moveThreadRunner);
+            executor.submit(moveThreadRunner);
+            operationQueue.add(new SetupOperation<>(scoreDirector));
+        }
+        // Unlike the other phases, the solver thread changes its working solution (to initialize the start node
+        // and to restore the expanding node) before it waits for a move result, so wait until every move thread
+        // has cloned the working solution first. The move threads still create their score directors in parallel.
+        for (MoveThreadRunner<Solution_> moveThreadRunner : moveThreadRunnerList) {
+            try {
+                moveThreadRunner.awaitSetup();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        moveThreadStepIndex = 0;
+    }
+
+    @Override
+    public void phaseEnded(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // Tell the move thread runners to stop
+        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(destroyOperation);
+        }
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Exhaustive Search");
+        long childThreadsScoreCalculationCount = 0;
+        for (MoveThreadRunner<Solution_> moveThreadRunner : moveThreadRunnerList) {
+            childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        operationQueue = null;
+        resultQueue = null;
+        moveThreadRunnerList = null;
+    }
+
+    protected ExecutorService createThreadPoolExecutor() {
+        ThreadPoolExecutor threadPoolExecutor
+                = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
+            throw new IllegalStateException(
+                    "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
+                    + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
+        }
+        return threadPoolExecutor;
+    }
+
+    @Override
+    public void restoreWorkingSolution(ExhaustiveSearchStepScope<Solution_> stepScope,
+            List<Move<Solution_>> restoreMoveList) {
+        moveThreadStepIndex++;
+        ApplyStepOperation<Solution_> stepOperation = new ApplyStepOperation<>(moveThreadStepIndex,
+                CompositeMove.buildMove(restoreMoveList), stepScope.getStartingStepScore());
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(stepOperation);
+        }
+    }
+
+    @Override
+    public void expandNode(ExhaustiveSearchStepScope<Solution_> stepScope) {
+        ExhaustiveSearchNode expandingNode = stepScope.getExpandingNode();
+        ExhaustiveSearchLayer moveLayer = stepScope.getPhaseScope().getLayerList().get(expandingNode.getDepth() + 1);
+        if (!scoreBounderEnabled && !moveLayer.isLastLayer()) {
+            // Without a score bounder, no score is calculated before the last layer, so there is nothing to parallelize
+            super.expandNode(stepScope);
+            return;
+        }
+        manualEntityMimicRecorder.setRecordedEntity(expandingNode.getEntity());
+        stepScope.setBestScoreImproved(false);
+
+        resultQueue.startNextStep(moveThreadStepIndex);
+        int selectingMoveIndex = 0;
+        int processingMoveIndex = 0;
+        Iterator<Move> moveIterator = moveSelector.iterator();
+        do  {
+            boolean moveIteratorEmpty = !moveIterator.hasNext();
+            // First fill the buffer so move evaluation can run freely in parallel
+            // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
+            // even if some of those moves won't end up being evaluated or processed
+            if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                boolean phaseTerminated = processResult(stepScope, moveLayer);
+                processingMoveIndex++;
+                if (phaseTerminated) {
+                    break;
+                }
+            }
+            if (!moveIteratorEmpty) {
+                Move<Solution_> selectingMove = moveIterator.next();
+                operationQueue.add(new MoveEvaluationOperation<>(moveThreadStepIndex, selectingMoveIndex, selectingMove));
+                selectingMoveIndex++;
+            }
+        } while (processingMoveIndex < selectingMoveIndex);
+
+        // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
+        operationQueue.clear();
+        stepScope.setSelectedMoveCount((long) processingMoveIndex);
+    }
+
+    private boolean processResult(ExhaustiveSearchStepScope<Solution_> stepScope, ExhaustiveSearchLayer moveLayer) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (moveThreadStepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's moveThreadStepIndex ("
+                    + moveThreadStepIndex + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        ExhaustiveSearchNode moveNode = new ExhaustiveSearchNode(moveLayer, stepScope.getExpandingNode());
+        moveNode.setMove(result.getMove().rebase(stepScope.getScoreDirector()));
+        processMove(stepScope, moveNode, result.getScore());
+        logger.trace("{}        Move treeId ({}), score ({}), expandable ({}), move ({}).",
+                logIndentation,
+                moveNode.getTreeId(), moveNode.getScore(), moveNode.isExpandable(), moveNode.getMove());
+        // No QuitEarly because lower layers might be promising
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        return termination.isPhaseTerminated(stepScope.getPhaseScope());
+    }
+
+    private void processMove(ExhaustiveSearchStepScope<Solution_> stepScope, ExhaustiveSearchNode moveNode,
+            Score score) {
+        ExhaustiveSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (moveNode.isLastLayer()) {
+            moveNode.setScore(score);
+            if (scoreBounderEnabled) {
+                // There is no point in bounding a fully initialized score
+                phaseScope.registerPessimisticBound(score);
+            }
+            processLastLayerMove(stepScope, moveNode, score);
+        } else {
+            // Only reachable with a score bounder, see expandNode()
+            moveNode.setScore(score);
+            InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
+            Score optimisticBound = scoreBounder.calculateOptimisticBound(scoreDirector, score);
+            moveNode.setOptimisticBound(optimisticBound);
+            if (optimisticBound.compareTo(phaseScope.getBestPessimisticBound()) > 0) {
+                // It's still worth investigating this node further (no need to prune it)
+                phaseScope.addExpandableNode(moveNode);
+                Score pessimisticBound = scoreBounder.calculatePessimisticBound(scoreDirector, score);
+                phaseScope.registerPessimisticBound(pessimisticBound);
+            }
+        }
+    }
+
+    private void processLastLayerMove(ExhaustiveSearchStepScope<Solution_> stepScope, ExhaustiveSearchNode moveNode,
+            Score score) {
+        DefaultSolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+        if (score.compareTo(solverScope.getBestScore()) <= 0) {
+            bestSolutionRecaller.processWorkingSolutionDuringMove(score, stepScope);
+            return;
+        }
+        // The new best solution is cloned from the working solution of the solver thread, so do the move there too
+        InnerScoreDirector<Solution_> scoreDirector = stepScope.getScoreDirector();
+        Move<Solution_> move = moveNode.getMove();
+        Move<Solution_> undoMove = move.doMove(scoreDirector);
+        // There is no need to recalculate the score, but we still need to set it
+        scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
+        bestSolutionRecaller.processWorkingSolutionDuringMove(score, stepScope);
+        undoMove.doMove(scoreDirector);
+    }
+
+}
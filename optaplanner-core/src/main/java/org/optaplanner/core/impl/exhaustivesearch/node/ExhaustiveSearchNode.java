@@ -29,6 +29,10 @@ public class ExhaustiveSearchNode {
 
     // The move to get from the parent to this node
     private Move move;
+    /**
+     * Null until this node has been on the path of the working solution,
+     * so an expandable node that is never expanded doesn't hold on to it.
+     */
     private Move undoMove;
     private Score score;
     /**
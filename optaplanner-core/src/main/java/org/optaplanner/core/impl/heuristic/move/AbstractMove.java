@@ -20,6 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 /**
@@ -69,6 +72,21 @@ public abstract class AbstractMove<Solution_> implements Move<Solution_> {
         return rebasedObjectList;
     }
 
+    /**
+     * Uses the cache of the {@link InnerScoreDirector#extractValueRange(ValueRangeDescriptor, Object)} if possible.
+     * @param scoreDirector never null
+     * @param valueRangeDescriptor never null
+     * @param entity never null
+     * @return never null
+     */
+    protected static <Solution_> ValueRange<?> extractValueRange(ScoreDirector<Solution_> scoreDirector,
+            ValueRangeDescriptor<Solution_> valueRangeDescriptor, Object entity) {
+        if (scoreDirector instanceof InnerScoreDirector) {
+            return ((InnerScoreDirector<Solution_>) scoreDirector).extractValueRange(valueRangeDescriptor, entity);
+        }
+        return valueRangeDescriptor.extractValueRange(scoreDirector.getWorkingSolution(), entity);
+    }
+
     protected static Object[] rebaseArray(Object[] externalObjects, ScoreDirector<?> destinationScoreDirector) {
         Object[] rebasedObjects = new Object[externalObjects.length];
         for (int i = 0; i < externalObjects.length; i++) {
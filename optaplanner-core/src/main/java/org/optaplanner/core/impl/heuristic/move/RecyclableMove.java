@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * A {@link Move} instance that a {@link org.optaplanner.core.impl.heuristic.selector.move.MoveSelector}
+ * reuses and mutates to represent the next selected move, to avoid creating garbage for every evaluated move.
+ * <p>
+ * Therefore it is only valid until the next move is selected:
+ * whoever needs to hold on to it longer (such as the forager for its finalists or the step itself)
+ * must hold on to its {@link #copy()} instead.
+ * Its undo move is recycled too and is only valid until this move is done again.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface RecyclableMove<Solution_> extends Move<Solution_> {
+
+    /**
+     * @return never null, an equal move that is never recycled
+     */
+    Move<Solution_> copy();
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+/**
+ * Alternative to a {@link NearbyDistanceMeter} for huge datasets,
+ * for which a {@link NearbyDistanceMatrix} doesn't fit in RAM memory.
+ * The nearby distance is the euclidean distance between the coordinates of the origin and the destination,
+ * so the nearest destinations can be found with a {@link NearbyKdTree} instead.
+ * @param <T> the type of the origins and the destinations
+ */
+public interface NearbyCoordinateExtractor<T> {
+
+    /**
+     * For example, the latitude and longitude of a location
+     * (preferably projected, so a difference in latitude is as long as an equal difference in longitude).
+     * @param object never null, an origin or a destination
+     * @return never null, with the same length for every origin and destination
+     */
+    double[] getCoordinates(T object);
+
+}
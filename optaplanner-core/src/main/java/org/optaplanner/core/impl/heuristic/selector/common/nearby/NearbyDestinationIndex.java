@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+/**
+ * Returns the destinations of an origin, ordered by increasing nearby distance.
+ * @see NearbyDistanceMatrix
+ * @see NearbySpatialIndex
+ */
+public interface NearbyDestinationIndex {
+
+    /**
+     * @param origin never null
+     * @param nearbyIndex {@code >= 0}, 0 for the nearest destination (which is usually the origin itself)
+     * @return never null
+     */
+    Object getDestination(Object origin, int nearbyIndex);
+
+}
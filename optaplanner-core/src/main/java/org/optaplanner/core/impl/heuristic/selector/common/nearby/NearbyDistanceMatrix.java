@@ -21,7 +21,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-public final class NearbyDistanceMatrix {
+public final class NearbyDistanceMatrix implements NearbyDestinationIndex {
 
     private final NearbyDistanceMeter nearbyDistanceMeter;
     private final Map<Object, Object[]> originToDestinationsMap;
@@ -67,6 +67,7 @@ public final class NearbyDistanceMatrix {
         originToDestinationsMap.put(origin, destinations);
     }
 
+    @Override
     public Object getDestination(Object origin, int nearbyIndex) {
         Object[] destinations = originToDestinationsMap.get(origin);
         return destinations[nearbyIndex];
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A k-d tree of destinations, to find the k nearest destinations of an origin
+ * in {@code O(k log n)} time on average, without calculating the distance to every destination.
+ * It takes {@code O(n log n)} time and {@code O(n)} memory to build.
+ * <p>
+ * The distance is the euclidean distance between the coordinates of a {@link NearbyCoordinateExtractor}.
+ * Destinations with the same distance are ordered by their order in the destination list,
+ * just like in a {@link NearbyDistanceMatrix}.
+ * <p>
+ * This class is immutable after construction.
+ */
+public final class NearbyKdTree {
+
+    private final Object[] destinations;
+    private final double[][] coordinates;
+    private final int dimensionCount;
+    /**
+     * The destination indexes in tree order: the node of a subrange is the destination in the middle of it.
+     */
+    private final int[] tree;
+    /**
+     * By tree position, the dimension on which the node of that position splits its subrange.
+     */
+    private final int[] splitDimensions;
+
+    public NearbyKdTree(NearbyCoordinateExtractor coordinateExtractor, List<Object> destinationList) {
+        int size = destinationList.size();
+        destinations = destinationList.toArray();
+        coordinates = new double[size][];
+        int dimensionCount = -1;
+        for (int i = 0; i < size; i++) {
+            double[] destinationCoordinates = coordinateExtractor.getCoordinates(destinations[i]);
+            if (dimensionCount < 0) {
+                dimensionCount = destinationCoordinates.length;
+            } else if (destinationCoordinates.length != dimensionCount) {
+                throw new IllegalArgumentException("The coordinateExtractor (" + coordinateExtractor
+                        + ") returns coordinates with a different length (" + destinationCoordinates.length
+                        + ") for destination (" + destinations[i]
+                        + ") than for other destinations (" + dimensionCount + ").");
+            }
+            coordinates[i] = destinationCoordinates;
+        }
+        this.dimensionCount = Math.max(dimensionCount, 0);
+        tree = new int[size];
+        for (int i = 0; i < size; i++) {
+            tree[i] = i;
+        }
+        splitDimensions = new int[size];
+        build(0, size);
+    }
+
+    private void build(int from, int to) {
+        if (to - from <= 1) {
+            return;
+        }
+        int splitDimension = findWidestDimension(from, to);
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle, splitDimension);
+        splitDimensions[middle] = splitDimension;
+        build(from, middle);
+        build(middle + 1, to);
+    }
+
+    private int findWidestDimension(int from, int to) {
+        int widestDimension = 0;
+        double widestSpread = -1.0;
+        for (int dimension = 0; dimension < dimensionCount; dimension++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double value = coordinates[tree[i]][dimension];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widestDimension = dimension;
+            }
+        }
+        return widestDimension;
+    }
+
+    /**
+     * Quickselect: partially sorts the subrange so the element at index k is the one a full sort would put there.
+     */
+    private void select(int left, int right, int k, int dimension) {
+        while (left < right) {
+            int pivotIndex = partition(left, right, (left + right) >>> 1, dimension);
+            if (k == pivotIndex) {
+                return;
+            } else if (k < pivotIndex) {
+                right = pivotIndex - 1;
+            } else {
+                left = pivotIndex + 1;
+            }
+        }
+    }
+
+    private int partition(int left, int right, int pivotIndex, int dimension) {
+        int pivot = tree[pivotIndex];
+        double pivotValue = coordinates[pivot][dimension];
+        swap(pivotIndex, right);
+        int storeIndex = left;
+        for (int i = left; i < right; i++) {
+            int destinationIndex = tree[i];
+            double value = coordinates[destinationIndex][dimension];
+            if (value < pivotValue || (value == pivotValue && destinationIndex < pivot)) {
+                swap(i, storeIndex);
+                storeIndex++;
+            }
+        }
+        swap(storeIndex, right);
+        return storeIndex;
+    }
+
+    private void swap(int i, int j) {
+        int tmp = tree[i];
+        tree[i] = tree[j];
+        tree[j] = tmp;
+    }
+
+    public int getSize() {
+        return destinations.length;
+    }
+
+    public int getDimensionCount() {
+        return dimensionCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param originCoordinates never null, with a length of {@link #getDimensionCount()}
+     * @param k {@code >= 0}
+     * @param destinationFilter sometimes null, if not null only the destinations that pass it are returned
+     * @return never null, the (at most) k nearest destinations, ordered by increasing distance
+     */
+    public Object[] findNearest(double[] originCoordinates, int k, Predicate<Object> destinationFilter) {
+        if (destinations.length > 0 && originCoordinates.length != dimensionCount) {
+            throw new IllegalArgumentException("The originCoordinates length (" + originCoordinates.length
+                    + ") differs from the destinations coordinates length (" + dimensionCount + ").");
+        }
+        Search search = new Search(originCoordinates, Math.min(k, destinations.length), destinationFilter);
+        if (search.k > 0) {
+            search.search(0, destinations.length);
+        }
+        return search.extractSorted();
+    }
+
+    /**
+     * Keeps the k nearest destinations found so far in a bounded max heap, so the farthest one is on top.
+     */
+    private final class Search {
+
+        private final double[] originCoordinates;
+        private final int k;
+        private final Predicate<Object> destinationFilter;
+        private final int[] heapIndexes;
+        private final double[] heapDistances;
+        private int heapSize = 0;
+
+        private Search(double[] originCoordinates, int k, Predicate<Object> destinationFilter) {
+            this.originCoordinates = originCoordinates;
+            this.k = k;
+            this.destinationFilter = destinationFilter;
+            heapIndexes = new int[k];
+            heapDistances = new double[k];
+        }
+
+        private void search(int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            int destinationIndex = tree[middle];
+            if (destinationFilter == null || destinationFilter.test(destinations[destinationIndex])) {
+                offer(destinationIndex, calculateSquaredDistance(coordinates[destinationIndex]));
+            }
+            if (to - from == 1) {
+                return;
+            }
+            int splitDimension = splitDimensions[middle];
+            double difference = originCoordinates[splitDimension] - coordinates[destinationIndex][splitDimension];
+            if (difference < 0.0) {
+                search(from, middle);
+                if (isWorthVisiting(difference)) {
+                    search(middle + 1, to);
+                }
+            } else {
+                search(middle + 1, to);
+                if (isWorthVisiting(difference)) {
+                    search(from, middle);
+                }
+            }
+        }
+
+        private boolean isWorthVisiting(double difference) {
+            // Use <= to also find the destinations at the same distance, which might come earlier in the order
+            return heapSize < k || difference * difference <= heapDistances[0];
+        }
+
+        private double calculateSquaredDistance(double[] destinationCoordinates) {
+            double squaredDistance = 0.0;
+            for (int dimension = 0; dimension < dimensionCount; dimension++) {
+                double difference = originCoordinates[dimension] - destinationCoordinates[dimension];
+                squaredDistance += difference * difference;
+            }
+            return squaredDistance;
+        }
+
+        private boolean isFarther(int indexA, double distanceA, int indexB, double distanceB) {
+            return distanceA > distanceB || (distanceA == distanceB && indexA > indexB);
+        }
+
+        private void offer(int destinationIndex, double distance) {
+            if (heapSize < k) {
+                int i = heapSize;
+                heapSize++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (!isFarther(destinationIndex, distance, heapIndexes[parent], heapDistances[parent])) {
+                        break;
+                    }
+                    heapIndexes[i] = heapIndexes[parent];
+                    heapDistances[i] = heapDistances[parent];
+                    i = parent;
+                }
+                heapIndexes[i] = destinationIndex;
+                heapDistances[i] = distance;
+            } else if (isFarther(heapIndexes[0], heapDistances[0], destinationIndex, distance)) {
+                // Replace the farthest and sift it down
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= heapSize) {
+                        break;
+                    }
+                    if (child + 1 < heapSize && isFarther(heapIndexes[child + 1], heapDistances[child + 1],
+                            heapIndexes[child], heapDistances[child])) {
+                        child++;
+                    }
+                    if (!isFarther(heapIndexes[child], heapDistances[child], destinationIndex, distance)) {
+                        break;
+                    }
+                    heapIndexes[i] = heapIndexes[child];
+                    heapDistances[i] = heapDistances[child];
+                    i = child;
+                }
+                heapIndexes[i] = destinationIndex;
+                heapDistances[i] = distance;
+            }
+        }
+
+        private Object[] extractSorted() {
+            Integer[] order = new Integer[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int comparison = Double.compare(heapDistances[a], heapDistances[b]);
+                return comparison != 0 ? comparison : Integer.compare(heapIndexes[a], heapIndexes[b]);
+            });
+            Object[] nearest = new Object[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                nearest[i] = destinations[heapIndexes[order[i]]];
+            }
+            return nearest;
+        }
+
+    }
+
+}
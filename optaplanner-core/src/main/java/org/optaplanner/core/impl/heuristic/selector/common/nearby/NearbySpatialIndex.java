@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Alternative to a {@link NearbyDistanceMatrix} for huge datasets:
+ * instead of sorting all destinations of every origin up front,
+ * which takes {@code O(n² log n)} time and {@code O(n²)} memory,
+ * it sorts the nearest destinations of an origin lazily with a {@link NearbyKdTree},
+ * only as deep as the nearby indexes that are actually requested.
+ * Those sorted destinations are cached for the least recently used origins only.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class NearbySpatialIndex implements NearbyDestinationIndex {
+
+    private static final int INITIAL_DESTINATION_SIZE = 16;
+
+    private final NearbyCoordinateExtractor coordinateExtractor;
+    private final NearbyKdTree kdTree;
+    private final Function<Object, Iterator<Object>> originDestinationIteratorFunction;
+    private final int destinationSizeMaximum;
+    private final Map<Object, Object[]> originToDestinationsCache;
+
+    /**
+     * @param coordinateExtractor never null
+     * @param destinationList never null, all the destinations of all the origins
+     * @param originDestinationIteratorFunction null if every origin has all destinations,
+     * otherwise the destinations of an origin, each of which must be in the destinationList
+     * @param destinationSizeMaximum {@code >= 0}, the maximum number of nearest destinations per origin
+     * @param originCacheSize {@code >= 1}, the number of origins for which the nearest destinations are cached
+     */
+    public NearbySpatialIndex(NearbyCoordinateExtractor coordinateExtractor, List<Object> destinationList,
+            Function<Object, Iterator<Object>> originDestinationIteratorFunction,
+            int destinationSizeMaximum, int originCacheSize) {
+        if (originCacheSize < 1) {
+            throw new IllegalArgumentException("The originCacheSize (" + originCacheSize
+                    + ") must be at least 1.");
+        }
+        this.coordinateExtractor = coordinateExtractor;
+        kdTree = new NearbyKdTree(coordinateExtractor, destinationList);
+        this.originDestinationIteratorFunction = originDestinationIteratorFunction;
+        this.destinationSizeMaximum = destinationSizeMaximum;
+        originToDestinationsCache = new LinkedHashMap<Object, Object[]>(
+                Math.min(originCacheSize, 1024) * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object[]> eldest) {
+                return size() > originCacheSize;
+            }
+        };
+    }
+
+    @Override
+    public Object getDestination(Object origin, int nearbyIndex) {
+        Object[] destinations = originToDestinationsCache.get(origin);
+        if (destinations == null || nearbyIndex >= destinations.length) {
+            int size = Math.max(nearbyIndex + 1, INITIAL_DESTINATION_SIZE);
+            if (destinations != null) {
+                // Grow exponentially, so the total time to grow stays proportional to the deepest nearbyIndex
+                size = Math.max(size, destinations.length * 2);
+            }
+            destinations = findNearestDestinations(origin, Math.min(size, destinationSizeMaximum));
+            originToDestinationsCache.put(origin, destinations);
+            if (nearbyIndex >= destinations.length) {
+                throw new IllegalStateException("The nearbyIndex (" + nearbyIndex
+                        + ") is not lower than the number of destinations (" + destinations.length
+                        + ") of the origin (" + origin + ").");
+            }
+        }
+        return destinations[nearbyIndex];
+    }
+
+    private Object[] findNearestDestinations(Object origin, int size) {
+        double[] originCoordinates = coordinateExtractor.getCoordinates(origin);
+        if (originDestinationIteratorFunction == null) {
+            return kdTree.findNearest(originCoordinates, size, null);
+        }
+        Set<Object> originDestinationSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Iterator<Object> it = originDestinationIteratorFunction.apply(origin); it.hasNext();) {
+            originDestinationSet.add(it.next());
+        }
+        return kdTree.findNearest(originCoordinates, size, originDestinationSet::contains);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + kdTree.getSize() + " destinations, "
+                + originToDestinationsCache.size() + " cached origins)";
+    }
+
+}
@@ -16,11 +16,10 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
@@ -30,7 +29,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class ProbabilityEntitySelector extends AbstractEntitySelector implements SelectionCacheLifecycleListener {
@@ -39,8 +38,8 @@ public class ProbabilityEntitySelector extends AbstractEntitySelector implements
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected List<Object> cachedEntityList = null;
+    protected AliasMethodSampler probabilitySampler = null;
 
     public ProbabilityEntitySelector(EntitySelector childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory probabilityWeightFactory) {
@@ -71,21 +70,23 @@ public class ProbabilityEntitySelector extends AbstractEntitySelector implements
 
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedEntityList = new ArrayList<>();
         ScoreDirector scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Object entity : childEntitySelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            cachedEntityList.add(entity);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        double[] probabilityWeights = new double[cachedEntityList.size()];
+        for (int i = 0; i < probabilityWeights.length; i++) {
+            probabilityWeights[i] = probabilityWeightFactory.createProbabilityWeight(
+                    scoreDirector, cachedEntityList.get(i));
+        }
+        probabilitySampler = new AliasMethodSampler(probabilityWeights);
     }
 
     @Override
     public void disposeCache(DefaultSolverScope solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedEntityList = null;
+        probabilitySampler = null;
     }
 
     @Override
@@ -105,7 +106,7 @@ public class ProbabilityEntitySelector extends AbstractEntitySelector implements
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedEntityList.size();
     }
 
     @Override
@@ -118,10 +119,7 @@ public class ProbabilityEntitySelector extends AbstractEntitySelector implements
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedEntityList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
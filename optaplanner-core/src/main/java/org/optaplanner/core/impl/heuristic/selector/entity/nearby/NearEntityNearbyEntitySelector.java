@@ -16,14 +16,19 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.nearby;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDestinationIndex;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbySpatialIndex;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
@@ -33,17 +38,41 @@ public class NearEntityNearbyEntitySelector extends AbstractEntitySelector {
     protected final EntitySelector childEntitySelector;
     protected final EntitySelector originEntitySelector;
     protected final NearbyDistanceMeter nearbyDistanceMeter;
+    protected final NearbyCoordinateExtractor nearbyCoordinateExtractor;
+    protected final int nearbyOriginCacheSize;
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero = true; // TODO deactivate me when appropriate
 
-    protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
+    protected NearbyDestinationIndex nearbyDestinationIndex = null;
 
     public NearEntityNearbyEntitySelector(EntitySelector childEntitySelector, EntitySelector originEntitySelector,
             NearbyDistanceMeter nearbyDistanceMeter, NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childEntitySelector, originEntitySelector, nearbyDistanceMeter, null, -1, nearbyRandom, randomSelection);
+    }
+
+    /**
+     * @param childEntitySelector never null
+     * @param originEntitySelector never null
+     * @param nearbyDistanceMeter null if nearbyCoordinateExtractor is not null
+     * @param nearbyCoordinateExtractor null if nearbyDistanceMeter is not null
+     * @param nearbyOriginCacheSize ignored if nearbyCoordinateExtractor is null
+     * @param nearbyRandom null if not randomSelection
+     * @param randomSelection true if random selection
+     */
+    public NearEntityNearbyEntitySelector(EntitySelector childEntitySelector, EntitySelector originEntitySelector,
+            NearbyDistanceMeter nearbyDistanceMeter, NearbyCoordinateExtractor nearbyCoordinateExtractor,
+            int nearbyOriginCacheSize, NearbyRandom nearbyRandom, boolean randomSelection) {
         this.childEntitySelector = childEntitySelector;
         this.originEntitySelector = originEntitySelector;
         this.nearbyDistanceMeter = nearbyDistanceMeter;
+        this.nearbyCoordinateExtractor = nearbyCoordinateExtractor;
+        this.nearbyOriginCacheSize = nearbyOriginCacheSize;
+        if ((nearbyDistanceMeter == null) == (nearbyCoordinateExtractor == null)) {
+            throw new IllegalArgumentException("The entitySelector (" + this
+                    + ") must have either a nearbyDistanceMeter (" + nearbyDistanceMeter
+                    + ") or a nearbyCoordinateExtractor (" + nearbyCoordinateExtractor + ").");
+        }
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
         if (randomSelection && nearbyRandom == null) {
@@ -92,17 +121,25 @@ public class NearEntityNearbyEntitySelector extends AbstractEntitySelector {
                 destinationSize = overallSizeMaximum;
             }
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
+        if (nearbyCoordinateExtractor != null) {
+            List<Object> destinationList = new ArrayList<>((int) childSize);
+            childEntitySelector.endingIterator().forEachRemaining(destinationList::add);
+            nearbyDestinationIndex = new NearbySpatialIndex(nearbyCoordinateExtractor, destinationList, null,
+                    destinationSize, nearbyOriginCacheSize);
+            return;
+        }
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
         for (Iterator originIt = originEntitySelector.endingIterator(); originIt.hasNext(); ) {
             final Object origin =  originIt.next();
             nearbyDistanceMatrix.addAllDestinations(origin, childEntitySelector.endingIterator(), destinationSize);
         }
+        nearbyDestinationIndex = nearbyDistanceMatrix;
     }
 
     @Override
     public void phaseEnded(AbstractPhaseScope phaseScope) {
         super.phaseEnded(phaseScope);
-        nearbyDistanceMatrix = null;
+        nearbyDestinationIndex = null;
     }
 
     @Override
@@ -173,7 +210,7 @@ public class NearEntityNearbyEntitySelector extends AbstractEntitySelector {
         @Override
         public Object next() {
             Object origin = originEntityIterator.next();
-            Object next = nearbyDistanceMatrix.getDestination(origin, nextNearbyIndex);
+            Object next = nearbyDestinationIndex.getDestination(origin, nextNearbyIndex);
             nextNearbyIndex++;
             return next;
         }
@@ -207,7 +244,7 @@ public class NearEntityNearbyEntitySelector extends AbstractEntitySelector {
             if (discardNearbyIndexZero) {
                 nearbyIndex++;
             }
-            return nearbyDistanceMatrix.getDestination(origin, nearbyIndex);
+            return nearbyDestinationIndex.getDestination(origin, nearbyIndex);
         }
 
     }
@@ -16,13 +16,13 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import com.google.common.collect.Iterators;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -31,7 +31,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIte
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 
 /**
  * A {@link CompositeMoveSelector} that unions 2 or more {@link MoveSelector}s.
@@ -134,9 +134,10 @@ public class UnionMoveSelector extends CompositeMoveSelector {
 
         protected final Map<Iterator<Move>, ProbabilityItem> probabilityItemMap;
 
-        protected final NavigableMap<Double, Iterator<Move>> moveIteratorMap;
-        protected double probabilityWeightTotal;
+        protected final List<Iterator<Move>> moveIteratorList;
+        protected AliasMethodSampler moveIteratorSampler;
         protected boolean stale;
+        protected Iterator<Move> lastMoveIterator = null;
 
         public RandomUnionMoveIterator() {
             probabilityItemMap = new LinkedHashMap<>(childMoveSelectorList.size());
@@ -154,45 +155,56 @@ public class UnionMoveSelector extends CompositeMoveSelector {
                 }
                 probabilityItemMap.put(moveIterator, probabilityItem);
             }
-            moveIteratorMap = new TreeMap<>();
+            moveIteratorList = new ArrayList<>(childMoveSelectorList.size());
             stale = true;
         }
 
         @Override
         public boolean hasNext() {
+            checkLastMoveIterator();
             if (stale) {
                 refreshMoveIteratorMap();
             }
-            return !moveIteratorMap.isEmpty();
+            return !moveIteratorList.isEmpty();
         }
 
         @Override
         public Move next() {
+            checkLastMoveIterator();
             if (stale) {
                 refreshMoveIteratorMap();
             }
-            double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-            Map.Entry<Double, Iterator<Move>> entry = moveIteratorMap.floorEntry(randomOffset);
-            // entry is never null because randomOffset < probabilityWeightTotal
-            Iterator<Move> moveIterator = entry.getValue();
-            Move next = moveIterator.next();
-            if (!moveIterator.hasNext()) {
-                stale = true;
+            Iterator<Move> moveIterator = moveIteratorList.get(moveIteratorSampler.sample(workingRandom));
+            lastMoveIterator = moveIterator;
+            return moveIterator.next();
+        }
+
+        /**
+         * Only called once the last move has been used,
+         * because {@link Iterator#hasNext()} can already select the next move, which can recycle the last move.
+         */
+        private void checkLastMoveIterator() {
+            if (lastMoveIterator != null) {
+                if (!lastMoveIterator.hasNext()) {
+                    stale = true;
+                }
+                lastMoveIterator = null;
             }
-            return next;
         }
 
         private void refreshMoveIteratorMap() {
-            moveIteratorMap.clear();
-            double probabilityWeightOffset = 0.0;
+            moveIteratorList.clear();
+            double[] probabilityWeights = new double[probabilityItemMap.size()];
             for (ProbabilityItem probabilityItem : probabilityItemMap.values()) {
                 if (probabilityItem.probabilityWeight != 0.0
                         && probabilityItem.moveIterator.hasNext()) {
-                    moveIteratorMap.put(probabilityWeightOffset, probabilityItem.moveIterator);
-                    probabilityWeightOffset += probabilityItem.probabilityWeight;
+                    probabilityWeights[moveIteratorList.size()] = probabilityItem.probabilityWeight;
+                    moveIteratorList.add(probabilityItem.moveIterator);
                 }
             }
-            probabilityWeightTotal = probabilityWeightOffset;
+            moveIteratorSampler = new AliasMethodSampler(
+                    Arrays.copyOf(probabilityWeights, moveIteratorList.size()));
+            stale = false;
         }
 
     }
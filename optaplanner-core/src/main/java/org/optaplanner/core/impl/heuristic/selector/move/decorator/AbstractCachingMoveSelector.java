@@ -16,11 +16,7 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
-import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
@@ -32,7 +28,7 @@ public abstract class AbstractCachingMoveSelector extends AbstractMoveSelector i
     protected final MoveSelector childMoveSelector;
     protected final SelectionCacheType cacheType;
 
-    protected List<Move> cachedMoveList = null;
+    protected CompactMoveList cachedMoveList = null;
 
     public AbstractCachingMoveSelector(MoveSelector childMoveSelector, SelectionCacheType cacheType) {
         this.childMoveSelector = childMoveSelector;
@@ -72,7 +68,7 @@ public abstract class AbstractCachingMoveSelector extends AbstractMoveSelector i
                     + ") with childSize (" + childSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        cachedMoveList = new ArrayList<>((int) childSize);
+        cachedMoveList = new CompactMoveList((int) childSize);
         childMoveSelector.iterator().forEachRemaining(cachedMoveList::add);
         logger.trace("    Created cachedMoveList: size ({}), moveSelector ({}).",
                 cachedMoveList.size(), this);
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+
+/**
+ * A {@link List} of {@link Move}s for a cached {@link org.optaplanner.core.impl.heuristic.selector.move.MoveSelector},
+ * that stores every {@link ChangeMove} and {@link SwapMove} as a pair of primitive indexes
+ * (of the entity and the value or of the 2 entities) instead of as a {@link Move} instance.
+ * Such a move is only created when it is retrieved, so every {@link #get(int)} returns a new (but equal) instance.
+ * <p>
+ * Any other move (including subclasses of {@link ChangeMove} and {@link SwapMove}, such as chained moves)
+ * is stored as is.
+ * <p>
+ * {@link #shuffle(Random)} and {@link #sort(Comparator)} work on the primitive indexes.
+ * Only {@link #add(Object)} is supported to grow the list.
+ */
+public class CompactMoveList extends AbstractList<Move> implements RandomAccess {
+
+    private static final int LITERAL_TEMPLATE_INDEX = -1;
+
+    private final List<BiFunction<Object, Object, Move>> templateList = new ArrayList<>();
+    private final Map<Object, Integer> templateIndexMap = new IdentityHashMap<>();
+    private final List<Object> objectList = new ArrayList<>();
+    private final Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+    private final List<Move> literalMoveList = new ArrayList<>();
+
+    private int size = 0;
+    /**
+     * The index in {@link #templateList} or {@link #LITERAL_TEMPLATE_INDEX}.
+     */
+    private int[] templateIndexes;
+    /**
+     * The left object index in the high 32 bits and the right object index in the low 32 bits,
+     * or the index in {@link #literalMoveList} if the move is a literal.
+     */
+    private long[] argumentIndexes;
+
+    public CompactMoveList() {
+        this(10);
+    }
+
+    /**
+     * @param initialCapacity {@code >= 0}
+     */
+    public CompactMoveList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initialCapacity (" + initialCapacity + ") cannot be negative.");
+        }
+        templateIndexes = new int[initialCapacity];
+        argumentIndexes = new long[initialCapacity];
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Move get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") is not in [0, " + size + ").");
+        }
+        int templateIndex = templateIndexes[index];
+        long argumentIndex = argumentIndexes[index];
+        if (templateIndex == LITERAL_TEMPLATE_INDEX) {
+            return literalMoveList.get((int) argumentIndex);
+        }
+        return templateList.get(templateIndex).apply(
+                objectList.get((int) (argumentIndex >>> 32)), objectList.get((int) argumentIndex));
+    }
+
+    @Override
+    public Move set(int index, Move move) {
+        Move previous = get(index);
+        encode(index, move);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Move move) {
+        if (index != size) {
+            throw new UnsupportedOperationException("The " + getClass().getSimpleName()
+                    + " only supports adding a move (" + move + ") at the end (" + size
+                    + "), not at index (" + index + ").");
+        }
+        if (size == templateIndexes.length) {
+            int newCapacity = Math.max(size + (size >> 1), size + 1);
+            templateIndexes = Arrays.copyOf(templateIndexes, newCapacity);
+            argumentIndexes = Arrays.copyOf(argumentIndexes, newCapacity);
+        }
+        size++;
+        modCount++;
+        encode(index, move);
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        literalMoveList.clear();
+        modCount++;
+    }
+
+    private void encode(int index, Move move) {
+        Class<? extends Move> moveClass = move.getClass();
+        if (moveClass == ChangeMove.class) {
+            ChangeMove changeMove = (ChangeMove) move;
+            GenuineVariableDescriptor variableDescriptor = changeMove.getVariableDescriptor();
+            templateIndexes[index] = findTemplateIndex(variableDescriptor,
+                    (entity, toPlanningValue) -> new ChangeMove(entity, variableDescriptor, toPlanningValue));
+            argumentIndexes[index] = encodeArguments(changeMove.getEntity(), changeMove.getToPlanningValue());
+        } else if (moveClass == SwapMove.class) {
+            SwapMove swapMove = (SwapMove) move;
+            List<GenuineVariableDescriptor> variableDescriptorList = swapMove.getVariableDescriptorList();
+            templateIndexes[index] = findTemplateIndex(variableDescriptorList,
+                    (leftEntity, rightEntity) -> new SwapMove(variableDescriptorList, leftEntity, rightEntity));
+            argumentIndexes[index] = encodeArguments(swapMove.getLeftEntity(), swapMove.getRightEntity());
+        } else {
+            templateIndexes[index] = LITERAL_TEMPLATE_INDEX;
+            argumentIndexes[index] = literalMoveList.size();
+            literalMoveList.add(move);
+        }
+    }
+
+    private int findTemplateIndex(Object templateKey, BiFunction<Object, Object, Move> template) {
+        return templateIndexMap.computeIfAbsent(templateKey, key -> {
+            templateList.add(template);
+            return templateList.size() - 1;
+        });
+    }
+
+    private long encodeArguments(Object left, Object right) {
+        return ((long) findObjectIndex(left) << 32) | ((long) findObjectIndex(right) & 0xFFFFFFFFL);
+    }
+
+    private int findObjectIndex(Object object) {
+        return objectIndexMap.computeIfAbsent(object, key -> {
+            objectList.add(object);
+            return objectList.size() - 1;
+        });
+    }
+
+    /**
+     * Shuffles the same way as {@link java.util.Collections#shuffle(List, Random)},
+     * but without creating any {@link Move}.
+     * @param random never null
+     */
+    public void shuffle(Random random) {
+        for (int i = size; i > 1; i--) {
+            swap(i - 1, random.nextInt(i));
+        }
+        modCount++;
+    }
+
+    private void swap(int i, int j) {
+        int templateIndex = templateIndexes[i];
+        templateIndexes[i] = templateIndexes[j];
+        templateIndexes[j] = templateIndex;
+        long argumentIndex = argumentIndexes[i];
+        argumentIndexes[i] = argumentIndexes[j];
+        argumentIndexes[j] = argumentIndex;
+    }
+
+    /**
+     * A stable sort, like {@link List#sort(Comparator)},
+     * which only creates the {@link Move}s it is comparing and not a copy of the entire list.
+     * @param comparator never null
+     */
+    @Override
+    public void sort(Comparator<? super Move> comparator) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size, comparator);
+        int[] sortedTemplateIndexes = new int[templateIndexes.length];
+        long[] sortedArgumentIndexes = new long[argumentIndexes.length];
+        for (int i = 0; i < size; i++) {
+            sortedTemplateIndexes[i] = templateIndexes[order[i]];
+            sortedArgumentIndexes[i] = argumentIndexes[order[i]];
+        }
+        templateIndexes = sortedTemplateIndexes;
+        argumentIndexes = sortedArgumentIndexes;
+        modCount++;
+    }
+
+    private void mergeSort(int[] order, int[] buffer, int from, int to, Comparator<? super Move> comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, from, middle, comparator);
+        mergeSort(order, buffer, middle, to, comparator);
+        if (comparator.compare(get(order[middle - 1]), get(order[middle])) <= 0) {
+            // Already in order
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle
+                    && comparator.compare(get(buffer[left]), get(buffer[right])) <= 0)) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+
+}
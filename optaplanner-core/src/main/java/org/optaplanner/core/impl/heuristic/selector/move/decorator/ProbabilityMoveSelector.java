@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.List;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -29,7 +27,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class ProbabilityMoveSelector extends AbstractMoveSelector implements SelectionCacheLifecycleListener {
@@ -38,8 +36,8 @@ public class ProbabilityMoveSelector extends AbstractMoveSelector implements Sel
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected List<Move> cachedMoveList = null;
+    protected AliasMethodSampler probabilitySampler = null;
 
     public ProbabilityMoveSelector(MoveSelector childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory probabilityWeightFactory) {
@@ -70,21 +68,23 @@ public class ProbabilityMoveSelector extends AbstractMoveSelector implements Sel
 
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
-        cachedMoveMap = new TreeMap<>();
+        cachedMoveList = new CompactMoveList();
         ScoreDirector scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
-        for (Move entity : childMoveSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+        for (Move move : childMoveSelector) {
+            cachedMoveList.add(move);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        double[] probabilityWeights = new double[cachedMoveList.size()];
+        for (int i = 0; i < probabilityWeights.length; i++) {
+            probabilityWeights[i] = probabilityWeightFactory.createProbabilityWeight(
+                    scoreDirector, cachedMoveList.get(i));
+        }
+        probabilitySampler = new AliasMethodSampler(probabilityWeights);
     }
 
     @Override
     public void disposeCache(DefaultSolverScope solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedMoveList = null;
+        probabilitySampler = null;
     }
 
     @Override
@@ -99,7 +99,7 @@ public class ProbabilityMoveSelector extends AbstractMoveSelector implements Sel
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedMoveList.size();
     }
 
     @Override
@@ -112,10 +112,7 @@ public class ProbabilityMoveSelector extends AbstractMoveSelector implements Sel
 
             @Override
             public Move next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedMoveList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
@@ -16,7 +16,6 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
-import java.util.Collections;
 import java.util.Iterator;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -40,7 +39,7 @@ public class ShufflingMoveSelector extends AbstractCachingMoveSelector {
 
     @Override
     public Iterator<Move> iterator() {
-        Collections.shuffle(cachedMoveList, workingRandom);
+        cachedMoveList.shuffle(workingRandom);
         logger.trace("    Shuffled cachedMoveList with size ({}) in moveSelector({}).",
                 cachedMoveList.size(), this);
         return cachedMoveList.iterator();
@@ -32,9 +32,9 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
  */
 public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
 
-    protected final Object entity;
+    protected Object entity;
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
-    protected final Object toPlanningValue;
+    protected Object toPlanningValue;
 
     public ChangeMove(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
             Object toPlanningValue) {
@@ -47,6 +47,10 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         return entity;
     }
 
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return variableDescriptor;
+    }
+
     public String getVariableName() {
         return variableDescriptor.getVariableName();
     }
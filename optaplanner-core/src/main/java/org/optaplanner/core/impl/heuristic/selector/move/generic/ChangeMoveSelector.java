@@ -36,17 +36,31 @@ public class ChangeMoveSelector extends GenericMoveSelector {
     protected final EntitySelector entitySelector;
     protected final ValueSelector valueSelector;
     protected final boolean randomSelection;
+    protected final boolean moveRecyclingEnabled;
 
     protected final boolean chained;
     protected SingletonInverseVariableSupply inverseVariableSupply = null;
 
     public ChangeMoveSelector(EntitySelector entitySelector, ValueSelector valueSelector,
             boolean randomSelection) {
+        this(entitySelector, valueSelector, randomSelection, false);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param valueSelector never null
+     * @param randomSelection true if the moves are selected randomly
+     * @param moveRecyclingEnabled true if every iterator should return the same {@link RecyclableChangeMove}
+     * instance for every selected move, ignored if the variable is chained
+     */
+    public ChangeMoveSelector(EntitySelector entitySelector, ValueSelector valueSelector,
+            boolean randomSelection, boolean moveRecyclingEnabled) {
         this.entitySelector = entitySelector;
         this.valueSelector = valueSelector;
         this.randomSelection = randomSelection;
         GenuineVariableDescriptor variableDescriptor = valueSelector.getVariableDescriptor();
         chained = variableDescriptor.isChained();
+        this.moveRecyclingEnabled = moveRecyclingEnabled && !chained;
         phaseLifecycleSupport.addEventListener(entitySelector);
         phaseLifecycleSupport.addEventListener(valueSelector);
     }
@@ -108,6 +122,15 @@ public class ChangeMoveSelector extends GenericMoveSelector {
                         return new ChainedChangeMove(entity, variableDescriptor, inverseVariableSupply, toValue);
                     }
                 };
+            } else if (moveRecyclingEnabled) {
+                final RecyclableChangeMove recyclableMove = new RecyclableChangeMove(variableDescriptor);
+                return new AbstractOriginalChangeIterator<Move>(entitySelector, valueSelector) {
+                    @Override
+                    protected Move newChangeSelection(Object entity, Object toValue) {
+                        recyclableMove.reset(entity, toValue);
+                        return recyclableMove;
+                    }
+                };
             } else {
                 return new AbstractOriginalChangeIterator<Move>(entitySelector, valueSelector) {
                     @Override
@@ -124,6 +147,15 @@ public class ChangeMoveSelector extends GenericMoveSelector {
                         return new ChainedChangeMove(entity, variableDescriptor, inverseVariableSupply, toValue);
                     }
                 };
+            } else if (moveRecyclingEnabled) {
+                final RecyclableChangeMove recyclableMove = new RecyclableChangeMove(variableDescriptor);
+                return new AbstractRandomChangeIterator<Move>(entitySelector, valueSelector) {
+                    @Override
+                    protected Move newChangeSelection(Object entity, Object toValue) {
+                        recyclableMove.reset(entity, toValue);
+                        return recyclableMove;
+                    }
+                };
             } else {
                 return new AbstractRandomChangeIterator<Move>(entitySelector, valueSelector) {
                     @Override
@@ -73,9 +73,8 @@ public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> {
         }
         if (!variableDescriptor.isValueRangeEntityIndependent()) {
             ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
-            Solution_ workingSolution = scoreDirector.getWorkingSolution();
             for (Object entity : pillar) {
-                ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, entity);
+                ValueRange rightValueRange = extractValueRange(scoreDirector, valueRangeDescriptor, entity);
                 if (!rightValueRange.contains(toPlanningValue)) {
                     return false;
                 }
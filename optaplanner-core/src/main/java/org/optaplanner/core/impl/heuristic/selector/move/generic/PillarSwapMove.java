@@ -79,15 +79,16 @@ public class PillarSwapMove<Solution_> extends AbstractMove<Solution_> {
                 movable = true;
                 if (!variableDescriptor.isValueRangeEntityIndependent()) {
                     ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
-                    Solution_ workingSolution = scoreDirector.getWorkingSolution();
                     for (Object rightEntity : rightPillar) {
-                        ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, rightEntity);
+                        ValueRange rightValueRange
+                                = extractValueRange(scoreDirector, valueRangeDescriptor, rightEntity);
                         if (!rightValueRange.contains(leftValue)) {
                             return false;
                         }
                     }
                     for (Object leftEntity : leftPillar) {
-                        ValueRange leftValueRange = valueRangeDescriptor.extractValueRange(workingSolution, leftEntity);
+                        ValueRange leftValueRange
+                                = extractValueRange(scoreDirector, valueRangeDescriptor, leftEntity);
                         if (!leftValueRange.contains(rightValue)) {
                             return false;
                         }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A {@link ChangeMove} that is {@link #reset(Object, Object) reset} for every selected move,
+ * instead of being created for every selected move.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see RecyclableMove
+ */
+public class RecyclableChangeMove<Solution_> extends ChangeMove<Solution_> implements RecyclableMove<Solution_> {
+
+    protected RecyclableChangeMove<Solution_> undoMove = null;
+
+    public RecyclableChangeMove(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        super(null, variableDescriptor, null);
+    }
+
+    public void reset(Object entity, Object toPlanningValue) {
+        this.entity = entity;
+        this.toPlanningValue = toPlanningValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public ChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        Object oldValue = variableDescriptor.getValue(entity);
+        if (undoMove == null) {
+            // The undo move and this move recycle each other
+            undoMove = new RecyclableChangeMove<>(variableDescriptor);
+            undoMove.undoMove = this;
+        }
+        undoMove.reset(entity, oldValue);
+        return undoMove;
+    }
+
+    @Override
+    public ChangeMove<Solution_> copy() {
+        return new ChangeMove<>(entity, variableDescriptor, toPlanningValue);
+    }
+
+}
@@ -38,8 +38,8 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
 
-    protected final Object leftEntity;
-    protected final Object rightEntity;
+    protected Object leftEntity;
+    protected Object rightEntity;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
         this.variableDescriptorList = variableDescriptorList;
@@ -47,6 +47,10 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         this.rightEntity = rightEntity;
     }
 
+    public List<GenuineVariableDescriptor<Solution_>> getVariableDescriptorList() {
+        return variableDescriptorList;
+    }
+
     public List<String> getVariableNameList() {
         List<String> variableNameList = new ArrayList<>(variableDescriptorList.size());
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
@@ -77,12 +81,11 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
                 movable = true;
                 if (!variableDescriptor.isValueRangeEntityIndependent()) {
                     ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
-                    Solution_ workingSolution = scoreDirector.getWorkingSolution();
-                    ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, rightEntity);
+                    ValueRange rightValueRange = extractValueRange(scoreDirector, valueRangeDescriptor, rightEntity);
                     if (!rightValueRange.contains(leftValue)) {
                         return false;
                     }
-                    ValueRange leftValueRange = valueRangeDescriptor.extractValueRange(workingSolution, leftEntity);
+                    ValueRange leftValueRange = extractValueRange(scoreDirector, valueRangeDescriptor, leftEntity);
                     if (!leftValueRange.contains(rightValue)) {
                         return false;
                     }
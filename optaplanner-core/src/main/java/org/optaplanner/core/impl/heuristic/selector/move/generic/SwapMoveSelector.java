@@ -38,12 +38,27 @@ public class SwapMoveSelector extends GenericMoveSelector {
     protected final EntitySelector rightEntitySelector;
     protected final List<GenuineVariableDescriptor> variableDescriptorList;
     protected final boolean randomSelection;
+    protected final boolean moveRecyclingEnabled;
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
 
     public SwapMoveSelector(EntitySelector leftEntitySelector, EntitySelector rightEntitySelector,
             List<GenuineVariableDescriptor> variableDescriptorList, boolean randomSelection) {
+        this(leftEntitySelector, rightEntitySelector, variableDescriptorList, randomSelection, false);
+    }
+
+    /**
+     * @param leftEntitySelector never null
+     * @param rightEntitySelector never null
+     * @param variableDescriptorList never null, not empty
+     * @param randomSelection true if the moves are selected randomly
+     * @param moveRecyclingEnabled true if every iterator should return the same {@link RecyclableSwapMove}
+     * instance for every selected move, ignored if any variable is chained
+     */
+    public SwapMoveSelector(EntitySelector leftEntitySelector, EntitySelector rightEntitySelector,
+            List<GenuineVariableDescriptor> variableDescriptorList, boolean randomSelection,
+            boolean moveRecyclingEnabled) {
         this.leftEntitySelector = leftEntitySelector;
         this.rightEntitySelector = rightEntitySelector;
         this.variableDescriptorList = variableDescriptorList;
@@ -75,6 +90,7 @@ public class SwapMoveSelector extends GenericMoveSelector {
             }
         }
         this.anyChained = anyChained;
+        this.moveRecyclingEnabled = moveRecyclingEnabled && !anyChained;
         phaseLifecycleSupport.addEventListener(leftEntitySelector);
         if (leftEntitySelector != rightEntitySelector) {
             phaseLifecycleSupport.addEventListener(rightEntitySelector);
@@ -129,6 +145,26 @@ public class SwapMoveSelector extends GenericMoveSelector {
 
     @Override
     public Iterator<Move> iterator() {
+        if (moveRecyclingEnabled) {
+            final RecyclableSwapMove recyclableMove = new RecyclableSwapMove(variableDescriptorList);
+            if (!randomSelection) {
+                return new AbstractOriginalSwapIterator<Move, Object>(leftEntitySelector, rightEntitySelector) {
+                    @Override
+                    protected Move newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        recyclableMove.reset(leftSubSelection, rightSubSelection);
+                        return recyclableMove;
+                    }
+                };
+            } else {
+                return new AbstractRandomSwapIterator<Move, Object>(leftEntitySelector, rightEntitySelector) {
+                    @Override
+                    protected Move newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        recyclableMove.reset(leftSubSelection, rightSubSelection);
+                        return recyclableMove;
+                    }
+                };
+            }
+        }
         if (!randomSelection) {
             return new AbstractOriginalSwapIterator<Move, Object>(leftEntitySelector, rightEntitySelector) {
                 @Override
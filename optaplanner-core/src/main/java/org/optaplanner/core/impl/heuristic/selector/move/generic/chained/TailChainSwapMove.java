@@ -93,14 +93,13 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         }
         if (!variableDescriptor.isValueRangeEntityIndependent()) {
             ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
-            Solution_ workingSolution = scoreDirector.getWorkingSolution();
             if (rightEntity != null) {
-                ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, rightEntity);
+                ValueRange rightValueRange = extractValueRange(scoreDirector, valueRangeDescriptor, rightEntity);
                 if (!rightValueRange.contains(leftValue)) {
                     return false;
                 }
             }
-            ValueRange leftValueRange = valueRangeDescriptor.extractValueRange(workingSolution, leftEntity);
+            ValueRange leftValueRange = extractValueRange(scoreDirector, valueRangeDescriptor, leftEntity);
             if (!leftValueRange.contains(rightValue)) {
                 return false;
             }
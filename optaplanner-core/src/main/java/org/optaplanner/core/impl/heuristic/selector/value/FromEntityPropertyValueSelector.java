@@ -24,6 +24,7 @@ import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * This is the common {@link ValueSelector} implementation.
@@ -34,7 +35,7 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
     protected final ValueRangeDescriptor<Solution_> valueRangeDescriptor;
     protected final boolean randomSelection;
 
-    protected Solution_ workingSolution;
+    protected InnerScoreDirector<Solution_> scoreDirector;
 
     public FromEntityPropertyValueSelector(ValueRangeDescriptor<Solution_> valueRangeDescriptor, boolean randomSelection) {
         this.valueRangeDescriptor = valueRangeDescriptor;
@@ -50,13 +51,14 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
         // type cast in order to avoid SolverLifeCycleListener and all its children needing to be generified
-        workingSolution = (Solution_) phaseScope.getWorkingSolution();
+        // The score director caches the value range per entity, shared with the move doability checks
+        scoreDirector = (InnerScoreDirector<Solution_>) phaseScope.getScoreDirector();
     }
 
     @Override
     public void phaseEnded(AbstractPhaseScope phaseScope) {
         super.phaseEnded(phaseScope);
-        workingSolution = null;
+        scoreDirector = null;
     }
 
     // ************************************************************************
@@ -75,14 +77,14 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
 
     @Override
     public long getSize(Object entity) {
-        ValueRange<?> valueRange = valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<?> valueRange = scoreDirector.extractValueRange(valueRangeDescriptor, entity);
         return ((CountableValueRange<?>) valueRange).getSize();
     }
 
     @Override
     public Iterator<Object> iterator(Object entity) {
         ValueRange<Object> valueRange = (ValueRange<Object>)
-                valueRangeDescriptor.extractValueRange(workingSolution, entity);
+                scoreDirector.extractValueRange(valueRangeDescriptor, entity);
         if (!randomSelection) {
             return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
         } else {
@@ -93,7 +95,7 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
     @Override
     public Iterator<Object> endingIterator(Object entity) {
         ValueRange<Object> valueRange = (ValueRange<Object>)
-                valueRangeDescriptor.extractValueRange(workingSolution, entity);
+                scoreDirector.extractValueRange(valueRangeDescriptor, entity);
         return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
     }
 
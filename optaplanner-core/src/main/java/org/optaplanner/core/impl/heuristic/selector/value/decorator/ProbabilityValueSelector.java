@@ -16,10 +16,9 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.decorator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.List;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
@@ -29,7 +28,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.random.AliasMethodSampler;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class ProbabilityValueSelector extends AbstractValueSelector
@@ -39,8 +38,8 @@ public class ProbabilityValueSelector extends AbstractValueSelector
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected List<Object> cachedValueList = null;
+    protected AliasMethodSampler probabilitySampler = null;
 
     public ProbabilityValueSelector(EntityIndependentValueSelector childValueSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory probabilityWeightFactory) {
@@ -71,22 +70,24 @@ public class ProbabilityValueSelector extends AbstractValueSelector
 
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        cachedValueList = new ArrayList<>();
         ScoreDirector scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
         for (Object value : childValueSelector) {
-            double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
-                    scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
+            cachedValueList.add(value);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        double[] probabilityWeights = new double[cachedValueList.size()];
+        for (int i = 0; i < probabilityWeights.length; i++) {
+            probabilityWeights[i] = probabilityWeightFactory.createProbabilityWeight(
+                    scoreDirector, cachedValueList.get(i));
+        }
+        probabilitySampler = new AliasMethodSampler(probabilityWeights);
     }
 
     @Override
     public void disposeCache(DefaultSolverScope solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedValueList = null;
+        probabilitySampler = null;
     }
 
     @Override
@@ -111,7 +112,7 @@ public class ProbabilityValueSelector extends AbstractValueSelector
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedValueList.size();
     }
 
     @Override
@@ -129,10 +130,7 @@ public class ProbabilityValueSelector extends AbstractValueSelector
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedValueList.get(probabilitySampler.sample(workingRandom));
             }
 
             @Override
@@ -16,13 +16,21 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.nearby;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDestinationIndex;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbySpatialIndex;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
@@ -33,17 +41,41 @@ public class NearEntityNearbyValueSelector extends AbstractValueSelector {
     protected final ValueSelector childValueSelector;
     protected final EntitySelector originEntitySelector;
     protected final NearbyDistanceMeter nearbyDistanceMeter;
+    protected final NearbyCoordinateExtractor nearbyCoordinateExtractor;
+    protected final int nearbyOriginCacheSize;
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero;
 
-    protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
+    protected NearbyDestinationIndex nearbyDestinationIndex = null;
 
     public NearEntityNearbyValueSelector(ValueSelector childValueSelector, EntitySelector originEntitySelector,
             NearbyDistanceMeter nearbyDistanceMeter, NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childValueSelector, originEntitySelector, nearbyDistanceMeter, null, -1, nearbyRandom, randomSelection);
+    }
+
+    /**
+     * @param childValueSelector never null
+     * @param originEntitySelector never null
+     * @param nearbyDistanceMeter null if nearbyCoordinateExtractor is not null
+     * @param nearbyCoordinateExtractor null if nearbyDistanceMeter is not null
+     * @param nearbyOriginCacheSize ignored if nearbyCoordinateExtractor is null
+     * @param nearbyRandom null if not randomSelection
+     * @param randomSelection true if random selection
+     */
+    public NearEntityNearbyValueSelector(ValueSelector childValueSelector, EntitySelector originEntitySelector,
+            NearbyDistanceMeter nearbyDistanceMeter, NearbyCoordinateExtractor nearbyCoordinateExtractor,
+            int nearbyOriginCacheSize, NearbyRandom nearbyRandom, boolean randomSelection) {
         this.childValueSelector = childValueSelector;
         this.originEntitySelector = originEntitySelector;
         this.nearbyDistanceMeter = nearbyDistanceMeter;
+        this.nearbyCoordinateExtractor = nearbyCoordinateExtractor;
+        this.nearbyOriginCacheSize = nearbyOriginCacheSize;
+        if ((nearbyDistanceMeter == null) == (nearbyCoordinateExtractor == null)) {
+            throw new IllegalArgumentException("The valueSelector (" + this
+                    + ") must have either a nearbyDistanceMeter (" + nearbyDistanceMeter
+                    + ") or a nearbyCoordinateExtractor (" + nearbyCoordinateExtractor + ").");
+        }
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
         if (randomSelection && nearbyRandom == null) {
@@ -71,7 +103,11 @@ public class NearEntityNearbyValueSelector extends AbstractValueSelector {
                     + ") has an entitySize (" + originSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
+        if (nearbyCoordinateExtractor != null) {
+            nearbyDestinationIndex = buildNearbySpatialIndex();
+            return;
+        }
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
         for (Iterator originIt = originEntitySelector.endingIterator(); originIt.hasNext(); ) {
             final Object origin =  originIt.next();
             long childSize = childValueSelector.getSize(origin);
@@ -93,12 +129,45 @@ public class NearEntityNearbyValueSelector extends AbstractValueSelector {
             }
             nearbyDistanceMatrix.addAllDestinations(origin, childValueSelector.endingIterator(origin), destinationSize);
         }
+        nearbyDestinationIndex = nearbyDistanceMatrix;
+    }
+
+    protected NearbySpatialIndex buildNearbySpatialIndex() {
+        int destinationSizeMaximum = Integer.MAX_VALUE;
+        if (randomSelection) {
+            // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
+            destinationSizeMaximum = nearbyRandom.getOverallSizeMaximum();
+            if (discardNearbyIndexZero && destinationSizeMaximum < Integer.MAX_VALUE) {
+                destinationSizeMaximum++;
+            }
+        }
+        List<Object> destinationList = new ArrayList<>();
+        if (childValueSelector.getVariableDescriptor().isValueRangeEntityIndependent()) {
+            Iterator<Object> originIt = originEntitySelector.endingIterator();
+            if (originIt.hasNext()) {
+                childValueSelector.endingIterator(originIt.next()).forEachRemaining(destinationList::add);
+            }
+            return new NearbySpatialIndex(nearbyCoordinateExtractor, destinationList, null,
+                    destinationSizeMaximum, nearbyOriginCacheSize);
+        }
+        // Every origin has its own destinations, so index all of them and filter them per origin
+        Set<Object> destinationSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Iterator<Object> originIt = originEntitySelector.endingIterator(); originIt.hasNext(); ) {
+            for (Iterator<Object> it = childValueSelector.endingIterator(originIt.next()); it.hasNext(); ) {
+                Object destination = it.next();
+                if (destinationSet.add(destination)) {
+                    destinationList.add(destination);
+                }
+            }
+        }
+        return new NearbySpatialIndex(nearbyCoordinateExtractor, destinationList,
+                childValueSelector::endingIterator, destinationSizeMaximum, nearbyOriginCacheSize);
     }
 
     @Override
     public void phaseEnded(AbstractPhaseScope phaseScope) {
         super.phaseEnded(phaseScope);
-        nearbyDistanceMatrix = null;
+        nearbyDestinationIndex = null;
     }
 
     // ************************************************************************
@@ -173,7 +242,7 @@ public class NearEntityNearbyValueSelector extends AbstractValueSelector {
         @Override
         public Object next() {
             selectOrigin();
-            Object next = nearbyDistanceMatrix.getDestination(origin, nextNearbyIndex);
+            Object next = nearbyDestinationIndex.getDestination(origin, nextNearbyIndex);
             nextNearbyIndex++;
             return next;
         }
@@ -207,7 +276,7 @@ public class NearEntityNearbyValueSelector extends AbstractValueSelector {
             if (discardNearbyIndexZero) {
                 nearbyIndex++;
             }
-            return nearbyDistanceMatrix.getDestination(origin, nearbyIndex);
+            return nearbyDestinationIndex.getDestination(origin, nearbyIndex);
         }
 
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import org.optaplanner.core.config.solver.EnvironmentMode;
+
+/**
+ * Decides per step how many of the selected moves are in flight on the move threads,
+ * which also bounds the number of busy move threads.
+ * It grows that number when the solver thread waits a lot on the move threads
+ * and shrinks it when the move threads are always ahead.
+ * <p>
+ * If allowed, it also periodically measures evaluating a step's moves on the solver thread,
+ * and prefers that if it's faster per move (for example for a very cheap score calculation).
+ * That changes the solver thread's score calculation count, so it's never allowed in a reproducible
+ * {@link EnvironmentMode}.
+ * <p>
+ * It never changes which moves are selected or in which order they are foraged,
+ * so it doesn't affect reproducibility.
+ * Not thread-safe: only used by the solver thread.
+ */
+public class AdaptiveMoveThreadBuffer {
+
+    /**
+     * The {@link #nextStepInFlightMoveLimit()} to evaluate the moves on the solver thread.
+     */
+    public static final int SOLVER_THREAD_EVALUATION = 0;
+
+    protected static final int PROBE_STEP_INTERVAL = 100;
+    protected static final double GROW_WAIT_RATIO = 0.5;
+    protected static final double SHRINK_WAIT_RATIO = 0.05;
+    protected static final double SMOOTHING_FACTOR = 0.2;
+
+    private final int maximumInFlightMoveLimit;
+    private final boolean solverThreadEvaluationAllowed;
+
+    private int inFlightMoveLimit;
+    private boolean solverThreadEvaluationPreferred = false;
+    private int stepCountSinceProbe = 0;
+    private double moveThreadNanosPerMove = Double.NaN;
+    private double solverThreadNanosPerMove = Double.NaN;
+
+    /**
+     * @param maximumInFlightMoveLimit at least 1, usually the selectedMoveBufferSize
+     * @param solverThreadEvaluationAllowed false in a reproducible {@link EnvironmentMode}
+     */
+    public AdaptiveMoveThreadBuffer(int maximumInFlightMoveLimit, boolean solverThreadEvaluationAllowed) {
+        if (maximumInFlightMoveLimit < 1) {
+            throw new IllegalArgumentException("The maximumInFlightMoveLimit (" + maximumInFlightMoveLimit
+                    + ") must be at least 1.");
+        }
+        this.maximumInFlightMoveLimit = maximumInFlightMoveLimit;
+        this.solverThreadEvaluationAllowed = solverThreadEvaluationAllowed;
+        inFlightMoveLimit = maximumInFlightMoveLimit;
+    }
+
+    public int getMaximumInFlightMoveLimit() {
+        return maximumInFlightMoveLimit;
+    }
+
+    public boolean isSolverThreadEvaluationAllowed() {
+        return solverThreadEvaluationAllowed;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return {@link #SOLVER_THREAD_EVALUATION} or between 1 and {@link #getMaximumInFlightMoveLimit()}
+     */
+    public int nextStepInFlightMoveLimit() {
+        boolean solverThreadEvaluation = solverThreadEvaluationPreferred;
+        if (solverThreadEvaluationAllowed) {
+            if (Double.isNaN(solverThreadNanosPerMove) && !Double.isNaN(moveThreadNanosPerMove)) {
+                // Measure the solver thread once the move threads have been measured
+                solverThreadEvaluation = true;
+            } else if (stepCountSinceProbe >= PROBE_STEP_INTERVAL) {
+                // Measure the other alternative again, the cost of a move evaluation can change during solving
+                solverThreadEvaluation = !solverThreadEvaluation;
+                stepCountSinceProbe = 0;
+            }
+        }
+        stepCountSinceProbe++;
+        return solverThreadEvaluation ? SOLVER_THREAD_EVALUATION : inFlightMoveLimit;
+    }
+
+    /**
+     * @param usedInFlightMoveLimit the return value of the last {@link #nextStepInFlightMoveLimit()} call
+     * @param stepNanos at least 0, the time spent to decide the step
+     * @param waitNanos at least 0, the time the solver thread waited on move thread results
+     * @param evaluatedMoveCount at least 0, the number of moves foraged in the step
+     */
+    public void stepEnded(int usedInFlightMoveLimit, long stepNanos, long waitNanos, int evaluatedMoveCount) {
+        if (evaluatedMoveCount == 0 || stepNanos <= 0L) {
+            return;
+        }
+        double nanosPerMove = ((double) stepNanos) / ((double) evaluatedMoveCount);
+        if (usedInFlightMoveLimit == SOLVER_THREAD_EVALUATION) {
+            solverThreadNanosPerMove = smooth(solverThreadNanosPerMove, nanosPerMove);
+        } else {
+            moveThreadNanosPerMove = smooth(moveThreadNanosPerMove, nanosPerMove);
+            double waitRatio = ((double) waitNanos) / ((double) stepNanos);
+            if (waitRatio > GROW_WAIT_RATIO) {
+                // The move threads can't keep up: give them more moves to evaluate in parallel
+                inFlightMoveLimit = Math.min(inFlightMoveLimit * 2, maximumInFlightMoveLimit);
+            } else if (waitRatio < SHRINK_WAIT_RATIO) {
+                // The move threads are always ahead: evaluate fewer moves that might never be foraged
+                inFlightMoveLimit = Math.max(inFlightMoveLimit / 2, 1);
+            }
+        }
+        if (solverThreadEvaluationAllowed
+                && !Double.isNaN(solverThreadNanosPerMove) && !Double.isNaN(moveThreadNanosPerMove)) {
+            solverThreadEvaluationPreferred = solverThreadNanosPerMove < moveThreadNanosPerMove;
+        }
+    }
+
+    private static double smooth(double average, double measurement) {
+        if (Double.isNaN(average)) {
+            return measurement;
+        }
+        return average + SMOOTHING_FACTOR * (measurement - average);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + (solverThreadEvaluationPreferred ? "solverThread" : inFlightMoveLimit)
+                + "/" + maximumInFlightMoveLimit + ")";
+    }
+
+}
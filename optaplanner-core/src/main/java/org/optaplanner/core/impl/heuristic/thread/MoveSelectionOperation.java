@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * Lets a move thread select the moves itself, with its own move selector,
+ * instead of evaluating a move selected by the solver thread.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveSelectionOperation<Solution_> extends MoveThreadOperation<Solution_> {
+
+    private final int stepIndex;
+    private final int firstMoveIndex;
+    private final int moveCount;
+    private final long seed;
+
+    /**
+     * @param stepIndex at least 0
+     * @param firstMoveIndex at least 0
+     * @param moveCount at least 1
+     * @param seed the working random of the move thread is reseeded with it,
+     * so the selected moves don't depend on which move thread takes this operation
+     */
+    public MoveSelectionOperation(int stepIndex, int firstMoveIndex, int moveCount, long seed) {
+        this.stepIndex = stepIndex;
+        this.firstMoveIndex = firstMoveIndex;
+        this.moveCount = moveCount;
+        this.seed = seed;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public int getFirstMoveIndex() {
+        return firstMoveIndex;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+}
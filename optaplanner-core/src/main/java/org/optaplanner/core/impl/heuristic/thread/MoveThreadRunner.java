@@ -16,15 +16,23 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Iterator;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,8 +54,17 @@ public class MoveThreadRunner<Solution_> implements Runnable {
     private final boolean assertExpectedStepScore;
     private final boolean assertShadowVariablesAreNotStaleAfterStep;
 
+    private MoveSelector moveSelector = null;
+    private Random moveSelectionRandom = null;
+    private long moveSelectionSeed = 0L;
+
+    private InnerScoreDirector<Solution_> parentScoreDirector = null;
     private InnerScoreDirector<Solution_> scoreDirector = null;
+    private final CountDownLatch setupLatch = new CountDownLatch(1);
+    private boolean destroyed = false;
     private AtomicLong calculationCount = new AtomicLong(-1);
+    private LocalSearchPhaseScope<Solution_> moveSelectionPhaseScope = null;
+    private LocalSearchStepScope<Solution_> moveSelectionStepScope = null;
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
@@ -68,6 +85,18 @@ public class MoveThreadRunner<Solution_> implements Runnable {
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * Enables {@link MoveSelectionOperation}s. Must be called before {@link #run()}.
+     * @param moveSelector never null, not shared with the solver thread or any other move thread
+     * @param moveSelectionRandom never null, not shared with any other thread, reseeded before it is used
+     * @param moveSelectionSeed the same for every move thread, to seed the random of the selector every step
+     */
+    public void setMoveSelector(MoveSelector moveSelector, Random moveSelectionRandom, long moveSelectionSeed) {
+        this.moveSelector = moveSelector;
+        this.moveSelectionRandom = moveSelectionRandom;
+        this.moveSelectionSeed = moveSelectionSeed;
+    }
+
     @Override
     public void run() {
         try {
@@ -84,10 +113,14 @@ public class MoveThreadRunner<Solution_> implements Runnable {
 
                 if (operation instanceof SetupOperation) {
                     SetupOperation<Solution_> setupOperation = (SetupOperation<Solution_>) operation;
-                    scoreDirector = setupOperation.getScoreDirector()
-                            .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+                    parentScoreDirector = setupOperation.getScoreDirector();
+                    scoreDirector = parentScoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+                    setupLatch.countDown();
                     stepIndex = 0;
                     lastStepScore = scoreDirector.calculateScore();
+                    if (moveSelector != null) {
+                        startMoveSelection(stepIndex);
+                    }
                     logger.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
@@ -101,6 +134,10 @@ public class MoveThreadRunner<Solution_> implements Runnable {
                     logger.trace("{}            Move thread ({}) destroy: step index ({}).",
                             logIndentation, moveThreadIndex, stepIndex);
                     calculationCount.set(scoreDirector.getCalculationCount());
+                    if (moveSelector != null) {
+                        endMoveSelection();
+                    }
+                    destroyed = true;
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
                     // TODO Performance gain with specialized 2-phase cyclic barrier:
@@ -118,6 +155,11 @@ public class MoveThreadRunner<Solution_> implements Runnable {
                     step.doMove(scoreDirector);
                     predictWorkingStepScore(step, score);
                     lastStepScore = score;
+                    if (moveSelector != null) {
+                        moveSelector.stepEnded(moveSelectionStepScope);
+                        moveSelectionPhaseScope.setLastCompletedStepScope(moveSelectionStepScope);
+                        startMoveSelectionStep(stepIndex);
+                    }
                     logger.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
@@ -137,19 +179,28 @@ public class MoveThreadRunner<Solution_> implements Runnable {
                                 + moveIndex + ").");
                     }
                     Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                    evaluateMove(stepIndex, moveIndex, move, lastStepScore);
+                } else if (operation instanceof MoveSelectionOperation) {
+                    MoveSelectionOperation<Solution_> moveSelectionOperation = (MoveSelectionOperation<Solution_>) operation;
+                    if (stepIndex != moveSelectionOperation.getStepIndex()) {
+                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                                + stepIndex + ") differs from the operation's stepIndex ("
+                                + moveSelectionOperation.getStepIndex() + ") with firstMoveIndex ("
+                                + moveSelectionOperation.getFirstMoveIndex() + ").");
+                    }
+                    // Reseed, so the selected moves are the same regardless which move thread took the operation
+                    moveSelectionRandom.setSeed(moveSelectionOperation.getSeed());
+                    Iterator<Move> moveIterator = moveSelector.iterator();
+                    int moveIndex = moveSelectionOperation.getFirstMoveIndex();
+                    int moveIndexLimit = moveIndex + moveSelectionOperation.getMoveCount();
+                    for (; moveIndex < moveIndexLimit; moveIndex++) {
+                        if (!moveIterator.hasNext()) {
+                            logger.trace("{}            Move thread ({}) selection: step index ({}), move index ({}), ended.",
+                                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                            resultQueue.addMoveSelectionEnded(moveThreadIndex, stepIndex, moveIndex);
+                            break;
                         }
-                        logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                        evaluateMove(stepIndex, moveIndex, moveIterator.next(), lastStepScore);
                     }
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
@@ -164,12 +215,62 @@ public class MoveThreadRunner<Solution_> implements Runnable {
                     logIndentation, moveThreadIndex, throwable);
             resultQueue.addExceptionThrown(moveThreadIndex, throwable);
         } finally {
+            // Never leave the solver thread waiting for a setup that failed, it receives the exception instead
+            setupLatch.countDown();
             if (scoreDirector != null) {
-                scoreDirector.close();
+                if (destroyed) {
+                    // The next phase's move thread catches it up instead of inserting every fact again
+                    parentScoreDirector.releaseChildThreadScoreDirector(scoreDirector);
+                } else {
+                    scoreDirector.close();
+                }
             }
         }
     }
 
+    private void evaluateMove(int stepIndex, int moveIndex, Move<Solution_> move, Score lastStepScore) {
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+        } else {
+            Score score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+            }
+            logger.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+            // Deliberately add to fail fast if there is not enough capacity (which is impossible)
+            resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+        }
+    }
+
+    private void startMoveSelection(int stepIndex) {
+        DefaultSolverScope<Solution_> moveSelectionSolverScope = new DefaultSolverScope<>();
+        moveSelectionRandom.setSeed(moveSelectionSeed);
+        moveSelectionSolverScope.setWorkingRandom(moveSelectionRandom);
+        moveSelectionSolverScope.setScoreDirector(scoreDirector);
+        moveSelectionPhaseScope = new LocalSearchPhaseScope<>(moveSelectionSolverScope);
+        moveSelector.solvingStarted(moveSelectionSolverScope);
+        moveSelector.phaseStarted(moveSelectionPhaseScope);
+        startMoveSelectionStep(stepIndex);
+    }
+
+    private void startMoveSelectionStep(int stepIndex) {
+        // A step cache (such as a shuffled selection) must be the same on every move thread
+        moveSelectionRandom.setSeed(RandomUtils.splitSeed(moveSelectionSeed, stepIndex));
+        moveSelectionStepScope = new LocalSearchStepScope<>(moveSelectionPhaseScope, stepIndex);
+        moveSelector.stepStarted(moveSelectionStepScope);
+    }
+
+    private void endMoveSelection() {
+        moveSelector.stepEnded(moveSelectionStepScope);
+        moveSelector.phaseEnded(moveSelectionPhaseScope);
+        moveSelector.solvingEnded(moveSelectionPhaseScope.getSolverScope());
+        moveSelectionStepScope = null;
+        moveSelectionPhaseScope = null;
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -188,6 +289,15 @@ public class MoveThreadRunner<Solution_> implements Runnable {
      * This method is thread-safe.
      * @return at least 0
      */
+    /**
+     * Waits until this move thread took its {@link SetupOperation} and no longer reads the parent's working solution.
+     * Only needed if the solver thread changes its working solution before it waits for a move result.
+     * @throws InterruptedException if the solver thread is interrupted while waiting
+     */
+    public void awaitSetup() throws InterruptedException {
+        setupLatch.await();
+    }
+
     public long getCalculationCount() {
         long calculationCount = this.calculationCount.get();
         if (calculationCount == -1L) {
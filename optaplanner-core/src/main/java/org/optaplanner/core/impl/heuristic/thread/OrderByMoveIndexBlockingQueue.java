@@ -101,6 +101,25 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
         }
     }
 
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Signals that the move selector of that move thread has no move for this moveIndex (nor any later one).
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @see MoveResult#isMoveSelectionEnded()
+     */
+    public void addMoveSelectionEnded(int moveThreadIndex, int stepIndex, int moveIndex) {
+        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, null, false, null);
+        synchronized (this) {
+            if (result.getStepIndex() != filterStepIndex) {
+                // Discard element from previous step
+                return;
+            }
+            innerQueue.add(result);
+        }
+    }
+
     /**
      * This method is thread-safe. It can be called from any move thread.
      * Previous results (that haven't been consumed yet), will still be returned during iteration
@@ -195,10 +214,20 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             return moveIndex;
         }
 
+        /**
+         * @return null if {@link #isMoveSelectionEnded()}
+         */
         public Move<Solution_> getMove() {
             return move;
         }
 
+        /**
+         * @return true if the move thread's own move selector ran out of moves
+         */
+        public boolean isMoveSelectionEnded() {
+            return move == null;
+        }
+
         public boolean isMoveDoable() {
             return moveDoable;
         }
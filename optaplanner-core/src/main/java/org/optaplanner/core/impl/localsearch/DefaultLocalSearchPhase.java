@@ -98,7 +98,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
 
     protected void doStep(LocalSearchStepScope<Solution_> stepScope) {
         Move<Solution_> step = stepScope.getStep();
-        Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
+        Move<Solution_> undoStep = stepScope.getScoreDirector().doStep(step);
         stepScope.setUndoStep(undoStep);
         predictWorkingStepScore(stepScope, step);
         bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope);
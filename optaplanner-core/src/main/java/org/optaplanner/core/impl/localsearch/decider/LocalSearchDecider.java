@@ -16,15 +16,23 @@
 
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.stream.Collectors;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.metrics.MetricCounter;
+import org.optaplanner.core.impl.solver.metrics.NoOpSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.slf4j.Logger;
@@ -46,6 +54,10 @@ public class LocalSearchDecider<Solution_> {
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
 
+    protected MetricCounter moveEvaluationCounter = NoOpSolverMetricsRegistry.NO_OP_COUNTER;
+    protected MetricCounter moveAcceptedCounter = NoOpSolverMetricsRegistry.NO_OP_COUNTER;
+    protected MetricCounter moveRejectedCounter = NoOpSolverMetricsRegistry.NO_OP_COUNTER;
+
     public LocalSearchDecider(String logIndentation,
             Termination termination, MoveSelector moveSelector, Acceptor acceptor, LocalSearchForager forager) {
         this.logIndentation = logIndentation;
@@ -90,11 +102,27 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        SolverMetricsRegistry metricsRegistry = phaseScope.getSolverScope().getMetricsRegistry();
+        String acceptorName = buildAcceptorName(acceptor);
+        moveEvaluationCounter = metricsRegistry.counter(SolverMetric.MOVE_EVALUATION_COUNT);
+        moveAcceptedCounter = metricsRegistry.counter(SolverMetric.MOVE_ACCEPTED_COUNT,
+                SolverMetric.ACCEPTOR_TAG, acceptorName);
+        moveRejectedCounter = metricsRegistry.counter(SolverMetric.MOVE_REJECTED_COUNT,
+                SolverMetric.ACCEPTOR_TAG, acceptorName);
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
     }
 
+    protected String buildAcceptorName(Acceptor acceptor) {
+        if (acceptor instanceof CompositeAcceptor) {
+            return ((CompositeAcceptor) acceptor).getAcceptorList().stream()
+                    .map(this::buildAcceptorName)
+                    .collect(Collectors.joining("+"));
+        }
+        return acceptor.getClass().getSimpleName();
+    }
+
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         moveSelector.stepStarted(stepScope);
         acceptor.stepStarted(stepScope);
@@ -133,6 +161,7 @@ public class LocalSearchDecider<Solution_> {
                     moveScope.setScore(score);
                     boolean accepted = acceptor.isAccepted(moveScope);
                     moveScope.setAccepted(accepted);
+                    countEvaluatedMove(accepted);
                     forager.addMove(moveScope);
                 });
         if (assertExpectedUndoMoveScore) {
@@ -145,10 +174,23 @@ public class LocalSearchDecider<Solution_> {
                 moveScope.getMove());
     }
 
+    protected void countEvaluatedMove(boolean accepted) {
+        moveEvaluationCounter.increment();
+        if (accepted) {
+            moveAcceptedCounter.increment();
+        } else {
+            moveRejectedCounter.increment();
+        }
+    }
+
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
             Move<Solution_> step = pickedMoveScope.getMove();
+            if (step instanceof RecyclableMove) {
+                // The step outlives the next selected move
+                step = ((RecyclableMove<Solution_>) step).copy();
+            }
             stepScope.setStep(step);
             if (logger.isDebugEnabled()) {
                 stepScope.setStepString(step.toString());
@@ -16,9 +16,12 @@
 
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
@@ -28,11 +31,15 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveSelectionOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
@@ -43,6 +50,8 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.random.AbstractUnsynchronizedRandom;
+import org.optaplanner.core.impl.solver.random.RandomUtils;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
@@ -58,12 +67,19 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected AdaptiveMoveThreadBuffer adaptiveMoveThreadBuffer = null;
+    protected List<MoveSelector> moveThreadMoveSelectorList = null;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_>> moveThreadRunnerList;
+    protected int moveThreadStepIndex;
+    protected List<Move<Solution_>> pendingStepList;
+    protected Score pendingStepScore;
+    protected long moveSelectionSeed;
+    protected long waitNanos;
 
     public MultiThreadedLocalSearchDecider(String logIndentation, Termination termination,
             MoveSelector moveSelector, Acceptor acceptor, LocalSearchForager forager,
@@ -86,6 +102,25 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param adaptiveMoveThreadBuffer sometimes null, if null the entire selectedMoveBufferSize is always in flight
+     */
+    public void setAdaptiveMoveThreadBuffer(AdaptiveMoveThreadBuffer adaptiveMoveThreadBuffer) {
+        this.adaptiveMoveThreadBuffer = adaptiveMoveThreadBuffer;
+    }
+
+    /**
+     * @param moveThreadMoveSelectorList sometimes null, if not null then every move thread selects its own moves
+     * with its own {@link MoveSelector} (which must be never ending) instead of the solver thread selecting them
+     */
+    public void setMoveThreadMoveSelectorList(List<MoveSelector> moveThreadMoveSelectorList) {
+        if (moveThreadMoveSelectorList != null && moveThreadMoveSelectorList.size() != moveThreadCount) {
+            throw new IllegalArgumentException("The moveThreadMoveSelectorList size ("
+                    + moveThreadMoveSelectorList.size() + ") must be the moveThreadCount (" + moveThreadCount + ").");
+        }
+        this.moveThreadMoveSelectorList = moveThreadMoveSelectorList;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -94,7 +129,13 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadStepIndex = 0;
+        pendingStepList = new ArrayList<>();
         InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
+        if (moveThreadMoveSelectorList != null) {
+            // Drawn from the solver thread's working random, so REPRODUCIBLE mode stays reproducible
+            moveSelectionSeed = phaseScope.getWorkingRandom().nextLong();
+        }
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
@@ -103,6 +144,10 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
                     operationQueue, resultQueue, moveThreadBarrier,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            if (moveThreadMoveSelectorList != null) {
+                moveThreadRunner.setMoveSelector(moveThreadMoveSelectorList.get(moveThreadIndex),
+                        createMoveSelectionRandom(phaseScope.getWorkingRandom(), moveSelectionSeed), moveSelectionSeed);
+            }
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
@@ -126,9 +171,19 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
         resultQueue = null;
+        pendingStepList = null;
+        pendingStepScore = null;
         moveThreadRunnerList = null;
     }
 
+    private Random createMoveSelectionRandom(Random workingRandom, long seed) {
+        // Same type as the working random, but splitting it would change its sequence and break REPRODUCIBLE mode
+        if (workingRandom instanceof AbstractUnsynchronizedRandom) {
+            return ((AbstractUnsynchronizedRandom) workingRandom).withSeed(seed);
+        }
+        return new Random(seed);
+    }
+
     protected ExecutorService createThreadPoolExecutor() {
         ThreadPoolExecutor threadPoolExecutor
                 = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount, threadFactory);
@@ -142,11 +197,57 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
 
     @Override
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
-        int stepIndex = stepScope.getStepIndex();
-        resultQueue.startNextStep(stepIndex);
+        int inFlightMoveLimit = adaptiveMoveThreadBuffer == null ? selectedMoveBufferSize
+                : adaptiveMoveThreadBuffer.nextStepInFlightMoveLimit();
+        long stepStartNanos = System.nanoTime();
+        waitNanos = 0L;
+        if (inFlightMoveLimit == AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION) {
+            // The move threads are idle during this step, they catch up on it before they evaluate moves again
+            super.decideNextStep(stepScope);
+            if (stepScope.getStep() != null) {
+                pendingStepList.add(stepScope.getStep());
+                pendingStepScore = stepScope.getScore();
+            }
+        } else {
+            if (!pendingStepList.isEmpty()) {
+                applyStepOnMoveThreads(CompositeMove.buildMove(pendingStepList), pendingStepScore);
+                pendingStepList.clear();
+                pendingStepScore = null;
+            }
+            resultQueue.startNextStep(moveThreadStepIndex);
+            if (moveThreadMoveSelectorList == null) {
+                decideNextStepOnMoveThreads(stepScope, moveThreadStepIndex, inFlightMoveLimit);
+            } else {
+                selectAndDecideNextStepOnMoveThreads(stepScope, moveThreadStepIndex, inFlightMoveLimit);
+            }
+            // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+            if (stepScope.getStep() != null) {
+                applyStepOnMoveThreads(stepScope.getStep(), stepScope.getScore());
+            }
+        }
+        if (adaptiveMoveThreadBuffer != null) {
+            Long selectedMoveCount = stepScope.getSelectedMoveCount();
+            adaptiveMoveThreadBuffer.stepEnded(inFlightMoveLimit, System.nanoTime() - stepStartNanos, waitNanos,
+                    selectedMoveCount == null ? 0 : selectedMoveCount.intValue());
+        }
+        // TODO latch barrier
+    }
+
+    private void applyStepOnMoveThreads(Move<Solution_> step, Score score) {
+        // Increase moveThreadStepIndex by 1, because it's a preliminary action
+        moveThreadStepIndex++;
+        ApplyStepOperation<Solution_> stepOperation = new ApplyStepOperation<>(moveThreadStepIndex, step, score);
+        for (int i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(stepOperation);
+        }
+    }
 
+    private void decideNextStepOnMoveThreads(LocalSearchStepScope<Solution_> stepScope, int stepIndex,
+            int inFlightMoveLimit) {
         int selectingMoveIndex = 0;
+        int dispatchingMoveIndex = 0;
         int foragingMoveIndex = 0;
+        Deque<Move<Solution_>> undispatchedMoveDeque = new ArrayDeque<>(selectedMoveBufferSize);
         Iterator<Move> moveIterator = moveSelector.iterator();
         do  {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
@@ -161,38 +262,66 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             }
             if (!moveIteratorEmpty) {
                 Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                undispatchedMoveDeque.addLast(selectingMove);
                 selectingMoveIndex++;
             }
+            // Only a limited number of the selected moves are evaluated at the same time
+            while (dispatchingMoveIndex < foragingMoveIndex + inFlightMoveLimit && !undispatchedMoveDeque.isEmpty()) {
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, dispatchingMoveIndex,
+                        undispatchedMoveDeque.removeFirst()));
+                dispatchingMoveIndex++;
+            }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
         operationQueue.clear();
         pickMove(stepScope);
-        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
-        if (stepScope.getStep() != null) {
-            // Increase stepIndex by 1, because it's a preliminary action
-            ApplyStepOperation<Solution_> stepOperation = new ApplyStepOperation<>(
-                    stepIndex + 1, stepScope.getStep(), stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
+    }
+
+    private void selectAndDecideNextStepOnMoveThreads(LocalSearchStepScope<Solution_> stepScope, int stepIndex,
+            int inFlightMoveLimit) {
+        // Each MoveSelectionOperation lets 1 move thread select and evaluate a chunk of consecutive move indexes.
+        // Any move thread can take any chunk, so the random seed is split per step and per chunk (not per thread).
+        int chunkSize = Math.max(1, selectedMoveBufferSize / moveThreadCount);
+        int chunkInFlightMoveLimit = Math.max(chunkSize, inFlightMoveLimit);
+        long stepSeed = RandomUtils.splitSeed(moveSelectionSeed, stepIndex);
+        int chunkIndex = 0;
+        int dispatchedMoveCount = 0;
+        int foragingMoveIndex = 0;
+        while (true) {
+            while (dispatchedMoveCount + chunkSize <= foragingMoveIndex + chunkInFlightMoveLimit) {
+                operationQueue.add(new MoveSelectionOperation<>(stepIndex, dispatchedMoveCount, chunkSize,
+                        RandomUtils.splitSeed(stepSeed, chunkIndex)));
+                chunkIndex++;
+                dispatchedMoveCount += chunkSize;
             }
+            if (forageResult(stepScope, stepIndex)) {
+                break;
+            }
+            foragingMoveIndex++;
         }
-        // TODO latch barrier
+        // Do not select the remaining chunks for this step that haven't started selection yet
+        operationQueue.clear();
+        pickMove(stepScope);
     }
 
     private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        long waitStartNanos = System.nanoTime();
         try {
             result = resultQueue.take();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return true;
         }
+        waitNanos += System.nanoTime() - waitStartNanos;
         if (stepIndex != result.getStepIndex()) {
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
         }
+        if (result.isMoveSelectionEnded()) {
+            return true;
+        }
         Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
         int foragingMoveIndex = result.getMoveIndex();
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, foragingMoveIndex, foragingMove);
@@ -203,6 +332,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             moveScope.setScore(result.getScore());
             boolean accepted = acceptor.isAccepted(moveScope);
             moveScope.setAccepted(accepted);
+            countEvaluatedMove(accepted);
             logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
                     logIndentation,
                     foragingMoveIndex, moveScope.getScore(), moveScope.getAccepted(),
@@ -41,6 +41,10 @@ public class CompositeAcceptor extends AbstractAcceptor {
         this(Arrays.asList(acceptors));
     }
 
+    public List<Acceptor> getAcceptorList() {
+        return acceptorList;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -50,9 +50,9 @@ public class HighestScoreFinalistPodium extends AbstractFinalistPodium {
         if (scoreComparison > 0) {
             finalistScore = moveScore;
             finalistList.clear();
-            finalistList.add(moveScope);
+            finalistList.add(moveScope.toRetainable());
         } else if (scoreComparison == 0) {
-            finalistList.add(moveScope);
+            finalistList.add(moveScope.toRetainable());
         }
     }
 
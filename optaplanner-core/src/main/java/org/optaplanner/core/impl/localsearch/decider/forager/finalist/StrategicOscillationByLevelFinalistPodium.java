@@ -66,9 +66,9 @@ public class StrategicOscillationByLevelFinalistPodium extends AbstractFinalistP
             finalistScore = moveScore;
             finalistLevelNumbers = moveLevelNumbers;
             finalistList.clear();
-            finalistList.add(moveScope);
+            finalistList.add(moveScope.toRetainable());
         } else if (comparison == 0) {
-            finalistList.add(moveScope);
+            finalistList.add(moveScope.toRetainable());
         }
     }
 
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.localsearch.scope;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.RecyclableMove;
 import org.optaplanner.core.impl.phase.scope.AbstractMoveScope;
 
 /**
@@ -51,4 +52,19 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
     // Calculated methods
     // ************************************************************************
 
+    /**
+     * @return never null, this or (if the move is a {@link RecyclableMove}) a copy with a {@link RecyclableMove#copy()},
+     * so it is still valid after the next move has been selected
+     */
+    public LocalSearchMoveScope<Solution_> toRetainable() {
+        if (!(move instanceof RecyclableMove)) {
+            return this;
+        }
+        LocalSearchMoveScope<Solution_> retainableMoveScope = new LocalSearchMoveScope<>(stepScope, moveIndex,
+                ((RecyclableMove<Solution_>) move).copy());
+        retainableMoveScope.setScore(score);
+        retainableMoveScope.setAccepted(accepted);
+        return retainableMoveScope;
+    }
+
 }
@@ -29,6 +29,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.recaller.BestSolutionRecallerConfig;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.partitionedsearch.event.PartitionedSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
@@ -169,7 +170,11 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             DefaultSolverScope<Solution_> solverScope) {
         Termination partTermination = new OrCompositeTermination(childThreadPlumbingTermination,
                 termination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
-        BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecallerConfig()
+        BestSolutionRecallerConfig bestSolutionRecallerConfig = new BestSolutionRecallerConfig();
+        // The part's best solution is never returned, only its changes are, so patch it instead of cloning it
+        bestSolutionRecallerConfig.setDeltaCloningEnabled(solverScope.getSolutionDescriptor().getSolutionCloner()
+                instanceof FieldAccessingSolutionCloner);
+        BestSolutionRecaller<Solution_> bestSolutionRecaller = bestSolutionRecallerConfig
                 .buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
         List<Phase<Solution_>> phaseList = new ArrayList<>(phaseConfigList.size());
         int partPhaseIndex = 0;
@@ -186,7 +191,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
 
     protected void doStep(PartitionedSearchStepScope<Solution_> stepScope) {
         Move<Solution_> nextStep = stepScope.getStep();
-        nextStep.doMove(stepScope.getScoreDirector());
+        stepScope.getScoreDirector().doStep(nextStep);
         calculateWorkingStepScore(stepScope, nextStep);
         bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope);
     }
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.drools.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.EntityIndependentValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Partitions the planning entities into groups, keeps every {@link PlanningVariable#graphType() chain}
+ * in a single group, balances those groups over the parts by their problem scale
+ * and then partition clones the parts with
+ * {@link SolutionPartitionerUtils#splitWorkingSolution(ScoreDirector, List, ExecutorService)}.
+ * <p>
+ * For a chained planning variable, the anchors are dealt round-robin over the parts
+ * (each chain follows its anchor) and every part only sees its own anchors in its problem fact collections,
+ * so 2 parts never build a chain on the same anchor.
+ * Therefore there are never more parts than anchors.
+ * <p>
+ * The problem facts are shared by all parts, so they must not be modified by any of the parts.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public abstract class AbstractSolutionPartitioner<Solution_> implements SolutionPartitioner<Solution_> {
+
+    /**
+     * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
+     * Null to use the runnablePartThreadLimit or otherwise the number of available processors.
+     */
+    protected Integer partCount = null;
+
+    /**
+     * Not a custom property: the {@link PartitionedSearchPhaseConfig} sets it to its part thread factory.
+     * Null to partition clone the parts on the solver thread.
+     */
+    protected ThreadFactory threadFactory = null;
+
+    public Integer getPartCount() {
+        return partCount;
+    }
+
+    public void setPartCount(Integer partCount) {
+        this.partCount = partCount;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit) {
+        SolutionDescriptor<Solution_> solutionDescriptor
+                = ((InnerScoreDirector<Solution_>) scoreDirector).getSolutionDescriptor();
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        List<Object> entityList = solutionDescriptor.getEntityList(workingSolution);
+        List<Object> anchorList = findAnchors(solutionDescriptor, workingSolution);
+        int resolvedPartCount = resolvePartCount(runnablePartThreadLimit, entityList.size());
+        if (!anchorList.isEmpty()) {
+            // Every part needs an anchor of its own to build its chains on
+            resolvedPartCount = Math.min(resolvedPartCount, anchorList.size());
+        }
+        List<List<Object>> entityGroupList = groupEntities(solutionDescriptor, workingSolution,
+                entityList, resolvedPartCount);
+        int[] entityPartIndexes = new int[entityList.size()];
+        int[] anchorPartIndexes = new int[anchorList.size()];
+        balanceEntityGroups(solutionDescriptor, workingSolution, entityList, anchorList, entityGroupList,
+                resolvedPartCount, entityPartIndexes, anchorPartIndexes);
+        // Drop the parts without entities
+        int[] usedPartIndexes = new int[resolvedPartCount];
+        for (int partIndex : entityPartIndexes) {
+            usedPartIndexes[partIndex] = 1;
+        }
+        if (entityList.isEmpty()) {
+            usedPartIndexes[0] = 1;
+        }
+        int usedPartCount = 0;
+        for (int partIndex = 0; partIndex < resolvedPartCount; partIndex++) {
+            usedPartIndexes[partIndex] = usedPartIndexes[partIndex] > 0 ? usedPartCount++ : -1;
+        }
+        // The anchors of a dropped part are dealt round-robin over the other parts
+        int[] anchorUsedPartIndexes = new int[anchorList.size()];
+        int droppedAnchorCount = 0;
+        for (int i = 0; i < anchorList.size(); i++) {
+            int partIndex = usedPartIndexes[anchorPartIndexes[i]];
+            anchorUsedPartIndexes[i] = partIndex >= 0 ? partIndex : (droppedAnchorCount++ % usedPartCount);
+        }
+        List<List<Object>> partEntitiesList = new ArrayList<>(usedPartCount);
+        for (int i = 0; i < usedPartCount; i++) {
+            partEntitiesList.add(new ArrayList<>(entityList.size() / usedPartCount + 1));
+        }
+        // Keep the original entity order in every part
+        for (int i = 0; i < entityList.size(); i++) {
+            partEntitiesList.get(usedPartIndexes[entityPartIndexes[i]]).add(entityList.get(i));
+        }
+        // An anchor with a shadow variable (such as an inverse relation) is an instance of an entity class,
+        // so it's cloned too: only clone it into its own part
+        Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>(entityList.size()));
+        entitySet.addAll(entityList);
+        for (int i = 0; i < anchorList.size(); i++) {
+            Object anchor = anchorList.get(i);
+            if (!entitySet.contains(anchor) && solutionDescriptor.hasEntityDescriptor(anchor.getClass())) {
+                partEntitiesList.get(anchorUsedPartIndexes[i]).add(anchor);
+            }
+        }
+        List<Map<Object, Object>> partOriginalToCloneMapList = new ArrayList<>(usedPartCount);
+        List<Solution_> partList;
+        if (threadFactory == null || usedPartCount <= 1) {
+            partList = SolutionPartitionerUtils.splitWorkingSolution(scoreDirector, partEntitiesList, null,
+                    partOriginalToCloneMapList);
+        } else {
+            int threadCount = runnablePartThreadLimit == null ? usedPartCount
+                    : Math.min(usedPartCount, runnablePartThreadLimit);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+            try {
+                partList = SolutionPartitionerUtils.splitWorkingSolution(scoreDirector, partEntitiesList, executor,
+                        partOriginalToCloneMapList);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        if (!anchorList.isEmpty()) {
+            for (int i = 0; i < usedPartCount; i++) {
+                Solution_ part = partList.get(i);
+                // Compare the anchors of the part, which are either shared or cloned, by identity
+                Map<Object, Object> originalToCloneMap = partOriginalToCloneMapList.get(i);
+                Set<Object> partAnchorSet = Collections.newSetFromMap(new IdentityHashMap<>());
+                Set<Object> otherPartAnchorSet = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (int j = 0; j < anchorList.size(); j++) {
+                    Object anchor = anchorList.get(j);
+                    Object partAnchor = originalToCloneMap.getOrDefault(anchor, anchor);
+                    if (anchorUsedPartIndexes[j] == i) {
+                        partAnchorSet.add(partAnchor);
+                    } else {
+                        otherPartAnchorSet.add(partAnchor);
+                    }
+                }
+                filterAnchors(solutionDescriptor, part, otherPartAnchorSet);
+                if (!partAnchorSet.containsAll(findAnchors(solutionDescriptor, part))) {
+                    throw new IllegalStateException("The " + getClass().getSimpleName()
+                            + " can not restrict the anchors of a chained planning variable to their own part.\n"
+                            + "Maybe annotate the property that provides those anchors with a @"
+                            + ProblemFactCollectionProperty.class.getSimpleName() + " annotation.");
+                }
+            }
+        }
+        return partList;
+    }
+
+    protected int resolvePartCount(Integer runnablePartThreadLimit, int entityCount) {
+        int resolvedPartCount;
+        if (partCount != null) {
+            if (partCount < 1) {
+                throw new IllegalArgumentException("The partCount (" + partCount
+                        + ") of the " + getClass().getSimpleName() + " must be at least 1.");
+            }
+            resolvedPartCount = partCount;
+        } else if (runnablePartThreadLimit != null) {
+            resolvedPartCount = runnablePartThreadLimit;
+        } else {
+            resolvedPartCount = Runtime.getRuntime().availableProcessors();
+        }
+        return Math.max(1, Math.min(resolvedPartCount, entityCount));
+    }
+
+    /**
+     * Groups the entities that should end up in the same part.
+     * An entity that isn't in any group ends up in a group on its own.
+     * Groups that are connected by a chain are merged afterwards.
+     * @param solutionDescriptor never null
+     * @param workingSolution never null
+     * @param entityList never null, all the entities of the workingSolution
+     * @param partCount at least 1, at most the size of entityList (unless that's 0)
+     * @return never null, every entity in at most 1 group
+     */
+    protected abstract List<List<Object>> groupEntities(SolutionDescriptor<Solution_> solutionDescriptor,
+            Solution_ workingSolution, List<Object> entityList, int partCount);
+
+    /**
+     * @return never null, the values of every chained planning variable that aren't an entity of that variable,
+     * in value range order
+     */
+    private List<Object> findAnchors(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ workingSolution) {
+        Set<Object> anchorSet = null;
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor
+                    : entityDescriptor.getGenuineVariableDescriptors()) {
+                if (!variableDescriptor.isChained()) {
+                    continue;
+                }
+                ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
+                if (!valueRangeDescriptor.isEntityIndependent()) {
+                    throw new IllegalStateException("The " + getClass().getSimpleName()
+                            + " does not support the chained variableDescriptor (" + variableDescriptor
+                            + ") with an entity dependent valueRangeDescriptor (" + valueRangeDescriptor + ").");
+                }
+                ValueRange<?> valueRange = ((EntityIndependentValueRangeDescriptor<Solution_>) valueRangeDescriptor)
+                        .extractValueRange(workingSolution);
+                if (anchorSet == null) {
+                    anchorSet = new LinkedHashSet<>();
+                }
+                for (Iterator<?> it = ((CountableValueRange<?>) valueRange).createOriginalIterator(); it.hasNext(); ) {
+                    Object value = it.next();
+                    if (!entityDescriptor.matchesEntity(value)) {
+                        anchorSet.add(value);
+                    }
+                }
+            }
+        }
+        return anchorSet == null ? new ArrayList<>(0) : new ArrayList<>(anchorSet);
+    }
+
+    /**
+     * Merges the groups connected by a chained planning variable, deals the groups with an anchor round-robin
+     * over the parts and assigns the other groups, biggest first,
+     * to the part (with an anchor) with the smallest total problem scale so far.
+     * @param entityPartIndexes never null, filled with the part index of each entity of the entityList
+     * @param anchorPartIndexes never null, filled with the part index of each anchor of the anchorList
+     */
+    private void balanceEntityGroups(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ workingSolution,
+            List<Object> entityList, List<Object> anchorList, List<List<Object>> entityGroupList, int partCount,
+            int[] entityPartIndexes, int[] anchorPartIndexes) {
+        int entityCount = entityList.size();
+        // The anchors that are also an entity (such as a shadow entity) use the index of that entity
+        Map<Object, Integer> nodeIndexMap = new IdentityHashMap<>(entityCount + anchorList.size());
+        for (int i = 0; i < entityCount; i++) {
+            nodeIndexMap.put(entityList.get(i), i);
+        }
+        int nodeCount = entityCount;
+        int[] anchorNodeIndexes = new int[anchorList.size()];
+        for (int i = 0; i < anchorList.size(); i++) {
+            Object anchor = anchorList.get(i);
+            Integer nodeIndex = nodeIndexMap.get(anchor);
+            if (nodeIndex == null) {
+                nodeIndex = nodeCount++;
+                nodeIndexMap.put(anchor, nodeIndex);
+            }
+            anchorNodeIndexes[i] = nodeIndex;
+        }
+        // Union-find over the entity and anchor indexes
+        int[] parents = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            parents[i] = i;
+        }
+        for (List<Object> entityGroup : entityGroupList) {
+            int firstIndex = -1;
+            for (Object entity : entityGroup) {
+                Integer index = nodeIndexMap.get(entity);
+                if (index == null || index >= entityCount) {
+                    throw new IllegalStateException("The " + getClass().getSimpleName()
+                            + " grouped an entity (" + entity + ") that isn't in the working solution.");
+                }
+                if (firstIndex < 0) {
+                    firstIndex = index;
+                } else {
+                    union(parents, firstIndex, index);
+                }
+            }
+        }
+        for (int i = 0; i < entityCount; i++) {
+            Object entity = entityList.get(i);
+            EntityDescriptor<Solution_> entityDescriptor
+                    = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor
+                    : entityDescriptor.getGenuineVariableDescriptors()) {
+                if (variableDescriptor.isChained()) {
+                    Integer previousIndex = nodeIndexMap.get(variableDescriptor.getValue(entity));
+                    if (previousIndex != null) {
+                        union(parents, i, previousIndex);
+                    }
+                }
+            }
+        }
+        long[] rootScales = new long[nodeCount];
+        int[] roots = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            roots[i] = find(parents, i);
+        }
+        for (int i = 0; i < entityCount; i++) {
+            Object entity = entityList.get(i);
+            rootScales[roots[i]] += Math.max(1L, solutionDescriptor.findEntityDescriptorOrFail(entity.getClass())
+                    .getProblemScale(workingSolution, entity));
+        }
+        int[] rootPartIndexes = new int[nodeCount];
+        Arrays.fill(rootPartIndexes, -1);
+        long[] partScales = new long[partCount];
+        // Round-robin by anchor, the groups of the anchors of an earlier group stay together
+        int anchoredPartCount = 0;
+        for (int i = 0; i < anchorList.size(); i++) {
+            int root = roots[anchorNodeIndexes[i]];
+            if (rootPartIndexes[root] < 0) {
+                int partIndex = anchoredPartCount % partCount;
+                rootPartIndexes[root] = partIndex;
+                partScales[partIndex] += rootScales[root];
+                anchoredPartCount++;
+            }
+            anchorPartIndexes[i] = rootPartIndexes[root];
+        }
+        // Without anchors, every part is available. With anchors, only the parts that got an anchor.
+        int availablePartCount = anchorList.isEmpty() ? partCount : Math.min(partCount, anchoredPartCount);
+        List<Integer> rootList = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            if (roots[i] == i && rootPartIndexes[i] < 0) {
+                rootList.add(i);
+            }
+        }
+        // Longest processing time first, ties in entity order
+        rootList.sort(Comparator.<Integer>comparingLong(root -> rootScales[root]).reversed()
+                .thenComparingInt(root -> root));
+        PriorityQueue<long[]> partQueue = new PriorityQueue<>(Math.max(1, availablePartCount), (a, b) -> a[0] != b[0]
+                ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        for (int partIndex = 0; partIndex < availablePartCount; partIndex++) {
+            partQueue.add(new long[]{partScales[partIndex], partIndex});
+        }
+        for (Integer root : rootList) {
+            long[] part = partQueue.poll();
+            rootPartIndexes[root] = (int) part[1];
+            part[0] += rootScales[root];
+            partQueue.add(part);
+        }
+        for (int i = 0; i < entityCount; i++) {
+            entityPartIndexes[i] = rootPartIndexes[roots[i]];
+        }
+    }
+
+    /**
+     * Replaces every problem fact collection of the part that holds an anchor of another part by a copy
+     * that only holds the anchors of that part (and the other problem facts).
+     */
+    private void filterAnchors(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ part,
+            Set<Object> otherPartAnchorSet) {
+        for (MemberAccessor memberAccessor : solutionDescriptor.getProblemFactCollectionMemberAccessorMap().values()) {
+            Collection<?> problemFactCollection = (Collection<?>) memberAccessor.executeGetter(part);
+            if (problemFactCollection == null
+                    || problemFactCollection.stream().noneMatch(otherPartAnchorSet::contains)) {
+                continue;
+            }
+            if (!memberAccessor.supportSetter()) {
+                throw new IllegalStateException("The " + getClass().getSimpleName()
+                        + " can not filter the anchors of the problem fact collection property ("
+                        + memberAccessor.getName() + ") of the solution class ("
+                        + solutionDescriptor.getSolutionClass() + ") per part, because it has no setter.");
+            }
+            Collection<Object> partProblemFactCollection = Set.class.isAssignableFrom(memberAccessor.getType())
+                    ? new LinkedHashSet<>(problemFactCollection.size())
+                    : new ArrayList<>(problemFactCollection.size());
+            for (Object problemFact : problemFactCollection) {
+                if (!otherPartAnchorSet.contains(problemFact)) {
+                    partProblemFactCollection.add(problemFact);
+                }
+            }
+            memberAccessor.executeSetter(part, partProblemFactCollection);
+        }
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            // The lowest index becomes the root, so the groups are deterministic
+            if (rootA < rootB) {
+                parents[rootB] = rootA;
+            } else {
+                parents[rootA] = rootB;
+            }
+        }
+    }
+
+    private static int find(int[] parents, int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        // Path compression
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + partCount + ")";
+    }
+
+}
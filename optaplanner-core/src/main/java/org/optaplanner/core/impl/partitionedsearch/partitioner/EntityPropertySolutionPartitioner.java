@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.impl.domain.common.ReflectionHelper;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Puts all planning entities with an equal value for the {@link #entityPropertyName} in the same part,
+ * for example all the lectures of the same department.
+ * Those groups are balanced over the parts by their problem scale.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class EntityPropertySolutionPartitioner<Solution_> extends AbstractSolutionPartitioner<Solution_> {
+
+    /**
+     * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
+     * The name of a property (with a public getter) on every planning entity class.
+     */
+    protected String entityPropertyName = null;
+
+    public String getEntityPropertyName() {
+        return entityPropertyName;
+    }
+
+    public void setEntityPropertyName(String entityPropertyName) {
+        this.entityPropertyName = entityPropertyName;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    protected List<List<Object>> groupEntities(SolutionDescriptor<Solution_> solutionDescriptor,
+            Solution_ workingSolution, List<Object> entityList, int partCount) {
+        if (entityPropertyName == null) {
+            throw new IllegalStateException("The " + getClass().getSimpleName()
+                    + " requires an entityPropertyName (" + entityPropertyName + ").\n"
+                    + "Maybe configure the entityPropertyName in the solutionPartitionerCustomProperties.");
+        }
+        Map<Class<?>, Method> getterMethodMap = new HashMap<>();
+        // A LinkedHashMap to keep the groups in a reproducible order
+        Map<Object, List<Object>> keyToGroupMap = new LinkedHashMap<>();
+        for (Object entity : entityList) {
+            Method getterMethod = getterMethodMap.computeIfAbsent(entity.getClass(), entityClass -> {
+                Method method = ReflectionHelper.getGetterMethod(entityClass, entityPropertyName);
+                if (method == null) {
+                    throw new IllegalArgumentException("The entityClass (" + entityClass
+                            + ") has no public getter for the entityPropertyName (" + entityPropertyName
+                            + ") of the " + getClass().getSimpleName() + ".");
+                }
+                return method;
+            });
+            Object key;
+            try {
+                key = getterMethod.invoke(entity);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("The getterMethod (" + getterMethod
+                        + ") on the entity (" + entity + ") cannot be called.", e);
+            }
+            keyToGroupMap.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+        }
+        return new ArrayList<>(keyToGroupMap.values());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entityPropertyName + ")";
+    }
+
+}
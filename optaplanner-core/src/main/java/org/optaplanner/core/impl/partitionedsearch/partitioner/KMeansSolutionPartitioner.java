@@ -0,0 +1,256 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+
+import static org.apache.commons.lang3.ObjectUtils.*;
+
+/**
+ * Clusters the planning entities geographically with k-means on the coordinates of a
+ * {@link NearbyCoordinateExtractor}, so nearby entities end up in the same part.
+ * The clusters are balanced by capacity: no cluster takes (much) more than its share of the total problem scale.
+ * The initial centroids are chosen deterministically (farthest point first), so the partitioning is reproducible.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class KMeansSolutionPartitioner<Solution_> extends AbstractSolutionPartitioner<Solution_> {
+
+    public static final int DEFAULT_ITERATION_LIMIT = 20;
+    /**
+     * A cluster can take up to 10% more than its share of the total problem scale,
+     * so entities on the border of 2 clusters don't need to be split unnaturally.
+     */
+    protected static final double CAPACITY_SLACK = 1.1;
+
+    /**
+     * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
+     * It must accept every planning entity.
+     */
+    protected Class<? extends NearbyCoordinateExtractor> nearbyCoordinateExtractorClass = null;
+    /**
+     * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
+     */
+    protected Integer iterationLimit = null;
+
+    public Class<? extends NearbyCoordinateExtractor> getNearbyCoordinateExtractorClass() {
+        return nearbyCoordinateExtractorClass;
+    }
+
+    public void setNearbyCoordinateExtractorClass(Class<? extends NearbyCoordinateExtractor> nearbyCoordinateExtractorClass) {
+        this.nearbyCoordinateExtractorClass = nearbyCoordinateExtractorClass;
+    }
+
+    public Integer getIterationLimit() {
+        return iterationLimit;
+    }
+
+    public void setIterationLimit(Integer iterationLimit) {
+        this.iterationLimit = iterationLimit;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    protected List<List<Object>> groupEntities(SolutionDescriptor<Solution_> solutionDescriptor,
+            Solution_ workingSolution, List<Object> entityList, int partCount) {
+        if (nearbyCoordinateExtractorClass == null) {
+            throw new IllegalStateException("The " + getClass().getSimpleName()
+                    + " requires a nearbyCoordinateExtractorClass (" + nearbyCoordinateExtractorClass + ").\n"
+                    + "Maybe configure the nearbyCoordinateExtractorClass"
+                    + " in the solutionPartitionerCustomProperties.");
+        }
+        int resolvedIterationLimit = defaultIfNull(iterationLimit, DEFAULT_ITERATION_LIMIT);
+        if (resolvedIterationLimit < 0) {
+            throw new IllegalArgumentException("The iterationLimit (" + iterationLimit
+                    + ") of the " + getClass().getSimpleName() + " cannot be negative.");
+        }
+        int entityCount = entityList.size();
+        if (entityCount == 0) {
+            return new ArrayList<>(0);
+        }
+        NearbyCoordinateExtractor<Object> coordinateExtractor = ConfigUtils.newInstance(this,
+                "nearbyCoordinateExtractorClass", nearbyCoordinateExtractorClass);
+        double[][] coordinates = new double[entityCount][];
+        for (int i = 0; i < entityCount; i++) {
+            coordinates[i] = coordinateExtractor.getCoordinates(entityList.get(i));
+        }
+        int dimensionCount = coordinates[0].length;
+        for (int i = 0; i < entityCount; i++) {
+            if (coordinates[i].length != dimensionCount) {
+                throw new IllegalArgumentException("The entity (" + entityList.get(i)
+                        + ") has a coordinate dimension count (" + coordinates[i].length
+                        + ") that differs from the dimension count (" + dimensionCount
+                        + ") of the entity (" + entityList.get(0) + ").");
+            }
+        }
+        double[] entityScales = new double[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            Object entity = entityList.get(i);
+            entityScales[i] = Math.max(1L, solutionDescriptor.findEntityDescriptorOrFail(entity.getClass())
+                    .getProblemScale(workingSolution, entity));
+        }
+        double capacity = Arrays.stream(entityScales).sum() * CAPACITY_SLACK / partCount;
+        double[][] centroids = initializeCentroids(coordinates, partCount);
+        int[] clusterIndexes = new int[entityCount];
+        Arrays.fill(clusterIndexes, -1);
+        for (int iteration = 0; iteration < resolvedIterationLimit; iteration++) {
+            int[] newClusterIndexes = assignToClusters(coordinates, entityScales, centroids, capacity);
+            if (Arrays.equals(clusterIndexes, newClusterIndexes)) {
+                break;
+            }
+            clusterIndexes = newClusterIndexes;
+            updateCentroids(coordinates, clusterIndexes, centroids);
+        }
+        if (clusterIndexes[0] < 0) {
+            clusterIndexes = assignToClusters(coordinates, entityScales, centroids, capacity);
+        }
+        List<List<Object>> clusterList = new ArrayList<>(partCount);
+        for (int i = 0; i < partCount; i++) {
+            clusterList.add(new ArrayList<>(entityCount / partCount + 1));
+        }
+        for (int i = 0; i < entityCount; i++) {
+            clusterList.get(clusterIndexes[i]).add(entityList.get(i));
+        }
+        return clusterList;
+    }
+
+    private double[][] initializeCentroids(double[][] coordinates, int partCount) {
+        int entityCount = coordinates.length;
+        double[][] centroids = new double[partCount][];
+        centroids[0] = coordinates[0].clone();
+        double[] minimumDistances = new double[entityCount];
+        Arrays.fill(minimumDistances, Double.POSITIVE_INFINITY);
+        for (int c = 1; c < partCount; c++) {
+            double[] previousCentroid = centroids[c - 1];
+            for (int i = 0; i < entityCount; i++) {
+                minimumDistances[i] = Math.min(minimumDistances[i], squaredDistance(coordinates[i], previousCentroid));
+            }
+            int farthestIndex = 0;
+            for (int i = 1; i < entityCount; i++) {
+                if (minimumDistances[i] > minimumDistances[farthestIndex]) {
+                    farthestIndex = i;
+                }
+            }
+            centroids[c] = coordinates[farthestIndex].clone();
+        }
+        return centroids;
+    }
+
+    private int[] assignToClusters(double[][] coordinates, double[] entityScales, double[][] centroids,
+            double capacity) {
+        int entityCount = coordinates.length;
+        int clusterCount = centroids.length;
+        double[][] distances = new double[entityCount][];
+        for (int i = 0; i < entityCount; i++) {
+            double[] entityDistances = new double[clusterCount];
+            for (int c = 0; c < clusterCount; c++) {
+                entityDistances[c] = squaredDistance(coordinates[i], centroids[c]);
+            }
+            distances[i] = entityDistances;
+        }
+        // The entities which lose the most by not getting their nearest cluster choose first
+        double[] regrets = new double[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            double nearest = Double.POSITIVE_INFINITY;
+            double secondNearest = Double.POSITIVE_INFINITY;
+            for (double distance : distances[i]) {
+                if (distance < nearest) {
+                    secondNearest = nearest;
+                    nearest = distance;
+                } else if (distance < secondNearest) {
+                    secondNearest = distance;
+                }
+            }
+            regrets[i] = clusterCount == 1 ? 0.0 : secondNearest - nearest;
+        }
+        Integer[] entityOrder = new Integer[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entityOrder[i] = i;
+        }
+        Arrays.sort(entityOrder, Comparator.<Integer>comparingDouble(i -> regrets[i]).reversed()
+                .thenComparingInt(i -> i));
+        double[] loads = new double[clusterCount];
+        int[] clusterIndexes = new int[entityCount];
+        for (int i : entityOrder) {
+            double[] entityDistances = distances[i];
+            int bestIndex = -1;
+            int leastLoadedIndex = 0;
+            for (int c = 0; c < clusterCount; c++) {
+                if (loads[c] + entityScales[i] <= capacity
+                        && (bestIndex < 0 || entityDistances[c] < entityDistances[bestIndex])) {
+                    bestIndex = c;
+                }
+                if (loads[c] < loads[leastLoadedIndex]) {
+                    leastLoadedIndex = c;
+                }
+            }
+            if (bestIndex < 0) {
+                bestIndex = leastLoadedIndex;
+            }
+            clusterIndexes[i] = bestIndex;
+            loads[bestIndex] += entityScales[i];
+        }
+        return clusterIndexes;
+    }
+
+    private void updateCentroids(double[][] coordinates, int[] clusterIndexes, double[][] centroids) {
+        int dimensionCount = coordinates[0].length;
+        double[][] sums = new double[centroids.length][dimensionCount];
+        int[] sizes = new int[centroids.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            int c = clusterIndexes[i];
+            for (int d = 0; d < dimensionCount; d++) {
+                sums[c][d] += coordinates[i][d];
+            }
+            sizes[c]++;
+        }
+        for (int c = 0; c < centroids.length; c++) {
+            // An empty cluster keeps its previous centroid
+            if (sizes[c] > 0) {
+                for (int d = 0; d < dimensionCount; d++) {
+                    centroids[c][d] = sums[c][d] / sizes[c];
+                }
+            }
+        }
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int d = 0; d < a.length; d++) {
+            double difference = a[d] - b[d];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + nearbyCoordinateExtractorClass + ")";
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+public class SolutionPartitionerUtils {
+
+    /**
+     * Partition clones the working solution into 1 part per entity collection of the partEntitiesList,
+     * without cloning the entire working solution for every part.
+     * Each part shares the problem facts of the working solution and only clones the entities of its own part,
+     * see {@link FieldAccessingSolutionCloner#cloneSolutionParts(Object, List)}.
+     * <p>
+     * Useful to implement {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer)}
+     * if the problem facts don't need to be split up too.
+     * @param scoreDirector never null, the one passed to
+     * {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer)}
+     * @param partEntitiesList never null, every entity of the working solution must be in exactly 1 part
+     * and an entity of a part can not reference an entity of another part
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, with the same size as partEntitiesList
+     */
+    public static <Solution_> List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            List<? extends Collection<?>> partEntitiesList) {
+        return splitWorkingSolution(scoreDirector, partEntitiesList, null);
+    }
+
+    /**
+     * As defined by {@link #splitWorkingSolution(ScoreDirector, List)},
+     * but optionally partition clones the parts concurrently, which is faster for big datasets.
+     * Use an executor with threads of the {@link SolutionPartitioner}'s part thread factory,
+     * not the common fork join pool.
+     * @param scoreDirector never null, the one passed to
+     * {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer)}
+     * @param partEntitiesList never null, every entity of the working solution must be in exactly 1 part
+     * and an entity of a part can not reference an entity of another part
+     * @param executor sometimes null, if not null the parts are partition cloned concurrently on it
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, with the same size as partEntitiesList
+     */
+    public static <Solution_> List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            List<? extends Collection<?>> partEntitiesList, ExecutorService executor) {
+        return splitWorkingSolution(scoreDirector, partEntitiesList, executor, null);
+    }
+
+    /**
+     * As defined by {@link #splitWorkingSolution(ScoreDirector, List, ExecutorService)},
+     * but also returns which clone every part made of an original object,
+     * see {@link FieldAccessingSolutionCloner#cloneSolutionParts(Object, List, ExecutorService, List)}.
+     * @param scoreDirector never null, the one passed to
+     * {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer)}
+     * @param partEntitiesList never null, every entity of the working solution must be in exactly 1 part
+     * and an entity of a part can not reference an entity of another part
+     * @param executor sometimes null, if not null the parts are partition cloned concurrently on it
+     * @param partOriginalToCloneMapList sometimes null, if not null an empty list that is filled
+     * with the original to clone map of every part
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, with the same size as partEntitiesList
+     */
+    public static <Solution_> List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            List<? extends Collection<?>> partEntitiesList, ExecutorService executor,
+            List<Map<Object, Object>> partOriginalToCloneMapList) {
+        SolutionDescriptor<Solution_> solutionDescriptor
+                = ((InnerScoreDirector<Solution_>) scoreDirector).getSolutionDescriptor();
+        SolutionCloner<Solution_> solutionCloner = solutionDescriptor.getSolutionCloner();
+        if (!(solutionCloner instanceof FieldAccessingSolutionCloner)) {
+            throw new IllegalArgumentException("The solutionCloner (" + solutionCloner
+                    + ") of the solutionClass (" + solutionDescriptor.getSolutionClass()
+                    + ") is a custom " + SolutionCloner.class.getSimpleName()
+                    + ", so it doesn't support partition cloning.\n"
+                    + "Maybe partition clone the working solution in your "
+                    + SolutionPartitioner.class.getSimpleName() + " instead.");
+        }
+        return ((FieldAccessingSolutionCloner<Solution_>) solutionCloner)
+                .cloneSolutionParts(scoreDirector.getWorkingSolution(), partEntitiesList, executor,
+                        partOriginalToCloneMapList);
+    }
+
+    private SolutionPartitionerUtils() {
+    }
+
+}
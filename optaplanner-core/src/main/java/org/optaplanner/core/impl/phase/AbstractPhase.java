@@ -30,6 +30,9 @@ import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.metrics.MetricTimer;
+import org.optaplanner.core.impl.solver.metrics.NoOpSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -58,6 +61,9 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
 
+    protected MetricTimer stepTimer = NoOpSolverMetricsRegistry.NO_OP_TIMER;
+    protected long stepStartNanos;
+
     public AbstractPhase(int phaseIndex, String logIndentation,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination termination) {
         this.phaseIndex = phaseIndex;
@@ -129,6 +135,8 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
         phaseScope.startingNow();
         phaseScope.reset();
+        stepTimer = phaseScope.getSolverScope().getMetricsRegistry()
+                .timer(SolverMetric.STEP_TIME, SolverMetric.PHASE_TAG, getPhaseTypeString());
         bestSolutionRecaller.phaseStarted(phaseScope);
         solverPhaseLifecycleSupport.firePhaseStarted(phaseScope);
         termination.phaseStarted(phaseScope);
@@ -137,6 +145,7 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
 
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        stepStartNanos = stepTimer.start();
         bestSolutionRecaller.stepStarted(stepScope);
         solverPhaseLifecycleSupport.fireStepStarted(stepScope);
         termination.stepStarted(stepScope);
@@ -176,6 +185,7 @@ public abstract class AbstractPhase<Solution_> implements Phase<Solution_> {
         solverPhaseLifecycleSupport.fireStepEnded(stepScope);
         termination.stepEnded(stepScope);
         phaseLifecycleSupport.fireStepEnded(stepScope);
+        stepTimer.stop(stepStartNanos);
     }
 
     @Override
@@ -16,6 +16,13 @@
 
 package org.optaplanner.core.impl.score;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
@@ -133,6 +140,68 @@ public class ScoreUtils {
         return timeGradient;
     }
 
+    /**
+     * Selects the lowest elements according to the comparator, for example the worst constraint matches,
+     * without sorting the entire collection.
+     * The result is the same as {@code collection.stream().sorted(comparator).limit(limit)},
+     * including the order of equal elements,
+     * but it only takes {@code O(n log(limit))} time and {@code O(limit)} memory.
+     * @param collection never null
+     * @param comparator never null
+     * @param limit {@code >= 0}
+     * @param <T> the element type
+     * @return never null, sorted by the comparator, {@code size <= limit}
+     */
+    public static <T> List<T> extractTopList(Collection<T> collection, Comparator<? super T> comparator,
+            int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit (" + limit + ") cannot be negative.");
+        }
+        if (collection.size() <= limit) {
+            List<T> topList = new ArrayList<>(collection);
+            topList.sort(comparator);
+            return topList;
+        }
+        if (limit == 0) {
+            return new ArrayList<>(0);
+        }
+        // The head of this heap is the highest selected element, so it's the first one to be replaced.
+        // The element index breaks ties, so the earliest element of equal elements is selected.
+        PriorityQueue<IndexedElement<T>> heap = new PriorityQueue<>(limit, (a, b) -> {
+            int comparison = comparator.compare(b.element, a.element);
+            return comparison != 0 ? comparison : Integer.compare(b.index, a.index);
+        });
+        int index = 0;
+        for (T element : collection) {
+            if (heap.size() < limit) {
+                heap.add(new IndexedElement<>(element, index));
+            } else if (comparator.compare(element, heap.peek().element) < 0) {
+                heap.poll();
+                heap.add(new IndexedElement<>(element, index));
+            }
+            index++;
+        }
+        List<T> topList = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            topList.add(heap.poll().element);
+        }
+        // Polled from highest to lowest
+        Collections.reverse(topList);
+        return topList;
+    }
+
+    private static final class IndexedElement<T> {
+
+        private final T element;
+        private final int index;
+
+        private IndexedElement(T element, int index) {
+            this.element = element;
+            this.index = index;
+        }
+
+    }
+
     private ScoreUtils() {
     }
 
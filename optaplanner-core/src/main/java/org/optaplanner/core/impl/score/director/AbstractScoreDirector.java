@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.director;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,10 +26,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchScoreComparator;
@@ -40,15 +45,26 @@ import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.ClassAndPlanningIdComparator;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
+import org.optaplanner.core.impl.domain.solution.cloner.DeltaSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.solution.mutation.MutationTracker;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeCache;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.ScoreUtils;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.solver.metrics.MetricCounter;
+import org.optaplanner.core.impl.solver.metrics.MetricTimer;
+import org.optaplanner.core.impl.solver.metrics.NoOpSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,12 +91,31 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
 
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
+    protected long workingProblemFactListRevision = 0L;
+    protected long workingStructureRevision = 0L;
     protected Integer workingInitScore = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
+    protected MutationTracker<Solution_> mutationTracker = null;
+    protected DeltaSolutionCloner<Solution_> deltaSolutionCloner = null;
+    protected boolean variableListenerChainParallelismEnabled = false;
 
     protected long calculationCount = 0L;
 
+    protected SolverMetricsRegistry metricsRegistry = NoOpSolverMetricsRegistry.INSTANCE;
+    protected MetricCounter scoreCalculationCounter = NoOpSolverMetricsRegistry.NO_OP_COUNTER;
+    protected MetricTimer variableListenerTimer = NoOpSolverMetricsRegistry.NO_OP_TIMER;
+    protected MetricTimer solutionCloneTimer = NoOpSolverMetricsRegistry.NO_OP_TIMER;
+
+    protected final ValueRangeCache<Solution_> valueRangeCache = new ValueRangeCache<>();
+
+    protected final Queue<AbstractScoreDirector<Solution_, Factory_>> releasedChildThreadScoreDirectorQueue
+            = new ConcurrentLinkedQueue<>();
+    /**
+     * Only used on a released child thread score director: the parent's workingStructureRevision at its release.
+     */
+    protected long releasedParentStructureRevision = -1L;
+
     protected AbstractScoreDirector(Factory_ scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         this.scoreDirectorFactory = scoreDirectorFactory;
@@ -130,6 +165,16 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         return workingEntityListRevision;
     }
 
+    @Override
+    public long getWorkingProblemFactListRevision() {
+        return workingProblemFactListRevision;
+    }
+
+    @Override
+    public long getWorkingStructureRevision() {
+        return workingStructureRevision;
+    }
+
     public boolean isAllChangesWillBeUndoneBeforeStepEnds() {
         return allChangesWillBeUndoneBeforeStepEnds;
     }
@@ -139,6 +184,22 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         this.allChangesWillBeUndoneBeforeStepEnds = allChangesWillBeUndoneBeforeStepEnds;
     }
 
+    @Override
+    public void setMutationTracker(MutationTracker<Solution_> mutationTracker) {
+        this.mutationTracker = mutationTracker;
+    }
+
+    @Override
+    public void setDeltaSolutionCloner(DeltaSolutionCloner<Solution_> deltaSolutionCloner) {
+        this.deltaSolutionCloner = deltaSolutionCloner;
+    }
+
+    @Override
+    public void setVariableListenerChainThreadFactory(ThreadFactory variableListenerChainThreadFactory) {
+        variableListenerChainParallelismEnabled = variableListenerChainThreadFactory != null;
+        variableListenerSupport.setChainThreadFactory(variableListenerChainThreadFactory);
+    }
+
     @Override
     public long getCalculationCount() {
         return calculationCount;
@@ -149,11 +210,24 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         this.calculationCount = 0L;
     }
 
+    @Override
+    public void setMetricsRegistry(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        scoreCalculationCounter = metricsRegistry.counter(SolverMetric.SCORE_CALCULATION_COUNT);
+        variableListenerTimer = metricsRegistry.timer(SolverMetric.VARIABLE_LISTENER_TIME);
+        solutionCloneTimer = metricsRegistry.timer(SolverMetric.SOLUTION_CLONE_TIME);
+    }
+
     @Override
     public SupplyManager getSupplyManager() {
         return variableListenerSupport;
     }
 
+    @Override
+    public ValueRange<?> extractValueRange(ValueRangeDescriptor<Solution_> valueRangeDescriptor, Object entity) {
+        return valueRangeCache.extractValueRange(valueRangeDescriptor, workingSolution, entity);
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -167,7 +241,25 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             lookUpManager.resetWorkingObjects(solutionDescriptor.getAllFacts(workingSolution));
         }
         variableListenerSupport.resetWorkingSolution();
+        valueRangeCache.clear();
+        if (mutationTracker != null) {
+            mutationTracker.resetMutations();
+        }
+        if (deltaSolutionCloner != null) {
+            deltaSolutionCloner.requireFullClone();
+        }
         setWorkingEntityListDirty();
+        workingStructureRevision++;
+    }
+
+    @Override
+    public void setWorkingSolutionFromClone(Solution_ workingSolution, long cloneStructureRevision) {
+        long oldWorkingStructureRevision = workingStructureRevision;
+        setWorkingSolution(workingSolution);
+        if (cloneStructureRevision == oldWorkingStructureRevision) {
+            // Same entities and problem facts, so the released child thread score directors can still catch up
+            workingStructureRevision = oldWorkingStructureRevision;
+        }
     }
 
     @Override
@@ -192,6 +284,19 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         undoMove.doMove(this);
     }
 
+    @Override
+    public Move<Solution_> doStep(Move<Solution_> step) {
+        if (!variableListenerChainParallelismEnabled) {
+            return step.doMove(this);
+        }
+        variableListenerSupport.setChainParallelismEnabled(true);
+        try {
+            return step.doMove(this);
+        } finally {
+            variableListenerSupport.setChainParallelismEnabled(false);
+        }
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -210,7 +315,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
     public Solution_ cloneSolution(Solution_ originalSolution) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score originalScore = solutionDescriptor.getScore(originalSolution);
+        long cloneStartNanos = solutionCloneTimer.start();
         Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        solutionCloneTimer.stop(cloneStartNanos);
         Score cloneScore = solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -255,12 +362,15 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
 
     @Override
     public void triggerVariableListeners() {
+        long triggerStartNanos = variableListenerTimer.start();
         variableListenerSupport.triggerVariableListenersInNotificationQueues();
+        variableListenerTimer.stop(triggerStartNanos);
     }
 
     protected void setCalculatedScore(Score score) {
         getSolutionDescriptor().setScore(workingSolution, score);
         calculationCount++;
+        scoreCalculationCounter.increment();
     }
 
     @Override
@@ -281,8 +391,8 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
                             .append("        ").append(constraintMatchTotal.getScore().toShortString())
                             .append(": constraint (").append(constraintMatchTotal.getConstraintName())
                             .append(") has ").append(constraintMatchSet.size()).append(" matches:\n");
-                    constraintMatchSet.stream()
-                            .sorted(constraintMatchScoreComparator).limit(CONSTRAINT_MATCH_LIMIT)
+                    ScoreUtils.extractTopList(constraintMatchSet, constraintMatchScoreComparator,
+                            CONSTRAINT_MATCH_LIMIT)
                             .forEach(constraintMatch -> scoreExplanation
                                     .append("            ").append(constraintMatch.getScore().toShortString())
                                     .append(": justifications (").append(constraintMatch.getJustificationList())
@@ -295,16 +405,16 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         Collection<Indictment> indictments = getIndictmentMap().values();
         scoreExplanation.append("    Indictments (top ").append(INDICTMENT_LIMIT)
                 .append(" of ").append(indictments.size()).append("):\n");
-        indictments.stream()
-                .sorted(new IndictmentScoreComparator()).limit(INDICTMENT_LIMIT)
+        // Partial selection instead of sorting, because there can be millions of indictments and constraint matches
+        ScoreUtils.extractTopList(indictments, new IndictmentScoreComparator(), INDICTMENT_LIMIT)
                 .forEach(indictment -> {
                     Set<ConstraintMatch> constraintMatchSet = indictment.getConstraintMatchSet();
                     scoreExplanation
                             .append("        ").append(indictment.getScore().toShortString())
                             .append(": justification (").append(indictment.getJustification())
                             .append(") has ").append(constraintMatchSet.size()).append(" matches:\n");
-                    constraintMatchSet.stream()
-                            .sorted(constraintMatchScoreComparator).limit(CONSTRAINT_MATCH_LIMIT)
+                    ScoreUtils.extractTopList(constraintMatchSet, constraintMatchScoreComparator,
+                            CONSTRAINT_MATCH_LIMIT)
                             .forEach(constraintMatch -> scoreExplanation
                                     .append("            ").append(constraintMatch.getScore().toShortString())
                                     .append(": constraint (").append(constraintMatch.getConstraintName())
@@ -337,25 +447,119 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             // ScoreCalculationCountTermination takes into account previous phases
             // but the calculationCount of partitions is maxed, not summed.
             childThreadScoreDirector.calculationCount = calculationCount;
+            childThreadScoreDirector.setMetricsRegistry(metricsRegistry);
             return childThreadScoreDirector;
         } else if (childThreadType == ChildThreadType.MOVE_THREAD) {
-            AbstractScoreDirector<Solution_, Factory_> childThreadScoreDirector = (AbstractScoreDirector<Solution_, Factory_>)
-                    scoreDirectorFactory.buildScoreDirector(true, false);
-            childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            AbstractScoreDirector<Solution_, Factory_> childThreadScoreDirector
+                    = pollReleasedChildThreadScoreDirector();
+            if (childThreadScoreDirector == null) {
+                childThreadScoreDirector = buildMoveThreadScoreDirector();
+            } else {
+                childThreadScoreDirector.catchUpWorkingSolution(workingSolution);
+            }
+            childThreadScoreDirector.setMetricsRegistry(metricsRegistry);
             return childThreadScoreDirector;
         } else {
             throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
         }
     }
 
+    /**
+     * @return never null, with a planning clone of the {@link #getWorkingSolution() working solution}
+     */
+    protected AbstractScoreDirector<Solution_, Factory_> buildMoveThreadScoreDirector() {
+        AbstractScoreDirector<Solution_, Factory_> childThreadScoreDirector = (AbstractScoreDirector<Solution_, Factory_>)
+                scoreDirectorFactory.buildScoreDirector(true, false);
+        childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+        return childThreadScoreDirector;
+    }
+
+    @Override
+    public void releaseChildThreadScoreDirector(InnerScoreDirector<Solution_> childThreadScoreDirector) {
+        AbstractScoreDirector<Solution_, Factory_> releasedChildThreadScoreDirector
+                = (AbstractScoreDirector<Solution_, Factory_>) childThreadScoreDirector;
+        if (workingSolution == null) {
+            // This instance is already closed
+            releasedChildThreadScoreDirector.close();
+            return;
+        }
+        releasedChildThreadScoreDirector.releasedParentStructureRevision = workingStructureRevision;
+        releasedChildThreadScoreDirectorQueue.add(releasedChildThreadScoreDirector);
+    }
+
+    private AbstractScoreDirector<Solution_, Factory_> pollReleasedChildThreadScoreDirector() {
+        AbstractScoreDirector<Solution_, Factory_> childThreadScoreDirector;
+        while ((childThreadScoreDirector = releasedChildThreadScoreDirectorQueue.poll()) != null) {
+            if (childThreadScoreDirector.releasedParentStructureRevision == workingStructureRevision) {
+                return childThreadScoreDirector;
+            }
+            childThreadScoreDirector.close();
+        }
+        return null;
+    }
+
+    /**
+     * Replays every genuine variable that differs from the parent's working solution on this instance,
+     * through the normal before/after notifications, so the score calculation (such as a Drools session)
+     * only processes the changes instead of every fact.
+     * <p>
+     * The parent's working solution must have the same entities and problem facts as this instance's.
+     * A chained variable is unassigned first and only reassigned after every other changed chained variable
+     * is unassigned too, so a chain never temporarily has 2 entities after the same anchor or entity.
+     * @param parentWorkingSolution never null, not changed during this call
+     */
+    protected void catchUpWorkingSolution(Solution_ parentWorkingSolution) {
+        releasedParentStructureRevision = -1L;
+        SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+        List<Object> chainedEntityList = new ArrayList<>();
+        List<GenuineVariableDescriptor<Solution_>> chainedVariableDescriptorList = new ArrayList<>();
+        List<Object> chainedValueList = new ArrayList<>();
+        for (Iterator<Object> it = solutionDescriptor.extractAllEntitiesIterator(parentWorkingSolution); it.hasNext();) {
+            Object parentEntity = it.next();
+            Object entity = lookUpWorkingObject(parentEntity);
+            EntityDescriptor<Solution_> entityDescriptor
+                    = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor
+                    : entityDescriptor.getGenuineVariableDescriptors()) {
+                Object parentValue = variableDescriptor.getValue(parentEntity);
+                Object value = parentValue == null ? null : lookUpWorkingObject(parentValue);
+                if (variableDescriptor.getValue(entity) != value) {
+                    if (variableDescriptor.isChained()) {
+                        changeVariableFacade(variableDescriptor, entity, null);
+                        chainedEntityList.add(entity);
+                        chainedVariableDescriptorList.add(variableDescriptor);
+                        chainedValueList.add(value);
+                    } else {
+                        changeVariableFacade(variableDescriptor, entity, value);
+                    }
+                }
+            }
+        }
+        triggerVariableListeners();
+        if (!chainedEntityList.isEmpty()) {
+            for (int i = 0; i < chainedEntityList.size(); i++) {
+                changeVariableFacade(chainedVariableDescriptorList.get(i), chainedEntityList.get(i),
+                        chainedValueList.get(i));
+            }
+            triggerVariableListeners();
+        }
+        resetCalculationCount();
+    }
+
     @Override
     public void close() {
+        AbstractScoreDirector<Solution_, Factory_> childThreadScoreDirector;
+        while ((childThreadScoreDirector = releasedChildThreadScoreDirectorQueue.poll()) != null) {
+            childThreadScoreDirector.close();
+        }
         workingSolution = null;
         workingInitScore = null;
         if (lookUpEnabled) {
             lookUpManager.clearWorkingObjects();
         }
         variableListenerSupport.clearWorkingSolution();
+        variableListenerSupport.shutdownChainExecutor();
+        valueRangeCache.clear();
     }
 
     // ************************************************************************
@@ -408,7 +612,14 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         variableListenerSupport.afterEntityAdded(entityDescriptor, entity);
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
+            if (mutationTracker != null) {
+                mutationTracker.afterEntityAdded(entityDescriptor, entity);
+            }
+            if (deltaSolutionCloner != null) {
+                deltaSolutionCloner.requireFullClone();
+            }
         }
+        workingStructureRevision++;
     }
 
     @Override
@@ -417,6 +628,14 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             workingInitScore++;
         }
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        if (!allChangesWillBeUndoneBeforeStepEnds) {
+            if (mutationTracker != null) {
+                mutationTracker.beforeVariableChanged(variableDescriptor, entity);
+            }
+            if (deltaSolutionCloner != null) {
+                deltaSolutionCloner.beforeVariableChanged(entity);
+            }
+        }
     }
 
     @Override
@@ -443,10 +662,18 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(entity);
         }
+        valueRangeCache.removeEntity(entity);
         variableListenerSupport.afterEntityRemoved(entityDescriptor, entity);
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
+            if (mutationTracker != null) {
+                mutationTracker.afterEntityRemoved(entityDescriptor, entity);
+            }
+            if (deltaSolutionCloner != null) {
+                deltaSolutionCloner.requireFullClone();
+            }
         }
+        workingStructureRevision++;
     }
 
     // ************************************************************************
@@ -463,7 +690,13 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
+        workingProblemFactListRevision++;
+        workingStructureRevision++;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        valueRangeCache.clear();
+        if (deltaSolutionCloner != null) {
+            deltaSolutionCloner.requireFullClone();
+        }
     }
 
     @Override
@@ -473,7 +706,13 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        workingProblemFactListRevision++;
+        workingStructureRevision++;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        valueRangeCache.clear();
+        if (deltaSolutionCloner != null) {
+            deltaSolutionCloner.requireFullClone();
+        }
     }
 
     @Override
@@ -486,7 +725,13 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
+        workingProblemFactListRevision++;
+        workingStructureRevision++;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        valueRangeCache.clear();
+        if (deltaSolutionCloner != null) {
+            deltaSolutionCloner.requireFullClone();
+        }
     }
 
     @Override
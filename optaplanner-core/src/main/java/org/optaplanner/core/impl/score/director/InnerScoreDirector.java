@@ -17,17 +17,24 @@
 package org.optaplanner.core.impl.score.director;
 
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.impl.domain.solution.cloner.DeltaSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.solution.mutation.MutationTracker;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -45,6 +52,30 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
      */
     long getWorkingEntityListRevision();
 
+    /**
+     * Changes every time a problem fact is added or removed and every time a problem property changes.
+     * @return used to detect if the problem facts might have a different set of instances or values now
+     */
+    long getWorkingProblemFactListRevision();
+
+    /**
+     * Changes every time the {@link PlanningSolution working solution} is set
+     * or an entity or problem fact is added, removed or changed, but not when a planning variable changes.
+     * @return used to detect if a {@link PlanningSolution} might have a different set of entities or problem facts
+     */
+    long getWorkingStructureRevision();
+
+    /**
+     * Like {@link #setWorkingSolution(Object)}, but for a planning clone of an earlier working solution.
+     * If that clone has the same entities and problem facts as the current working solution,
+     * the {@link #releaseChildThreadScoreDirector(InnerScoreDirector) released child thread score directors}
+     * can still catch up with it.
+     * @param workingSolution never null, a planning clone of an earlier working solution
+     * @param cloneStructureRevision the {@link #getWorkingStructureRevision()} when that clone was made,
+     * -1 if unknown
+     */
+    void setWorkingSolutionFromClone(Solution_ workingSolution, long cloneStructureRevision);
+
     /**
      * @param move never null
      * @param assertMoveScoreFromScratch true will hurt performance
@@ -59,6 +90,22 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score> moveProcessor);
 
+    /**
+     * Does a step, which (unlike the move of {@link #doAndProcessMove(Move, boolean)}) isn't undone.
+     * @param step never null
+     * @return never null, the undo move of the step
+     */
+    Move<Solution_> doStep(Move<Solution_> step);
+
+    /**
+     * A step that changes many chains (such as a big composite move)
+     * can then update the shadow variables of a {@link ChainLocalVariableListener} for those chains concurrently.
+     * The moves that are evaluated are never affected.
+     * @param variableListenerChainThreadFactory sometimes null, to update the chains sequentially
+     * in {@link #doStep(Move)}
+     */
+    void setVariableListenerChainThreadFactory(ThreadFactory variableListenerChainThreadFactory);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -117,11 +164,27 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
 
     void resetCalculationCount();
 
+    /**
+     * Also used by every {@link #createChildThreadScoreDirector(ChildThreadType) child thread score director}.
+     * @param metricsRegistry never null
+     */
+    void setMetricsRegistry(SolverMetricsRegistry metricsRegistry);
+
     /**
      * @return never null
      */
     SupplyManager getSupplyManager();
 
+    /**
+     * Like {@link ValueRangeDescriptor#extractValueRange(Object, Object)} on the {@link #getWorkingSolution()},
+     * but an entity dependent {@link ValueRange} is cached until a problem fact or property changes,
+     * so value selectors and {@link Move#isMoveDoable} don't rebuild it over and over again.
+     * @param valueRangeDescriptor never null
+     * @param entity never null
+     * @return never null
+     */
+    ValueRange<?> extractValueRange(ValueRangeDescriptor<Solution_> valueRangeDescriptor, Object entity);
+
     /**
      * Clones this {@link ScoreDirector} and its {@link PlanningSolution working solution}.
      * Use {@link #getWorkingSolution()} to retrieve the {@link PlanningSolution working solution} of that clone.
@@ -134,12 +197,43 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
 
     InnerScoreDirector<Solution_> createChildThreadScoreDirector(ChildThreadType childThreadType);
 
+    /**
+     * Hands back a {@link ChildThreadType#MOVE_THREAD} child thread score director when its move thread is done,
+     * so the next {@link #createChildThreadScoreDirector(ChildThreadType)} call (usually in the next phase)
+     * can catch it up by replaying the changed genuine variables,
+     * instead of cloning the {@link PlanningSolution working solution} and inserting every fact again.
+     * If an entity or problem fact was added, removed or changed in the meantime, it is closed instead.
+     * <p>
+     * This method is thread-safe.
+     * @param childThreadScoreDirector never null, created by this instance, not used by the caller afterwards
+     */
+    void releaseChildThreadScoreDirector(InnerScoreDirector<Solution_> childThreadScoreDirector);
+
     /**
      * Do not waste performance by propagating changes to step (or higher) mechanisms.
      * @param allChangesWillBeUndoneBeforeStepEnds true if all changes will be undone
      */
     void setAllChangesWillBeUndoneBeforeStepEnds(boolean allChangesWillBeUndoneBeforeStepEnds);
 
+    /**
+     * Notifies the {@link MutationTracker} of every genuine variable change and entity addition or removal
+     * on the {@link PlanningSolution working solution},
+     * except for the changes that will be undone before the step ends.
+     * The {@link MutationTracker} is reset when the {@link PlanningSolution working solution} is set.
+     * @param mutationTracker sometimes null, to stop tracking
+     */
+    void setMutationTracker(MutationTracker<Solution_> mutationTracker);
+
+    /**
+     * Notifies the {@link DeltaSolutionCloner} of every entity with a changed genuine or shadow variable
+     * on the {@link PlanningSolution working solution},
+     * except for the changes that will be undone before the step ends.
+     * Setting the {@link PlanningSolution working solution}, adding or removing an entity
+     * or changing a problem fact requires a full clone.
+     * @param deltaSolutionCloner sometimes null, to stop tracking
+     */
+    void setDeltaSolutionCloner(DeltaSolutionCloner<Solution_> deltaSolutionCloner);
+
     /**
      * Asserts that if the {@link Score} is calculated for the current {@link PlanningSolution working solution}
      * in the current {@link ScoreDirector} (with possibly incremental calculation residue),
@@ -71,10 +71,13 @@ public class DroolsScoreDirector<Solution_>
 
     private void resetKieSession() {
         if (kieSession != null) {
-            kieSession.dispose();
+            scoreDirectorFactory.releaseKieSession(kieSession);
         }
         kieSession = scoreDirectorFactory.newKieSession();
-        ((RuleEventManager) kieSession).addEventListener(new OptaplannerRuleEventListener());
+        // A pooled kieSession might still have the listener, so remove it first to avoid registering it twice
+        RuleEventManager ruleEventManager = (RuleEventManager) kieSession;
+        ruleEventManager.removeEventListener(OptaplannerRuleEventListener.INSTANCE);
+        ruleEventManager.addEventListener(OptaplannerRuleEventListener.INSTANCE);
         workingScoreHolder = getScoreDefinition().buildScoreHolder(constraintMatchEnabledPreference);
         kieSession.setGlobal(GLOBAL_SCORE_HOLDER_KEY, workingScoreHolder);
         // TODO Adjust when uninitialized entities from getWorkingFacts get added automatically too (and call afterEntityAdded)
@@ -86,6 +89,11 @@ public class DroolsScoreDirector<Solution_>
 
     private static final class OptaplannerRuleEventListener implements RuleEventListener {
 
+        /**
+         * Stateless, so it can be shared by all {@link KieSession}s.
+         */
+        private static final OptaplannerRuleEventListener INSTANCE = new OptaplannerRuleEventListener();
+
         @Override
         public void onUpdateMatch(Match match) {
             undoPreviousMatch((AgendaItem) match);
@@ -149,7 +157,7 @@ public class DroolsScoreDirector<Solution_>
     public void close() {
         super.close();
         if (kieSession != null) {
-            kieSession.dispose();
+            scoreDirectorFactory.releaseKieSession(kieSession);
             kieSession = null;
         }
     }
@@ -16,6 +16,11 @@
 
 package org.optaplanner.core.impl.score.director.drools;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
 import org.kie.api.KieBase;
 import org.kie.api.builder.model.KieSessionModel;
 import org.kie.api.definition.KiePackage;
@@ -29,6 +34,11 @@ import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
 
 /**
  * Drools implementation of {@link ScoreDirectorFactory}.
+ * <p>
+ * The {@link KieBase} is built once and shared by every {@link DroolsScoreDirector} of this factory,
+ * including those of move threads and partition threads.
+ * Released {@link KieSession}s are reset and pooled, so a new {@link DroolsScoreDirector}
+ * (for example for a move thread at the start of every phase) doesn't need to build a new {@link KieSession}.
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @see DroolsScoreDirector
  * @see ScoreDirectorFactory
@@ -37,6 +47,14 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
 
     protected final KieContainer kieContainer;
     protected final String ksessionName;
+    protected final KieBase kieBase;
+
+    /**
+     * Bounded by the number of processors, because more {@link KieSession}s are rarely used concurrently:
+     * the solver thread and its move threads.
+     */
+    protected final BlockingQueue<KieSession> kieSessionPool
+            = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
 
     /**
      * For {@link LegacyDroolsScoreDirectorFactory} only. Do not use.
@@ -45,6 +63,7 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
     protected DroolsScoreDirectorFactory(KieBase kieBase) {
         kieContainer = null;
         ksessionName = null;
+        this.kieBase = kieBase;
     }
 
     /**
@@ -72,7 +91,8 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
                     + " and are therefore exponentially slower.");
         }
         String kbaseName = kieSessionModel.getKieBaseModel().getName();
-        KieBase kieBase = kieContainer.newKieBase(kbaseName, null);
+        // Use the kieContainer's cached kieBase, which is also used by kieContainer.newKieSession(ksessionName)
+        kieBase = kieContainer.getKieBase(kbaseName);
         checkIfGlobalScoreHolderExists(kieBase);
     }
 
@@ -103,6 +123,13 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
     public void setSolutionDescriptor(SolutionDescriptor<Solution_> solutionDescriptor) {
         super.setSolutionDescriptor(solutionDescriptor);
         solutionDescriptor.checkIfProblemFactsExist();
+        if (kieBase instanceof InternalKnowledgeBase) {
+            // The shared kieBase lazily creates a type declaration on the first update of an entity class,
+            // which isn't thread-safe, so create them before move threads update entities concurrently
+            for (Class<?> entityClass : solutionDescriptor.getEntityClassSet()) {
+                ((InternalKnowledgeBase) kieBase).getOrCreateExactTypeDeclaration(entityClass);
+            }
+        }
     }
 
     public KieContainer getKieContainer() {
@@ -116,6 +143,13 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return ksessionName;
     }
 
+    /**
+     * @return never null, shared by every {@link KieSession} of this factory
+     */
+    public KieBase getKieBase() {
+        return kieBase;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -126,8 +160,43 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return new DroolsScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference);
     }
 
+    /**
+     * Reuses a pooled {@link KieSession} if one is available.
+     * Either way, the returned {@link KieSession} has no facts.
+     * This method is thread-safe.
+     * @return never null
+     * @see #releaseKieSession(KieSession)
+     */
     public KieSession newKieSession() {
+        KieSession kieSession = kieSessionPool.poll();
+        if (kieSession != null) {
+            return kieSession;
+        }
+        return buildKieSession();
+    }
+
+    /**
+     * @return never null
+     */
+    protected KieSession buildKieSession() {
         return kieContainer.newKieSession(ksessionName);
     }
 
+    /**
+     * Removes all facts from the {@link KieSession} and pools it for a later {@link #newKieSession()} call.
+     * If the pool is full, the {@link KieSession} is disposed instead.
+     * This method is thread-safe.
+     * @param kieSession never null, must not be used by the caller afterwards
+     */
+    public void releaseKieSession(KieSession kieSession) {
+        if (kieSession instanceof StatefulKnowledgeSessionImpl
+                && kieSessionPool.remainingCapacity() > 0) {
+            ((StatefulKnowledgeSessionImpl) kieSession).reset();
+            if (kieSessionPool.offer(kieSession)) {
+                return;
+            }
+        }
+        kieSession.dispose();
+    }
+
 }
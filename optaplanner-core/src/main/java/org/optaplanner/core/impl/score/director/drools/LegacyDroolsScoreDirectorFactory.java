@@ -25,18 +25,11 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
  */
 public class LegacyDroolsScoreDirectorFactory<Solution_> extends DroolsScoreDirectorFactory<Solution_> {
 
-    protected final KieBase kieBase;
-
     public LegacyDroolsScoreDirectorFactory(KieBase kieBase) {
         super(kieBase);
-        this.kieBase = kieBase;
         checkIfGlobalScoreHolderExists(kieBase);
     }
 
-    public KieBase getKieBase() {
-        return kieBase;
-    }
-
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -48,7 +41,7 @@ public class LegacyDroolsScoreDirectorFactory<Solution_> extends DroolsScoreDire
     }
 
     @Override
-    public KieSession newKieSession() {
+    protected KieSession buildKieSession() {
         return kieBase.newKieSession();
     }
 
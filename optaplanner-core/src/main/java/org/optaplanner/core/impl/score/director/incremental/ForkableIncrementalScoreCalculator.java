@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.incremental;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to seed the calculator of a move thread
+ * from its own internal state, instead of calling {@link #resetWorkingSolution(Object)} on that move thread,
+ * which is a full, non-incremental calculation.
+ * This speeds up the start of every phase when {@code moveThreadCount} is configured.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see IncrementalScoreCalculator
+ */
+public interface ForkableIncrementalScoreCalculator<Solution_>
+        extends IncrementalScoreCalculator<Solution_> {
+
+    /**
+     * Creates a new instance in the same state as this instance,
+     * but for a planning clone of this instance's working solution.
+     * The returned instance must behave exactly as if {@link #resetWorkingSolution(Object)}
+     * was called on it with that planning clone.
+     * <p>
+     * Planning entities (and any other planning cloned object) in this instance's state
+     * must be translated to their planning clone with {@link ScoreDirector#lookUpWorkingObject(Object)},
+     * similar to {@link Move#rebase(ScoreDirector)}.
+     * That usually requires a {@link PlanningId} on those classes.
+     * Problem facts that are not planning cloned can be reused as is.
+     * <p>
+     * Each move thread calls this method on the solver thread's instance when it takes its setup operation
+     * at the start of a phase, unless it reuses its score director of the previous phase.
+     * So several move threads can call it at the same time, while the solver thread waits for them
+     * and changes neither this instance nor its working solution.
+     * Therefore it must only read this instance's state, never change it.
+     * @param destinationScoreDirector never null, its {@link ScoreDirector#getWorkingSolution()}
+     * is a planning clone of this instance's working solution
+     * @return never null, a new instance, not this instance
+     */
+    IncrementalScoreCalculator<Solution_> fork(ScoreDirector<Solution_> destinationScoreDirector);
+
+}
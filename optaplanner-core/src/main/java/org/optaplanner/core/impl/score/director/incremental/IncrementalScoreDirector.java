@@ -40,7 +40,7 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
 public class IncrementalScoreDirector<Solution_>
         extends AbstractScoreDirector<Solution_, IncrementalScoreDirectorFactory<Solution_>> {
 
-    private final IncrementalScoreCalculator<Solution_> incrementalScoreCalculator;
+    private IncrementalScoreCalculator<Solution_> incrementalScoreCalculator;
 
     public IncrementalScoreDirector(IncrementalScoreDirectorFactory<Solution_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference,
@@ -68,6 +68,39 @@ public class IncrementalScoreDirector<Solution_>
         }
     }
 
+    /**
+     * Like {@link #setWorkingSolution(Object)},
+     * but forks the parent's {@link IncrementalScoreCalculator} instead of resetting it.
+     * @param workingSolution never null, a planning clone of the parent's working solution
+     * @param parentIncrementalScoreCalculator never null
+     */
+    protected void forkWorkingSolution(Solution_ workingSolution,
+            ForkableIncrementalScoreCalculator<Solution_> parentIncrementalScoreCalculator) {
+        super.setWorkingSolution(workingSolution);
+        IncrementalScoreCalculator<Solution_> forkedIncrementalScoreCalculator
+                = parentIncrementalScoreCalculator.fork(this);
+        if (forkedIncrementalScoreCalculator == null
+                || forkedIncrementalScoreCalculator == parentIncrementalScoreCalculator) {
+            throw new IllegalStateException("The incrementalScoreCalculator ("
+                    + parentIncrementalScoreCalculator.getClass()
+                    + ") must return a new instance (" + forkedIncrementalScoreCalculator
+                    + ") in the method fork().");
+        }
+        incrementalScoreCalculator = forkedIncrementalScoreCalculator;
+    }
+
+    @Override
+    protected IncrementalScoreDirector<Solution_> buildMoveThreadScoreDirector() {
+        if (!(incrementalScoreCalculator instanceof ForkableIncrementalScoreCalculator)) {
+            return (IncrementalScoreDirector<Solution_>) super.buildMoveThreadScoreDirector();
+        }
+        IncrementalScoreDirector<Solution_> childThreadScoreDirector
+                = scoreDirectorFactory.buildScoreDirector(true, false);
+        childThreadScoreDirector.forkWorkingSolution(cloneWorkingSolution(),
+                (ForkableIncrementalScoreCalculator<Solution_>) incrementalScoreCalculator);
+        return childThreadScoreDirector;
+    }
+
     @Override
     public Score calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
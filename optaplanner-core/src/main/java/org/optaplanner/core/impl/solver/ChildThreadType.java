@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.solver;
 
+import org.optaplanner.core.impl.domain.variable.listener.ChainLocalVariableListener;
 import org.optaplanner.core.impl.partitionedsearch.PartitionedSearchPhase;
 
 public enum ChildThreadType {
@@ -26,5 +27,9 @@ public enum ChildThreadType {
     /**
      * Used by multithreaded incremental solving.
      */
-    MOVE_THREAD;
+    MOVE_THREAD,
+    /**
+     * Used by {@link ChainLocalVariableListener}s to update independent chains during a step.
+     */
+    CHAIN_THREAD;
 }
@@ -24,9 +24,18 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.ProblemFactChangeMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
@@ -49,6 +58,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     protected RandomFactory randomFactory;
 
     protected BasicPlumbingTermination basicPlumbingTermination;
+    protected ProblemFactChangeMode problemFactChangeMode = ProblemFactChangeMode.RESTART;
+    protected final IncrementalProblemFactChangeListener incrementalProblemFactChangeListener
+            = new IncrementalProblemFactChangeListener();
 
     protected final AtomicBoolean solving = new AtomicBoolean(false);
 
@@ -77,6 +89,14 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return randomFactory;
     }
 
+    public ProblemFactChangeMode getProblemFactChangeMode() {
+        return problemFactChangeMode;
+    }
+
+    public void setProblemFactChangeMode(ProblemFactChangeMode problemFactChangeMode) {
+        this.problemFactChangeMode = problemFactChangeMode;
+    }
+
     @Override
     public InnerScoreDirectorFactory<Solution_> getScoreDirectorFactory() {
         return solverScope.getScoreDirector().getScoreDirectorFactory();
@@ -94,13 +114,21 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope;
     }
 
+    /**
+     * @return never null
+     * @see SolverConfig#setMetricsRegistryClass(Class)
+     */
+    public SolverMetricsRegistry getMetricsRegistry() {
+        return solverScope.getMetricsRegistry();
+    }
+
     // ************************************************************************
     // Complex getters
     // ************************************************************************
 
     @Override
     public Solution_ getBestSolution() {
-        return solverScope.getBestSolution();
+        return bestSolutionRecaller.getStableBestSolution(solverScope);
     }
 
     @Override
@@ -187,9 +215,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         outerSolvingStarted(solverScope);
         boolean restartSolver = true;
         while (restartSolver) {
-            solvingStarted(solverScope);
-            runPhases(solverScope);
-            solvingEnded(solverScope);
+            // Not holding the yielding permit while a daemon waits for problem fact changes
+            solverScope.initializeYielding();
+            try {
+                solvingStarted(solverScope);
+                runPhases(solverScope);
+                solvingEnded(solverScope);
+            } finally {
+                solverScope.destroyYielding();
+            }
             restartSolver = checkProblemFactChanges();
         }
         outerSolvingEnded(solverScope);
@@ -201,6 +235,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         basicPlumbingTermination.resetTerminateEarly();
         solverScope.setStartingSolverCount(0);
         solverScope.setWorkingRandom(randomFactory.createRandom());
+        if (problemFactChangeMode == ProblemFactChangeMode.INCREMENTAL) {
+            phaseLifecycleSupport.addEventListener(incrementalProblemFactChangeListener);
+        }
     }
 
     @Override
@@ -234,6 +271,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 solverScope.getScoreCalculationSpeed(),
                 phaseList.size(),
                 environmentMode.name());
+        if (problemFactChangeMode == ProblemFactChangeMode.INCREMENTAL) {
+            phaseLifecycleSupport.removeEventListener(incrementalProblemFactChangeListener);
+        }
         solving.set(false);
     }
 
@@ -254,13 +294,68 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 problemFactChange = problemFactChangeQueue.poll();
             }
             basicPlumbingTermination.endProblemFactChangesProcessing();
-            bestSolutionRecaller.updateBestSolution(solverScope);
-            logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
-                    stepIndex, score);
+            if (stepIndex > 0) {
+                bestSolutionRecaller.updateBestSolution(solverScope);
+                logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
+                        stepIndex, score);
+            }
+            // Else a restart was requested after incremental problem fact changes, which already updated the best solution
             return true;
         }
     }
 
+    /**
+     * Applies the {@link ProblemFactChange}s directly on the working solution,
+     * without resetting the {@link ScoreDirector} or restarting the phase.
+     * Used by {@link ProblemFactChangeMode#INCREMENTAL}.
+     * <p>
+     * The step that just ended keeps its own score:
+     * the score after the changes is held by a separate step scope with the same step index,
+     * which becomes the last completed step scope when the next step starts.
+     * @param stepScope never null, the step that just ended
+     * @return null if there were no changes
+     */
+    protected LocalSearchStepScope<Solution_> doProblemFactChangesIncrementally(
+            LocalSearchStepScope<Solution_> stepScope) {
+        InnerScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
+        long workingEntityListRevision = scoreDirector.getWorkingEntityListRevision();
+        long workingProblemFactListRevision = scoreDirector.getWorkingProblemFactListRevision();
+        BlockingQueue<ProblemFactChange> problemFactChangeQueue
+                = basicPlumbingTermination.startProblemFactChangesProcessing();
+        Score score = null;
+        int stepIndex = 0;
+        ProblemFactChange<Solution_> problemFactChange = problemFactChangeQueue.poll();
+        while (problemFactChange != null) {
+            score = doProblemFactChange(problemFactChange, stepIndex);
+            stepIndex++;
+            problemFactChange = problemFactChangeQueue.poll();
+        }
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        if (stepIndex == 0) {
+            return null;
+        }
+        LocalSearchStepScope<Solution_> problemFactChangeStepScope
+                = new LocalSearchStepScope<>(stepScope.getPhaseScope(), stepScope.getStepIndex());
+        problemFactChangeStepScope.setScore(score);
+        // The previous best solution is obsolete, so the working solution becomes the new best solution
+        problemFactChangeStepScope.setBestScoreImproved(true);
+        stepScope.getPhaseScope().setBestSolutionStepIndex(stepScope.getStepIndex());
+        bestSolutionRecaller.updateBestSolution(solverScope);
+        if (!score.isSolutionInitialized()
+                || scoreDirector.isWorkingEntityListDirty(workingEntityListRevision)
+                || scoreDirector.getWorkingProblemFactListRevision() != workingProblemFactListRevision) {
+            // The construction heuristic needs to run again or the selector caches are stale
+            logger.info("Real-time problem fact changes done: step total ({}), new best score ({}),"
+                    + " restarting the solver because an entity or problem fact was added, removed or changed"
+                    + " or the solution is no longer initialized.", stepIndex, score);
+            basicPlumbingTermination.requestRestartSolver();
+        } else {
+            logger.info("Real-time problem fact changes done incrementally: step total ({}), new best score ({}).",
+                    stepIndex, score);
+        }
+        return problemFactChangeStepScope;
+    }
+
     private Score doProblemFactChange(ProblemFactChange<Solution_> problemFactChange, int stepIndex) {
         problemFactChange.doChange(solverScope.getScoreDirector());
         Score score = solverScope.calculateScore();
@@ -268,4 +363,48 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return score;
     }
 
+    /**
+     * Processes the {@link ProblemFactChange}s between the steps of a {@link LocalSearchPhaseScope local search phase}.
+     * Other phase types are terminated by the {@link BasicPlumbingTermination} as usual.
+     */
+    protected class IncrementalProblemFactChangeListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        /**
+         * Not null if problem fact changes were done after the last completed step.
+         * Can't be set as the last completed step scope immediately, because the phase does that after stepEnded.
+         */
+        private LocalSearchStepScope<Solution_> problemFactChangeStepScope = null;
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            if (phaseScope instanceof LocalSearchPhaseScope) {
+                basicPlumbingTermination.setProblemFactChangesIncrementallyProcessed(true);
+            }
+        }
+
+        @Override
+        public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+            if (problemFactChangeStepScope != null) {
+                // The next step starts from the score after the problem fact changes
+                problemFactChangeStepScope.getPhaseScope().setLastCompletedStepScope(problemFactChangeStepScope);
+                problemFactChangeStepScope = null;
+            }
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            if (stepScope instanceof LocalSearchStepScope && basicPlumbingTermination.hasProblemFactChanges()) {
+                problemFactChangeStepScope = doProblemFactChangesIncrementally(
+                        (LocalSearchStepScope<Solution_>) stepScope);
+            }
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            problemFactChangeStepScope = null;
+            basicPlumbingTermination.setProblemFactChangesIncrementallyProcessed(false);
+        }
+
+    }
+
 }
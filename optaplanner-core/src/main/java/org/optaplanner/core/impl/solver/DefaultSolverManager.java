@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.api.solver.event.SolverManagerEventListener;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation for {@link SolverManager}.
+ * <p>
+ * The problems are solved by a fixed pool of {@code parallelSolverCount} solver threads,
+ * so submitting many problems never starts more threads than that.
+ * The other problems wait in the {@link ExecutorService}'s queue, first in first out.
+ * @param <Solution_> the solution type, the class with the
+ * {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ * @param <ProblemId_> the id type of a planning problem
+ */
+public class DefaultSolverManager<Solution_, ProblemId_> implements SolverManager<Solution_, ProblemId_> {
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected final SolverFactory<Solution_> solverFactory;
+    protected final int parallelSolverCount;
+    protected final ExecutorService solverExecutor;
+
+    protected final ConcurrentMap<ProblemId_, Solver<Solution_>> problemIdToSolverMap = new ConcurrentHashMap<>();
+    /** Includes the problems that are submitted but whose {@link Solver#solve} hasn't started yet. */
+    protected final Set<ProblemId_> solvingProblemIdSet = ConcurrentHashMap.newKeySet();
+    protected final Set<ProblemId_> terminateEarlyProblemIdSet = ConcurrentHashMap.newKeySet();
+    protected final List<SolverManagerEventListener<Solution_, ProblemId_>> eventListenerList
+            = new CopyOnWriteArrayList<>();
+    protected boolean shutdown = false;
+
+    public DefaultSolverManager(SolverFactory<Solution_> solverFactory, int parallelSolverCount) {
+        if (solverFactory == null) {
+            throw new IllegalArgumentException("The solverFactory (" + solverFactory + ") must not be null.");
+        }
+        if (parallelSolverCount < 1) {
+            throw new IllegalArgumentException("The parallelSolverCount (" + parallelSolverCount
+                    + ") must be at least 1.");
+        }
+        this.solverFactory = solverFactory;
+        this.parallelSolverCount = parallelSolverCount;
+        solverExecutor = Executors.newFixedThreadPool(parallelSolverCount,
+                buildThreadFactory(solverFactory.getSolverConfig()));
+    }
+
+    private ThreadFactory buildThreadFactory(SolverConfig solverConfig) {
+        Class<? extends ThreadFactory> threadFactoryClass = solverConfig.getThreadFactoryClass();
+        if (threadFactoryClass != null) {
+            return ConfigUtils.newInstance(solverConfig, "threadFactoryClass", threadFactoryClass);
+        } else {
+            return new DefaultSolverThreadFactory("SolverThread");
+        }
+    }
+
+    public int getParallelSolverCount() {
+        return parallelSolverCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public synchronized void solve(ProblemId_ problemId, Solution_ problem) {
+        if (problemId == null) {
+            throw new IllegalArgumentException("The problemId (" + problemId + ") must not be null.");
+        }
+        if (problem == null) {
+            throw new IllegalArgumentException("The problem (" + problem + ") must not be null.");
+        }
+        if (shutdown) {
+            throw new IllegalStateException("The solverManager is shutdown, so the problem with problemId ("
+                    + problemId + ") cannot be solved.");
+        }
+        if (solvingProblemIdSet.contains(problemId)) {
+            throw new IllegalStateException("The problem with problemId (" + problemId + ") is still solving.");
+        }
+        DefaultSolver<Solution_> solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
+        solver.addEventListener(event -> {
+            for (SolverManagerEventListener<Solution_, ProblemId_> eventListener : eventListenerList) {
+                eventListener.bestSolutionChanged(problemId, event);
+            }
+        });
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<Solution_>() {
+            @Override
+            public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
+                // Solver.solve() resets terminateEarly, so honor a terminateEarly() call that came before it
+                if (terminateEarlyProblemIdSet.contains(problemId)) {
+                    solver.terminateEarly();
+                }
+            }
+        });
+        // Before submitting, so getBestSolution() works immediately
+        solver.getSolverScope().setBestSolution(problem);
+        problemIdToSolverMap.put(problemId, solver);
+        terminateEarlyProblemIdSet.remove(problemId);
+        solvingProblemIdSet.add(problemId);
+        solverExecutor.submit(() -> {
+            Solution_ bestSolution;
+            try {
+                bestSolution = solver.solve(problem);
+            } catch (RuntimeException | Error e) {
+                // Nobody reads the Future, so the listeners are the only way to propagate the failure
+                logger.error("Solving the problem with problemId ({}) failed.", problemId, e);
+                solvingProblemIdSet.remove(problemId);
+                terminateEarlyProblemIdSet.remove(problemId);
+                for (SolverManagerEventListener<Solution_, ProblemId_> eventListener : eventListenerList) {
+                    eventListener.solvingFailed(problemId, e);
+                }
+                return;
+            }
+            solvingProblemIdSet.remove(problemId);
+            terminateEarlyProblemIdSet.remove(problemId);
+            for (SolverManagerEventListener<Solution_, ProblemId_> eventListener : eventListenerList) {
+                eventListener.solvingEnded(problemId, bestSolution);
+            }
+        });
+    }
+
+    @Override
+    public boolean isSolving(ProblemId_ problemId) {
+        return solvingProblemIdSet.contains(problemId);
+    }
+
+    @Override
+    public Solution_ getBestSolution(ProblemId_ problemId) {
+        Solver<Solution_> solver = problemIdToSolverMap.get(problemId);
+        return solver == null ? null : solver.getBestSolution();
+    }
+
+    @Override
+    public Score getBestScore(ProblemId_ problemId) {
+        Solver<Solution_> solver = problemIdToSolverMap.get(problemId);
+        return solver == null ? null : solver.getBestScore();
+    }
+
+    @Override
+    public boolean addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange) {
+        Solver<Solution_> solver = problemIdToSolverMap.get(problemId);
+        if (solver == null || !solvingProblemIdSet.contains(problemId)) {
+            return false;
+        }
+        return solver.addProblemFactChange(problemFactChange);
+    }
+
+    @Override
+    public boolean terminateEarly(ProblemId_ problemId) {
+        Solver<Solution_> solver = problemIdToSolverMap.get(problemId);
+        if (solver == null || !solvingProblemIdSet.contains(problemId)) {
+            return false;
+        }
+        terminateEarlyProblemIdSet.add(problemId);
+        return solver.terminateEarly();
+    }
+
+    @Override
+    public synchronized Solution_ removeProblem(ProblemId_ problemId) {
+        Solver<Solution_> solver = problemIdToSolverMap.get(problemId);
+        if (solver == null) {
+            return null;
+        }
+        if (solvingProblemIdSet.contains(problemId)) {
+            throw new IllegalStateException("The problem with problemId (" + problemId
+                    + ") is still solving, so it cannot be removed. Maybe call terminateEarly() first.");
+        }
+        problemIdToSolverMap.remove(problemId);
+        return solver.getBestSolution();
+    }
+
+    @Override
+    public void addEventListener(SolverManagerEventListener<Solution_, ProblemId_> eventListener) {
+        eventListenerList.add(eventListener);
+    }
+
+    @Override
+    public void removeEventListener(SolverManagerEventListener<Solution_, ProblemId_> eventListener) {
+        eventListenerList.remove(eventListener);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (ProblemId_ problemId : problemIdToSolverMap.keySet()) {
+            terminateEarly(problemId);
+        }
+        ThreadUtils.shutdownAwaitOrKill(solverExecutor, "", "Solver Manager");
+    }
+
+}
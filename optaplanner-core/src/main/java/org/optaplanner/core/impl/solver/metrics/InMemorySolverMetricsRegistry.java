@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps every {@link SolverMetric} in memory, for example to assert them in a test
+ * or to poll them from a monitoring thread.
+ * <p>
+ * The counts are striped (see {@link LongAdder}), so move threads don't contend on them.
+ */
+public class InMemorySolverMetricsRegistry implements SolverMetricsRegistry {
+
+    protected final ConcurrentMap<String, InMemoryCounter> counterMap = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, InMemoryTimer> timerMap = new ConcurrentHashMap<>();
+
+    @Override
+    public InMemoryCounter counter(SolverMetric metric, String... tags) {
+        return counterMap.computeIfAbsent(buildKey(metric, tags), key -> new InMemoryCounter());
+    }
+
+    @Override
+    public InMemoryTimer timer(SolverMetric metric, String... tags) {
+        return timerMap.computeIfAbsent(buildKey(metric, tags), key -> new InMemoryTimer());
+    }
+
+    /**
+     * @param metric never null
+     * @param tags never null, the same tags as the solver used
+     * @return {@code >= 0}, 0 if the solver hasn't looked up that counter
+     */
+    public long getCount(SolverMetric metric, String... tags) {
+        InMemoryCounter counter = counterMap.get(buildKey(metric, tags));
+        return counter == null ? 0L : counter.getCount();
+    }
+
+    /**
+     * @param metric never null
+     * @return {@code >= 0}, the sum of that counter over all its tags
+     */
+    public long getTotalCount(SolverMetric metric) {
+        String prefix = metric.getMeterName();
+        return counterMap.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(prefix) || entry.getKey().startsWith(prefix + "{"))
+                .mapToLong(entry -> entry.getValue().getCount())
+                .sum();
+    }
+
+    /**
+     * @param metric never null
+     * @param tags never null, the same tags as the solver used
+     * @return null if the solver hasn't looked up that timer
+     */
+    public InMemoryTimer getTimer(SolverMetric metric, String... tags) {
+        return timerMap.get(buildKey(metric, tags));
+    }
+
+    protected String buildKey(SolverMetric metric, String... tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException("The tags (" + String.join(", ", tags)
+                    + ") of metric (" + metric + ") must alternate keys and values.");
+        }
+        if (tags.length == 0) {
+            return metric.getMeterName();
+        }
+        StringBuilder key = new StringBuilder(metric.getMeterName()).append("{");
+        for (int i = 0; i < tags.length; i += 2) {
+            if (i > 0) {
+                key.append(",");
+            }
+            key.append(tags[i]).append("=").append(tags[i + 1]);
+        }
+        return key.append("}").toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + counterMap.size() + " counters, " + timerMap.size() + " timers)";
+    }
+
+    public static class InMemoryCounter implements MetricCounter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment() {
+            count.increment();
+        }
+
+        @Override
+        public void add(long amount) {
+            count.add(amount);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+    }
+
+    public static class InMemoryTimer implements MetricTimer {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        @Override
+        public long start() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void stop(long startNanos) {
+            long nanos = System.nanoTime() - startNanos;
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+    }
+
+}
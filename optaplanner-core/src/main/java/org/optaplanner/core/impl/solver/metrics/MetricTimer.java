@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+/**
+ * Records how long something took.
+ * Use {@link #start()} and {@link #stop(long)} around the timed code,
+ * so a timer that doesn't record anything doesn't read the clock either.
+ * <p>
+ * Called on the hot path, possibly by multiple threads at the same time:
+ * implementations must be thread-safe and should not allocate or block.
+ * @see SolverMetricsRegistry#timer(SolverMetric, String...)
+ */
+public interface MetricTimer {
+
+    /**
+     * @return the value to pass to {@link #stop(long)}, usually {@link System#nanoTime()}
+     */
+    long start();
+
+    /**
+     * @param startNanos the return value of {@link #start()}
+     */
+    void stop(long startNanos);
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+/**
+ * The default {@link SolverMetricsRegistry}: it records nothing.
+ */
+public class NoOpSolverMetricsRegistry implements SolverMetricsRegistry {
+
+    public static final NoOpSolverMetricsRegistry INSTANCE = new NoOpSolverMetricsRegistry();
+
+    public static final MetricCounter NO_OP_COUNTER = new MetricCounter() {
+        @Override
+        public void increment() {
+        }
+
+        @Override
+        public void add(long amount) {
+        }
+    };
+
+    public static final MetricTimer NO_OP_TIMER = new MetricTimer() {
+        @Override
+        public long start() {
+            return 0L;
+        }
+
+        @Override
+        public void stop(long startNanos) {
+        }
+    };
+
+    @Override
+    public MetricCounter counter(SolverMetric metric, String... tags) {
+        return NO_OP_COUNTER;
+    }
+
+    @Override
+    public MetricTimer timer(SolverMetric metric, String... tags) {
+        return NO_OP_TIMER;
+    }
+
+}
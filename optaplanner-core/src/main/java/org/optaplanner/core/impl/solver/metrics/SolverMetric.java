@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+/**
+ * The metrics that a {@link SolverMetricsRegistry} receives from a solver.
+ * <p>
+ * The score calculation speed is the rate of {@link #SCORE_CALCULATION_COUNT}
+ * and the moves evaluated per second is the rate of {@link #MOVE_EVALUATION_COUNT}.
+ * <p>
+ * The metrics of a partition thread are also tagged with {@value #THREAD_TAG} {@value #PART_THREAD},
+ * except for {@link #SCORE_CALCULATION_COUNT}, {@link #VARIABLE_LISTENER_TIME} and {@link #SOLUTION_CLONE_TIME},
+ * which add up the work of all threads.
+ */
+public enum SolverMetric {
+    /**
+     * A counter of every score calculation, including those on move threads and partition threads.
+     */
+    SCORE_CALCULATION_COUNT("optaplanner.score.calculation.count"),
+    /**
+     * A timer of every time the variable listeners are triggered.
+     */
+    VARIABLE_LISTENER_TIME("optaplanner.variable.listener.time"),
+    /**
+     * A timer of every planning clone of a solution.
+     */
+    SOLUTION_CLONE_TIME("optaplanner.solution.clone.time"),
+    /**
+     * A counter of every move evaluated by Local Search.
+     */
+    MOVE_EVALUATION_COUNT("optaplanner.move.evaluation.count"),
+    /**
+     * A counter of every move accepted by the Local Search acceptor, tagged with {@value #ACCEPTOR_TAG}:
+     * the acceptor class names, joined with {@code +} if several acceptors are combined.
+     */
+    MOVE_ACCEPTED_COUNT("optaplanner.move.accepted.count"),
+    /**
+     * A counter of every move rejected by the Local Search acceptor, tagged with {@value #ACCEPTOR_TAG}:
+     * the acceptor class names, joined with {@code +} if several acceptors are combined.
+     */
+    MOVE_REJECTED_COUNT("optaplanner.move.rejected.count"),
+    /**
+     * A timer of every step, tagged with {@value #PHASE_TAG}.
+     */
+    STEP_TIME("optaplanner.step.time"),
+    /**
+     * A counter of every new best solution.
+     * <p>
+     * The new best solutions of a partition thread are tagged with {@value #THREAD_TAG} {@value #PART_THREAD},
+     * so the untagged count isn't inflated by the part changes that the solver thread merges into its own.
+     */
+    BEST_SOLUTION_CHANGED_COUNT("optaplanner.best.solution.changed.count");
+
+    public static final String ACCEPTOR_TAG = "acceptor";
+    public static final String PHASE_TAG = "phase";
+    public static final String THREAD_TAG = "thread";
+    /**
+     * The {@value #THREAD_TAG} tag value of the metrics of a partition thread.
+     */
+    public static final String PART_THREAD = "part";
+
+    private final String meterName;
+
+    SolverMetric(String meterName) {
+        this.meterName = meterName;
+    }
+
+    /**
+     * @return never null, a dot separated name, for example {@code optaplanner.step.time}
+     */
+    public String getMeterName() {
+        return meterName;
+    }
+
+}
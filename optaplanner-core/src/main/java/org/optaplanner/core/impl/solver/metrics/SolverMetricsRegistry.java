@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import org.optaplanner.core.config.solver.SolverConfig;
+
+/**
+ * Exports the {@link SolverMetric}s of 1 solver, for example to a monitoring system.
+ * <p>
+ * Configure an implementation with {@link SolverConfig#setMetricsRegistryClass(Class)}:
+ * every built solver gets its own instance.
+ * It needs a public no-arg constructor.
+ * <p>
+ * The solver looks up its {@link MetricCounter}s and {@link MetricTimer}s when solving or a phase starts,
+ * never on the hot path, so this lookup may be slow.
+ * The same meter can be looked up multiple times, also by different threads:
+ * it's recommended to return the same instance for the same metric and tags.
+ * @see NoOpSolverMetricsRegistry
+ * @see InMemorySolverMetricsRegistry
+ */
+public interface SolverMetricsRegistry {
+
+    /**
+     * @param metric never null
+     * @param tags never null, alternating keys and values, for example {@code "phase", "Local Search"}
+     * @return never null
+     */
+    MetricCounter counter(SolverMetric metric, String... tags);
+
+    /**
+     * @param metric never null
+     * @param tags never null, alternating keys and values, for example {@code "phase", "Local Search"}
+     * @return never null
+     */
+    MetricTimer timer(SolverMetric metric, String... tags);
+
+}
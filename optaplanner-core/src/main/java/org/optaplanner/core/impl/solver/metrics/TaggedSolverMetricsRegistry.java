@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Adds extra tags to every meter it looks up in another {@link SolverMetricsRegistry}.
+ * <p>
+ * For example, a partition thread uses it to keep its steps and best solution changes
+ * apart from those of the solver thread.
+ */
+public class TaggedSolverMetricsRegistry implements SolverMetricsRegistry {
+
+    protected final SolverMetricsRegistry delegate;
+    protected final String[] extraTags;
+
+    /**
+     * @param delegate never null
+     * @param extraTags never null, alternating keys and values, appended after the tags of every lookup
+     */
+    public TaggedSolverMetricsRegistry(SolverMetricsRegistry delegate, String... extraTags) {
+        if (extraTags.length % 2 != 0) {
+            throw new IllegalArgumentException("The extraTags (" + String.join(", ", extraTags)
+                    + ") must alternate keys and values.");
+        }
+        this.delegate = delegate;
+        this.extraTags = extraTags;
+    }
+
+    @Override
+    public MetricCounter counter(SolverMetric metric, String... tags) {
+        return delegate.counter(metric, appendExtraTags(tags));
+    }
+
+    @Override
+    public MetricTimer timer(SolverMetric metric, String... tags) {
+        return delegate.timer(metric, appendExtraTags(tags));
+    }
+
+    protected String[] appendExtraTags(String... tags) {
+        String[] allTags = Arrays.copyOf(tags, tags.length + extraTags.length);
+        System.arraycopy(extraTags, 0, allTags, tags.length, extraTags.length);
+        return allTags;
+    }
+
+    @Override
+    public String toString() {
+        return delegate + " tagged with " + Arrays.toString(extraTags);
+    }
+
+}
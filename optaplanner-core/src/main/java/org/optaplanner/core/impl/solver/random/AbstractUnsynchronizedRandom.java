@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+/**
+ * A {@link Random} that is not thread-safe, so drawing a number doesn't do a compare-and-set
+ * on the atomic seed of {@link Random}, which it doesn't use at all.
+ * Selectors keep using the {@link Random} API, but every draw is a plain field update.
+ * <p>
+ * Every working random is only used by 1 thread: a child thread gets its own {@link #split()}.
+ */
+public abstract class AbstractUnsynchronizedRandom extends Random {
+
+    /**
+     * @param seed any value
+     */
+    protected AbstractUnsynchronizedRandom(long seed) {
+        // The super constructor calls setSeed(long), before the fields of subclasses are initialized
+        super(seed);
+    }
+
+    /**
+     * Resets the state of this generator, so it produces the same sequence for the same seed.
+     * Implementations must not rely on field initializers, because the super constructor calls this method.
+     * @param seed any value
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        // Resets the nextGaussian() cache
+        super.setSeed(seed);
+        resetState(seed);
+    }
+
+    /**
+     * @param seed any value
+     */
+    protected abstract void resetState(long seed);
+
+    /**
+     * Creates a new generator that doesn't overlap (in practice) with the sequence of this one,
+     * for example for a child thread. It also changes the state of this generator.
+     * @return never null, of the same type as this instance
+     */
+    public abstract AbstractUnsynchronizedRandom split();
+
+    /**
+     * Creates a new generator of the same type, without changing the state of this one.
+     * @param seed any value
+     * @return never null, of the same type as this instance
+     */
+    public abstract AbstractUnsynchronizedRandom withSeed(long seed);
+
+    @Override
+    public abstract long nextLong();
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("The bound (" + bound + ") must be positive.");
+        }
+        // Same algorithm as Random.nextInt(int)
+        int r = next(31);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = next(31)) {
+            // Reject to avoid a modulo bias
+        }
+        return r;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public float nextFloat() {
+        return next(24) / ((float) (1 << 24));
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+/**
+ * Selects an index with a probability proportional to its weight, in constant time.
+ * <p>
+ * Builds the alias table of Vose's alias method in {@code O(n)}.
+ * Each {@link #sample(Random)} then uses only 1 {@link Random#nextDouble()} and 2 array lookups,
+ * unlike a {@code NavigableMap<Double, ...>} of cumulative weights which takes {@code O(log n)}
+ * and boxes a {@link Double} on every selection.
+ * <p>
+ * This class is immutable, so it can be shared by multiple iterators.
+ */
+public class AliasMethodSampler {
+
+    private final int size;
+    private final double weightTotal;
+    /**
+     * For each bucket, the probability to select the bucket's own index instead of its alias.
+     */
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * @param weights never null, every weight {@code >= 0.0}, the probability weight of each index
+     */
+    public AliasMethodSampler(double[] weights) {
+        size = weights.length;
+        probabilities = new double[size];
+        aliases = new int[size];
+        double weightSum = 0.0;
+        for (int i = 0; i < size; i++) {
+            double weight = weights[i];
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("The weight (" + weight + ") with index (" + i
+                        + ") must be a finite number that is positive or zero.");
+            }
+            weightSum += weight;
+        }
+        weightTotal = weightSum;
+        if (weightTotal == 0.0) {
+            return;
+        }
+        // Each bucket has an average scaled weight of 1.0
+        double[] scaledWeights = new double[size];
+        int[] smallStack = new int[size];
+        int smallSize = 0;
+        int[] largeStack = new int[size];
+        int largeSize = 0;
+        for (int i = 0; i < size; i++) {
+            scaledWeights[i] = weights[i] * size / weightTotal;
+            if (scaledWeights[i] < 1.0) {
+                smallStack[smallSize++] = i;
+            } else {
+                largeStack[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int small = smallStack[--smallSize];
+            int large = largeStack[--largeSize];
+            probabilities[small] = scaledWeights[small];
+            aliases[small] = large;
+            // The large index fills up the rest of the small bucket
+            scaledWeights[large] = (scaledWeights[large] + scaledWeights[small]) - 1.0;
+            if (scaledWeights[large] < 1.0) {
+                smallStack[smallSize++] = large;
+            } else {
+                largeStack[largeSize++] = large;
+            }
+        }
+        // The remaining buckets are full, except for floating point rounding errors
+        while (largeSize > 0) {
+            int large = largeStack[--largeSize];
+            probabilities[large] = 1.0;
+            aliases[large] = large;
+        }
+        while (smallSize > 0) {
+            int small = smallStack[--smallSize];
+            probabilities[small] = 1.0;
+            aliases[small] = small;
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the number of weights, including those that are zero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return {@code >= 0.0}, the sum of all weights
+     */
+    public double getWeightTotal() {
+        return weightTotal;
+    }
+
+    /**
+     * This method is thread-safe, as long as the random is not shared.
+     * @param random never null
+     * @return {@code 0 <= index < size}, never an index with a weight of zero
+     */
+    public int sample(Random random) {
+        if (weightTotal == 0.0) {
+            throw new IllegalStateException("Impossible to sample: the weight total (" + weightTotal
+                    + ") of all " + size + " weights is not positive.");
+        }
+        // Use the integer part to select the bucket and the fractional part to choose within that bucket
+        double randomOffset = random.nextDouble() * size;
+        int bucket = (int) randomOffset;
+        if (bucket >= size) {
+            // Floating point rounding error
+            bucket = size - 1;
+        }
+        return (randomOffset - bucket) < probabilities[bucket] ? bucket : aliases[bucket];
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + ")";
+    }
+
+}
@@ -61,11 +61,22 @@ public class DefaultRandomFactory implements RandomFactory {
                 return new RandomAdaptor(randomSeed == null ? new Well44497a() : new Well44497a(randomSeed));
             case WELL44497B:
                 return new RandomAdaptor(randomSeed == null ? new Well44497b() : new Well44497b(randomSeed));
+            case SPLITTABLE:
+                return new SplittableRandomAdaptor(randomSeed == null ? createSeed() : randomSeed);
+            case XOSHIRO256_STAR_STAR:
+                return new Xoshiro256StarStarRandom(randomSeed == null ? createSeed() : randomSeed);
+            case PCG32:
+                return new Pcg32Random(randomSeed == null ? createSeed() : randomSeed);
             default:
                 throw new IllegalStateException("The randomType (" + randomType + ") is not implemented.");
         }
     }
 
+    private long createSeed() {
+        // Seeded like new Random() is
+        return new Random().nextLong();
+    }
+
     @Override
     public String toString() {
         return randomType.name() + (randomSeed == null ? "" : " with seed " + randomSeed);
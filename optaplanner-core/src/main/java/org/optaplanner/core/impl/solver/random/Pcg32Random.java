@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+/**
+ * The PCG32 (XSH RR) generator by Melissa O'Neill: a tiny state and 2^63 selectable streams.
+ * See <a href="http://www.pcg-random.org/">pcg-random.org</a>.
+ * It {@link #split()}s by starting another stream.
+ */
+public class Pcg32Random extends AbstractUnsynchronizedRandom {
+
+    private static final long MULTIPLIER = 6364136223846793005L;
+    private static final long DEFAULT_SEQUENCE = 0xda3e39cb94b95bdbL;
+
+    private long state;
+    private long increment;
+
+    public Pcg32Random(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Same as {@code pcg32_srandom_r} in the reference implementation.
+     * @param initState any value
+     * @param initSequence any value, selects the stream
+     */
+    public Pcg32Random(long initState, long initSequence) {
+        super(0L);
+        reset(initState, initSequence);
+    }
+
+    @Override
+    protected void resetState(long seed) {
+        reset(seed, DEFAULT_SEQUENCE);
+    }
+
+    private void reset(long initState, long initSequence) {
+        state = 0L;
+        increment = (initSequence << 1) | 1L;
+        nextInt();
+        state += initState;
+        nextInt();
+    }
+
+    @Override
+    public Pcg32Random split() {
+        return new Pcg32Random(nextLong(), nextLong());
+    }
+
+    @Override
+    public Pcg32Random withSeed(long seed) {
+        return new Pcg32Random(seed);
+    }
+
+    @Override
+    public int nextInt() {
+        long oldState = state;
+        state = oldState * MULTIPLIER + increment;
+        int xorShifted = (int) (((oldState >>> 18) ^ oldState) >>> 27);
+        int rotation = (int) (oldState >>> 59);
+        return Integer.rotateRight(xorShifted, rotation);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public long nextLong() {
+        return ((long) nextInt() << 32) | (nextInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextInt() < 0;
+    }
+
+}
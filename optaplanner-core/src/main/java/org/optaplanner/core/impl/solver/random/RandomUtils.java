@@ -60,6 +60,20 @@ public class RandomUtils {
         return random.nextDouble() * n;
     }
 
+    /**
+     * Deterministically derives an independent seed, for example to split a random stream per step or per thread.
+     * Based on the finalizer of SplitMix64, so consecutive indexes result in uncorrelated seeds.
+     * @param seed any value
+     * @param index any value, usually {@code >= 0}
+     * @return the same value for the same seed and index
+     */
+    public static long splitSeed(long seed, long index) {
+        long z = seed + (index + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     private RandomUtils() {
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Adapts a {@link SplittableRandom} (SplitMix64) to a {@link java.util.Random}.
+ */
+public class SplittableRandomAdaptor extends AbstractUnsynchronizedRandom {
+
+    private SplittableRandom splittableRandom;
+
+    public SplittableRandomAdaptor(long seed) {
+        super(seed);
+    }
+
+    private SplittableRandomAdaptor(SplittableRandom splittableRandom) {
+        super(0L);
+        this.splittableRandom = splittableRandom;
+    }
+
+    @Override
+    protected void resetState(long seed) {
+        splittableRandom = new SplittableRandom(seed);
+    }
+
+    @Override
+    public SplittableRandomAdaptor split() {
+        return new SplittableRandomAdaptor(splittableRandom.split());
+    }
+
+    @Override
+    public SplittableRandomAdaptor withSeed(long seed) {
+        return new SplittableRandomAdaptor(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return splittableRandom.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return splittableRandom.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittableRandom.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return splittableRandom.nextBoolean();
+    }
+
+}
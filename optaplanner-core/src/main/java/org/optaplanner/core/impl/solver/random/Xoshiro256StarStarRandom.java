@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+/**
+ * The xoshiro256** generator by David Blackman and Sebastiano Vigna: fast, with a period of 2^256 - 1.
+ * See <a href="http://xoshiro.di.unimi.it/">xoshiro.di.unimi.it</a>.
+ * It can {@link #jump()} ahead 2^128 numbers, which is how it {@link #split()}s.
+ */
+public class Xoshiro256StarStarRandom extends AbstractUnsynchronizedRandom {
+
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL};
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    public Xoshiro256StarStarRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * @param s0 the 4 state longs must not all be 0
+     * @param s1 the 4 state longs must not all be 0
+     * @param s2 the 4 state longs must not all be 0
+     * @param s3 the 4 state longs must not all be 0
+     */
+    protected Xoshiro256StarStarRandom(long s0, long s1, long s2, long s3) {
+        super(0L);
+        if ((s0 | s1 | s2 | s3) == 0L) {
+            throw new IllegalArgumentException("The state (" + s0 + ", " + s1 + ", " + s2 + ", " + s3
+                    + ") must not be all zeros.");
+        }
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    protected void resetState(long seed) {
+        // Recommended by the authors: fill the state with SplitMix64, which is never all zeros
+        s0 = RandomUtils.splitSeed(seed, 0L);
+        s1 = RandomUtils.splitSeed(seed, 1L);
+        s2 = RandomUtils.splitSeed(seed, 2L);
+        s3 = RandomUtils.splitSeed(seed, 3L);
+    }
+
+    /**
+     * The returned generator continues where this one was,
+     * while this one jumps 2^128 numbers ahead.
+     * @return never null
+     */
+    @Override
+    public Xoshiro256StarStarRandom split() {
+        Xoshiro256StarStarRandom child = new Xoshiro256StarStarRandom(s0, s1, s2, s3);
+        jump();
+        return child;
+    }
+
+    @Override
+    public Xoshiro256StarStarRandom withSeed(long seed) {
+        return new Xoshiro256StarStarRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5L, 7) * 9L;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    /**
+     * Equivalent to 2^128 calls to {@link #nextLong()}.
+     */
+    public void jump() {
+        long t0 = 0L;
+        long t1 = 0L;
+        long t2 = 0L;
+        long t3 = 0L;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0L) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+        s2 = t2;
+        s3 = t3;
+    }
+
+}
@@ -19,11 +19,15 @@ package org.optaplanner.core.impl.solver.recaller;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.domain.solution.cloner.DeltaSolutionCloner;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.event.SolverEventSupport;
+import org.optaplanner.core.impl.solver.metrics.MetricCounter;
+import org.optaplanner.core.impl.solver.metrics.NoOpSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,9 +43,16 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean deltaCloningEnabled = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    protected MetricCounter bestSolutionChangedCounter = NoOpSolverMetricsRegistry.NO_OP_COUNTER;
+    /**
+     * Volatile because {@link #getStableBestSolution(DefaultSolverScope)} reads it from other threads.
+     */
+    protected volatile DeltaSolutionCloner<Solution_> deltaSolutionCloner = null;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -54,6 +65,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    /**
+     * @param deltaCloningEnabled true if the best solution is a single clone that is patched in place
+     * with the entities that changed since the previous best solution
+     */
+    public void setDeltaCloningEnabled(boolean deltaCloningEnabled) {
+        this.deltaCloningEnabled = deltaCloningEnabled;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -64,8 +83,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     @Override
     public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
+        bestSolutionChangedCounter = solverScope.getMetricsRegistry()
+                .counter(SolverMetric.BEST_SOLUTION_CHANGED_COUNT);
         // Starting bestSolution is already set by Solver.solve(Solution)
         InnerScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
+        if (deltaCloningEnabled) {
+            deltaSolutionCloner = new DeltaSolutionCloner<>(solverScope.getSolutionDescriptor());
+            scoreDirector.setDeltaSolutionCloner(deltaSolutionCloner);
+        }
         Score score = scoreDirector.calculateScore();
         solverScope.setBestScore(score);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
@@ -92,7 +117,8 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
+            Solution_ newBestSolution = deltaSolutionCloner == null ? stepScope.createOrGetClonedSolution()
+                    : patchBestSolution(solverScope);
             updateBestSolution(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -110,7 +136,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = cloneWorkingSolution(solverScope);
             updateBestSolution(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -118,7 +144,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     public void updateBestSolution(DefaultSolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = cloneWorkingSolution(solverScope);
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolution(solverScope, newBestScore, newBestSolution);
     }
@@ -130,10 +156,58 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
                 solverScope.setStartingInitializedScore(bestScore);
             }
         }
-        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestSolution(bestSolution, solverScope.getScoreDirector().getWorkingStructureRevision());
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
-        solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
+        bestSolutionChangedCounter.increment();
+        if (deltaSolutionCloner == null) {
+            solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
+        } else {
+            // The best solution is patched in place later, so the listeners get a full clone that never changes
+            solverEventSupport.fireBestSolutionChanged(solverScope,
+                    () -> solverScope.getScoreDirector().cloneSolution(bestSolution));
+        }
+    }
+
+    protected Solution_ cloneWorkingSolution(DefaultSolverScope<Solution_> solverScope) {
+        InnerScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
+        if (deltaSolutionCloner == null) {
+            return scoreDirector.cloneWorkingSolution();
+        }
+        return patchBestSolution(solverScope);
+    }
+
+    protected Solution_ patchBestSolution(DefaultSolverScope<Solution_> solverScope) {
+        // Other threads clone the best solution while holding this lock, so they never see it half patched
+        synchronized (deltaSolutionCloner) {
+            return deltaSolutionCloner.cloneSolution(solverScope.getScoreDirector().getWorkingSolution());
+        }
+    }
+
+    /**
+     * Unlike the other methods of this class, this method is thread-safe.
+     * @param solverScope never null
+     * @return never null, the best solution, or a planning clone of it while delta cloning patches it in place
+     */
+    public Solution_ getStableBestSolution(DefaultSolverScope<Solution_> solverScope) {
+        // Read the best solution first: if no delta cloning is active afterwards, it's never patched anymore
+        Solution_ bestSolution = solverScope.getBestSolution();
+        DeltaSolutionCloner<Solution_> deltaSolutionCloner = this.deltaSolutionCloner;
+        if (deltaSolutionCloner == null) {
+            return bestSolution;
+        }
+        synchronized (deltaSolutionCloner) {
+            return solverScope.getSolutionDescriptor().getSolutionCloner().cloneSolution(solverScope.getBestSolution());
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope<Solution_> solverScope) {
+        if (deltaSolutionCloner != null) {
+            // The best solution is no longer patched from now on
+            solverScope.getScoreDirector().setDeltaSolutionCloner(null);
+            deltaSolutionCloner = null;
+        }
     }
 
 }
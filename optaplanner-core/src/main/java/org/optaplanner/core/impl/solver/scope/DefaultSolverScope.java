@@ -28,6 +28,11 @@ import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.solver.metrics.NoOpSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
+import org.optaplanner.core.impl.solver.metrics.SolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.TaggedSolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.random.AbstractUnsynchronizedRandom;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +51,7 @@ public class DefaultSolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    protected SolverMetricsRegistry metricsRegistry = NoOpSolverMetricsRegistry.INSTANCE;
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
@@ -54,6 +60,7 @@ public class DefaultSolverScope<Solution_> {
     protected Score startingInitializedScore;
 
     protected volatile Solution_ bestSolution;
+    protected long bestSolutionStructureRevision = -1L;
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
 
@@ -89,6 +96,14 @@ public class DefaultSolverScope<Solution_> {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
     }
 
+    public SolverMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public void setMetricsRegistry(SolverMetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     public Long getStartingSystemTimeMillis() {
         return startingSystemTimeMillis;
     }
@@ -167,7 +182,17 @@ public class DefaultSolverScope<Solution_> {
      * @param bestSolution never null
      */
     public void setBestSolution(Solution_ bestSolution) {
+        setBestSolution(bestSolution, -1L);
+    }
+
+    /**
+     * @param bestSolution never null, a planning clone of the {@link PlanningSolution working solution}
+     * @param bestSolutionStructureRevision the {@link InnerScoreDirector#getWorkingStructureRevision()}
+     * when the bestSolution was cloned, -1 if unknown
+     */
+    public void setBestSolution(Solution_ bestSolution, long bestSolutionStructureRevision) {
         this.bestSolution = bestSolution;
+        this.bestSolutionStructureRevision = bestSolutionStructureRevision;
     }
 
     public Score getBestScore() {
@@ -227,16 +252,30 @@ public class DefaultSolverScope<Solution_> {
 
     public void setWorkingSolutionFromBestSolution() {
         // The workingSolution must never be the same instance as the bestSolution.
-        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(bestSolution));
+        scoreDirector.setWorkingSolutionFromClone(scoreDirector.cloneSolution(bestSolution),
+                bestSolutionStructureRevision);
     }
 
     public DefaultSolverScope<Solution_> createChildThreadSolverScope(ChildThreadType childThreadType) {
         DefaultSolverScope<Solution_> childThreadSolverScope = new DefaultSolverScope<>();
         childThreadSolverScope.startingSolverCount = startingSolverCount;
-        // TODO FIXME use RandomFactory
-        // Experiments show that this trick to attain reproducibility doesn't break uniform distribution
-        childThreadSolverScope.workingRandom = new Random(workingRandom.nextLong());
+        if (workingRandom instanceof AbstractUnsynchronizedRandom) {
+            // Jump or split, so the child thread doesn't overlap with this thread's random sequence
+            childThreadSolverScope.workingRandom = ((AbstractUnsynchronizedRandom) workingRandom).split();
+        } else {
+            // TODO FIXME use RandomFactory
+            // Experiments show that this trick to attain reproducibility doesn't break uniform distribution
+            childThreadSolverScope.workingRandom = new Random(workingRandom.nextLong());
+        }
         childThreadSolverScope.scoreDirector = scoreDirector.createChildThreadScoreDirector(childThreadType);
+        if (childThreadType == ChildThreadType.PART_THREAD) {
+            // The solver thread merges the part's best solutions into its own steps and best solutions,
+            // so tag those of the part separately to avoid counting them twice
+            childThreadSolverScope.metricsRegistry = new TaggedSolverMetricsRegistry(metricsRegistry,
+                    SolverMetric.THREAD_TAG, SolverMetric.PART_THREAD);
+        } else {
+            childThreadSolverScope.metricsRegistry = metricsRegistry;
+        }
         childThreadSolverScope.startingSystemTimeMillis = startingSystemTimeMillis;
         childThreadSolverScope.endingSystemTimeMillis = endingSystemTimeMillis;
         childThreadSolverScope.startingInitializedScore = null;
@@ -28,7 +28,8 @@ import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 /**
  * Concurrency notes:
- * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #restartSolverRequested} is true
+ * or {@link #terminatedEarly} is true).
  */
 public class BasicPlumbingTermination extends AbstractTermination {
 
@@ -38,6 +39,12 @@ public class BasicPlumbingTermination extends AbstractTermination {
     protected BlockingQueue<ProblemFactChange> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
     protected boolean problemFactChangesBeingProcessed = false;
+    /**
+     * True while the {@link #problemFactChangeQueue} is processed between steps,
+     * so a non-empty queue must not terminate the solver.
+     */
+    protected boolean problemFactChangesIncrementallyProcessed = false;
+    protected boolean restartSolverRequested = false;
 
     public BasicPlumbingTermination(boolean daemon) {
         this.daemon = daemon;
@@ -82,9 +89,9 @@ public class BasicPlumbingTermination extends AbstractTermination {
      */
     public synchronized boolean waitForRestartSolverDecision() {
         if (!daemon) {
-            return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
+            return (!problemFactChangeQueue.isEmpty() || restartSolverRequested) && !terminatedEarly;
         } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
+            while (problemFactChangeQueue.isEmpty() && !restartSolverRequested && !terminatedEarly) {
                 try {
                     wait();
                 } catch (InterruptedException e) {
@@ -120,9 +127,38 @@ public class BasicPlumbingTermination extends AbstractTermination {
 
     public synchronized BlockingQueue<ProblemFactChange> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
+        restartSolverRequested = false;
         return problemFactChangeQueue;
     }
 
+    /**
+     * @param problemFactChangesIncrementallyProcessed true if the {@link ProblemFactChange}s
+     * are processed between steps (without terminating the solver)
+     */
+    public synchronized void setProblemFactChangesIncrementallyProcessed(
+            boolean problemFactChangesIncrementallyProcessed) {
+        this.problemFactChangesIncrementallyProcessed = problemFactChangesIncrementallyProcessed;
+    }
+
+    /**
+     * This method is thread-safe.
+     * @return true if there are {@link ProblemFactChange}s that haven't started processing yet
+     */
+    public boolean hasProblemFactChanges() {
+        return !problemFactChangeQueue.isEmpty();
+    }
+
+    /**
+     * Terminates the solver (like a {@link ProblemFactChange} does) and restarts it,
+     * even if there are no more {@link ProblemFactChange}s to process.
+     * <p>
+     * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
+     */
+    public synchronized void requestRestartSolver() {
+        restartSolverRequested = true;
+        notifyAll();
+    }
+
     public synchronized void endProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = false;
     }
@@ -147,7 +183,8 @@ public class BasicPlumbingTermination extends AbstractTermination {
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        return terminatedEarly || restartSolverRequested
+                || (!problemFactChangesIncrementallyProcessed && !problemFactChangeQueue.isEmpty());
     }
 
     @Override
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.common.nearby;
+
+import org.junit.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+
+public class NearbySelectionConfigTest {
+
+    private NearbySelectionConfig buildNearbySelectionConfig() {
+        NearbySelectionConfig nearbySelectionConfig = new NearbySelectionConfig();
+        EntitySelectorConfig originEntitySelectorConfig = new EntitySelectorConfig();
+        originEntitySelectorConfig.setMimicSelectorRef("entitySelector");
+        nearbySelectionConfig.setOriginEntitySelectorConfig(originEntitySelectorConfig);
+        return nearbySelectionConfig;
+    }
+
+    @Test
+    public void validateNearbyWithDistanceMeter() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.setNearbyDistanceMeterClass(NearbyDistanceMeter.class);
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+    }
+
+    @Test
+    public void validateNearbyWithCoordinateExtractorAndOriginCacheSize() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.setNearbyCoordinateExtractorClass(NearbyCoordinateExtractor.class);
+        nearbySelectionConfig.setNearbyOriginCacheSize(10);
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.ORIGINAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void validateNearbyWithoutDistanceMeterAndCoordinateExtractor() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void validateNearbyWithDistanceMeterAndCoordinateExtractor() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.setNearbyDistanceMeterClass(NearbyDistanceMeter.class);
+        nearbySelectionConfig.setNearbyCoordinateExtractorClass(NearbyCoordinateExtractor.class);
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void validateNearbyWithOriginCacheSizeWithoutCoordinateExtractor() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.setNearbyDistanceMeterClass(NearbyDistanceMeter.class);
+        nearbySelectionConfig.setNearbyOriginCacheSize(10);
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void validateNearbyWithOriginCacheSizeLowerThanOne() {
+        NearbySelectionConfig nearbySelectionConfig = buildNearbySelectionConfig();
+        nearbySelectionConfig.setNearbyCoordinateExtractorClass(NearbyCoordinateExtractor.class);
+        nearbySelectionConfig.setNearbyOriginCacheSize(0);
+        nearbySelectionConfig.validateNearby(SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+    }
+
+}
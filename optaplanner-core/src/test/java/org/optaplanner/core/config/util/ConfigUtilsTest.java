@@ -83,6 +83,12 @@ public class ConfigUtilsTest {
         ConfigUtils.ceilDivide(20, -0);
     }
 
+    @Test
+    public void resolveThreadPoolSizeScriptWithPlainInteger() {
+        assertEquals(1, ConfigUtils.resolveThreadPoolSizeScript("moveThreadCount", "1"));
+        assertEquals(16, ConfigUtils.resolveThreadPoolSizeScript("moveThreadCount", "16"));
+    }
+
     @Test
     public void applyCustomProperties() {
         Map<String, String> customProperties = new HashMap<>();
@@ -99,6 +105,7 @@ public class ConfigUtilsTest {
         customProperties.put("bigDecimal", "9.9");
         customProperties.put("string", "This is a sentence.");
         customProperties.put("configUtilsTestBeanEnum", "BETA");
+        customProperties.put("clazz", ConfigUtilsTestBean.class.getName());
         ConfigUtilsTestBean bean = new ConfigUtilsTestBean();
         ConfigUtils.applyCustomProperties(bean, "bean", customProperties, "customProperties");
         assertEquals(true, bean.primitiveBoolean);
@@ -114,6 +121,7 @@ public class ConfigUtilsTest {
         assertEquals(new BigDecimal("9.9"), bean.bigDecimal);
         assertEquals("This is a sentence.", bean.string);
         assertEquals(ConfigUtilsTestBeanEnum.BETA, bean.configUtilsTestBeanEnum);
+        assertEquals(ConfigUtilsTestBean.class, bean.clazz);
     }
 
     @Test
@@ -148,6 +156,7 @@ public class ConfigUtilsTest {
         private BigDecimal bigDecimal;
         private String string;
         private ConfigUtilsTestBeanEnum configUtilsTestBeanEnum;
+        private Class<?> clazz;
 
         public void setPrimitiveBoolean(boolean primitiveBoolean) {
             this.primitiveBoolean = primitiveBoolean;
@@ -201,6 +210,10 @@ public class ConfigUtilsTest {
             this.configUtilsTestBeanEnum = configUtilsTestBeanEnum;
         }
 
+        public void setClazz(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
     }
 
     private enum ConfigUtilsTestBeanEnum {
@@ -16,13 +16,20 @@
 
 package org.optaplanner.core.impl.constructionheuristic;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -34,6 +41,7 @@ import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
 public class DefaultConstructionHeuristicPhaseTest {
@@ -158,4 +166,82 @@ public class DefaultConstructionHeuristicPhaseTest {
         assertEquals(-1, solution.getScore().getInitScore());
     }
 
+    @Test
+    public void solveMultiThreadedWithMoveThreadAdaptation() {
+        // Adapting the number of moves in flight never changes which moves are selected or foraged
+        assertEquals(solveMultiThreaded(EnvironmentMode.REPRODUCIBLE, false),
+                solveMultiThreaded(EnvironmentMode.REPRODUCIBLE, true));
+        assertEquals(solveMultiThreaded(EnvironmentMode.FULL_ASSERT, false),
+                solveMultiThreaded(EnvironmentMode.FULL_ASSERT, true));
+    }
+
+    private List<String> solveMultiThreaded(EnvironmentMode environmentMode, boolean moveThreadAdaptationEnabled) {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(environmentMode);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        solverFactory.getSolverConfig().setMoveThreadAdaptationEnabled(moveThreadAdaptationEnabled);
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                new ConstructionHeuristicPhaseConfig()));
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+        TestdataSolution solution = buildUninitializedSolution(20);
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(0, solution.getScore().getInitScore());
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getCode() + "->" + entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void solveMultiThreadedWithSolverThreadEvaluation() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                new ConstructionHeuristicPhaseConfig()));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        // A reproducible environment mode never allows solver thread evaluation, so inject a buffer that does
+        List<Integer> inFlightMoveLimitList = new ArrayList<>();
+        DefaultConstructionHeuristicPhase<TestdataSolution> phase
+                = (DefaultConstructionHeuristicPhase<TestdataSolution>) solver.getPhaseList().get(0);
+        ((MultiThreadedConstructionHeuristicDecider<TestdataSolution>) phase.getDecider())
+                .setAdaptiveMoveThreadBuffer(new AdaptiveMoveThreadBuffer(2, true) {
+                    @Override
+                    public int nextStepInFlightMoveLimit() {
+                        int inFlightMoveLimit = super.nextStepInFlightMoveLimit();
+                        inFlightMoveLimitList.add(inFlightMoveLimit);
+                        return inFlightMoveLimit;
+                    }
+                });
+
+        // More steps than the probe step interval, so the move threads catch up at least once
+        TestdataSolution solution = buildUninitializedSolution(120);
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(0, solution.getScore().getInitScore());
+        assertEquals(120, inFlightMoveLimitList.size());
+        int probeIndex = inFlightMoveLimitList.indexOf(AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION);
+        assertEquals(1, probeIndex);
+        // The move threads catch up on the steps decided on the solver thread
+        assertTrue(inFlightMoveLimitList.subList(probeIndex, inFlightMoveLimitList.size()).stream()
+                .anyMatch(inFlightMoveLimit -> inFlightMoveLimit != AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION));
+    }
+
+    private static TestdataSolution buildUninitializedSolution(int entityCount) {
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        List<TestdataEntity> entityList = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entityList.add(new TestdataEntity("e" + i, null));
+        }
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.customcloner.TestdataCorrectlyClonedSolution;
+
+import static org.junit.Assert.*;
+
+public class DeltaSolutionClonerTest {
+
+    @Test
+    public void cloneSolution() {
+        DeltaSolutionCloner<TestdataSolution> deltaSolutionCloner
+                = new DeltaSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Arrays.asList(v1, v2));
+        original.setEntityList(Arrays.asList(a, b));
+        original.setScore(SimpleScore.valueOf(-2));
+
+        TestdataSolution clone = deltaSolutionCloner.cloneSolution(original);
+        assertNotSame(original, clone);
+        TestdataEntity cloneA = clone.getEntityList().get(0);
+        TestdataEntity cloneB = clone.getEntityList().get(1);
+        assertNotSame(a, cloneA);
+        assertSame(v1, cloneA.getValue());
+        assertSame(v1, cloneB.getValue());
+
+        deltaSolutionCloner.beforeVariableChanged(b);
+        b.setValue(v2);
+        original.setScore(SimpleScore.valueOf(-1));
+        assertSame(clone, deltaSolutionCloner.cloneSolution(original));
+        assertSame(cloneA, clone.getEntityList().get(0));
+        assertSame(cloneB, clone.getEntityList().get(1));
+        assertSame(v1, cloneA.getValue());
+        assertSame(v2, cloneB.getValue());
+        assertEquals(SimpleScore.valueOf(-1), clone.getScore());
+
+        // An unnotified change is not patched
+        a.setValue(v2);
+        deltaSolutionCloner.cloneSolution(original);
+        assertSame(v1, cloneA.getValue());
+
+        deltaSolutionCloner.requireFullClone();
+        TestdataSolution fullClone = deltaSolutionCloner.cloneSolution(original);
+        assertNotSame(clone, fullClone);
+        assertSame(v2, fullClone.getEntityList().get(0).getValue());
+        assertSame(v2, fullClone.getEntityList().get(1).getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void customSolutionCloner() {
+        SolutionDescriptor<TestdataCorrectlyClonedSolution> solutionDescriptor = SolutionDescriptor
+                .buildSolutionDescriptor(TestdataCorrectlyClonedSolution.class, TestdataEntity.class);
+        new DeltaSolutionCloner<>(solutionDescriptor);
+    }
+
+}
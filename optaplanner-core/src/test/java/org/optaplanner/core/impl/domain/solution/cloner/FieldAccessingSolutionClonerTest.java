@@ -16,7 +16,23 @@
 
 package org.optaplanner.core.impl.domain.solution.cloner;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.collection.TestdataEntityCollectionPropertyEntity;
+import org.optaplanner.core.impl.testdata.domain.collection.TestdataEntityCollectionPropertySolution;
+
+import static org.junit.Assert.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
 public class FieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest {
 
@@ -26,4 +42,123 @@ public class FieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest
         return new FieldAccessingSolutionCloner<>(solutionDescriptor);
     }
 
+    @Test
+    public void cloneSolutionParts() {
+        FieldAccessingSolutionCloner<TestdataSolution> cloner
+                = createSolutionCloner(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataEntity c = new TestdataEntity("c", val2);
+        TestdataSolution original = new TestdataSolution("solution");
+        List<TestdataValue> valueList = Arrays.asList(val1, val2);
+        original.setValueList(valueList);
+        original.setEntityList(Arrays.asList(a, b, c));
+
+        List<TestdataSolution> partList = cloner.cloneSolutionParts(original,
+                Arrays.asList(Arrays.asList(a, c), Collections.singletonList(b)));
+        assertEquals(2, partList.size());
+        TestdataSolution part0 = partList.get(0);
+        TestdataSolution part1 = partList.get(1);
+        assertNotSame(original, part0);
+        assertNotSame(part0, part1);
+        // The problem facts are shared
+        assertSame(valueList, part0.getValueList());
+        assertSame(valueList, part1.getValueList());
+        assertAllCodesOfCollection(part0.getEntityList(), "a", "c");
+        assertAllCodesOfCollection(part1.getEntityList(), "b");
+        assertNotSame(a, part0.getEntityList().get(0));
+        assertSame(val1, part0.getEntityList().get(0).getValue());
+        assertSame(val2, part0.getEntityList().get(1).getValue());
+        assertNotSame(b, part1.getEntityList().get(0));
+        assertSame(val2, part1.getEntityList().get(0).getValue());
+
+        part1.getEntityList().get(0).setValue(val1);
+        // The original remains unchanged
+        assertSame(val2, b.getValue());
+    }
+
+    @Test
+    public void cloneChainedSolutionParts() {
+        FieldAccessingSolutionCloner<TestdataChainedSolution> cloner
+                = createSolutionCloner(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(Arrays.asList(a0, b0));
+        original.setChainedEntityList(Arrays.asList(a1, a2, b1));
+
+        List<TestdataChainedSolution> partList = cloner.cloneSolutionParts(original,
+                Arrays.asList(Arrays.asList(a1, a2), Collections.singletonList(b1)));
+        List<TestdataChainedEntity> part0EntityList = partList.get(0).getChainedEntityList();
+        assertAllCodesOfCollection(part0EntityList, "a1", "a2");
+        assertSame(a0, part0EntityList.get(0).getChainedObject());
+        assertSame(part0EntityList.get(0), part0EntityList.get(1).getChainedObject());
+        assertAllCodesOfCollection(partList.get(1).getChainedEntityList(), "b1");
+
+        try {
+            cloner.cloneSolutionParts(original, Arrays.asList(Arrays.asList(a1, b1), Collections.singletonList(a2)));
+            fail("The entity a2 of part 1 references the entity a1 of part 0.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("a1"));
+        }
+    }
+
+    @Test
+    public void cloneSolutionPartsWithEntityOfOtherPartInCollectionOrMap() {
+        FieldAccessingSolutionCloner<TestdataEntityCollectionPropertySolution> cloner
+                = createSolutionCloner(TestdataEntityCollectionPropertySolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataEntityCollectionPropertyEntity a = new TestdataEntityCollectionPropertyEntity("a", val1);
+        TestdataEntityCollectionPropertyEntity b = new TestdataEntityCollectionPropertyEntity("b", val1);
+        a.setEntityList(Collections.singletonList(a));
+        b.setEntityList(Collections.singletonList(b));
+        TestdataEntityCollectionPropertySolution original = new TestdataEntityCollectionPropertySolution("solution");
+        original.setValueList(Collections.singletonList(val1));
+        original.setEntityList(Arrays.asList(a, b));
+
+        List<TestdataEntityCollectionPropertySolution> partList = cloner.cloneSolutionParts(original,
+                Arrays.asList(Collections.singletonList(a), Collections.singletonList(b)));
+        TestdataEntityCollectionPropertyEntity partA = partList.get(0).getEntityList().get(0);
+        assertEquals(1, partList.get(0).getEntityList().size());
+        assertSame(partA, partA.getEntityList().get(0));
+
+        // Like a direct reference, a reference in a collection or map to another part's entity fails fast
+        a.setEntityList(Arrays.asList(a, b));
+        try {
+            cloner.cloneSolutionParts(original,
+                    Arrays.asList(Collections.singletonList(a), Collections.singletonList(b)));
+            fail("The entity a of part 0 references the entity b of part 1 in a collection.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("(b) of part (1)"));
+        }
+        a.setEntityList(Collections.singletonList(a));
+        a.setStringToEntityMap(Collections.singletonMap("b", b));
+        try {
+            cloner.cloneSolutionParts(original,
+                    Arrays.asList(Collections.singletonList(a), Collections.singletonList(b)));
+            fail("The entity a of part 0 references the entity b of part 1 in a map.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("(b) of part (1)"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cloneSolutionPartsWithMissingEntity() {
+        FieldAccessingSolutionCloner<TestdataSolution> cloner
+                = createSolutionCloner(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Collections.singletonList(val1));
+        original.setEntityList(Arrays.asList(a, b));
+
+        cloner.cloneSolutionParts(original, Collections.singletonList(Collections.singletonList(a)));
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.mutation;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+
+public class MutationTrackerTest {
+
+    @Test
+    public void countMutations() {
+        EntityDescriptor<TestdataSolution> entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor
+                = entityDescriptor.getGenuineVariableDescriptor("value");
+        MutationTracker<TestdataSolution> mutationTracker = new MutationTracker<>();
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", val3);
+        assertEquals(0, mutationTracker.countMutations());
+
+        changeValue(mutationTracker, variableDescriptor, a, val2);
+        changeValue(mutationTracker, variableDescriptor, b, val2);
+        assertEquals(2, mutationTracker.countMutations());
+        // Changed back to its value at the last reset
+        changeValue(mutationTracker, variableDescriptor, b, val3);
+        changeValue(mutationTracker, variableDescriptor, b, val1);
+        assertEquals(1, mutationTracker.countMutations());
+
+        mutationTracker.resetMutations();
+        assertEquals(0, mutationTracker.countMutations());
+        changeValue(mutationTracker, variableDescriptor, a, val1);
+        changeValue(mutationTracker, variableDescriptor, c, val1);
+        assertEquals(2, mutationTracker.countMutations());
+    }
+
+    @Test
+    public void countMutationsWithAddedAndRemovedEntities() {
+        EntityDescriptor<TestdataSolution> entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor
+                = entityDescriptor.getGenuineVariableDescriptor("value");
+        MutationTracker<TestdataSolution> mutationTracker = new MutationTracker<>();
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", null);
+
+        changeValue(mutationTracker, variableDescriptor, a, val2);
+        mutationTracker.afterEntityRemoved(entityDescriptor, a);
+        assertEquals(1, mutationTracker.countMutations());
+        mutationTracker.afterEntityAdded(entityDescriptor, c);
+        changeValue(mutationTracker, variableDescriptor, c, val2);
+        assertEquals(2, mutationTracker.countMutations());
+        mutationTracker.afterEntityRemoved(entityDescriptor, c);
+        assertEquals(1, mutationTracker.countMutations());
+        changeValue(mutationTracker, variableDescriptor, b, val2);
+        assertEquals(2, mutationTracker.countMutations());
+
+        mutationTracker.resetMutations();
+        assertEquals(0, mutationTracker.countMutations());
+    }
+
+    private void changeValue(MutationTracker<TestdataSolution> mutationTracker,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        mutationTracker.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+    }
+
+}
@@ -57,6 +57,16 @@ public class ListValueRangeTest {
         assertEquals(false, new ListValueRange<>(Arrays.asList("b", "z", "a")).contains("n"));
     }
 
+    @Test
+    public void containsHashIndexed() {
+        assertEquals(true, new ListValueRange<>(Arrays.asList(0, 2, 5, 10), true).contains(5));
+        assertEquals(false, new ListValueRange<>(Arrays.asList(0, 2, 5, 10), true).contains(4));
+        assertEquals(false, new ListValueRange<>(Arrays.asList(0, 2, 5, 10), true).contains(null));
+        assertEquals(true, new ListValueRange<>(Arrays.asList("b", "z", "a"), true).contains("a"));
+        assertEquals(false, new ListValueRange<>(Arrays.asList("b", "z", "a"), true).contains("n"));
+        assertEquals(false, new ListValueRange<>(Collections.<String>emptyList(), true).contains("n"));
+    }
+
     @Test
     public void createOriginalIterator() {
         assertAllElementsOfIterator(new ListValueRange<>(Arrays.asList(0, 2, 5, 10)).createOriginalIterator(), 0, 2, 5, 10);
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.descriptor;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingSolution;
+
+import static org.junit.Assert.*;
+
+public class ValueRangeCacheTest {
+
+    @Test
+    public void extractValueRange() {
+        GenuineVariableDescriptor<TestdataEntityProvidingSolution> variableDescriptor
+                = TestdataEntityProvidingEntity.buildVariableDescriptorForValue();
+        ValueRangeDescriptor<TestdataEntityProvidingSolution> valueRangeDescriptor
+                = variableDescriptor.getValueRangeDescriptor();
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2));
+        TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v2, v3));
+        TestdataEntityProvidingSolution solution = new TestdataEntityProvidingSolution("s");
+        solution.setEntityList(Arrays.asList(a, b));
+
+        ValueRangeCache<TestdataEntityProvidingSolution> valueRangeCache = new ValueRangeCache<>();
+        ValueRange<TestdataValue> aValueRange = (ValueRange<TestdataValue>)
+                valueRangeCache.extractValueRange(valueRangeDescriptor, solution, a);
+        assertTrue(aValueRange.contains(v1));
+        assertTrue(aValueRange.contains(v2));
+        assertFalse(aValueRange.contains(v3));
+        assertTrue(aValueRange.contains(null)); // Nullable variable
+        assertSame(aValueRange, valueRangeCache.extractValueRange(valueRangeDescriptor, solution, a));
+        ValueRange<TestdataValue> bValueRange = (ValueRange<TestdataValue>)
+                valueRangeCache.extractValueRange(valueRangeDescriptor, solution, b);
+        assertNotSame(aValueRange, bValueRange);
+        assertFalse(bValueRange.contains(v1));
+        assertTrue(bValueRange.contains(v3));
+
+        valueRangeCache.removeEntity(a);
+        assertNotSame(aValueRange, valueRangeCache.extractValueRange(valueRangeDescriptor, solution, a));
+        assertSame(bValueRange, valueRangeCache.extractValueRange(valueRangeDescriptor, solution, b));
+        valueRangeCache.clear();
+        assertNotSame(bValueRange, valueRangeCache.extractValueRange(valueRangeDescriptor, solution, b));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.listener.VariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SynchronizedScoreDirectorTest {
+
+    @Test
+    public void changeEntityOfOtherChain() {
+        ScoreDirector<TestdataRichChainedSolution> delegate = mock(ScoreDirector.class);
+        VariableListener variableListener = mock(VariableListener.class);
+        Object lock = new Object();
+        Map<Object, Object> entityToChainMap = new IdentityHashMap<>();
+        SynchronizedScoreDirector<TestdataRichChainedSolution> chainAScoreDirector = new SynchronizedScoreDirector<>(
+                delegate, variableListener, lock, entityToChainMap, "a");
+        SynchronizedScoreDirector<TestdataRichChainedSolution> chainBScoreDirector = new SynchronizedScoreDirector<>(
+                delegate, variableListener, lock, entityToChainMap, "b");
+        TestdataRichChainedEntity a1 = new TestdataRichChainedEntity("a1");
+        TestdataRichChainedEntity b1 = new TestdataRichChainedEntity("b1");
+
+        chainAScoreDirector.beforeVariableChanged(a1, "anchor");
+        chainAScoreDirector.afterVariableChanged(a1, "anchor");
+        chainBScoreDirector.beforeVariableChanged(b1, "anchor");
+        chainBScoreDirector.afterVariableChanged(b1, "anchor");
+        verify(delegate).beforeVariableChanged(a1, "anchor");
+        verify(delegate).afterVariableChanged(b1, "anchor");
+        try {
+            chainBScoreDirector.beforeVariableChanged(a1, "anchor");
+            fail("The entity of another chain was changed.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("(a1)"));
+        }
+        verify(delegate, times(1)).beforeVariableChanged(a1, "anchor");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addEntity() {
+        SynchronizedScoreDirector<TestdataRichChainedSolution> chainScoreDirector = new SynchronizedScoreDirector<>(
+                mock(ScoreDirector.class), mock(VariableListener.class), new Object(), new IdentityHashMap<>(), "a");
+        chainScoreDirector.beforeEntityAdded(new TestdataRichChainedEntity("a1"));
+    }
+
+}
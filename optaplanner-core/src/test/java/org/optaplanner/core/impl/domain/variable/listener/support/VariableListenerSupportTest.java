@@ -16,9 +16,12 @@
 
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSingletonInverseVariableSupply;
@@ -26,14 +29,21 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInvers
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableListener;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreCalculator;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirector;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
 
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
@@ -112,4 +122,78 @@ public class VariableListenerSupportTest {
         assertSame(supply1, supply2);
     }
 
+    @Test
+    public void triggerChainLocalVariableListenerWithChainParallelism() {
+        TestdataRichChainedAnchor a0 = new TestdataRichChainedAnchor("a0");
+        TestdataRichChainedEntity a1 = new TestdataRichChainedEntity("a1", a0);
+        TestdataRichChainedEntity a2 = new TestdataRichChainedEntity("a2", a1);
+        TestdataRichChainedEntity a3 = new TestdataRichChainedEntity("a3", a2);
+        TestdataRichChainedAnchor b0 = new TestdataRichChainedAnchor("b0");
+        TestdataRichChainedEntity b1 = new TestdataRichChainedEntity("b1", b0);
+        TestdataRichChainedEntity b2 = new TestdataRichChainedEntity("b2", b1);
+        TestdataRichChainedAnchor c0 = new TestdataRichChainedAnchor("c0");
+        TestdataRichChainedEntity c1 = new TestdataRichChainedEntity("c1", c0);
+        for (TestdataRichChainedEntity entity : Arrays.asList(a1, a2, a3, b1, b2, c1)) {
+            entity.getChainedObject().setNextEntity(entity);
+        }
+        a1.setAnchor(a0);
+        a2.setAnchor(a0);
+        a3.setAnchor(a0);
+        b1.setAnchor(b0);
+        b2.setAnchor(b0);
+        c1.setAnchor(c0);
+        TestdataRichChainedSolution solution = new TestdataRichChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, b1, b2, c1));
+
+        SolutionDescriptor<TestdataRichChainedSolution> solutionDescriptor
+                = TestdataRichChainedSolution.buildSolutionDescriptor();
+        IncrementalScoreDirectorFactory<TestdataRichChainedSolution> scoreDirectorFactory
+                = mock(IncrementalScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        IncrementalScoreCalculator<TestdataRichChainedSolution> incrementalScoreCalculator
+                = mock(IncrementalScoreCalculator.class);
+        IncrementalScoreDirector<TestdataRichChainedSolution> scoreDirector
+                = new IncrementalScoreDirector<TestdataRichChainedSolution>(
+                scoreDirectorFactory, false, false, incrementalScoreCalculator) {
+            @Override
+            public Score calculateScore() {
+                return SimpleScore.valueOf(0);
+            }
+        };
+        scoreDirector.setVariableListenerChainThreadFactory(new DefaultSolverThreadFactory("ChainThread"));
+        scoreDirector.setWorkingSolution(solution);
+        reset(incrementalScoreCalculator);
+
+        // Swap the tails of chain a and b, so the anchors of both chains are updated concurrently
+        Move<TestdataRichChainedSolution> step = mock(Move.class);
+        when(step.doMove(scoreDirector)).thenAnswer(invocation -> {
+            scoreDirector.beforeVariableChanged(a2, "chainedObject");
+            a2.setChainedObject(b0);
+            scoreDirector.afterVariableChanged(a2, "chainedObject");
+            scoreDirector.beforeVariableChanged(b1, "chainedObject");
+            b1.setChainedObject(a1);
+            scoreDirector.afterVariableChanged(b1, "chainedObject");
+            scoreDirector.triggerVariableListeners();
+            return mock(Move.class);
+        });
+        scoreDirector.doStep(step);
+        assertSame(b1, a1.getNextEntity());
+        assertSame(a2, b0.getNextEntity());
+        assertSame(a0, a1.getAnchor());
+        assertSame(a0, b1.getAnchor());
+        assertSame(a0, b2.getAnchor());
+        assertSame(b0, a2.getAnchor());
+        assertSame(b0, a3.getAnchor());
+        assertSame(c0, c1.getAnchor());
+        assertNull(a3.getNextEntity());
+        for (TestdataRichChainedEntity entity : Arrays.asList(a2, a3, b1, b2)) {
+            verify(incrementalScoreCalculator, times(1)).beforeVariableChanged(entity, "anchor");
+            verify(incrementalScoreCalculator, times(1)).afterVariableChanged(entity, "anchor");
+        }
+        verify(incrementalScoreCalculator, never()).beforeVariableChanged(a1, "anchor");
+        verify(incrementalScoreCalculator, never()).beforeVariableChanged(c1, "anchor");
+        scoreDirector.close();
+    }
+
 }
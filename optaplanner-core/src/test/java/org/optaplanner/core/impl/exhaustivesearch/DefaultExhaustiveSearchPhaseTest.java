@@ -18,12 +18,17 @@ package org.optaplanner.core.impl.exhaustivesearch;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchType;
+import org.optaplanner.core.config.exhaustivesearch.NodeExplorationType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
@@ -32,7 +37,10 @@ import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseSco
 import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -44,6 +52,8 @@ import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
@@ -147,6 +157,79 @@ public class DefaultExhaustiveSearchPhaseTest {
         assertEquals(0, solution.getScore().getInitScore());
     }
 
+    @Test
+    public void solveWithExpandableNodeLimit() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        ExhaustiveSearchPhaseConfig phaseConfig = new ExhaustiveSearchPhaseConfig();
+        phaseConfig.setNodeExplorationType(NodeExplorationType.BREADTH_FIRST);
+        phaseConfig.setExpandableNodeLimit(2);
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(phaseConfig));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        DefaultExhaustiveSearchPhase<TestdataSolution> phase
+                = (DefaultExhaustiveSearchPhase<TestdataSolution>) solver.getPhaseList().get(0);
+        AtomicReference<Comparator<? super ExhaustiveSearchNode>> endComparatorReference = new AtomicReference<>();
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                endComparatorReference.set(((ExhaustiveSearchPhaseScope<TestdataSolution>) phaseScope)
+                        .getExpandableNodeQueue().comparator());
+            }
+        });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null),
+                new TestdataEntity("e3", null)));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        for (TestdataEntity entity : solution.getEntityList()) {
+            assertNotNull(entity.getValue());
+        }
+        assertEquals(0, solution.getScore().getInitScore());
+        assertNotSame(phase.getNodeComparator(), phase.getFallbackNodeComparator());
+        assertSame(phase.getFallbackNodeComparator(), endComparatorReference.get());
+    }
+
+    @Test
+    public void solveMultiThreaded() {
+        for (ExhaustiveSearchType exhaustiveSearchType : ExhaustiveSearchType.values()) {
+            SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                    TestdataSolution.class, TestdataEntity.class);
+            solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+            solverFactory.getSolverConfig().setMoveThreadCount("2");
+            ExhaustiveSearchPhaseConfig phaseConfig = new ExhaustiveSearchPhaseConfig();
+            phaseConfig.setExhaustiveSearchType(exhaustiveSearchType);
+            solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(phaseConfig));
+            Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+            TestdataSolution solution = new TestdataSolution("s1");
+            TestdataValue v1 = new TestdataValue("v1");
+            TestdataValue v2 = new TestdataValue("v2");
+            TestdataValue v3 = new TestdataValue("v3");
+            solution.setValueList(Arrays.asList(v1, v2, v3));
+            solution.setEntityList(Arrays.asList(
+                    new TestdataEntity("e1", null),
+                    new TestdataEntity("e2", v2),
+                    new TestdataEntity("e3", null),
+                    new TestdataEntity("e4", null)));
+
+            solution = solver.solve(solution);
+            assertNotNull(solution);
+            for (TestdataEntity entity : solution.getEntityList()) {
+                assertNotNull(entity.getValue());
+            }
+            assertEquals(v2, solution.getEntityList().get(1).getValue());
+            assertEquals(0, solution.getScore().getInitScore());
+        }
+    }
+
     @Test
     public void solveWithImmovableEntities() {
         SolverFactory<TestdataImmovableSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
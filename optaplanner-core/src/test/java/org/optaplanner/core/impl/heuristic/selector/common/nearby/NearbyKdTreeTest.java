@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+import static org.junit.Assert.*;
+
+public class NearbyKdTreeTest {
+
+    private static final NearbyCoordinateExtractor<PointTestdataObject> EXTRACTOR = point -> point.coordinates;
+
+    @Test
+    public void findNearest() {
+        PointTestdataObject a = new PointTestdataObject("a", 0.0, 0.0);
+        PointTestdataObject b = new PointTestdataObject("b", 4.0, 0.0);
+        PointTestdataObject c = new PointTestdataObject("c", 0.0, 2.0);
+        PointTestdataObject d = new PointTestdataObject("d", 6.0, 6.0);
+        NearbyKdTree kdTree = new NearbyKdTree(EXTRACTOR, Arrays.asList(a, b, c, d));
+        assertEquals(4, kdTree.getSize());
+        assertEquals(2, kdTree.getDimensionCount());
+
+        assertArrayEquals(new Object[]{a, c, b, d}, kdTree.findNearest(a.coordinates, 4, null));
+        assertArrayEquals(new Object[]{b, a, c}, kdTree.findNearest(b.coordinates, 3, null));
+        assertArrayEquals(new Object[]{d}, kdTree.findNearest(d.coordinates, 1, null));
+        assertArrayEquals(new Object[]{a, c, b, d}, kdTree.findNearest(a.coordinates, 10, null));
+        assertArrayEquals(new Object[]{c, d}, kdTree.findNearest(a.coordinates, 4,
+                destination -> destination == c || destination == d));
+        assertArrayEquals(new Object[0], kdTree.findNearest(a.coordinates, 0, null));
+    }
+
+    @Test
+    public void findNearestWithSameDistance() {
+        PointTestdataObject a = new PointTestdataObject("a", 1.0, 0.0);
+        PointTestdataObject b = new PointTestdataObject("b", 0.0, 1.0);
+        PointTestdataObject c = new PointTestdataObject("c", -1.0, 0.0);
+        PointTestdataObject d = new PointTestdataObject("d", 0.0, -1.0);
+        PointTestdataObject e = new PointTestdataObject("e", 0.0, 0.0);
+        NearbyKdTree kdTree = new NearbyKdTree(EXTRACTOR, Arrays.asList(d, c, b, a, e));
+        // Ties are ordered by the destination list order, like the NearbyDistanceMatrix does
+        assertArrayEquals(new Object[]{e, d, c, b, a}, kdTree.findNearest(e.coordinates, 5, null));
+        assertArrayEquals(new Object[]{e, d, c}, kdTree.findNearest(e.coordinates, 3, null));
+    }
+
+    @Test
+    public void findNearestMatchesBruteForce() {
+        Random random = new Random(37);
+        List<Object> destinationList = new ArrayList<>(500);
+        for (int i = 0; i < 500; i++) {
+            // Rounded, so there are duplicate coordinates and equal distances
+            destinationList.add(new PointTestdataObject("p" + i,
+                    Math.floor(random.nextDouble() * 20.0), Math.floor(random.nextDouble() * 20.0)));
+        }
+        NearbyKdTree kdTree = new NearbyKdTree(EXTRACTOR, destinationList);
+        for (int i = 0; i < 50; i++) {
+            double[] originCoordinates = {random.nextDouble() * 20.0, random.nextDouble() * 20.0};
+            List<Object> expectedList = new ArrayList<>(destinationList);
+            Collections.sort(expectedList, Comparator.comparingDouble(destination -> {
+                double[] coordinates = ((PointTestdataObject) destination).coordinates;
+                double dx = coordinates[0] - originCoordinates[0];
+                double dy = coordinates[1] - originCoordinates[1];
+                return dx * dx + dy * dy;
+            }));
+            int k = 1 + random.nextInt(100);
+            assertArrayEquals(expectedList.subList(0, k).toArray(), kdTree.findNearest(originCoordinates, k, null));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void differentDimensionCount() {
+        new NearbyKdTree((NearbyCoordinateExtractor<double[]>) coordinates -> coordinates,
+                Arrays.asList(new double[]{0.0, 0.0}, new double[]{0.0}));
+    }
+
+    protected static class PointTestdataObject extends TestdataObject {
+
+        private final double[] coordinates;
+
+        public PointTestdataObject(String code, double x, double y) {
+            super(code);
+            coordinates = new double[]{x, y};
+        }
+
+        public double[] getCoordinates() {
+            return coordinates;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyKdTreeTest.PointTestdataObject;
+
+import static org.junit.Assert.*;
+
+public class NearbySpatialIndexTest {
+
+    @Test
+    public void getDestination() {
+        List<Object> destinationList = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            destinationList.add(new PointTestdataObject("p" + i, i, 0.0));
+        }
+        // A cache of 1 origin, so the other origin is evicted and calculated again
+        NearbySpatialIndex spatialIndex = new NearbySpatialIndex(
+                (NearbyCoordinateExtractor<PointTestdataObject>) point -> point.getCoordinates(),
+                destinationList, null, Integer.MAX_VALUE, 1);
+        Object p0 = destinationList.get(0);
+        Object p50 = destinationList.get(50);
+        assertSame(p0, spatialIndex.getDestination(p0, 0));
+        assertSame(destinationList.get(1), spatialIndex.getDestination(p0, 1));
+        assertSame(p50, spatialIndex.getDestination(p50, 0));
+        assertSame(destinationList.get(49), spatialIndex.getDestination(p50, 1));
+        assertSame(destinationList.get(51), spatialIndex.getDestination(p50, 2));
+        // Beyond the initially sorted destinations
+        assertSame(destinationList.get(99), spatialIndex.getDestination(p0, 99));
+        assertSame(destinationList.get(20), spatialIndex.getDestination(p0, 20));
+        assertSame(destinationList.get(0), spatialIndex.getDestination(p50, 99));
+    }
+
+    @Test
+    public void getDestinationWithOriginDestinations() {
+        PointTestdataObject a = new PointTestdataObject("a", 0.0, 0.0);
+        PointTestdataObject b = new PointTestdataObject("b", 1.0, 0.0);
+        PointTestdataObject c = new PointTestdataObject("c", 2.0, 0.0);
+        PointTestdataObject d = new PointTestdataObject("d", 3.0, 0.0);
+        NearbySpatialIndex spatialIndex = new NearbySpatialIndex(
+                (NearbyCoordinateExtractor<PointTestdataObject>) point -> point.getCoordinates(),
+                Arrays.asList(a, b, c, d),
+                origin -> origin == a ? Arrays.<Object>asList(c, d).iterator() : Arrays.<Object>asList(a, b, c, d).iterator(),
+                3, 10);
+        assertSame(c, spatialIndex.getDestination(a, 0));
+        assertSame(d, spatialIndex.getDestination(a, 1));
+        assertSame(b, spatialIndex.getDestination(b, 0));
+        assertSame(c, spatialIndex.getDestination(b, 2));
+        try {
+            // Limited by the destinationSizeMaximum
+            spatialIndex.getDestination(b, 3);
+            fail("The destinationSizeMaximum is 3.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("nearbyIndex (3)"));
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.nearby;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+
+import static org.mockito.Mockito.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class NearEntityNearbyEntitySelectorTest {
+
+    private final TestdataEntity a = new TestdataEntity("a");
+    private final TestdataEntity b = new TestdataEntity("b");
+    private final TestdataEntity c = new TestdataEntity("c");
+    private final TestdataEntity d = new TestdataEntity("d");
+
+    private NearbyCoordinateExtractor<TestdataEntity> buildCoordinateExtractor() {
+        Map<TestdataEntity, double[]> coordinatesMap = new IdentityHashMap<>();
+        coordinatesMap.put(a, new double[]{0.0, 0.0});
+        coordinatesMap.put(b, new double[]{1.0, 0.0});
+        coordinatesMap.put(c, new double[]{5.0, 0.0});
+        coordinatesMap.put(d, new double[]{20.0, 0.0});
+        return coordinatesMap::get;
+    }
+
+    @Test
+    public void originalSelectionWithCoordinateExtractor() {
+        EntityDescriptor entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        EntitySelector childEntitySelector = SelectorTestUtils.mockEntitySelector(entityDescriptor, a, b, c, d);
+        // The origin is repeated, because the nearby iterator takes the origin again for every selection
+        EntitySelector originEntitySelectorB = SelectorTestUtils.mockEntitySelector(entityDescriptor, b, b, b);
+        NearEntityNearbyEntitySelector entitySelector = new NearEntityNearbyEntitySelector(
+                childEntitySelector, originEntitySelectorB, null, buildCoordinateExtractor(), 10, null, false);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        entitySelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        entitySelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        entitySelector.stepStarted(stepScope);
+        // The origin itself is the nearest, so it is discarded
+        assertAllCodesOfEntitySelector(entitySelector, "a", "c", "d");
+        entitySelector.stepEnded(stepScope);
+
+        entitySelector.phaseEnded(phaseScope);
+        entitySelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childEntitySelector, 1, 1, 1);
+        verifyPhaseLifecycle(originEntitySelectorB, 1, 1, 1);
+        // The coordinate extractor doesn't need the origins up front
+        verify(originEntitySelectorB, never()).endingIterator();
+    }
+
+    @Test
+    public void randomSelectionWithCoordinateExtractorDiscardsNearbyIndexZero() {
+        EntityDescriptor entityDescriptor = TestdataEntity.buildEntityDescriptor();
+        EntitySelector childEntitySelector = SelectorTestUtils.mockEntitySelector(entityDescriptor, a, b, c, d);
+        EntitySelector originEntitySelectorD = SelectorTestUtils.mockEntitySelector(entityDescriptor, d, d, d);
+        NearbyRandom nearbyRandom = mock(NearbyRandom.class);
+        // The origin itself is discarded, so only the 2 nearest destinations per origin are ever sorted
+        when(nearbyRandom.getOverallSizeMaximum()).thenReturn(1);
+        when(nearbyRandom.nextInt(any(Random.class), anyInt())).thenReturn(0);
+        NearEntityNearbyEntitySelector entitySelector = new NearEntityNearbyEntitySelector(
+                childEntitySelector, originEntitySelectorD, null, buildCoordinateExtractor(), 10, nearbyRandom, true);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        entitySelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        entitySelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        entitySelector.stepStarted(stepScope);
+        // The nearby index 1 is the last one within the destinationSizeMaximum
+        assertCodesOfNeverEndingOfEntitySelector(entitySelector, 3L, "c", "c");
+        entitySelector.stepEnded(stepScope);
+
+        entitySelector.phaseEnded(phaseScope);
+        entitySelector.solvingEnded(solverScope);
+
+        verify(nearbyRandom, times(2)).nextInt(any(Random.class), eq(3));
+        verifyPhaseLifecycle(childEntitySelector, 1, 1, 1);
+    }
+
+}
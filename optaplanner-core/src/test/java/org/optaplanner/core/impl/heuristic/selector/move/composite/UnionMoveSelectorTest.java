@@ -103,7 +103,8 @@ public class UnionMoveSelectorTest {
                 new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap));
 
         Random workingRandom = mock(Random.class);
-        when(workingRandom.nextDouble()).thenReturn(1.0 / 1020.0, 1019.0 / 1020.0, 1000.0 / 1020.0, 0.0, 999.0 / 1020.0);
+        // Alias table buckets: a (100%), b (4% else a) and when b ends: a (100%)
+        when(workingRandom.nextDouble()).thenReturn(1.5 / 2.0, 1.02 / 2.0, 1.02 / 2.0, 0.0, 0.75);
 
         DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
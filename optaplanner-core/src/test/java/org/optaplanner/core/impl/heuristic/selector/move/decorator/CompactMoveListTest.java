@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+
+public class CompactMoveListTest {
+
+    @Test
+    public void addAndGet() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList
+                = Collections.singletonList(variableDescriptor);
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        DummyMove dummyMove = new DummyMove("d");
+
+        CompactMoveList moveList = new CompactMoveList(0);
+        moveList.add(new ChangeMove<>(a, variableDescriptor, v1));
+        moveList.add(new ChangeMove<>(b, variableDescriptor, null));
+        moveList.add(dummyMove);
+        moveList.add(new SwapMove<>(variableDescriptorList, a, b));
+        assertEquals(4, moveList.size());
+
+        Move move0 = moveList.get(0);
+        assertEquals(ChangeMove.class, move0.getClass());
+        assertSame(a, ((ChangeMove) move0).getEntity());
+        assertSame(v1, ((ChangeMove) move0).getToPlanningValue());
+        assertNotSame(move0, moveList.get(0));
+        assertEquals(move0, moveList.get(0));
+        assertSame(b, ((ChangeMove) moveList.get(1)).getEntity());
+        assertNull(((ChangeMove) moveList.get(1)).getToPlanningValue());
+        assertSame(dummyMove, moveList.get(2));
+        Move move3 = moveList.get(3);
+        assertEquals(SwapMove.class, move3.getClass());
+        assertSame(a, ((SwapMove) move3).getLeftEntity());
+        assertSame(b, ((SwapMove) move3).getRightEntity());
+
+        moveList.clear();
+        assertEquals(0, moveList.size());
+        moveList.add(new ChangeMove<>(b, variableDescriptor, v1));
+        assertSame(b, ((ChangeMove) moveList.get(0)).getEntity());
+    }
+
+    @Test
+    public void shuffle() {
+        List<Move> expectedMoveList = buildMoveList();
+        CompactMoveList moveList = new CompactMoveList();
+        moveList.addAll(expectedMoveList);
+
+        Collections.shuffle(expectedMoveList, new Random(37));
+        moveList.shuffle(new Random(37));
+        assertEquals(expectedMoveList, moveList);
+    }
+
+    @Test
+    public void sort() {
+        List<Move> expectedMoveList = buildMoveList();
+        CompactMoveList moveList = new CompactMoveList();
+        moveList.addAll(expectedMoveList);
+
+        // Only sort on the value, so the sort must be stable to keep the entity order
+        Comparator<Move> comparator = Comparator.comparing(
+                move -> ((TestdataValue) ((ChangeMove) move).getToPlanningValue()).getCode(),
+                Comparator.reverseOrder());
+        expectedMoveList.sort(comparator);
+        moveList.sort(comparator);
+        assertEquals(expectedMoveList, moveList);
+    }
+
+    private List<Move> buildMoveList() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        List<TestdataValue> valueList = Arrays.asList(
+                new TestdataValue("v1"), new TestdataValue("v2"), new TestdataValue("v3"));
+        List<Move> moveList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TestdataEntity entity = new TestdataEntity("e" + i);
+            for (TestdataValue value : valueList) {
+                moveList.add(new ChangeMove<>(entity, variableDescriptor, value));
+            }
+        }
+        return moveList;
+    }
+
+}
@@ -58,7 +58,8 @@ public class ProbabilityMoveSelectorTest {
                 probabilityWeightFactory);
 
         Random workingRandom = mock(Random.class);
-        when(workingRandom.nextDouble()).thenReturn(1222.0 / 1234.0, 111.0 / 1234.0, 0.0, 1230.0 / 1234.0, 1199.0 / 1234.0);
+        // Alias table buckets: e1 (100%), e2 (65% else e1), e3 (10% else e1), e4 (1% else e1)
+        when(workingRandom.nextDouble()).thenReturn(2.05 / 4.0, 0.0, 2.5 / 4.0, 3.01 / 4.0, 1.5 / 4.0);
 
         DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
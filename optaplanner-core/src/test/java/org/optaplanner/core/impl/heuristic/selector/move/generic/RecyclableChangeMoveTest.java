@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RecyclableChangeMoveTest {
+
+    @Test
+    public void resetAndUndo() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        RecyclableChangeMove<TestdataSolution> move = new RecyclableChangeMove<>(variableDescriptor);
+
+        move.reset(a, v3);
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertSame(v3, a.getValue());
+        // The undo move and the move recycle each other
+        assertSame(move, undoMove.doMove(scoreDirector));
+        assertSame(v1, a.getValue());
+
+        move.reset(b, v1);
+        Move<TestdataSolution> secondUndoMove = move.doMove(scoreDirector);
+        assertSame(undoMove, secondUndoMove);
+        assertSame(v1, b.getValue());
+        secondUndoMove.doMove(scoreDirector);
+        assertSame(v2, b.getValue());
+        assertSame(v1, a.getValue());
+    }
+
+    @Test
+    public void copy() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        RecyclableChangeMove<TestdataSolution> move = new RecyclableChangeMove<>(variableDescriptor);
+        move.reset(a, v2);
+        ChangeMove<TestdataSolution> copy = move.copy();
+        assertFalse(copy instanceof RecyclableChangeMove);
+        assertEquals(move, copy);
+        assertEquals(move.hashCode(), copy.hashCode());
+
+        move.reset(b, v1);
+        assertSame(a, copy.getEntity());
+        assertSame(v2, copy.getToPlanningValue());
+        assertNotEquals(move, copy);
+    }
+
+}
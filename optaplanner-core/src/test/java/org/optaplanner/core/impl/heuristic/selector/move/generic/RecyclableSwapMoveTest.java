@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RecyclableSwapMoveTest {
+
+    @Test
+    public void resetAndUndo() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v3);
+
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList
+                = Collections.singletonList(TestdataEntity.buildVariableDescriptorForValue());
+        RecyclableSwapMove<TestdataSolution> move = new RecyclableSwapMove<>(variableDescriptorList);
+
+        move.reset(a, b);
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertSame(v2, a.getValue());
+        assertSame(v1, b.getValue());
+        undoMove.doMove(scoreDirector);
+        assertSame(v1, a.getValue());
+        assertSame(v2, b.getValue());
+
+        move.reset(b, c);
+        Move<TestdataSolution> secondUndoMove = move.doMove(scoreDirector);
+        assertSame(undoMove, secondUndoMove);
+        assertSame(v3, b.getValue());
+        assertSame(v2, c.getValue());
+        secondUndoMove.doMove(scoreDirector);
+        assertSame(v2, b.getValue());
+        assertSame(v3, c.getValue());
+        assertSame(v1, a.getValue());
+    }
+
+    @Test
+    public void copy() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataEntity c = new TestdataEntity("c");
+
+        List<GenuineVariableDescriptor<TestdataSolution>> variableDescriptorList
+                = Collections.singletonList(TestdataEntity.buildVariableDescriptorForValue());
+        RecyclableSwapMove<TestdataSolution> move = new RecyclableSwapMove<>(variableDescriptorList);
+        move.reset(a, b);
+        SwapMove<TestdataSolution> copy = move.copy();
+        assertFalse(copy instanceof RecyclableSwapMove);
+        assertEquals(move, copy);
+        assertEquals(move.hashCode(), copy.hashCode());
+
+        move.reset(b, c);
+        assertSame(a, copy.getLeftEntity());
+        assertSame(b, copy.getRightEntity());
+        assertNotEquals(move, copy);
+    }
+
+}
@@ -16,14 +16,24 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.nearby;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.Test;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
@@ -32,6 +42,7 @@ import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
 
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
@@ -275,4 +286,128 @@ public class NearEntityNearbyValueSelectorTest {
 //        verify(childValueSelector, times(5)).getSize(any());
     }
 
+    @Test
+    public void originalSelectionWithCoordinateExtractorAndEntityDependentValueRange() {
+        final TestdataValue v1 = new TestdataValue("v1");
+        final TestdataValue v2 = new TestdataValue("v2");
+        final TestdataValue v3 = new TestdataValue("v3");
+        final TestdataValue v4 = new TestdataValue("v4");
+        final TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v3, v4));
+        final TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v2, v3));
+        Map<Object, double[]> coordinatesMap = new IdentityHashMap<>();
+        coordinatesMap.put(a, new double[]{0.0, 0.0});
+        coordinatesMap.put(b, new double[]{10.0, 0.0});
+        coordinatesMap.put(v1, new double[]{8.0, 0.0});
+        coordinatesMap.put(v2, new double[]{9.0, 0.0});
+        coordinatesMap.put(v3, new double[]{5.0, 0.0});
+        coordinatesMap.put(v4, new double[]{20.0, 0.0});
+        NearbyCoordinateExtractor<Object> extractor = coordinatesMap::get;
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntityProvidingEntity.buildVariableDescriptorForValue();
+        ValueSelector childValueSelector = mock(ValueSelector.class);
+        when(childValueSelector.getVariableDescriptor()).thenReturn(variableDescriptor);
+        for (TestdataEntityProvidingEntity entity : Arrays.asList(a, b)) {
+            List<Object> valueList = new ArrayList<>(entity.getValueRange());
+            when(childValueSelector.endingIterator(entity)).thenAnswer(invocation -> valueList.iterator());
+            when(childValueSelector.getSize(entity)).thenReturn((long) valueList.size());
+        }
+        when(childValueSelector.isCountable()).thenReturn(true);
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(
+                variableDescriptor.getEntityDescriptor(), a, b);
+        ManualEntityMimicRecorder entityMimicRecorder = new ManualEntityMimicRecorder(entitySelector);
+        NearEntityNearbyValueSelector valueSelector = new NearEntityNearbyValueSelector(
+                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder),
+                null, extractor, 10, null, false);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        valueSelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        valueSelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope1 = mock(AbstractStepScope.class);
+        when(stepScope1.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope1);
+        entityMimicRecorder.setRecordedEntity(a);
+        // Without filtering per origin, v2 would be the third nearest value of a
+        assertAllCodesOfValueSelectorForEntity(valueSelector, a, "v3", "v1", "v4");
+        valueSelector.stepEnded(stepScope1);
+
+        AbstractStepScope stepScope2 = mock(AbstractStepScope.class);
+        when(stepScope2.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope2);
+        entityMimicRecorder.setRecordedEntity(b);
+        // Without filtering per origin, v1 would be the second nearest value of b
+        assertAllCodesOfValueSelectorForEntity(valueSelector, b, "v2", "v3");
+        valueSelector.stepEnded(stepScope2);
+
+        valueSelector.phaseEnded(phaseScope);
+        valueSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childValueSelector, 1, 1, 2);
+    }
+
+    @Test
+    public void randomSelectionWithCoordinateExtractorDiscardsNearbyIndexZero() {
+        final TestdataChainedEntity morocco = new TestdataChainedEntity("Morocco");
+        final TestdataChainedEntity spain = new TestdataChainedEntity("Spain");
+        final TestdataChainedEntity australia = new TestdataChainedEntity("Australia");
+        final TestdataChainedAnchor brazil = new TestdataChainedAnchor("Brazil");
+        Map<Object, double[]> coordinatesMap = new IdentityHashMap<>();
+        coordinatesMap.put(morocco, new double[]{0.0, 0.0});
+        coordinatesMap.put(spain, new double[]{1.0, 0.0});
+        coordinatesMap.put(brazil, new double[]{50.0, 0.0});
+        coordinatesMap.put(australia, new double[]{100.0, 0.0});
+        NearbyCoordinateExtractor<Object> extractor = coordinatesMap::get;
+
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        EntityIndependentValueSelector childValueSelector = SelectorTestUtils.mockEntityIndependentValueSelector(
+                variableDescriptor,
+                morocco, spain, australia, brazil);
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                morocco, spain, australia);
+        ManualEntityMimicRecorder entityMimicRecorder = new ManualEntityMimicRecorder(entitySelector);
+        NearbyRandom nearbyRandom = mock(NearbyRandom.class);
+        // The origin itself is discarded, so only 3 destinations per origin are ever sorted
+        when(nearbyRandom.getOverallSizeMaximum()).thenReturn(2);
+        when(nearbyRandom.nextInt(any(Random.class), anyInt())).thenReturn(0, 1, 1);
+        NearEntityNearbyValueSelector valueSelector = new NearEntityNearbyValueSelector(
+                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder),
+                null, extractor, 10, nearbyRandom, true);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        valueSelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        valueSelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope1 = mock(AbstractStepScope.class);
+        when(stepScope1.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope1);
+        entityMimicRecorder.setRecordedEntity(spain);
+        assertCodesOfIterator(valueSelector.iterator(spain), "Morocco");
+        valueSelector.stepEnded(stepScope1);
+
+        AbstractStepScope stepScope2 = mock(AbstractStepScope.class);
+        when(stepScope2.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope2);
+        entityMimicRecorder.setRecordedEntity(spain);
+        // The nearby index 2 is the last one within the destinationSizeMaximum
+        assertCodesOfIterator(valueSelector.iterator(spain), "Brazil");
+        valueSelector.stepEnded(stepScope2);
+
+        AbstractStepScope stepScope3 = mock(AbstractStepScope.class);
+        when(stepScope3.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope3);
+        entityMimicRecorder.setRecordedEntity(australia);
+        assertCodesOfIterator(valueSelector.iterator(spain), "Spain");
+        valueSelector.stepEnded(stepScope3);
+
+        valueSelector.phaseEnded(phaseScope);
+        valueSelector.solvingEnded(solverScope);
+
+        verify(nearbyRandom, times(3)).nextInt(any(Random.class), eq(3));
+        verifyPhaseLifecycle(childValueSelector, 1, 1, 3);
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer.*;
+
+public class AdaptiveMoveThreadBufferTest {
+
+    @Test
+    public void shrinkAndGrowInFlightMoveLimit() {
+        AdaptiveMoveThreadBuffer buffer = new AdaptiveMoveThreadBuffer(8, false);
+        assertEquals(8, buffer.nextStepInFlightMoveLimit());
+        // The solver thread never waits
+        buffer.stepEnded(8, 1000L, 0L, 10);
+        assertEquals(4, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(4, 1000L, 0L, 10);
+        assertEquals(2, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(2, 1000L, 0L, 10);
+        assertEquals(1, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(1, 1000L, 0L, 10);
+        assertEquals(1, buffer.nextStepInFlightMoveLimit());
+        // In between: no change
+        buffer.stepEnded(1, 1000L, 200L, 10);
+        assertEquals(1, buffer.nextStepInFlightMoveLimit());
+        // The solver thread mostly waits
+        buffer.stepEnded(1, 1000L, 900L, 10);
+        assertEquals(2, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(2, 1000L, 900L, 10);
+        buffer.nextStepInFlightMoveLimit();
+        buffer.stepEnded(4, 1000L, 900L, 10);
+        buffer.nextStepInFlightMoveLimit();
+        buffer.stepEnded(8, 1000L, 900L, 10);
+        assertEquals(8, buffer.nextStepInFlightMoveLimit());
+    }
+
+    @Test
+    public void solverThreadEvaluationNotAllowed() {
+        AdaptiveMoveThreadBuffer buffer = new AdaptiveMoveThreadBuffer(4, false);
+        for (int i = 0; i < PROBE_STEP_INTERVAL * 3; i++) {
+            int inFlightMoveLimit = buffer.nextStepInFlightMoveLimit();
+            assertNotEquals(SOLVER_THREAD_EVALUATION, inFlightMoveLimit);
+            buffer.stepEnded(inFlightMoveLimit, 1000L, 200L, 10);
+        }
+    }
+
+    @Test
+    public void solverThreadEvaluationPreferredIfFaster() {
+        AdaptiveMoveThreadBuffer buffer = new AdaptiveMoveThreadBuffer(4, true);
+        assertEquals(4, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(4, 10000L, 2000L, 10);
+        // Probe the solver thread
+        assertEquals(SOLVER_THREAD_EVALUATION, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(SOLVER_THREAD_EVALUATION, 1000L, 0L, 10);
+        for (int i = 2; i < PROBE_STEP_INTERVAL; i++) {
+            assertEquals(SOLVER_THREAD_EVALUATION, buffer.nextStepInFlightMoveLimit());
+            buffer.stepEnded(SOLVER_THREAD_EVALUATION, 1000L, 0L, 10);
+        }
+        // Probe the move threads again
+        assertEquals(4, buffer.nextStepInFlightMoveLimit());
+        buffer.stepEnded(4, 10000L, 2000L, 10);
+        assertEquals(SOLVER_THREAD_EVALUATION, buffer.nextStepInFlightMoveLimit());
+        // The solver thread became slower
+        buffer.stepEnded(SOLVER_THREAD_EVALUATION, 1000000L, 0L, 10);
+        assertEquals(4, buffer.nextStepInFlightMoveLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumInFlightMoveLimitTooLow() {
+        new AdaptiveMoveThreadBuffer(0, true);
+    }
+
+}
@@ -16,15 +16,24 @@
 
 package org.optaplanner.core.impl.localsearch;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.heuristic.thread.AdaptiveMoveThreadBuffer;
+import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -34,6 +43,7 @@ import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
 public class DefaultLocalSearchPhaseTest {
@@ -217,5 +227,183 @@ public class DefaultLocalSearchPhaseTest {
         assertEquals(0, solution.getEntityList().size());
     }
 
+    @Test
+    public void solveTabuSearchWithMoveRecycling() {
+        // Every step must be the same as without move recycling
+        assertEquals(solveTabuSearch(false), solveTabuSearch(true));
+    }
+
+    private List<String> solveTabuSearch(boolean moveRecyclingEnabled) {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        phaseConfig.setLocalSearchType(LocalSearchType.TABU_SEARCH);
+        phaseConfig.setMoveRecyclingEnabled(moveRecyclingEnabled);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                phaseConfig));
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        List<String> stepList = new ArrayList<>();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(
+                new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+                    @Override
+                    public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                        stepList.add(((LocalSearchStepScope<TestdataSolution>) stepScope).getStep().toString());
+                    }
+                });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1),
+                new TestdataEntity("e4", v3)));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(20, stepList.size());
+        return stepList;
+    }
+
+    @Test
+    public void solveMultiThreadedWithMoveThreadSelectionIsReproducible() {
+        // Every move thread selects its own moves, but every step must still be reproducible
+        assertEquals(solveMultiThreadedWithMoveThreadSelection(), solveMultiThreadedWithMoveThreadSelection());
+    }
+
+    private List<String> solveMultiThreadedWithMoveThreadSelection() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        phaseConfig.setMoveThreadSelectionEnabled(true);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                phaseConfig));
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        List<String> stepList = new ArrayList<>();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(
+                new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+                    @Override
+                    public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                        stepList.add(((LocalSearchStepScope<TestdataSolution>) stepScope).getStep().toString());
+                    }
+                });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1),
+                new TestdataEntity("e4", v3)));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(20, stepList.size());
+        return stepList;
+    }
+
+    @Test
+    public void solveMultiThreadedWithMoveThreadAdaptation() {
+        // Adapting the number of moves in flight never changes which moves are selected or foraged
+        assertEquals(solveMultiThreaded(EnvironmentMode.REPRODUCIBLE, false),
+                solveMultiThreaded(EnvironmentMode.REPRODUCIBLE, true));
+        assertEquals(solveMultiThreaded(EnvironmentMode.FULL_ASSERT, false),
+                solveMultiThreaded(EnvironmentMode.FULL_ASSERT, true));
+    }
+
+    private List<String> solveMultiThreaded(EnvironmentMode environmentMode, boolean moveThreadAdaptationEnabled) {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(environmentMode);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        solverFactory.getSolverConfig().setMoveThreadAdaptationEnabled(moveThreadAdaptationEnabled);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                phaseConfig));
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        List<String> stepList = new ArrayList<>();
+        ((DefaultSolver<TestdataSolution>) solver).addPhaseLifecycleListener(
+                new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+                    @Override
+                    public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                        stepList.add(((LocalSearchStepScope<TestdataSolution>) stepScope).getStep().toString());
+                    }
+                });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1),
+                new TestdataEntity("e4", v3)));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(20, stepList.size());
+        return stepList;
+    }
+
+    @Test
+    public void solveMultiThreadedWithSolverThreadEvaluation() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        // More steps than the probe step interval, so the move threads catch up at least once
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(120));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                phaseConfig));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        // A reproducible environment mode never allows solver thread evaluation, so inject a buffer that does
+        List<Integer> inFlightMoveLimitList = new ArrayList<>();
+        DefaultLocalSearchPhase<TestdataSolution> phase
+                = (DefaultLocalSearchPhase<TestdataSolution>) solver.getPhaseList().get(0);
+        ((MultiThreadedLocalSearchDecider<TestdataSolution>) phase.getDecider()).setAdaptiveMoveThreadBuffer(
+                new AdaptiveMoveThreadBuffer(2, true) {
+                    @Override
+                    public int nextStepInFlightMoveLimit() {
+                        int inFlightMoveLimit = super.nextStepInFlightMoveLimit();
+                        inFlightMoveLimitList.add(inFlightMoveLimit);
+                        return inFlightMoveLimit;
+                    }
+                });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1),
+                new TestdataEntity("e4", v3)));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(120, inFlightMoveLimitList.size());
+        int probeIndex = inFlightMoveLimitList.indexOf(AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION);
+        assertEquals(1, probeIndex);
+        // The move threads catch up on the steps decided on the solver thread
+        assertTrue(inFlightMoveLimitList.subList(probeIndex, inFlightMoveLimitList.size()).stream()
+                .anyMatch(inFlightMoveLimit -> inFlightMoveLimit != AdaptiveMoveThreadBuffer.SOLVER_THREAD_EVALUATION));
+    }
 
 }
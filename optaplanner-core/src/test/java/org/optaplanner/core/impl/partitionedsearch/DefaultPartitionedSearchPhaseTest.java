@@ -16,14 +16,19 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -33,21 +38,35 @@ import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.BalancedSolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.metrics.InMemorySolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -71,6 +90,164 @@ public class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
+    @Test(timeout = 5000)
+    public void solveWithMetricsRegistry() {
+        final int partSize = 3;
+        final int partCount = 4;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false);
+        setPartSize(solverFactory.getSolverConfig(), partSize);
+        solverFactory.getSolverConfig().setMetricsRegistryClass(InMemorySolverMetricsRegistry.class);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        AtomicLong bestSolutionChangedEventCount = new AtomicLong(0L);
+        solver.addEventListener(event -> bestSolutionChangedEventCount.incrementAndGet());
+        solver.solve(createSolution(partCount * partSize, 2));
+
+        InMemorySolverMetricsRegistry metricsRegistry = (InMemorySolverMetricsRegistry) solver.getMetricsRegistry();
+        // The part changes are merged by the solver thread, so they must not be counted as its best solutions too
+        assertEquals(bestSolutionChangedEventCount.get(),
+                metricsRegistry.getCount(SolverMetric.BEST_SOLUTION_CHANGED_COUNT));
+        assertTrue(metricsRegistry.getCount(SolverMetric.BEST_SOLUTION_CHANGED_COUNT,
+                SolverMetric.THREAD_TAG, SolverMetric.PART_THREAD) >= partCount);
+        assertEquals((long) partCount, metricsRegistry.getTimer(SolverMetric.STEP_TIME,
+                SolverMetric.PHASE_TAG, "Local Search", SolverMetric.THREAD_TAG, SolverMetric.PART_THREAD).getCount());
+        assertNull(metricsRegistry.getTimer(SolverMetric.STEP_TIME, SolverMetric.PHASE_TAG, "Local Search"));
+    }
+
+    @Test(timeout = 5000)
+    public void partCountWithBalancedSolutionPartitioner() {
+        final int partCount = 4;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false);
+        PartitionedSearchPhaseConfig phaseConfig
+                = (PartitionedSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(0);
+        phaseConfig.setSolutionPartitionerClass((Class) BalancedSolutionPartitioner.class);
+        phaseConfig.setSolutionPartitionerCustomProperties(
+                Collections.singletonMap("partCount", Integer.toString(partCount)));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        PartitionedSearchPhase<TestdataSolution> phase
+                = (PartitionedSearchPhase<TestdataSolution>) solver.getPhaseList().get(0);
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                assertEquals(Integer.valueOf(partCount), ((PartitionedSearchPhaseScope) phaseScope).getPartCount());
+            }
+        });
+        TestdataSolution solution = solver.solve(createSolution(10, 3));
+        assertEquals(10, solution.getEntityList().size());
+        assertTrue(solution.getScore().isSolutionInitialized());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noSolutionPartitionerClass() {
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false);
+        PartitionedSearchPhaseConfig phaseConfig
+                = (PartitionedSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(0);
+        phaseConfig.setSolutionPartitionerClass(null);
+        solverFactory.buildSolver();
+    }
+
+    @Test(timeout = 5000)
+    public void solveChainedWithBalancedSolutionPartitioner() {
+        SolverFactory<TestdataChainedSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataChainedSolution.class, TestdataChainedEntity.class);
+        setBalancedChainedPartitionedSearch(solverFactory.getSolverConfig());
+        Solver<TestdataChainedSolution> solver = solverFactory.buildSolver();
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("s1");
+        solution.setChainedAnchorList(IntStream.range(0, 3)
+                .mapToObj(i -> new TestdataChainedAnchor("a" + i))
+                .collect(Collectors.toList()));
+        solution.setChainedEntityList(IntStream.range(0, 8)
+                .mapToObj(i -> new TestdataChainedEntity("e" + i))
+                .collect(Collectors.toList()));
+        solution = solver.solve(solution);
+
+        assertTrue(solution.getScore().isSolutionInitialized());
+        assertEquals(3, solution.getChainedAnchorList().size());
+        Set<TestdataChainedObject> anchorSet = new HashSet<>(solution.getChainedAnchorList());
+        Set<TestdataChainedObject> chainedObjectSet = new HashSet<>();
+        for (TestdataChainedEntity entity : solution.getChainedEntityList()) {
+            // No 2 entities are chained to the same anchor or entity
+            assertTrue(chainedObjectSet.add(entity.getChainedObject()));
+            // Every chain ends in an anchor of the solution, without a cycle
+            Set<TestdataChainedObject> chain = new HashSet<>();
+            TestdataChainedObject chainedObject = entity;
+            while (chainedObject instanceof TestdataChainedEntity) {
+                assertTrue(chain.add(chainedObject));
+                assertTrue(solution.getChainedEntityList().contains(chainedObject));
+                chainedObject = ((TestdataChainedEntity) chainedObject).getChainedObject();
+            }
+            assertTrue(anchorSet.contains(chainedObject));
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void solveRichChainedWithBalancedSolutionPartitioner() {
+        SolverFactory<TestdataRichChainedSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataRichChainedSolution.class, TestdataRichChainedObject.class, TestdataRichChainedEntity.class);
+        setBalancedChainedPartitionedSearch(solverFactory.getSolverConfig());
+        Solver<TestdataRichChainedSolution> solver = solverFactory.buildSolver();
+
+        // The anchors are entities too, because they have an inverse relation shadow variable
+        List<TestdataRichChainedAnchor> anchorList = IntStream.range(0, 3)
+                .mapToObj(i -> new TestdataRichChainedAnchor("a" + i))
+                .collect(Collectors.toList());
+        List<TestdataRichChainedEntity> entityList = IntStream.range(0, 8)
+                .mapToObj(i -> new TestdataRichChainedEntity("e" + i))
+                .collect(Collectors.toList());
+        // Start with 2 initialized chains, so the anchors reference the entities of their part
+        chain(anchorList.get(0), entityList.get(0), entityList.get(1));
+        chain(anchorList.get(1), entityList.get(2));
+        TestdataRichChainedSolution solution = new TestdataRichChainedSolution("s1");
+        solution.setChainedAnchorList(anchorList);
+        solution.setChainedEntityList(entityList);
+        solution = solver.solve(solution);
+
+        assertTrue(solution.getScore().isSolutionInitialized());
+        assertEquals(3, solution.getChainedAnchorList().size());
+        Set<TestdataRichChainedObject> anchorSet = new HashSet<>(solution.getChainedAnchorList());
+        Set<TestdataRichChainedObject> chainedObjectSet = new HashSet<>();
+        for (TestdataRichChainedEntity entity : solution.getChainedEntityList()) {
+            TestdataRichChainedObject previous = entity.getChainedObject();
+            // No 2 entities are chained to the same anchor or entity
+            assertTrue(chainedObjectSet.add(previous));
+            assertSame(entity, previous.getNextEntity());
+            // Every chain ends in an anchor of the solution, without a cycle
+            Set<TestdataRichChainedObject> chain = new HashSet<>();
+            TestdataRichChainedObject chainedObject = entity;
+            while (chainedObject instanceof TestdataRichChainedEntity) {
+                assertTrue(chain.add(chainedObject));
+                assertTrue(solution.getChainedEntityList().contains(chainedObject));
+                chainedObject = ((TestdataRichChainedEntity) chainedObject).getChainedObject();
+            }
+            assertTrue(anchorSet.contains(chainedObject));
+            assertSame(chainedObject, entity.getAnchor());
+        }
+    }
+
+    private static void chain(TestdataRichChainedAnchor anchor, TestdataRichChainedEntity... entities) {
+        TestdataRichChainedObject previous = anchor;
+        for (TestdataRichChainedEntity entity : entities) {
+            entity.setChainedObject(previous);
+            entity.setAnchor(anchor);
+            previous.setNextEntity(entity);
+            previous = entity;
+        }
+    }
+
+    private static void setBalancedChainedPartitionedSearch(SolverConfig solverConfig) {
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass((Class) BalancedSolutionPartitioner.class);
+        partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(
+                Collections.singletonMap("partCount", "2"));
+        partitionedSearchPhaseConfig.setRunnablePartThreadLimit("2");
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        partitionedSearchPhaseConfig.setPhaseConfigList(
+                Arrays.asList(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig));
+        solverConfig.setPhaseConfigList(Arrays.asList(partitionedSearchPhaseConfig));
+    }
+
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite) {
         SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils
                 .buildSolverFactory(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class BalancedSolutionPartitionerTest {
+
+    @Test
+    public void splitWorkingSolution() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("a", v1), new TestdataEntity("b", v1),
+                new TestdataEntity("c", v2), new TestdataEntity("d", v2), new TestdataEntity("e", v1)));
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        BalancedSolutionPartitioner<TestdataSolution> partitioner = new BalancedSolutionPartitioner<>();
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(2, partList.size());
+        assertAllCodesOfCollection(partList.get(0).getEntityList(), "a", "c", "e");
+        assertAllCodesOfCollection(partList.get(1).getEntityList(), "b", "d");
+        assertSame(solution.getValueList(), partList.get(0).getValueList());
+        assertSame(v1, partList.get(1).getEntityList().get(0).getValue());
+
+        partitioner.setPartCount(3);
+        partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(3, partList.size());
+        assertAllCodesOfCollection(partList.get(2).getEntityList(), "c");
+
+        // Never more parts than entities
+        partitioner.setPartCount(10);
+        assertEquals(5, partitioner.splitWorkingSolution(scoreDirector, null).size());
+    }
+
+    @Test
+    public void splitWorkingSolutionWithChains() {
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedAnchor c0 = new TestdataChainedAnchor("c0");
+        TestdataChainedEntity c1 = new TestdataChainedEntity("c1", c0);
+        TestdataChainedEntity c2 = new TestdataChainedEntity("c2", c1);
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        solution.setChainedEntityList(Arrays.asList(c2, b1, a3, a1, c1, a2));
+        InnerScoreDirector<TestdataChainedSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataChainedSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        BalancedSolutionPartitioner<TestdataChainedSolution> partitioner = new BalancedSolutionPartitioner<>();
+        List<TestdataChainedSolution> partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(2, partList.size());
+        // The chains follow their anchor, which are dealt round-robin
+        assertAllCodesOfCollection(partList.get(0).getChainedEntityList(), "c2", "a3", "a1", "c1", "a2");
+        assertAllCodesOfCollection(partList.get(1).getChainedEntityList(), "b1");
+        assertSame(a0, partList.get(0).getChainedEntityList().get(2).getChainedObject());
+        // Every part only sees its own anchors
+        assertAllCodesOfCollection(partList.get(0).getChainedAnchorList(), "a0", "c0");
+        assertAllCodesOfCollection(partList.get(1).getChainedAnchorList(), "b0");
+        assertEquals(3, solution.getChainedAnchorList().size());
+
+        // Never more parts than anchors
+        assertEquals(3, partitioner.splitWorkingSolution(scoreDirector, 5).size());
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class EntityPropertySolutionPartitionerTest {
+
+    @Test
+    public void splitWorkingSolution() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("a", v1), new TestdataEntity("b", v2),
+                new TestdataEntity("c", v1), new TestdataEntity("d", v3), new TestdataEntity("e", v2),
+                new TestdataEntity("f", v1)));
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        EntityPropertySolutionPartitioner<TestdataSolution> partitioner = new EntityPropertySolutionPartitioner<>();
+        partitioner.setEntityPropertyName("value");
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(2, partList.size());
+        assertAllCodesOfCollection(partList.get(0).getEntityList(), "a", "c", "f");
+        assertAllCodesOfCollection(partList.get(1).getEntityList(), "b", "d", "e");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonExistingEntityProperty() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("a", v1), new TestdataEntity("b", v1)));
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        EntityPropertySolutionPartitioner<TestdataSolution> partitioner = new EntityPropertySolutionPartitioner<>();
+        partitioner.setEntityPropertyName("doesNotExist");
+        partitioner.splitWorkingSolution(scoreDirector, 2);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyCoordinateExtractor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class KMeansSolutionPartitionerTest {
+
+    @Test
+    public void splitWorkingSolution() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Collections.singletonList(v1));
+        // 2 clusters: around (0, 0) and around (10, 10)
+        solution.setEntityList(Arrays.asList(new TestdataEntity("0,0"), new TestdataEntity("10,10"),
+                new TestdataEntity("1,0"), new TestdataEntity("9,10"), new TestdataEntity("0,1"),
+                new TestdataEntity("10,9")));
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        KMeansSolutionPartitioner<TestdataSolution> partitioner = new KMeansSolutionPartitioner<>();
+        partitioner.setNearbyCoordinateExtractorClass(CodeCoordinateExtractor.class);
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(2, partList.size());
+        assertAllCodesOfCollection(partList.get(0).getEntityList(), "0,0", "1,0", "0,1");
+        assertAllCodesOfCollection(partList.get(1).getEntityList(), "10,10", "9,10", "10,9");
+    }
+
+    @Test
+    public void splitWorkingSolutionIsBalanced() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Collections.singletonList(v1));
+        // 1 big cluster around (0, 0) and 1 outlier
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            entityList.add(new TestdataEntity(i + ",0"));
+        }
+        entityList.add(new TestdataEntity("100,0"));
+        solution.setEntityList(entityList);
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        KMeansSolutionPartitioner<TestdataSolution> partitioner = new KMeansSolutionPartitioner<>();
+        partitioner.setNearbyCoordinateExtractorClass(CodeCoordinateExtractor.class);
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(scoreDirector, 2);
+        assertEquals(2, partList.size());
+        // Each part at most 10% above its share, so the outlier takes the entities nearest to it
+        assertAllCodesOfCollection(partList.get(0).getEntityList(), "0,0", "1,0", "2,0", "3,0", "4,0");
+        assertAllCodesOfCollection(partList.get(1).getEntityList(), "5,0", "6,0", "7,0", "8,0", "100,0");
+    }
+
+    public static class CodeCoordinateExtractor implements NearbyCoordinateExtractor<TestdataEntity> {
+
+        @Override
+        public double[] getCoordinates(TestdataEntity entity) {
+            return Arrays.stream(entity.getCode().split(",")).mapToDouble(Double::parseDouble).toArray();
+        }
+
+    }
+
+}
@@ -17,6 +17,10 @@
 package org.optaplanner.core.impl.score;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
@@ -57,4 +61,21 @@ public class ScoreUtilsTest {
                 ScoreUtils.parseScore(BendableBigDecimalScore.class, "[-1000]hard/[-200/-30]soft"));
     }
 
+    @Test
+    public void extractTopList() {
+        List<String> list = Arrays.asList("c3", "a1", "d2", "b1", "e3", "f1", "g0");
+        // Only compares the digit, so equal elements must keep their original order
+        Comparator<String> comparator = Comparator.comparing(s -> s.charAt(1));
+        for (int limit = 0; limit <= list.size() + 1; limit++) {
+            assertEquals(list.stream().sorted(comparator).limit(limit).collect(Collectors.toList()),
+                    ScoreUtils.extractTopList(list, comparator, limit));
+        }
+        assertEquals(Arrays.asList("g0", "a1", "b1"), ScoreUtils.extractTopList(list, comparator, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void extractTopListWithNegativeLimit() {
+        ScoreUtils.extractTopList(Arrays.asList("a", "b"), Comparator.naturalOrder(), -1);
+    }
+
 }
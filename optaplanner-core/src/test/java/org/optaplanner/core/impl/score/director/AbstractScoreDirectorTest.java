@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
+
+import static org.junit.Assert.*;
+
+public class AbstractScoreDirectorTest {
+
+    @Test
+    public void releasedChildThreadScoreDirectorCatchesUp() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = buildScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        InnerScoreDirector<TestdataSolution> childThreadScoreDirector
+                = scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+        childThreadScoreDirector.calculateScore();
+        scoreDirector.releaseChildThreadScoreDirector(childThreadScoreDirector);
+
+        scoreDirector.beforeVariableChanged(e2, "value");
+        e2.setValue(v2);
+        scoreDirector.afterVariableChanged(e2, "value");
+        scoreDirector.triggerVariableListeners();
+
+        assertSame(childThreadScoreDirector,
+                scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+        assertEquals(0L, childThreadScoreDirector.getCalculationCount());
+        TestdataSolution childSolution = childThreadScoreDirector.getWorkingSolution();
+        assertNotSame(solution, childSolution);
+        assertSame(childSolution.getValueList().get(0), childSolution.getEntityList().get(0).getValue());
+        assertSame(childSolution.getValueList().get(1), childSolution.getEntityList().get(1).getValue());
+    }
+
+    @Test
+    public void releasedChildThreadScoreDirectorCatchesUpChains() {
+        TestdataRichChainedAnchor a0 = new TestdataRichChainedAnchor("a0");
+        TestdataRichChainedEntity a1 = new TestdataRichChainedEntity("a1", a0);
+        TestdataRichChainedEntity a2 = new TestdataRichChainedEntity("a2", a1);
+        TestdataRichChainedAnchor b0 = new TestdataRichChainedAnchor("b0");
+        TestdataRichChainedEntity b1 = new TestdataRichChainedEntity("b1", b0);
+        a0.setNextEntity(a1);
+        a1.setNextEntity(a2);
+        b0.setNextEntity(b1);
+        a1.setAnchor(a0);
+        a2.setAnchor(a0);
+        b1.setAnchor(b0);
+        TestdataRichChainedSolution solution = new TestdataRichChainedSolution("s1");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, b1));
+
+        InnerScoreDirector<TestdataRichChainedSolution> scoreDirector
+                = buildScoreDirector(TestdataRichChainedSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        InnerScoreDirector<TestdataRichChainedSolution> childThreadScoreDirector
+                = scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+        scoreDirector.releaseChildThreadScoreDirector(childThreadScoreDirector);
+
+        // Swap the tails: a0 -> a1 -> b1 and b0 -> a2
+        scoreDirector.beforeVariableChanged(a2, "chainedObject");
+        a2.setChainedObject(null);
+        scoreDirector.afterVariableChanged(a2, "chainedObject");
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.beforeVariableChanged(b1, "chainedObject");
+        b1.setChainedObject(a1);
+        scoreDirector.afterVariableChanged(b1, "chainedObject");
+        scoreDirector.beforeVariableChanged(a2, "chainedObject");
+        a2.setChainedObject(b0);
+        scoreDirector.afterVariableChanged(a2, "chainedObject");
+        scoreDirector.triggerVariableListeners();
+
+        assertSame(childThreadScoreDirector,
+                scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+        TestdataRichChainedSolution childSolution = childThreadScoreDirector.getWorkingSolution();
+        TestdataRichChainedAnchor childA0 = childSolution.getChainedAnchorList().get(0);
+        TestdataRichChainedAnchor childB0 = childSolution.getChainedAnchorList().get(1);
+        TestdataRichChainedEntity childA1 = childSolution.getChainedEntityList().get(0);
+        TestdataRichChainedEntity childA2 = childSolution.getChainedEntityList().get(1);
+        TestdataRichChainedEntity childB1 = childSolution.getChainedEntityList().get(2);
+        assertSame(childA1, childB1.getChainedObject());
+        assertSame(childB0, childA2.getChainedObject());
+        assertSame(childB1, childA1.getNextEntity());
+        assertSame(childA2, childB0.getNextEntity());
+        assertSame(childA0, childB1.getAnchor());
+        assertSame(childB0, childA2.getAnchor());
+    }
+
+    @Test
+    public void releasedChildThreadScoreDirectorClosedAfterProblemFactChange() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1", v1)));
+
+        InnerScoreDirector<TestdataSolution> scoreDirector
+                = buildScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        InnerScoreDirector<TestdataSolution> childThreadScoreDirector
+                = scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+        scoreDirector.releaseChildThreadScoreDirector(childThreadScoreDirector);
+
+        TestdataValue v2 = new TestdataValue("v2");
+        scoreDirector.beforeProblemFactAdded(v2);
+        solution.setValueList(Arrays.asList(v1, v2));
+        scoreDirector.afterProblemFactAdded(v2);
+
+        InnerScoreDirector<TestdataSolution> newChildThreadScoreDirector
+                = scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+        assertNotSame(childThreadScoreDirector, newChildThreadScoreDirector);
+        assertNull(childThreadScoreDirector.getWorkingSolution());
+        assertEquals(2, newChildThreadScoreDirector.getWorkingSolution().getValueList().size());
+    }
+
+    private <Solution_> InnerScoreDirector<Solution_> buildScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        EasyScoreDirectorFactory<Solution_> scoreDirectorFactory
+                = new EasyScoreDirectorFactory<>(solution -> SimpleScore.valueOf(0));
+        scoreDirectorFactory.setSolutionDescriptor(solutionDescriptor);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
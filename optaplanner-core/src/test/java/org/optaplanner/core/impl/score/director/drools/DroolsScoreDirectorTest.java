@@ -54,12 +54,26 @@ public class DroolsScoreDirectorTest {
         assertNotNull(director.getIndictmentMap());
     }
 
+    @Test
+    public void kieSessionReleasedOnResetAndClose() {
+        DroolsScoreDirectorFactory<Object> factory = mockDroolsScoreDirectorFactory();
+        DroolsScoreDirector<Object> director = new DroolsScoreDirector<>(factory, false, false);
+        director.setWorkingSolution(new Object());
+        KieSession firstKieSession = director.getKieSession();
+        director.setWorkingSolution(new Object());
+        verify(factory).releaseKieSession(firstKieSession);
+        KieSession secondKieSession = director.getKieSession();
+        director.close();
+        verify(factory).releaseKieSession(secondKieSession);
+        verify(firstKieSession, never()).dispose();
+    }
+
     @SuppressWarnings("unchecked")
     private DroolsScoreDirectorFactory<Object> mockDroolsScoreDirectorFactory() {
         DroolsScoreDirectorFactory<Object> factory = mock(DroolsScoreDirectorFactory.class);
         when(factory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
         when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
-        when(factory.newKieSession()).thenReturn(
+        when(factory.newKieSession()).thenAnswer(invocation ->
                 mock(KieSession.class, withSettings().extraInterfaces(RuleEventManager.class)));
         return factory;
     }
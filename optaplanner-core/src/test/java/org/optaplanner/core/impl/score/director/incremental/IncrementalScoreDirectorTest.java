@@ -16,8 +16,15 @@
 
 package org.optaplanner.core.impl.score.director.incremental;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,8 +32,18 @@ import org.junit.rules.ExpectedException;
 import org.mockito.InOrder;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.SolverConfigContext;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.ChildThreadType;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
@@ -117,6 +134,232 @@ public class IncrementalScoreDirectorTest {
         assertFalse(director.isConstraintMatchEnabled());
     }
 
+    @Test
+    public void createChildThreadScoreDirectorForksForkableCalculator() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(e1, e2));
+
+        IncrementalScoreDirectorFactory<TestdataSolution> scoreDirectorFactory
+                = mock(IncrementalScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirectorFactory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        IncrementalScoreCalculator<TestdataSolution> unusedChildCalculator = mock(IncrementalScoreCalculator.class);
+        when(scoreDirectorFactory.buildScoreDirector(true, false)).thenAnswer(invocation ->
+                new IncrementalScoreDirector<>(scoreDirectorFactory, true, false, unusedChildCalculator));
+        ForkableIncrementalScoreCalculator<TestdataSolution> parentCalculator
+                = mock(ForkableIncrementalScoreCalculator.class);
+        IncrementalScoreCalculator<TestdataSolution> forkedCalculator = mock(IncrementalScoreCalculator.class);
+        when(parentCalculator.fork(any())).thenAnswer(invocation -> {
+            IncrementalScoreDirector<TestdataSolution> destinationScoreDirector
+                    = (IncrementalScoreDirector<TestdataSolution>) invocation.getArguments()[0];
+            // The lookUp must already work on the planning clone
+            TestdataEntity forkedE1 = destinationScoreDirector.lookUpWorkingObject(e1);
+            assertNotSame(e1, forkedE1);
+            assertSame(forkedE1, destinationScoreDirector.getWorkingSolution().getEntityList().get(0));
+            return forkedCalculator;
+        });
+        when(forkedCalculator.calculateScore()).thenReturn(SimpleScore.valueOf(-7));
+
+        IncrementalScoreDirector<TestdataSolution> scoreDirector = new IncrementalScoreDirector<>(
+                scoreDirectorFactory, false, false, parentCalculator);
+        scoreDirector.setWorkingSolution(solution);
+        InnerScoreDirector<TestdataSolution> childThreadScoreDirector
+                = scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+        verify(parentCalculator, times(1)).fork(childThreadScoreDirector);
+        verify(unusedChildCalculator, never()).resetWorkingSolution(any());
+        verify(forkedCalculator, never()).resetWorkingSolution(any());
+        assertEquals(SimpleScore.valueOf(-7), childThreadScoreDirector.calculateScore());
+
+        TestdataEntity forkedE2 = childThreadScoreDirector.getWorkingSolution().getEntityList().get(1);
+        childThreadScoreDirector.beforeVariableChanged(forkedE2, "value");
+        forkedE2.setValue(null);
+        childThreadScoreDirector.afterVariableChanged(forkedE2, "value");
+        verify(forkedCalculator, times(1)).beforeVariableChanged(forkedE2, "value");
+        verify(forkedCalculator, times(1)).afterVariableChanged(forkedE2, "value");
+        verify(parentCalculator, never()).beforeVariableChanged(any(), any());
+    }
+
+    @Test
+    public void createChildThreadScoreDirectorForkReturnsSameInstance() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList());
+        solution.setEntityList(Arrays.asList());
+        IncrementalScoreDirectorFactory<TestdataSolution> scoreDirectorFactory
+                = mock(IncrementalScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirectorFactory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        when(scoreDirectorFactory.buildScoreDirector(true, false)).thenAnswer(invocation ->
+                new IncrementalScoreDirector<>(scoreDirectorFactory, true, false, mock(IncrementalScoreCalculator.class)));
+        ForkableIncrementalScoreCalculator<TestdataSolution> parentCalculator
+                = mock(ForkableIncrementalScoreCalculator.class);
+        when(parentCalculator.fork(any())).thenReturn(parentCalculator);
+
+        IncrementalScoreDirector<TestdataSolution> scoreDirector = new IncrementalScoreDirector<>(
+                scoreDirectorFactory, false, false, parentCalculator);
+        scoreDirector.setWorkingSolution(solution);
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("new instance");
+        scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+    }
+
+    @Test
+    public void createChildThreadScoreDirectorForksRealCalculatorConcurrently() throws InterruptedException,
+            ExecutionException {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setIncrementalScoreCalculatorClass(ValueConflictForkableIncrementalScoreCalculator.class);
+        InnerScoreDirectorFactory<TestdataSolution> scoreDirectorFactory = config.buildScoreDirectorFactory(
+                new SolverConfigContext(), EnvironmentMode.REPRODUCIBLE, TestdataSolution.buildSolutionDescriptor());
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+        InnerScoreDirector<TestdataSolution> scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        // Change the parent incrementally, so its state differs from the state right after the reset
+        scoreDirector.beforeVariableChanged(e3, "value");
+        e3.setValue(v1);
+        scoreDirector.afterVariableChanged(e3, "value");
+        scoreDirector.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOf(-3), scoreDirector.calculateScore());
+
+        // Like the move threads, fork the same parent calculator at the same time
+        int moveThreadCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(moveThreadCount);
+        List<Future<InnerScoreDirector<TestdataSolution>>> futureList = new ArrayList<>(moveThreadCount);
+        try {
+            for (int i = 0; i < moveThreadCount; i++) {
+                futureList.add(executor.submit(
+                        () -> scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)));
+            }
+            for (Future<InnerScoreDirector<TestdataSolution>> future : futureList) {
+                IncrementalScoreDirector<TestdataSolution> childThreadScoreDirector
+                        = (IncrementalScoreDirector<TestdataSolution>) future.get();
+                ValueConflictForkableIncrementalScoreCalculator forkedCalculator
+                        = (ValueConflictForkableIncrementalScoreCalculator)
+                        childThreadScoreDirector.getIncrementalScoreCalculator();
+                assertEquals(0, forkedCalculator.resetCount);
+                assertEquals(SimpleScore.valueOf(-3), childThreadScoreDirector.calculateScore());
+                childThreadScoreDirector.assertWorkingScoreFromScratch(SimpleScore.valueOf(-3), "fork");
+
+                // The forked state keeps up with changes on the planning clone
+                TestdataSolution childSolution = childThreadScoreDirector.getWorkingSolution();
+                TestdataEntity forkedE2 = childSolution.getEntityList().get(1);
+                childThreadScoreDirector.beforeVariableChanged(forkedE2, "value");
+                forkedE2.setValue(childSolution.getValueList().get(1));
+                childThreadScoreDirector.afterVariableChanged(forkedE2, "value");
+                childThreadScoreDirector.triggerVariableListeners();
+                assertEquals(SimpleScore.valueOf(-1), childThreadScoreDirector.calculateScore());
+                childThreadScoreDirector.assertWorkingScoreFromScratch(SimpleScore.valueOf(-1), "fork change");
+                childThreadScoreDirector.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Forking doesn't change the parent
+        assertEquals(SimpleScore.valueOf(-3), scoreDirector.calculateScore());
+        scoreDirector.assertWorkingScoreFromScratch(SimpleScore.valueOf(-3), "parent");
+        scoreDirector.close();
+    }
+
+    /**
+     * Penalizes every 2 entities with the same value.
+     */
+    public static class ValueConflictForkableIncrementalScoreCalculator
+            implements ForkableIncrementalScoreCalculator<TestdataSolution> {
+
+        private Map<TestdataEntity, TestdataValue> entityValueMap;
+        private Map<TestdataValue, Integer> valueCountMap;
+        private int score;
+        private int resetCount = 0;
+
+        @Override
+        public void resetWorkingSolution(TestdataSolution workingSolution) {
+            resetCount++;
+            entityValueMap = new HashMap<>();
+            valueCountMap = new HashMap<>();
+            score = 0;
+            for (TestdataEntity entity : workingSolution.getEntityList()) {
+                insert(entity);
+            }
+        }
+
+        @Override
+        public IncrementalScoreCalculator<TestdataSolution> fork(
+                ScoreDirector<TestdataSolution> destinationScoreDirector) {
+            ValueConflictForkableIncrementalScoreCalculator fork = new ValueConflictForkableIncrementalScoreCalculator();
+            fork.entityValueMap = new HashMap<>(entityValueMap.size());
+            for (Map.Entry<TestdataEntity, TestdataValue> entry : entityValueMap.entrySet()) {
+                // The values are problem facts, so they aren't planning cloned
+                fork.entityValueMap.put(destinationScoreDirector.lookUpWorkingObject(entry.getKey()),
+                        entry.getValue());
+            }
+            fork.valueCountMap = new HashMap<>(valueCountMap);
+            fork.score = score;
+            return fork;
+        }
+
+        private void insert(TestdataEntity entity) {
+            TestdataValue value = entity.getValue();
+            if (value != null) {
+                entityValueMap.put(entity, value);
+                int count = valueCountMap.getOrDefault(value, 0);
+                score -= count;
+                valueCountMap.put(value, count + 1);
+            }
+        }
+
+        private void retract(TestdataEntity entity) {
+            TestdataValue value = entityValueMap.remove(entity);
+            if (value != null) {
+                int count = valueCountMap.get(value) - 1;
+                score += count;
+                valueCountMap.put(value, count);
+            }
+        }
+
+        @Override
+        public void beforeEntityAdded(Object entity) {
+        }
+
+        @Override
+        public void afterEntityAdded(Object entity) {
+            insert((TestdataEntity) entity);
+        }
+
+        @Override
+        public void beforeVariableChanged(Object entity, String variableName) {
+            retract((TestdataEntity) entity);
+        }
+
+        @Override
+        public void afterVariableChanged(Object entity, String variableName) {
+            insert((TestdataEntity) entity);
+        }
+
+        @Override
+        public void beforeEntityRemoved(Object entity) {
+            retract((TestdataEntity) entity);
+        }
+
+        @Override
+        public void afterEntityRemoved(Object entity) {
+        }
+
+        @Override
+        public SimpleScore calculateScore() {
+            return SimpleScore.valueOf(score);
+        }
+
+    }
+
     @SuppressWarnings("unchecked")
     private IncrementalScoreDirectorFactory<Object> mockIncrementalScoreDirectorFactory() {
         IncrementalScoreDirectorFactory<Object> factory = mock(IncrementalScoreDirectorFactory.class);
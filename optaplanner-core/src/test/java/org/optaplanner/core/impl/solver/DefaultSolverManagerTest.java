@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverManagerEventListener;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.phase.custom.AbstractCustomPhaseCommand;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+
+public class DefaultSolverManagerTest {
+
+    @Test(timeout = 60000L)
+    public void solveMoreProblemsThanParallelSolverCount() throws InterruptedException {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverFactory, 1);
+        CountDownLatch solvingEndedLatch = new CountDownLatch(3);
+        solverManager.addEventListener(new SolverManagerEventListener<TestdataSolution, Long>() {
+            @Override
+            public void bestSolutionChanged(Long problemId, BestSolutionChangedEvent<TestdataSolution> event) {
+                assertNotNull(problemId);
+            }
+
+            @Override
+            public void solvingEnded(Long problemId, TestdataSolution bestSolution) {
+                solvingEndedLatch.countDown();
+            }
+        });
+        for (long problemId = 0L; problemId < 3L; problemId++) {
+            solverManager.solve(problemId, createProblem("s" + problemId));
+        }
+        solvingEndedLatch.await();
+        for (long problemId = 0L; problemId < 3L; problemId++) {
+            TestdataSolution bestSolution = solverManager.getBestSolution(problemId);
+            assertEquals("s" + problemId, bestSolution.getCode());
+            assertEquals(true, bestSolution.getScore().isSolutionInitialized());
+        }
+        solverManager.shutdown();
+    }
+
+    @Test(timeout = 60000L)
+    public void terminateEarly() throws InterruptedException {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        // Without termination, the local search would never end
+        ((LocalSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(1))
+                .setTerminationConfig(new TerminationConfig());
+        SolverManager<TestdataSolution, String> solverManager = SolverManager.create(solverFactory, 1);
+        CountDownLatch solvingEndedLatch = new CountDownLatch(2);
+        solverManager.addEventListener((problemId, event) -> {});
+        solverManager.addEventListener(new SolverManagerEventListener<TestdataSolution, String>() {
+            @Override
+            public void bestSolutionChanged(String problemId, BestSolutionChangedEvent<TestdataSolution> event) {
+            }
+
+            @Override
+            public void solvingEnded(String problemId, TestdataSolution bestSolution) {
+                solvingEndedLatch.countDown();
+            }
+        });
+        solverManager.solve("a", createProblem("a"));
+        solverManager.solve("b", createProblem("b"));
+        assertEquals(true, solverManager.isSolving("a"));
+        assertEquals(true, solverManager.isSolving("b"));
+        assertEquals(true, solverManager.terminateEarly("a"));
+        assertEquals(true, solverManager.terminateEarly("b"));
+        solvingEndedLatch.await();
+        assertEquals(false, solverManager.isSolving("a"));
+        assertEquals(false, solverManager.terminateEarly("a"));
+        assertNotNull(solverManager.removeProblem("a"));
+        assertNull(solverManager.getBestSolution("a"));
+        solverManager.shutdown();
+    }
+
+    @Test(timeout = 60000L)
+    public void solvingFailed() throws InterruptedException {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        CustomPhaseConfig phaseConfig = new CustomPhaseConfig();
+        phaseConfig.setCustomPhaseCommandClassList(Collections.singletonList(FailingCustomPhaseCommand.class));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(phaseConfig));
+        SolverManager<TestdataSolution, String> solverManager = SolverManager.create(solverFactory, 1);
+        CountDownLatch solvingFailedLatch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        solverManager.addEventListener(new SolverManagerEventListener<TestdataSolution, String>() {
+            @Override
+            public void bestSolutionChanged(String problemId, BestSolutionChangedEvent<TestdataSolution> event) {
+            }
+
+            @Override
+            public void solvingEnded(String problemId, TestdataSolution bestSolution) {
+                fail("The problem (" + problemId + ") ended without failing.");
+            }
+
+            @Override
+            public void solvingFailed(String problemId, Throwable throwable) {
+                assertEquals("a", problemId);
+                failure.set(throwable);
+                solvingFailedLatch.countDown();
+            }
+        });
+        solverManager.solve("a", createProblem("a"));
+        solvingFailedLatch.await();
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertEquals(FailingCustomPhaseCommand.MESSAGE, failure.get().getMessage());
+        assertEquals(false, solverManager.isSolving("a"));
+        solverManager.shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void solveSameProblemIdTwice() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        ((LocalSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(1))
+                .setTerminationConfig(new TerminationConfig());
+        SolverManager<TestdataSolution, String> solverManager = SolverManager.create(solverFactory, 1);
+        try {
+            solverManager.solve("a", createProblem("a"));
+            solverManager.solve("a", createProblem("a"));
+        } finally {
+            solverManager.shutdown();
+        }
+    }
+
+    public static class FailingCustomPhaseCommand extends AbstractCustomPhaseCommand<TestdataSolution> {
+
+        public static final String MESSAGE = "Failing on purpose.";
+
+        @Override
+        public void changeWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector) {
+            throw new IllegalStateException(MESSAGE);
+        }
+
+    }
+
+    private static TestdataSolution createProblem(String code) {
+        TestdataSolution solution = new TestdataSolution(code);
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3")));
+        return solution;
+    }
+
+}
@@ -16,20 +16,45 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.definition.ScoreDefinitionType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.ProblemFactChangeMode;
+import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreCalculator;
+import org.optaplanner.core.impl.solver.metrics.InMemorySolverMetricsRegistry;
+import org.optaplanner.core.impl.solver.metrics.SolverMetric;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.rich.TestdataRichChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.legacysolution.TestdataLegacySolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
@@ -53,6 +78,225 @@ public class DefaultSolverTest {
         assertSame(solution, solver.getBestSolution());
     }
 
+    @Test
+    public void solveWithMetricsRegistry() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setMetricsRegistryClass(InMemorySolverMetricsRegistry.class);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        solver.solve(solution);
+        InMemorySolverMetricsRegistry metricsRegistry = (InMemorySolverMetricsRegistry) solver.getMetricsRegistry();
+        assertEquals(solver.getSolverScope().getScoreCalculationCount(),
+                metricsRegistry.getCount(SolverMetric.SCORE_CALCULATION_COUNT));
+        assertEquals(2L, metricsRegistry.getTimer(SolverMetric.STEP_TIME,
+                SolverMetric.PHASE_TAG, "Construction Heuristics").getCount());
+        assertEquals((long) PlannerTestUtils.TERMINATION_STEP_COUNT_LIMIT, metricsRegistry.getTimer(SolverMetric.STEP_TIME,
+                SolverMetric.PHASE_TAG, "Local Search").getCount());
+        long moveEvaluationCount = metricsRegistry.getCount(SolverMetric.MOVE_EVALUATION_COUNT);
+        assertTrue(moveEvaluationCount > 0L);
+        assertEquals(moveEvaluationCount, metricsRegistry.getTotalCount(SolverMetric.MOVE_ACCEPTED_COUNT)
+                + metricsRegistry.getTotalCount(SolverMetric.MOVE_REJECTED_COUNT));
+        assertTrue(metricsRegistry.getCount(SolverMetric.BEST_SOLUTION_CHANGED_COUNT) > 0L);
+        assertTrue(metricsRegistry.getTimer(SolverMetric.SOLUTION_CLONE_TIME).getCount() > 0L);
+    }
+
+    @Test
+    public void solveWithMetricsRegistryAndCombinedAcceptors() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setMetricsRegistryClass(InMemorySolverMetricsRegistry.class);
+        LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig)
+                solverFactory.getSolverConfig().getPhaseConfigList().get(1);
+        AcceptorConfig acceptorConfig = new AcceptorConfig();
+        acceptorConfig.setEntityTabuSize(1);
+        acceptorConfig.setLateAcceptanceSize(10);
+        localSearchPhaseConfig.setAcceptorConfig(acceptorConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        solver.solve(solution);
+        InMemorySolverMetricsRegistry metricsRegistry = (InMemorySolverMetricsRegistry) solver.getMetricsRegistry();
+        long moveEvaluationCount = metricsRegistry.getCount(SolverMetric.MOVE_EVALUATION_COUNT);
+        assertTrue(moveEvaluationCount > 0L);
+        String acceptorName = "EntityTabuAcceptor+LateAcceptanceAcceptor";
+        assertEquals(moveEvaluationCount,
+                metricsRegistry.getCount(SolverMetric.MOVE_ACCEPTED_COUNT, SolverMetric.ACCEPTOR_TAG, acceptorName)
+                + metricsRegistry.getCount(SolverMetric.MOVE_REJECTED_COUNT, SolverMetric.ACCEPTOR_TAG, acceptorName));
+    }
+
+    @Test
+    public void solveWithMoveThreadsAndDrools() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactoryWithDroolsScoreDirector(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3"), new TestdataEntity("e4")));
+
+        // The local search phase's move threads catch up the construction heuristic's released score directors
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(true, solution.getScore().isSolutionInitialized());
+        assertSame(solution, solver.getBestSolution());
+    }
+
+    @Test
+    public void solveWithBestSolutionDeltaCloning() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setBestSolutionDeltaCloningEnabled(true);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        List<TestdataSolution> eventSolutionList = new ArrayList<>();
+        solver.addEventListener(event -> eventSolutionList.add(event.getNewBestSolution()));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3")));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(true, solution.getScore().isSolutionInitialized());
+        assertSame(solution, solver.getBestSolution());
+        assertFalse(eventSolutionList.isEmpty());
+        // Each listener gets a full clone that isn't patched later
+        for (TestdataSolution eventSolution : eventSolutionList) {
+            assertNotSame(solution, eventSolution);
+        }
+        TestdataSolution lastEventSolution = eventSolutionList.get(eventSolutionList.size() - 1);
+        assertEquals(solution.getScore(), lastEventSolution.getScore());
+        for (int i = 0; i < solution.getEntityList().size(); i++) {
+            assertSame(solution.getEntityList().get(i).getValue(),
+                    lastEventSolution.getEntityList().get(i).getValue());
+        }
+    }
+
+    @Test
+    public void solveWithBestSolutionDeltaCloningAndProblemFactChangeRestart() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        SolverConfig solverConfig = solverFactory.getSolverConfig();
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setBestSolutionDeltaCloningEnabled(true);
+        solverConfig.setProblemFactChangeMode(ProblemFactChangeMode.RESTART);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(CountValueV1EasyScoreCalculator.class);
+        LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1);
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        // A finite move selector, so a step without an accepted move ends the phase
+        moveSelectorConfig.setCacheType(SelectionCacheType.PHASE);
+        moveSelectorConfig.setSelectionOrder(SelectionOrder.SHUFFLED);
+        localSearchPhaseConfig.setMoveSelectorConfig(moveSelectorConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        // Adds 2 entities on v1, so the restarted Local Search finds 2 new best solutions
+        ProblemFactChange<TestdataSolution> problemFactChange = scoreDirector -> {
+            TestdataSolution workingSolution = scoreDirector.getWorkingSolution();
+            for (String code : Arrays.asList("e4", "e5")) {
+                TestdataEntity entity = new TestdataEntity(code, workingSolution.getValueList().get(0));
+                scoreDirector.beforeEntityAdded(entity);
+                workingSolution.getEntityList().add(entity);
+                scoreDirector.afterEntityAdded(entity);
+            }
+            scoreDirector.triggerVariableListeners();
+        };
+        int[] patchedAfterRestartCount = {0};
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+
+            private TestdataSolution previousBestSolution = null;
+
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                if (!(stepScope instanceof LocalSearchStepScope)) {
+                    return;
+                }
+                DefaultSolverScope<TestdataSolution> solverScope = stepScope.getPhaseScope().getSolverScope();
+                boolean restarted = solverScope.getStartingSolverCount() > 1;
+                if (stepScope.getBestScoreImproved()) {
+                    TestdataSolution bestSolution = solverScope.getBestSolution();
+                    TestdataSolution fullClone = solverScope.getScoreDirector().cloneWorkingSolution();
+                    assertSameAssignment(fullClone, bestSolution);
+                    // The patched best solution isn't exposed, not even to the solver thread
+                    TestdataSolution stableBestSolution = solver.getBestSolution();
+                    assertNotSame(bestSolution, stableBestSolution);
+                    assertSameAssignment(fullClone, stableBestSolution);
+                    if (restarted && bestSolution == previousBestSolution) {
+                        patchedAfterRestartCount[0]++;
+                    }
+                    previousBestSolution = bestSolution;
+                }
+            }
+
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                // The Construction Heuristic already found the optimal solution, so change the problem now
+                if (phaseScope instanceof ConstructionHeuristicPhaseScope
+                        && phaseScope.getSolverScope().getStartingSolverCount() == 1) {
+                    solver.addProblemFactChange(problemFactChange);
+                }
+            }
+        });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(new ArrayList<>(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3"))));
+
+        solution = solver.solve(solution);
+        assertEquals(2, solver.getSolverScope().getStartingSolverCount());
+        assertTrue(patchedAfterRestartCount[0] > 0);
+        assertEquals(5, solution.getEntityList().size());
+        assertEquals(SimpleScore.valueOf(0), solution.getScore());
+        // Once solving ended, the best solution is no longer patched, so it's returned as is
+        assertSame(solution, solver.getBestSolution());
+    }
+
+    private static void assertSameAssignment(TestdataSolution expected, TestdataSolution actual) {
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getEntityList().size(), actual.getEntityList().size());
+        for (int i = 0; i < expected.getEntityList().size(); i++) {
+            TestdataEntity expectedEntity = expected.getEntityList().get(i);
+            TestdataEntity actualEntity = actual.getEntityList().get(i);
+            assertNotSame(expectedEntity, actualEntity);
+            assertEquals(expectedEntity.getCode(), actualEntity.getCode());
+            assertSame(expectedEntity.getValue(), actualEntity.getValue());
+        }
+    }
+
+    @Test
+    public void solveWithVariableListenerChainParallelism() {
+        SolverFactory<TestdataRichChainedSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataRichChainedSolution.class, TestdataRichChainedEntity.class);
+        solverFactory.getSolverConfig().setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverFactory.getSolverConfig().setVariableListenerChainParallelismEnabled(true);
+        Solver<TestdataRichChainedSolution> solver = solverFactory.buildSolver();
+
+        TestdataRichChainedSolution solution = new TestdataRichChainedSolution("s1");
+        solution.setChainedAnchorList(Arrays.asList(new TestdataRichChainedAnchor("a0"),
+                new TestdataRichChainedAnchor("b0"), new TestdataRichChainedAnchor("c0")));
+        solution.setChainedEntityList(Arrays.asList(new TestdataRichChainedEntity("e1"),
+                new TestdataRichChainedEntity("e2"), new TestdataRichChainedEntity("e3"),
+                new TestdataRichChainedEntity("e4"), new TestdataRichChainedEntity("e5")));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(true, solution.getScore().isSolutionInitialized());
+        for (TestdataRichChainedEntity entity : solution.getChainedEntityList()) {
+            assertNotNull(entity.getAnchor());
+        }
+    }
+
     @Test
     public void solveLegacy() {
         SolverFactory<TestdataLegacySolution> solverFactory = PlannerTestUtils.buildSolverFactory(
@@ -111,4 +355,120 @@ public class DefaultSolverTest {
         assertSame(solution, solver.getBestSolution());
     }
 
+    @Test
+    public void solveWithIncrementalProblemFactChanges() {
+        List<String> eventList = new ArrayList<>();
+        // Only changes planning variables, so it is applied without restarting
+        ProblemFactChange<TestdataSolution> problemFactChange = scoreDirector -> {
+            TestdataSolution workingSolution = scoreDirector.getWorkingSolution();
+            TestdataEntity entity = workingSolution.getEntityList().get(0);
+            TestdataValue value = workingSolution.getValueList().get(0);
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(entity.getValue() == value ? workingSolution.getValueList().get(1) : value);
+            scoreDirector.afterVariableChanged(entity, "value");
+            scoreDirector.triggerVariableListeners();
+            eventList.add("change");
+        };
+        DefaultSolver<TestdataSolution> solver = buildIncrementalProblemFactChangeSolver(problemFactChange, eventList);
+
+        TestdataSolution solution = solver.solve(createIncrementalProblemFactChangeProblem());
+        assertEquals(true, solution.getScore().isSolutionInitialized());
+        // No restart, and FULL_ASSERT didn't find a stale step score or a corrupted score
+        assertEquals(Arrays.asList("LS", "change", "change"), eventList);
+        assertEquals(new CountValueV1EasyScoreCalculator().calculateScore(solution), solution.getScore());
+    }
+
+    @Test
+    public void solveWithIncrementalProblemPropertyChangeRestarts() {
+        List<String> eventList = new ArrayList<>();
+        // A problem property change can make the selector caches stale, so the solver restarts
+        ProblemFactChange<TestdataSolution> problemFactChange = scoreDirector -> {
+            TestdataValue value = scoreDirector.getWorkingSolution().getValueList().get(0);
+            scoreDirector.beforeProblemPropertyChanged(value);
+            value.setCode(value.getCode());
+            scoreDirector.afterProblemPropertyChanged(value);
+            eventList.add("change");
+        };
+        DefaultSolver<TestdataSolution> solver = buildIncrementalProblemFactChangeSolver(problemFactChange, eventList);
+
+        TestdataSolution solution = solver.solve(createIncrementalProblemFactChangeProblem());
+        assertEquals(true, solution.getScore().isSolutionInitialized());
+        assertEquals(Arrays.asList("LS", "change", "LS", "change", "LS"), eventList);
+    }
+
+    private static DefaultSolver<TestdataSolution> buildIncrementalProblemFactChangeSolver(
+            ProblemFactChange<TestdataSolution> problemFactChange, List<String> eventList) {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        SolverConfig solverConfig = solverFactory.getSolverConfig();
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setProblemFactChangeMode(ProblemFactChangeMode.INCREMENTAL);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(CountValueV1EasyScoreCalculator.class);
+        LocalSearchPhaseConfig localSearchPhaseConfig = (LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1);
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        // The cached moves reference the working entities and values, so they must not go stale
+        moveSelectorConfig.setCacheType(SelectionCacheType.PHASE);
+        moveSelectorConfig.setSelectionOrder(SelectionOrder.SHUFFLED);
+        localSearchPhaseConfig.setMoveSelectorConfig(moveSelectorConfig);
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(10));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+
+            private int problemFactChangeCount = 0;
+            private AbstractStepScope<TestdataSolution> lastEndedStepScope = null;
+            private Score lastEndedStepScore = null;
+
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                if (phaseScope instanceof LocalSearchPhaseScope) {
+                    eventList.add("LS");
+                }
+            }
+
+            @Override
+            public void stepStarted(AbstractStepScope<TestdataSolution> stepScope) {
+                if (lastEndedStepScope != null) {
+                    // The problem fact changes don't overwrite the score of a step that already ended
+                    assertSame(lastEndedStepScore, lastEndedStepScope.getScore());
+                }
+            }
+
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                lastEndedStepScope = stepScope;
+                lastEndedStepScore = stepScope.getScore();
+                // Add 2 changes in total, even if the solver restarts
+                if (stepScope instanceof LocalSearchStepScope && problemFactChangeCount < 2
+                        && (stepScope.getStepIndex() == 2 || stepScope.getStepIndex() == 5)) {
+                    solver.addProblemFactChange(problemFactChange);
+                    problemFactChangeCount++;
+                }
+            }
+        });
+        return solver;
+    }
+
+    private static TestdataSolution createIncrementalProblemFactChangeProblem() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2"), new TestdataValue("v3")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2"),
+                new TestdataEntity("e3"), new TestdataEntity("e4")));
+        return solution;
+    }
+
+    public static class CountValueV1EasyScoreCalculator implements EasyScoreCalculator<TestdataSolution> {
+
+        @Override
+        public SimpleScore calculateScore(TestdataSolution solution) {
+            int score = 0;
+            for (TestdataEntity entity : solution.getEntityList()) {
+                if (entity.getValue() != null && entity.getValue().getCode().equals("v1")) {
+                    score--;
+                }
+            }
+            return SimpleScore.valueOf(score);
+        }
+
+    }
+
 }
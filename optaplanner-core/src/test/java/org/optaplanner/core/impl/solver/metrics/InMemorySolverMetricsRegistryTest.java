@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.metrics;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.solver.metrics.InMemorySolverMetricsRegistry.InMemoryTimer;
+
+import static org.junit.Assert.*;
+
+public class InMemorySolverMetricsRegistryTest {
+
+    @Test
+    public void counter() {
+        InMemorySolverMetricsRegistry metricsRegistry = new InMemorySolverMetricsRegistry();
+        MetricCounter counter = metricsRegistry.counter(SolverMetric.SCORE_CALCULATION_COUNT);
+        assertSame(counter, metricsRegistry.counter(SolverMetric.SCORE_CALCULATION_COUNT));
+        counter.increment();
+        counter.add(4L);
+        assertEquals(5L, metricsRegistry.getCount(SolverMetric.SCORE_CALCULATION_COUNT));
+        assertEquals(0L, metricsRegistry.getCount(SolverMetric.MOVE_EVALUATION_COUNT));
+    }
+
+    @Test
+    public void counterWithTags() {
+        InMemorySolverMetricsRegistry metricsRegistry = new InMemorySolverMetricsRegistry();
+        metricsRegistry.counter(SolverMetric.MOVE_ACCEPTED_COUNT, SolverMetric.ACCEPTOR_TAG, "a").add(3L);
+        metricsRegistry.counter(SolverMetric.MOVE_ACCEPTED_COUNT, SolverMetric.ACCEPTOR_TAG, "b").add(4L);
+        metricsRegistry.counter(SolverMetric.MOVE_REJECTED_COUNT, SolverMetric.ACCEPTOR_TAG, "a").add(100L);
+        assertEquals(3L, metricsRegistry.getCount(SolverMetric.MOVE_ACCEPTED_COUNT, SolverMetric.ACCEPTOR_TAG, "a"));
+        assertEquals(0L, metricsRegistry.getCount(SolverMetric.MOVE_ACCEPTED_COUNT));
+        assertEquals(7L, metricsRegistry.getTotalCount(SolverMetric.MOVE_ACCEPTED_COUNT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void counterWithOddTags() {
+        new InMemorySolverMetricsRegistry().counter(SolverMetric.MOVE_ACCEPTED_COUNT, SolverMetric.ACCEPTOR_TAG);
+    }
+
+    @Test
+    public void timer() {
+        InMemorySolverMetricsRegistry metricsRegistry = new InMemorySolverMetricsRegistry();
+        assertNull(metricsRegistry.getTimer(SolverMetric.STEP_TIME, SolverMetric.PHASE_TAG, "Local Search"));
+        MetricTimer timer = metricsRegistry.timer(SolverMetric.STEP_TIME, SolverMetric.PHASE_TAG, "Local Search");
+        timer.stop(timer.start());
+        long startNanos = timer.start();
+        timer.stop(startNanos - 1_000_000L);
+        InMemoryTimer inMemoryTimer = metricsRegistry.getTimer(SolverMetric.STEP_TIME,
+                SolverMetric.PHASE_TAG, "Local Search");
+        assertEquals(2L, inMemoryTimer.getCount());
+        assertTrue(inMemoryTimer.getMaxNanos() >= 1_000_000L);
+        assertTrue(inMemoryTimer.getTotalNanos() >= inMemoryTimer.getMaxNanos());
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AliasMethodSamplerTest {
+
+    @Test
+    public void sampleDistribution() {
+        double[] weights = {1000.0, 200.0, 0.0, 30.0, 4.0};
+        AliasMethodSampler sampler = new AliasMethodSampler(weights);
+        assertEquals(5, sampler.getSize());
+        assertEquals(1234.0, sampler.getWeightTotal(), 0.0);
+        Random random = new Random(37);
+        int sampleCount = 1_234_000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < sampleCount; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        assertEquals(0, counts[2]);
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 1234.0, ((double) counts[i]) / sampleCount, 0.002);
+        }
+    }
+
+    @Test
+    public void sampleSingleWeight() {
+        AliasMethodSampler sampler = new AliasMethodSampler(new double[]{0.0, 7.0, 0.0});
+        Random random = new Random(37);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, sampler.sample(random));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWeight() {
+        new AliasMethodSampler(new double[]{1.0, -1.0});
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sampleWithoutPositiveWeight() {
+        new AliasMethodSampler(new double[]{0.0, 0.0}).sample(new Random(37));
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.config.solver.random.RandomType;
+
+import static org.junit.Assert.*;
+
+public class DefaultRandomFactoryTest {
+
+    @Test
+    public void createRandomIsReproducible() {
+        for (RandomType randomType : RandomType.values()) {
+            DefaultRandomFactory randomFactory = new DefaultRandomFactory(randomType, 37L);
+            Random a = randomFactory.createRandom();
+            Random b = randomFactory.createRandom();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(randomType.name(), a.nextInt(1000), b.nextInt(1000));
+                assertEquals(randomType.name(), a.nextLong(), b.nextLong());
+                assertEquals(randomType.name(), a.nextDouble(), b.nextDouble(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void unsynchronizedRandomRanges() {
+        for (RandomType randomType : new RandomType[]{
+                RandomType.SPLITTABLE, RandomType.XOSHIRO256_STAR_STAR, RandomType.PCG32}) {
+            Random random = new DefaultRandomFactory(randomType, 37L).createRandom();
+            assertTrue(random instanceof AbstractUnsynchronizedRandom);
+            for (int i = 0; i < 1000; i++) {
+                int nextInt = random.nextInt(10);
+                assertTrue(nextInt >= 0 && nextInt < 10);
+                double nextDouble = random.nextDouble();
+                assertTrue(nextDouble >= 0.0 && nextDouble < 1.0);
+                long nextLong = RandomUtils.nextLong(random, 10L + (long) Integer.MAX_VALUE);
+                assertTrue(nextLong >= 0L && nextLong < 10L + (long) Integer.MAX_VALUE);
+            }
+        }
+    }
+
+}
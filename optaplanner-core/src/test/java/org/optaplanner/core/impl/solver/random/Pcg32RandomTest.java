@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Pcg32RandomTest {
+
+    @Test
+    public void nextIntReferenceSequence() {
+        // Same as the pcg32-demo of the reference implementation
+        Pcg32Random random = new Pcg32Random(42L, 54L);
+        assertEquals(0xa15c02b7, random.nextInt());
+        assertEquals(0x7b47f409, random.nextInt());
+        assertEquals(0xba1d3330, random.nextInt());
+        assertEquals(0x83d2f293, random.nextInt());
+        assertEquals(0xbfa4784b, random.nextInt());
+        assertEquals(0xcbed606e, random.nextInt());
+    }
+
+    @Test
+    public void split() {
+        Pcg32Random a = new Pcg32Random(37L);
+        Pcg32Random b = new Pcg32Random(37L);
+        Pcg32Random aChild = a.split();
+        Pcg32Random bChild = b.split();
+        assertEquals(aChild.nextLong(), bChild.nextLong());
+        assertNotEquals(aChild.nextLong(), a.nextLong());
+    }
+
+    @Test
+    public void withSeed() {
+        Pcg32Random a = new Pcg32Random(37L);
+        Pcg32Random b = new Pcg32Random(37L);
+        Pcg32Random child = a.withSeed(42L);
+        assertEquals(new Pcg32Random(42L).nextLong(), child.nextLong());
+        // The parent is unchanged
+        assertEquals(b.nextLong(), a.nextLong());
+    }
+
+}
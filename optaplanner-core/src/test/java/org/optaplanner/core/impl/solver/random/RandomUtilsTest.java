@@ -20,6 +20,8 @@ import java.util.Random;
 
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 public class RandomUtilsTest {
 
     @Test
@@ -28,4 +30,12 @@ public class RandomUtilsTest {
         RandomUtils.nextLong(random, 10L + (long) Integer.MAX_VALUE);
     }
 
+    @Test
+    public void splitSeed() {
+        assertEquals(RandomUtils.splitSeed(37L, 0L), RandomUtils.splitSeed(37L, 0L));
+        assertNotEquals(RandomUtils.splitSeed(37L, 0L), RandomUtils.splitSeed(37L, 1L));
+        assertNotEquals(RandomUtils.splitSeed(37L, 0L), RandomUtils.splitSeed(38L, 0L));
+        assertNotEquals(RandomUtils.splitSeed(37L, 0L), 37L);
+    }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class Xoshiro256StarStarRandomTest {
+
+    @Test
+    public void nextLongReferenceSequence() {
+        Xoshiro256StarStarRandom random = new Xoshiro256StarStarRandom(1L, 2L, 3L, 4L);
+        assertEquals(11520L, random.nextLong());
+        assertEquals(0L, random.nextLong());
+        assertEquals(1509978240L, random.nextLong());
+        assertEquals(1215971899390074240L, random.nextLong());
+    }
+
+    @Test
+    public void setSeed() {
+        Xoshiro256StarStarRandom a = new Xoshiro256StarStarRandom(37L);
+        long first = a.nextLong();
+        a.nextLong();
+        a.setSeed(37L);
+        assertEquals(first, a.nextLong());
+    }
+
+    @Test
+    public void split() {
+        Xoshiro256StarStarRandom a = new Xoshiro256StarStarRandom(37L);
+        Xoshiro256StarStarRandom b = new Xoshiro256StarStarRandom(37L);
+        Xoshiro256StarStarRandom child = a.split();
+        // The child continues where the parent was
+        assertEquals(b.nextLong(), child.nextLong());
+        // The parent jumped ahead
+        assertNotEquals(child.nextLong(), a.nextLong());
+    }
+
+    @Test
+    public void withSeed() {
+        Xoshiro256StarStarRandom a = new Xoshiro256StarStarRandom(37L);
+        Xoshiro256StarStarRandom b = new Xoshiro256StarStarRandom(37L);
+        Xoshiro256StarStarRandom child = a.withSeed(42L);
+        assertEquals(new Xoshiro256StarStarRandom(42L).nextLong(), child.nextLong());
+        // The parent is unchanged
+        assertEquals(b.nextLong(), a.nextLong());
+    }
+
+    @Test
+    public void nextIntBound() {
+        Xoshiro256StarStarRandom random = new Xoshiro256StarStarRandom(37L);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70_000; i++) {
+            counts[random.nextInt(7)]++;
+        }
+        for (int count : counts) {
+            assertEquals(10_000, count, 500);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextIntNonPositiveBound() {
+        new Xoshiro256StarStarRandom(37L).nextInt(0);
+    }
+
+}
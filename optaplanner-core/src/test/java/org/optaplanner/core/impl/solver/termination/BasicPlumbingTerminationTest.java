@@ -61,4 +61,29 @@ public class BasicPlumbingTerminationTest {
         assertEquals(21, count.get());
     }
 
+    @Test
+    public void problemFactChangesIncrementallyProcessed() {
+        BasicPlumbingTermination basicPlumbingTermination = new BasicPlumbingTermination(false);
+        basicPlumbingTermination.setProblemFactChangesIncrementallyProcessed(true);
+        basicPlumbingTermination.addProblemFactChange(scoreDirector -> {});
+        assertEquals(true, basicPlumbingTermination.hasProblemFactChanges());
+        assertEquals(false, basicPlumbingTermination.isSolverTerminated(null));
+        basicPlumbingTermination.setProblemFactChangesIncrementallyProcessed(false);
+        assertEquals(true, basicPlumbingTermination.isSolverTerminated(null));
+    }
+
+    @Test
+    public void requestRestartSolver() {
+        BasicPlumbingTermination basicPlumbingTermination = new BasicPlumbingTermination(false);
+        assertEquals(false, basicPlumbingTermination.waitForRestartSolverDecision());
+        basicPlumbingTermination.requestRestartSolver();
+        assertEquals(false, basicPlumbingTermination.hasProblemFactChanges());
+        assertEquals(true, basicPlumbingTermination.isSolverTerminated(null));
+        assertEquals(true, basicPlumbingTermination.waitForRestartSolverDecision());
+        basicPlumbingTermination.startProblemFactChangesProcessing();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        assertEquals(false, basicPlumbingTermination.isSolverTerminated(null));
+        assertEquals(false, basicPlumbingTermination.waitForRestartSolverDecision());
+    }
+
 }
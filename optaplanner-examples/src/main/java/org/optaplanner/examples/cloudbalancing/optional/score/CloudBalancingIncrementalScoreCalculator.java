@@ -20,12 +20,16 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
 import org.optaplanner.core.impl.score.director.incremental.AbstractIncrementalScoreCalculator;
+import org.optaplanner.core.impl.score.director.incremental.ForkableIncrementalScoreCalculator;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreCalculator;
 import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
 import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
 import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
 
-public class CloudBalancingIncrementalScoreCalculator extends AbstractIncrementalScoreCalculator<CloudBalance> {
+public class CloudBalancingIncrementalScoreCalculator extends AbstractIncrementalScoreCalculator<CloudBalance>
+        implements ForkableIncrementalScoreCalculator<CloudBalance> {
 
     private Map<CloudComputer, Integer> cpuPowerUsageMap;
     private Map<CloudComputer, Integer> memoryUsageMap;
@@ -55,6 +59,19 @@ public class CloudBalancingIncrementalScoreCalculator extends AbstractIncrementa
         }
     }
 
+    @Override
+    public IncrementalScoreCalculator<CloudBalance> fork(ScoreDirector<CloudBalance> destinationScoreDirector) {
+        // The maps only contain computers, which are problem facts shared with the planning clone
+        CloudBalancingIncrementalScoreCalculator fork = new CloudBalancingIncrementalScoreCalculator();
+        fork.cpuPowerUsageMap = new HashMap<>(cpuPowerUsageMap);
+        fork.memoryUsageMap = new HashMap<>(memoryUsageMap);
+        fork.networkBandwidthUsageMap = new HashMap<>(networkBandwidthUsageMap);
+        fork.processCountMap = new HashMap<>(processCountMap);
+        fork.hardScore = hardScore;
+        fork.softScore = softScore;
+        return fork;
+    }
+
     @Override
     public void beforeEntityAdded(Object entity) {
         // Do nothing
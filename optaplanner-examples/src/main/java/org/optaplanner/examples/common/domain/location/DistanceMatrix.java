@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A precalculated, possibly asymmetric, travel distance between every 2 locations,
+ * shared by all those locations.
+ * Each location is identified by its index in this matrix.
+ * <p>
+ * The distances are stored in a single flat primitive array,
+ * so a lookup is O(1) and does not box or hash, unlike a {@code Map<Location, Double>} per location.
+ * <p>
+ * It is not serialized: it is rebuilt from the travel distance maps with {@link #buildFromTravelDistanceMaps(List)}.
+ */
+public class DistanceMatrix implements Serializable {
+
+    private int locationCount;
+    /**
+     * Row-major: the distance from index {@code i} to index {@code j} is at {@code i * locationCount + j}.
+     */
+    private long[] distances;
+
+    public DistanceMatrix(int locationCount) {
+        if (locationCount < 0) {
+            throw new IllegalArgumentException("The locationCount (" + locationCount + ") cannot be negative.");
+        }
+        if ((long) locationCount * (long) locationCount > (long) Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The locationCount (" + locationCount
+                    + ") is too big for a " + DistanceMatrix.class.getSimpleName() + ".");
+        }
+        this.locationCount = locationCount;
+        distances = new long[locationCount * locationCount];
+    }
+
+    /**
+     * Builds a matrix from the travel distance maps of the {@link DistanceMatrixLocation}s in the locationList
+     * and assigns it to each of them.
+     * Their travel distance maps are kept, for the locations that are added in real-time.
+     * @param locationList never null, the elements that are not a {@link DistanceMatrixLocation} are ignored
+     * @return null if there is no {@link DistanceMatrixLocation} or if their travel distance maps are incomplete,
+     * in which case nothing is assigned
+     */
+    public static DistanceMatrix buildFromTravelDistanceMaps(List<?> locationList) {
+        List<DistanceMatrixLocation> matrixLocationList = locationList.stream()
+                .filter(location -> location instanceof DistanceMatrixLocation)
+                .map(location -> (DistanceMatrixLocation) location)
+                .collect(Collectors.toList());
+        if (matrixLocationList.isEmpty()) {
+            return null;
+        }
+        int locationCount = matrixLocationList.size();
+        DistanceMatrix distanceMatrix = new DistanceMatrix(locationCount);
+        for (int i = 0; i < locationCount; i++) {
+            Map<? extends DistanceMatrixLocation, Double> travelDistanceMap
+                    = matrixLocationList.get(i).getTravelDistanceMap();
+            if (travelDistanceMap == null) {
+                return null;
+            }
+            for (int j = 0; j < locationCount; j++) {
+                if (i != j) {
+                    Double travelDistance = travelDistanceMap.get(matrixLocationList.get(j));
+                    if (travelDistance == null) {
+                        return null;
+                    }
+                    distanceMatrix.setDistance(i, j, travelDistance);
+                }
+            }
+        }
+        for (int i = 0; i < locationCount; i++) {
+            DistanceMatrixLocation location = matrixLocationList.get(i);
+            location.setDistanceMatrix(distanceMatrix);
+            location.setDistanceMatrixIndex(i);
+        }
+        return distanceMatrix;
+    }
+
+    public int getLocationCount() {
+        return locationCount;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < locationCount}
+     * @param toIndex {@code 0 <= toIndex < locationCount}
+     * @return a non-negative number, the distance multiplied by 1000 to avoid floating point arithmetic rounding errors
+     */
+    public long getDistance(int fromIndex, int toIndex) {
+        return distances[fromIndex * locationCount + toIndex];
+    }
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < locationCount}
+     * @param toIndex {@code 0 <= toIndex < locationCount}
+     * @param distance {@code >= 0}, not yet multiplied by 1000
+     */
+    public void setDistance(int fromIndex, int toIndex, double distance) {
+        // Multiplied by 1000 to avoid floating point arithmetic rounding errors
+        distances[fromIndex * locationCount + toIndex] = (long) (distance * 1000.0 + 0.5);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + locationCount + "x" + locationCount + ")";
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A location that can share a {@link DistanceMatrix} with other locations.
+ * Only its travel distance map is serialized,
+ * the matrix is built from those maps by {@link DistanceMatrix#buildFromTravelDistanceMaps(List)}.
+ */
+public interface DistanceMatrixLocation {
+
+    /**
+     * @return null if the travel distances are only in the {@link DistanceMatrix}
+     */
+    Map<? extends DistanceMatrixLocation, Double> getTravelDistanceMap();
+
+    /**
+     * @param distanceMatrix sometimes null, shared with the other locations in that matrix
+     */
+    void setDistanceMatrix(DistanceMatrix distanceMatrix);
+
+    /**
+     * @param distanceMatrixIndex {@code 0 <= distanceMatrixIndex < locationCount}, the index of this location
+     * in the {@link DistanceMatrix}
+     */
+    void setDistanceMatrixIndex(int distanceMatrixIndex);
+
+}
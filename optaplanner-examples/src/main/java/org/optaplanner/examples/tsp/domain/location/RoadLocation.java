@@ -19,6 +19,8 @@ package org.optaplanner.examples.tsp.domain.location;
 import java.util.Map;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
+import org.optaplanner.examples.common.domain.location.DistanceMatrixLocation;
 
 /**
  * The cost between 2 locations was precalculated on a real road network route.
@@ -26,10 +28,14 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
  * Used with {@link DistanceType#ROAD_DISTANCE}.
  */
 @XStreamAlias("TspRoadLocation")
-public class RoadLocation extends Location {
+public class RoadLocation extends Location implements DistanceMatrixLocation {
 
     // Prefer Map over array or List because customers might be added and removed in real-time planning.
     protected Map<RoadLocation, Double> travelDistanceMap;
+    // Used instead of the travelDistanceMap for locations that share the same distanceMatrix.
+    // Not serialized, because it is rebuilt from the travelDistanceMaps after reading.
+    protected transient DistanceMatrix distanceMatrix;
+    protected transient int distanceMatrixIndex;
 
     public RoadLocation() {
     }
@@ -38,6 +44,7 @@ public class RoadLocation extends Location {
         super(id, latitude, longitude);
     }
 
+    @Override
     public Map<RoadLocation, Double> getTravelDistanceMap() {
         return travelDistanceMap;
     }
@@ -46,12 +53,34 @@ public class RoadLocation extends Location {
         this.travelDistanceMap = travelDistanceMap;
     }
 
+    public DistanceMatrix getDistanceMatrix() {
+        return distanceMatrix;
+    }
+
+    @Override
+    public void setDistanceMatrix(DistanceMatrix distanceMatrix) {
+        this.distanceMatrix = distanceMatrix;
+    }
+
+    public int getDistanceMatrixIndex() {
+        return distanceMatrixIndex;
+    }
+
+    @Override
+    public void setDistanceMatrixIndex(int distanceMatrixIndex) {
+        this.distanceMatrixIndex = distanceMatrixIndex;
+    }
+
     @Override
     public long getDistanceTo(Location location) {
         if (this == location) {
             return 0L;
         }
-        double distance = travelDistanceMap.get((RoadLocation) location);
+        RoadLocation roadLocation = (RoadLocation) location;
+        if (distanceMatrix != null && distanceMatrix == roadLocation.distanceMatrix) {
+            return distanceMatrix.getDistance(distanceMatrixIndex, roadLocation.distanceMatrixIndex);
+        }
+        double distance = travelDistanceMap.get(roadLocation);
         // Multiplied by 1000 to avoid floating point arithmetic rounding errors
         return (long) (distance * 1000.0 + 0.5);
     }
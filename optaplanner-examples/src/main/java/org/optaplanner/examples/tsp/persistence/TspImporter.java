@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FilenameUtils;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
 import org.optaplanner.examples.common.persistence.AbstractTxtSolutionImporter;
 import org.optaplanner.examples.common.persistence.SolutionConverter;
 import org.optaplanner.examples.tsp.app.TspApp;
@@ -166,6 +167,7 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
                     }
                     location.setTravelDistanceMap(travelDistanceMap);
                 }
+                DistanceMatrix.buildFromTravelDistanceMaps(locationList);
             }
         }
 
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FilenameUtils;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
 import org.optaplanner.examples.common.persistence.AbstractTxtSolutionImporter;
 import org.optaplanner.examples.common.persistence.SolutionConverter;
 import org.optaplanner.examples.vehiclerouting.app.VehicleRoutingApp;
@@ -242,6 +243,7 @@ public class VehicleRoutingImporter extends AbstractTxtSolutionImporter<VehicleR
                     }
                     location.setTravelDistanceMap(travelDistanceMap);
                 }
+                DistanceMatrix.buildFromTravelDistanceMaps(customerLocationList);
             }
             if (distanceType == DistanceType.SEGMENTED_ROAD_DISTANCE) {
                 readConstantLine("SEGMENTED_EDGE_WEIGHT_SECTION");
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.vehiclerouting.persistence;
+
+import java.io.InputStream;
+
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
+import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import org.optaplanner.examples.vehiclerouting.domain.location.RoadLocation;
+import org.optaplanner.persistence.xstream.impl.domain.solution.XStreamSolutionFileIO;
+
+/**
+ * Builds the shared {@link DistanceMatrix} of the {@link RoadLocation}s once after reading,
+ * because only their travelDistanceMaps are serialized.
+ */
+public class VehicleRoutingXStreamSolutionFileIO extends XStreamSolutionFileIO<VehicleRoutingSolution> {
+
+    public VehicleRoutingXStreamSolutionFileIO() {
+        super(VehicleRoutingSolution.class);
+    }
+
+    @Override
+    public VehicleRoutingSolution read(InputStream inputSolutionStream) {
+        VehicleRoutingSolution solution = super.read(inputSolutionStream);
+        DistanceMatrix.buildFromTravelDistanceMaps(solution.getLocationList());
+        return solution;
+    }
+
+}
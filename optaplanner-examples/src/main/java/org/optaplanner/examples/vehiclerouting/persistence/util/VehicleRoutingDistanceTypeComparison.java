@@ -32,8 +32,8 @@ import org.optaplanner.examples.vehiclerouting.domain.Customer;
 import org.optaplanner.examples.vehiclerouting.domain.Standstill;
 import org.optaplanner.examples.vehiclerouting.domain.Vehicle;
 import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import org.optaplanner.examples.vehiclerouting.persistence.VehicleRoutingXStreamSolutionFileIO;
 import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
-import org.optaplanner.persistence.xstream.impl.domain.solution.XStreamSolutionFileIO;
 
 public class VehicleRoutingDistanceTypeComparison extends LoggingMain {
 
@@ -51,7 +51,7 @@ public class VehicleRoutingDistanceTypeComparison extends LoggingMain {
 
     public VehicleRoutingDistanceTypeComparison() {
         dataDir = CommonApp.determineDataDir(VehicleRoutingApp.DATA_DIR_NAME);
-        solutionFileIO = new XStreamSolutionFileIO<>(VehicleRoutingSolution.class);
+        solutionFileIO = new VehicleRoutingXStreamSolutionFileIO();
         SolverFactory<VehicleRoutingSolution> solverFactory = SolverFactory.createFromXmlResource(VehicleRoutingApp.SOLVER_CONFIG);
         scoreDirectorFactory = solverFactory.buildSolver().getScoreDirectorFactory();
     }
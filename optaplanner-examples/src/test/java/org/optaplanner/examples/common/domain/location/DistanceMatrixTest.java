@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DistanceMatrixTest {
+
+    @Test
+    public void getAndSetDistance() {
+        DistanceMatrix distanceMatrix = new DistanceMatrix(3);
+        distanceMatrix.setDistance(0, 1, 12.0);
+        distanceMatrix.setDistance(1, 0, 13.5);
+        distanceMatrix.setDistance(2, 1, 0.0004);
+        distanceMatrix.setDistance(2, 0, 0.0005);
+        assertEquals(12000L, distanceMatrix.getDistance(0, 1));
+        assertEquals(13500L, distanceMatrix.getDistance(1, 0));
+        assertEquals(0L, distanceMatrix.getDistance(2, 1));
+        assertEquals(1L, distanceMatrix.getDistance(2, 0));
+        assertEquals(0L, distanceMatrix.getDistance(1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooBig() {
+        new DistanceMatrix(50000);
+    }
+
+    @Test
+    public void buildFromTravelDistanceMaps() {
+        TestLocation a = new TestLocation();
+        TestLocation b = new TestLocation();
+        TestLocation c = new TestLocation();
+        a.travelDistanceMap.put(b, 1.0);
+        a.travelDistanceMap.put(c, 2.0);
+        b.travelDistanceMap.put(a, 3.0);
+        b.travelDistanceMap.put(c, 4.0);
+        c.travelDistanceMap.put(a, 5.0);
+        c.travelDistanceMap.put(b, 6.0);
+        // Other location types are ignored
+        List<Object> locationList = Arrays.asList(a, "other", b, c);
+        DistanceMatrix distanceMatrix = DistanceMatrix.buildFromTravelDistanceMaps(locationList);
+        assertEquals(3, distanceMatrix.getLocationCount());
+        assertSame(distanceMatrix, a.distanceMatrix);
+        assertSame(distanceMatrix, b.distanceMatrix);
+        assertSame(distanceMatrix, c.distanceMatrix);
+        assertEquals(0, a.distanceMatrixIndex);
+        assertEquals(1, b.distanceMatrixIndex);
+        assertEquals(2, c.distanceMatrixIndex);
+        assertEquals(1000L, distanceMatrix.getDistance(0, 1));
+        assertEquals(4000L, distanceMatrix.getDistance(1, 2));
+        assertEquals(5000L, distanceMatrix.getDistance(2, 0));
+        assertEquals(0L, distanceMatrix.getDistance(2, 2));
+    }
+
+    @Test
+    public void buildFromIncompleteTravelDistanceMaps() {
+        TestLocation a = new TestLocation();
+        TestLocation b = new TestLocation();
+        TestLocation c = new TestLocation();
+        a.travelDistanceMap.put(b, 1.0);
+        a.travelDistanceMap.put(c, 2.0);
+        b.travelDistanceMap.put(a, 3.0);
+        c.travelDistanceMap.put(a, 5.0);
+        c.travelDistanceMap.put(b, 6.0);
+        assertNull(DistanceMatrix.buildFromTravelDistanceMaps(Arrays.asList(a, b, c)));
+        assertNull(a.distanceMatrix);
+        assertNull(DistanceMatrix.buildFromTravelDistanceMaps(Arrays.asList("other")));
+    }
+
+    private static class TestLocation implements DistanceMatrixLocation {
+
+        private final Map<TestLocation, Double> travelDistanceMap = new HashMap<>();
+        private DistanceMatrix distanceMatrix = null;
+        private int distanceMatrixIndex = -1;
+
+        @Override
+        public Map<TestLocation, Double> getTravelDistanceMap() {
+            return travelDistanceMap;
+        }
+
+        @Override
+        public void setDistanceMatrix(DistanceMatrix distanceMatrix) {
+            this.distanceMatrix = distanceMatrix;
+        }
+
+        @Override
+        public void setDistanceMatrixIndex(int distanceMatrixIndex) {
+            this.distanceMatrixIndex = distanceMatrixIndex;
+        }
+
+    }
+
+}
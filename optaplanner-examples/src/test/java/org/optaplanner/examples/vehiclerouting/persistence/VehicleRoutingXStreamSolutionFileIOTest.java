@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.vehiclerouting.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.optaplanner.examples.common.app.CommonApp;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
+import org.optaplanner.examples.vehiclerouting.app.VehicleRoutingApp;
+import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import org.optaplanner.examples.vehiclerouting.domain.location.Location;
+import org.optaplanner.examples.vehiclerouting.domain.location.RoadLocation;
+
+import static org.junit.Assert.*;
+
+public class VehicleRoutingXStreamSolutionFileIOTest {
+
+    @Test
+    public void readBuildsDistanceMatrix() {
+        File dataDir = CommonApp.determineDataDir(VehicleRoutingApp.DATA_DIR_NAME);
+        File inputSolutionFile = new File(dataDir, "unsolved/road-cvrp-29customers.xml");
+        VehicleRoutingSolution solution = new VehicleRoutingXStreamSolutionFileIO().read(inputSolutionFile);
+        DistanceMatrix distanceMatrix = ((RoadLocation) solution.getLocationList().get(0)).getDistanceMatrix();
+        assertNotNull(distanceMatrix);
+        assertEquals(solution.getLocationList().size(), distanceMatrix.getLocationCount());
+        for (Location location : solution.getLocationList()) {
+            RoadLocation roadLocation = (RoadLocation) location;
+            assertSame(distanceMatrix, roadLocation.getDistanceMatrix());
+            for (Location otherLocation : solution.getLocationList()) {
+                if (location != otherLocation) {
+                    double travelDistance = roadLocation.getTravelDistanceMap().get(otherLocation);
+                    assertEquals((long) (travelDistance * 1000.0 + 0.5), roadLocation.getDistanceTo(otherLocation));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void writeOmitsDistanceMatrix() throws IOException {
+        File dataDir = CommonApp.determineDataDir(VehicleRoutingApp.DATA_DIR_NAME);
+        File inputSolutionFile = new File(dataDir, "unsolved/road-cvrp-29customers.xml");
+        VehicleRoutingXStreamSolutionFileIO solutionFileIO = new VehicleRoutingXStreamSolutionFileIO();
+        VehicleRoutingSolution solution = solutionFileIO.read(inputSolutionFile);
+        File outputSolutionFile = File.createTempFile("road-cvrp-29customers", ".xml");
+        try {
+            solutionFileIO.write(solution, outputSolutionFile);
+            String xml = new String(Files.readAllBytes(outputSolutionFile.toPath()), StandardCharsets.UTF_8);
+            assertFalse(xml.contains("distanceMatrix"));
+            VehicleRoutingSolution rereadSolution = solutionFileIO.read(outputSolutionFile);
+            RoadLocation location = (RoadLocation) rereadSolution.getLocationList().get(0);
+            assertNotNull(location.getDistanceMatrix());
+            assertEquals(solution.getLocationList().get(0).getDistanceTo(solution.getLocationList().get(1)),
+                    location.getDistanceTo(rereadSolution.getLocationList().get(1)));
+        } finally {
+            outputSolutionFile.delete();
+        }
+    }
+
+}
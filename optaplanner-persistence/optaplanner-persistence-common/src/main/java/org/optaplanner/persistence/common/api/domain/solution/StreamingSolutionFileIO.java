@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.api.domain.solution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * A {@link SolutionFileIO} that reads or writes a {@link PlanningSolution} incrementally from or to a stream,
+ * so it never holds the entire file (or a document tree of it) in memory next to the object graph.
+ * References between objects (for example by id) are resolved in that same single pass.
+ * <p>
+ * An implementation must be thread-safe.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface StreamingSolutionFileIO<Solution_> extends SolutionFileIO<Solution_> {
+
+    /**
+     * This method is thread-safe.
+     * @param inputSolutionStream never null, not closed by this method
+     * @return never null
+     */
+    Solution_ read(InputStream inputSolutionStream);
+
+    /**
+     * This method is thread-safe.
+     * @param solution never null
+     * @param outputSolutionStream never null, flushed but not closed by this method
+     */
+    void write(Solution_ solution, OutputStream outputSolutionStream);
+
+    @Override
+    default Solution_ read(File inputSolutionFile) {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(inputSolutionFile))) {
+            return read(in);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    @Override
+    default void write(Solution_ solution, File outputSolutionFile) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(outputSolutionFile))) {
+            write(solution, out);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+}
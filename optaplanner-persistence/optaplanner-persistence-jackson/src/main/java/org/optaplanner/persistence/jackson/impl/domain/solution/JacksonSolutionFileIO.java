@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.persistence.common.api.domain.solution.StreamingSolutionFileIO;
+import org.optaplanner.persistence.jackson.api.OptaPlannerJacksonModule;
+
+/**
+ * Reads and writes a {@link PlanningSolution} as JSON with Jackson's streaming parser and generator,
+ * without building an intermediate tree of the JSON document.
+ * <p>
+ * To keep shared problem facts (such as the values of a planning variable) shared after reading,
+ * annotate their class with {@link com.fasterxml.jackson.annotation.JsonIdentityInfo}:
+ * Jackson resolves those id references, including forward references, in the same single pass.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonSolutionFileIO<Solution_> implements StreamingSolutionFileIO<Solution_> {
+
+    private final ObjectReader objectReader;
+    private final ObjectWriter objectWriter;
+
+    public JacksonSolutionFileIO(Class<Solution_> solutionClass) {
+        this(solutionClass, new ObjectMapper());
+    }
+
+    /**
+     * @param solutionClass never null
+     * @param objectMapper never null, not changed: {@link OptaPlannerJacksonModule} is registered on a copy of it
+     */
+    public JacksonSolutionFileIO(Class<Solution_> solutionClass, ObjectMapper objectMapper) {
+        // Don't reconfigure the caller's ObjectMapper, which might be shared
+        objectMapper = objectMapper.copy();
+        objectMapper.registerModule(OptaPlannerJacksonModule.createModule());
+        // The caller owns the streams
+        objectMapper.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        objectMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // ObjectReader and ObjectWriter are immutable, so they are thread-safe
+        objectReader = objectMapper.readerFor(solutionClass);
+        objectWriter = objectMapper.writerFor(solutionClass).with(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "json";
+    }
+
+    @Override
+    public Solution_ read(InputStream inputSolutionStream) {
+        try {
+            return objectReader.readValue(inputSolutionStream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
+        }
+    }
+
+    @Override
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        try {
+            objectWriter.writeValue(outputSolutionStream, solution);
+            outputSolutionStream.flush();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataEntity;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class JacksonSolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    public void readAndWrite() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO = new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        File file = new File(solutionTestDir, "testdataSolution.json");
+
+        JacksonTestdataSolution original = new JacksonTestdataSolution("s1");
+        JacksonTestdataValue originalV1 = new JacksonTestdataValue("v1");
+        original.setValueList(Arrays.asList(originalV1, new JacksonTestdataValue("v2")));
+        original.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", originalV1), new JacksonTestdataEntity("e3")));
+        original.setScore(SimpleScore.valueOf(-123));
+        solutionFileIO.write(original, file);
+        JacksonTestdataSolution copy = solutionFileIO.read(file);
+
+        assertNotSame(original, copy);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3");
+        JacksonTestdataValue copyV1 = copy.getValueList().get(0);
+        JacksonTestdataEntity copyE2 = copy.getEntityList().get(1);
+        assertCode("v1", copyE2.getValue());
+        assertSame(copyV1, copyE2.getValue());
+        assertEquals(SimpleScore.valueOf(-123), copy.getScore());
+    }
+
+    @Test
+    public void objectMapperIsNotChanged() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        new JacksonSolutionFileIO<>(JacksonTestdataSolution.class, objectMapper);
+        assertTrue(objectMapper.isEnabled(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+        assertTrue(objectMapper.isEnabled(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
+
+}
@@ -16,6 +16,10 @@
 
 package org.optaplanner.persistence.jackson.impl.testdata.domain;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+
+@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "code")
 public class JacksonTestdataValue extends JacksonTestdataObject {
 
     public JacksonTestdataValue() {
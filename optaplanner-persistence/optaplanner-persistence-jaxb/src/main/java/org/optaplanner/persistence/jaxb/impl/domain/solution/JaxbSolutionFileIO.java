@@ -16,14 +16,14 @@
 
 package org.optaplanner.persistence.jaxb.impl.domain.solution;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -31,12 +31,12 @@ import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+import org.optaplanner.persistence.common.api.domain.solution.StreamingSolutionFileIO;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class JaxbSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+public class JaxbSolutionFileIO<Solution_> implements StreamingSolutionFileIO<Solution_> {
 
     private final Marshaller marshaller;
     private final Unmarshaller unmarshaller;
@@ -59,20 +59,23 @@ public class JaxbSolutionFileIO<Solution_> implements SolutionFileIO<Solution_>
     }
 
     @Override
-    public Solution_ read(File inputSolutionFile) {
-        try (Reader reader = new InputStreamReader(new FileInputStream(inputSolutionFile), "UTF-8")) {
+    public Solution_ read(InputStream inputSolutionStream) {
+        Reader reader = new InputStreamReader(inputSolutionStream, StandardCharsets.UTF_8);
+        try {
             return (Solution_) unmarshaller.unmarshal(reader);
-        } catch (IOException | JAXBException e) {
-            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        } catch (JAXBException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
         }
     }
 
     @Override
-    public void write(Solution_ solution, File outputSolutionFile) {
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(outputSolutionFile), "UTF-8")) {
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        Writer writer = new OutputStreamWriter(outputSolutionStream, StandardCharsets.UTF_8);
+        try {
             marshaller.marshal(solution, writer);
+            writer.flush();
         } catch (IOException | JAXBException e) {
-            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
         }
     }
 
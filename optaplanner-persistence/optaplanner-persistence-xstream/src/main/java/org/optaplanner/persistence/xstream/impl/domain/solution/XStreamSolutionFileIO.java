@@ -16,20 +16,20 @@
 
 package org.optaplanner.persistence.xstream.impl.domain.solution;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.XStreamException;
 import com.thoughtworks.xstream.security.AnyTypePermission;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+import org.optaplanner.persistence.common.api.domain.solution.StreamingSolutionFileIO;
 
 /**
  * Security warning: only use this class with XML files from a trusted source,
@@ -37,7 +37,7 @@ import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
  * which can be exploited if the XML comes from an untrusted source.
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class XStreamSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+public class XStreamSolutionFileIO<Solution_> implements StreamingSolutionFileIO<Solution_> {
 
     protected XStream xStream;
 
@@ -60,21 +60,25 @@ public class XStreamSolutionFileIO<Solution_> implements SolutionFileIO<Solution
     }
 
     @Override
-    public Solution_ read(File inputSolutionFile) {
+    public Solution_ read(InputStream inputSolutionStream) {
         // xStream.fromXml(InputStream) does not use UTF-8
-        try (Reader reader = new InputStreamReader(new FileInputStream(inputSolutionFile), "UTF-8")) {
+        Reader reader = new InputStreamReader(inputSolutionStream, StandardCharsets.UTF_8);
+        try {
+            // The default XppDriver is a pull parser, so the XML is never held in memory as a whole
             return (Solution_) xStream.fromXML(reader);
-        } catch (XStreamException | IOException e) {
-            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        } catch (XStreamException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
         }
     }
 
     @Override
-    public void write(Solution_ solution, File outputSolutionFile) {
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(outputSolutionFile), "UTF-8")) {
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        Writer writer = new OutputStreamWriter(outputSolutionStream, StandardCharsets.UTF_8);
+        try {
             xStream.toXML(solution, writer);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+            writer.flush();
+        } catch (XStreamException | IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
         }
     }
 
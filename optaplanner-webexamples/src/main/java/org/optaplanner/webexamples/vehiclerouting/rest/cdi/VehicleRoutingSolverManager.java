@@ -20,14 +20,14 @@ import java.io.Serializable;
 import java.net.URL;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 
-import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverManagerEventListener;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
 import org.optaplanner.examples.vehiclerouting.persistence.VehicleRoutingImporter;
@@ -38,32 +38,57 @@ public class VehicleRoutingSolverManager implements Serializable {
     private static final String SOLVER_CONFIG = "org/optaplanner/examples/vehiclerouting/solver/vehicleRoutingSolverConfig.xml";
     private static final String IMPORT_DATASET = "/org/optaplanner/webexamples/vehiclerouting/belgium-road-time-n50-k10.vrp";
 
-    private SolverFactory<VehicleRoutingSolution> solverFactory;
-    // TODO After upgrading to JEE 7, replace ExecutorService by ManagedExecutorService:
-    // @Resource(name = "DefaultManagedExecutorService")
-    // private ManagedExecutorService executor;
-    private ExecutorService executor;
+    // TODO After upgrading to JEE 7, use a ManagedThreadFactory:
+    // @Resource(name = "DefaultManagedThreadFactory")
+    // private ManagedThreadFactory threadFactory;
+    private SolverManager<VehicleRoutingSolution, String> solverManager;
 
     private Map<String, VehicleRoutingSolution> sessionSolutionMap;
-    private Map<String, Solver<VehicleRoutingSolution>> sessionSolverMap;
 
     @PostConstruct
     public synchronized void init() {
-        solverFactory = SolverFactory.createFromXmlResource(SOLVER_CONFIG);
+        SolverFactory<VehicleRoutingSolution> solverFactory = SolverFactory.createFromXmlResource(SOLVER_CONFIG);
         // Always terminate a solver after 2 minutes
         solverFactory.getSolverConfig().setTerminationConfig(new TerminationConfig().withMinutesSpentLimit(2L));
-        executor = Executors.newFixedThreadPool(2); // Only 2 because the other examples have their own Executor
-        // TODO these probably don't need to be thread-safe because all access is synchronized
+        // Only 2 because the other examples have their own Executor
+        solverManager = SolverManager.create(solverFactory, 2);
+        solverManager.addEventListener(new SolverManagerEventListener<VehicleRoutingSolution, String>() {
+            @Override
+            public void bestSolutionChanged(String sessionId, BestSolutionChangedEvent<VehicleRoutingSolution> event) {
+                VehicleRoutingSolution bestSolution = event.getNewBestSolution();
+                synchronized (VehicleRoutingSolverManager.this) {
+                    sessionSolutionMap.put(sessionId, bestSolution);
+                }
+            }
+
+            @Override
+            public void solvingEnded(String sessionId, VehicleRoutingSolution bestSolution) {
+                synchronized (VehicleRoutingSolverManager.this) {
+                    sessionSolutionMap.put(sessionId, bestSolution);
+                    // The sessionSolutionMap holds the best solution, so don't keep a Solver per session
+                    if (!solverManager.isSolving(sessionId)) {
+                        solverManager.removeProblem(sessionId);
+                    }
+                }
+            }
+
+            @Override
+            public void solvingFailed(String sessionId, Throwable throwable) {
+                synchronized (VehicleRoutingSolverManager.this) {
+                    // The failure is already logged, keep the last best solution of that session
+                    if (!solverManager.isSolving(sessionId)) {
+                        solverManager.removeProblem(sessionId);
+                    }
+                }
+            }
+        });
+        // TODO this probably doesn't need to be thread-safe because all access is synchronized
         sessionSolutionMap = new ConcurrentHashMap<>();
-        sessionSolverMap = new ConcurrentHashMap<>();
     }
 
     @PreDestroy
     public synchronized void destroy() {
-        for (Solver<VehicleRoutingSolution> solver : sessionSolverMap.values()) {
-            solver.terminateEarly();
-        }
-        executor.shutdown();
+        solverManager.shutdown();
     }
 
     public synchronized VehicleRoutingSolution retrieveOrCreateSolution(String sessionId) {
@@ -81,37 +106,16 @@ public class VehicleRoutingSolverManager implements Serializable {
         return solution;
     }
 
-    public synchronized boolean solve(final String sessionId) {
-        final Solver<VehicleRoutingSolution> solver = solverFactory.buildSolver();
-        solver.addEventListener(event -> {
-            VehicleRoutingSolution bestSolution = event.getNewBestSolution();
-            synchronized (VehicleRoutingSolverManager.this) {
-                sessionSolutionMap.put(sessionId, bestSolution);
-            }
-        });
-        if (sessionSolverMap.containsKey(sessionId)) {
+    public synchronized boolean solve(String sessionId) {
+        if (solverManager.isSolving(sessionId)) {
             return false;
         }
-        sessionSolverMap.put(sessionId, solver);
-        final VehicleRoutingSolution solution = retrieveOrCreateSolution(sessionId);
-        executor.submit((Runnable) () -> {
-            VehicleRoutingSolution bestSolution = solver.solve(solution);
-            synchronized (VehicleRoutingSolverManager.this) {
-                sessionSolutionMap.put(sessionId, bestSolution);
-                sessionSolverMap.remove(sessionId);
-            }
-        });
+        solverManager.solve(sessionId, retrieveOrCreateSolution(sessionId));
         return true;
     }
 
     public synchronized boolean terminateEarly(String sessionId) {
-        Solver<VehicleRoutingSolution> solver = sessionSolverMap.remove(sessionId);
-        if (solver != null) {
-            solver.terminateEarly();
-            return true;
-        } else {
-            return false;
-        }
+        return solverManager.terminateEarly(sessionId);
     }
 
 }